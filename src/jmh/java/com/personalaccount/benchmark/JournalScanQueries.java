@@ -0,0 +1,120 @@
+package com.personalaccount.benchmark;
+
+import com.personalaccount.domain.account.entity.AccountType;
+import com.personalaccount.domain.account.entity.QAccount;
+import com.personalaccount.domain.transaction.entity.QJournalEntry;
+import com.personalaccount.domain.transaction.entity.QTransaction;
+import com.personalaccount.domain.transaction.entity.QTransactionDetail;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 비교 기준용 이전 조회 방식 (거래-분개-상세 전체 스캔, 운영 코드에서는 미사용)
+ *
+ * - 재무제표 합계를 항목별 쿼리 4건으로 나누어 집계하던 방식
+ * - 월별 요약용 수입/지출 상세 행을 모두 가져와 애플리케이션에서 집계하던 방식
+ * - ReportQueryRepository의 일별 잔액/단일 쿼리 집계와 나란히 측정
+ */
+final class JournalScanQueries {
+
+    private final JPAQueryFactory queryFactory;
+
+    JournalScanQueries(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    /**
+     * 수입 총액 (REVENUE 계정의 creditAmount)
+     */
+    BigDecimal findTotalIncome(Long bookId, LocalDate startDate, LocalDate endDate) {
+        QTransactionDetail detail = QTransactionDetail.transactionDetail;
+        return sum(detail.creditAmount.sum(), AccountType.REVENUE, bookId,
+                QTransaction.transaction.date.between(startDate, endDate));
+    }
+
+    /**
+     * 지출 총액 (EXPENSE 계정의 debitAmount)
+     */
+    BigDecimal findTotalExpense(Long bookId, LocalDate startDate, LocalDate endDate) {
+        QTransactionDetail detail = QTransactionDetail.transactionDetail;
+        return sum(detail.debitAmount.sum(), AccountType.EXPENSE, bookId,
+                QTransaction.transaction.date.between(startDate, endDate));
+    }
+
+    /**
+     * 자산 총액 (기준일까지 ASSET 계정 차변-대변 전체 합산)
+     */
+    BigDecimal findTotalAssets(Long bookId, LocalDate asOfDate) {
+        QTransactionDetail detail = QTransactionDetail.transactionDetail;
+        return sum(detail.debitAmount.subtract(detail.creditAmount).sum(), AccountType.ASSET, bookId,
+                QTransaction.transaction.date.loe(asOfDate));
+    }
+
+    /**
+     * 부채 총액 (기준일까지 LIABILITY 계정 대변-차변 전체 합산)
+     */
+    BigDecimal findTotalLiabilities(Long bookId, LocalDate asOfDate) {
+        QTransactionDetail detail = QTransactionDetail.transactionDetail;
+        return sum(detail.creditAmount.subtract(detail.debitAmount).sum(), AccountType.LIABILITY, bookId,
+                QTransaction.transaction.date.loe(asOfDate));
+    }
+
+    /**
+     * 기간별 수입/지출 거래 일괄 조회 (월별 요약용, 상세 행 단위 반환)
+     */
+    List<Tuple> findIncomeExpenseByDateRange(Long bookId, LocalDate startDate, LocalDate endDate) {
+        QTransaction transaction = QTransaction.transaction;
+        QJournalEntry journalEntry = QJournalEntry.journalEntry;
+        QTransactionDetail detail = QTransactionDetail.transactionDetail;
+        QAccount account = QAccount.account;
+
+        return queryFactory
+                .select(
+                        transaction.date,
+                        account.accountType,
+                        detail.creditAmount,
+                        detail.debitAmount
+                )
+                .from(transaction)
+                .join(journalEntry).on(journalEntry.transaction.eq(transaction))
+                .join(detail).on(detail.journalEntry.eq(journalEntry))
+                .join(account).on(detail.account.eq(account))
+                .where(
+                        transaction.book.id.eq(bookId),
+                        transaction.date.between(startDate, endDate),
+                        transaction.isActive.isTrue(),
+                        account.accountType.in(AccountType.REVENUE, AccountType.EXPENSE)
+                )
+                .fetch();
+    }
+
+    private BigDecimal sum(NumberExpression<BigDecimal> sum, AccountType accountType,
+                           Long bookId, BooleanExpression dateCondition) {
+        QTransaction transaction = QTransaction.transaction;
+        QJournalEntry journalEntry = QJournalEntry.journalEntry;
+        QTransactionDetail detail = QTransactionDetail.transactionDetail;
+        QAccount account = QAccount.account;
+
+        BigDecimal result = queryFactory
+                .select(sum)
+                .from(transaction)
+                .join(journalEntry).on(journalEntry.transaction.eq(transaction))
+                .join(detail).on(detail.journalEntry.eq(journalEntry))
+                .join(account).on(detail.account.eq(account))
+                .where(
+                        transaction.book.id.eq(bookId),
+                        dateCondition,
+                        transaction.isActive.isTrue(),
+                        account.accountType.eq(accountType)
+                )
+                .fetchOne();
+
+        return result != null ? result : BigDecimal.ZERO;
+    }
+}
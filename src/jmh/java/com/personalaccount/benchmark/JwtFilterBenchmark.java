@@ -0,0 +1,128 @@
+package com.personalaccount.benchmark;
+
+import com.personalaccount.infrastructure.security.blacklist.TokenBlacklist;
+import com.personalaccount.infrastructure.security.jwt.JwtAuthenticationFilter;
+import com.personalaccount.infrastructure.security.jwt.JwtTokenProvider;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터 요청당 비용 (Redis/DB 없음)
+ *
+ * - legacyTripleParse: 이전 필터 경로 재현 (유효성 확인 + 타입 조회 + userId 조회, 서명 검증/파싱 3회)
+ * - verify: 검증 1회 (verifiedCacheSize=0 이면 매번 HMAC 검증, 아니면 캐시 적중)
+ * - filter: 헤더 추출 ~ SecurityContext 설정까지 필터 전체
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-minimum-32-characters-long-for-hs256";
+
+    @Param({"0", "10000"})
+    public int verifiedCacheSize;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtParser legacyParser;
+    private JwtAuthenticationFilter filter;
+    private String token;
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+    private FilterChain chain;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 1_800_000L, 1_800_000L, verifiedCacheSize);
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, new TokenBlacklist(new StringRedisTemplate()));
+        legacyParser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build();
+        token = jwtTokenProvider.createAccessToken(1L, "benchmark@personalaccount.com");
+        request = request("Bearer " + token);
+        response = stub(HttpServletResponse.class);
+        chain = (req, res) -> { };
+    }
+
+    @Benchmark
+    public void legacyTripleParse(Blackhole bh) {
+        bh.consume(legacyParser.parseSignedClaims(token));
+        bh.consume(legacyParser.parseSignedClaims(token).getPayload().get("type", String.class));
+        bh.consume(Long.parseLong(legacyParser.parseSignedClaims(token).getPayload().getSubject()));
+    }
+
+    @Benchmark
+    public Object verify() {
+        return jwtTokenProvider.verify(token);
+    }
+
+    @Benchmark
+    public Object filter() throws ServletException, IOException {
+        filter.doFilter(request, response, chain);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    /**
+     * 필터가 읽는 항목만 응답하는 요청 (나머지는 null/기본값)
+     */
+    private static HttpServletRequest request(String authorization) {
+        return (HttpServletRequest) Proxy.newProxyInstance(
+                HttpServletRequest.class.getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getHeader" -> "Authorization".equals(args[0]) ? authorization : null;
+                    case "getDispatcherType" -> DispatcherType.REQUEST;
+                    case "getRequestURI" -> "/api/v1/books";
+                    case "getRemoteAddr" -> "127.0.0.1";
+                    default -> defaultValue(method.getReturnType());
+                }
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type) {
+        return (T) Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> defaultValue(method.getReturnType())
+        );
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,189 @@
+package com.personalaccount.benchmark;
+
+import com.personalaccount.PersonalAccountingApplication;
+import com.personalaccount.domain.account.cache.ChartOfAccounts;
+import com.personalaccount.domain.account.constants.DefaultAccounts;
+import com.personalaccount.domain.account.entity.Account;
+import com.personalaccount.domain.account.entity.AccountType;
+import com.personalaccount.domain.account.repository.AccountRepository;
+import com.personalaccount.domain.book.entity.Book;
+import com.personalaccount.domain.book.entity.BookType;
+import com.personalaccount.domain.book.repository.BookRepository;
+import com.personalaccount.domain.transaction.entity.TransactionType;
+import com.personalaccount.domain.transaction.repository.TransactionBulkRepository;
+import com.personalaccount.domain.transaction.service.AccountDailyBalanceService;
+import com.personalaccount.domain.user.entity.User;
+import com.personalaccount.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크 공통 데이터셋
+ *
+ * - 임베디드 H2 위에 애플리케이션 컨텍스트를 띄우고 개인 장부 1개를 시드
+ * - details: 분개 상세(transaction_details) 행 수, 거래 1건 = 상세 2건
+ * - 최근 24개월에 고르게 분포, 고정 시드로 매 실행 동일한 데이터
+ */
+@State(Scope.Benchmark)
+public class LedgerDataset {
+
+    private static final long SEED = 42L;
+    private static final int MONTHS = 24;
+    private static final int INSERT_CHUNK = 10_000;
+
+    @Param({"10000", "100000", "1000000"})
+    public int details;
+
+    private ConfigurableApplicationContext context;
+
+    Long userId;
+    Long bookId;
+    Long cashAccountId;
+    Long foodAccountId;
+    Long salaryAccountId;
+    LocalDate startDate;
+    LocalDate endDate;
+    YearMonth lastMonth;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(PersonalAccountingApplication.class)
+                .run(arguments().toArray(String[]::new));
+        beforeSeed();
+        seed();
+        afterSeed();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    /**
+     * 애플리케이션 실행 인자 (변형 데이터셋에서 설정 추가)
+     */
+    protected List<String> arguments() {
+        return List.of("--spring.profiles.active=jmh");
+    }
+
+    protected void beforeSeed() {
+    }
+
+    protected void afterSeed() {
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate template = new TransactionTemplate(bean(PlatformTransactionManager.class));
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private void seed() {
+        User user = bean(UserRepository.class).save(User.builder()
+                .email("bench@personalaccount.com")
+                .password("password")
+                .name("벤치마크")
+                .isActive(true)
+                .build());
+
+        Book book = bean(BookRepository.class).save(Book.builder()
+                .user(user)
+                .name("벤치마크장부")
+                .bookType(BookType.PERSONAL)
+                .isActive(true)
+                .build());
+
+        List<Account> accounts = new ArrayList<>();
+        for (DefaultAccounts.AccountTemplate template : DefaultAccounts.getDefaultAccounts(BookType.PERSONAL)) {
+            accounts.add(Account.builder()
+                    .code(template.code)
+                    .name(template.name)
+                    .accountType(template.accountType)
+                    .bookType(BookType.PERSONAL)
+                    .isActive(true)
+                    .build());
+        }
+        accounts = bean(AccountRepository.class).saveAll(accounts);
+        bean(ChartOfAccounts.class).refresh();
+
+        userId = user.getId();
+        bookId = book.getId();
+        endDate = LocalDate.now();
+        startDate = endDate.minusMonths(MONTHS).withDayOfMonth(1);
+        lastMonth = YearMonth.from(endDate).minusMonths(1);
+
+        List<Account> paymentMethods = filter(accounts, AccountType.PAYMENT_METHOD);
+        List<Account> revenues = filter(accounts, AccountType.REVENUE);
+        List<Account> expenses = filter(accounts, AccountType.EXPENSE);
+        cashAccountId = paymentMethods.getFirst().getId();
+        salaryAccountId = revenues.getFirst().getId();
+        foodAccountId = expenses.getFirst().getId();
+
+        insertTransactions(details / 2, paymentMethods, revenues, expenses);
+
+        List<Long> accountIds = accounts.stream().map(Account::getId).toList();
+        new TransactionTemplate(bean(PlatformTransactionManager.class))
+                .executeWithoutResult(status ->
+                        bean(AccountDailyBalanceService.class).rebuild(bookId, accountIds, startDate));
+    }
+
+    private void insertTransactions(int count, List<Account> paymentMethods,
+                                    List<Account> revenues, List<Account> expenses) {
+        TransactionBulkRepository bulkRepository = bean(TransactionBulkRepository.class);
+        TransactionTemplate transaction = new TransactionTemplate(bean(PlatformTransactionManager.class));
+        Random random = new Random(SEED);
+        int days = (int) (endDate.toEpochDay() - startDate.toEpochDay()) + 1;
+
+        List<TransactionBulkRepository.Row> rows = new ArrayList<>(INSERT_CHUNK);
+        for (int i = 0; i < count; i++) {
+            LocalDate date = startDate.plusDays(random.nextInt(days));
+            Account paymentMethod = pick(paymentMethods, random);
+
+            // 수입 10%, 지출 90%
+            if (random.nextInt(10) == 0) {
+                rows.add(new TransactionBulkRepository.Row(bookId, date, TransactionType.INCOME,
+                        BigDecimal.valueOf(1_000_000 + random.nextInt(3_000_000)), "수입 " + i, "수입",
+                        paymentMethod.getId(), pick(revenues, random).getId()));
+            } else {
+                rows.add(new TransactionBulkRepository.Row(bookId, date, TransactionType.EXPENSE,
+                        BigDecimal.valueOf(1_000 + random.nextInt(200_000)), "지출 " + i, "지출",
+                        pick(expenses, random).getId(), paymentMethod.getId()));
+            }
+
+            if (rows.size() == INSERT_CHUNK || i == count - 1) {
+                List<TransactionBulkRepository.Row> chunk = List.copyOf(rows);
+                transaction.executeWithoutResult(status -> bulkRepository.insertAll(chunk));
+                rows.clear();
+            }
+        }
+    }
+
+    private static List<Account> filter(List<Account> accounts, AccountType type) {
+        return accounts.stream()
+                .filter(account -> account.getAccountType() == type)
+                .toList();
+    }
+
+    private static Account pick(List<Account> accounts, Random random) {
+        return accounts.get(random.nextInt(accounts.size()));
+    }
+}
@@ -0,0 +1,54 @@
+package com.personalaccount.benchmark;
+
+import com.personalaccount.domain.transaction.dto.request.TransactionCreateRequest;
+import com.personalaccount.domain.transaction.dto.response.TransactionResponse;
+import com.personalaccount.domain.transaction.entity.TransactionType;
+import com.personalaccount.domain.transaction.service.TransactionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 생성 (거래 + 분개 + 상세 2건 + 일별 잔액 갱신, 단일 트랜잭션)
+ *
+ * - idStrategy=sequence: 시퀀스 ID(pooled-lo, 블록 50) 기준 INSERT 배치 효과 포함
+ * - idStrategy=identity: 시퀀스 도입 전 IDENTITY 기준선 (LedgerWriteDataset)
+ * - 측정 중 추가되는 거래는 시드 규모에 비해 무시 가능
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LedgerWriteBenchmark {
+
+    private TransactionService transactionService;
+    private Long userId;
+    private TransactionCreateRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp(LedgerWriteDataset dataset) {
+        transactionService = dataset.bean(TransactionService.class);
+        userId = dataset.userId;
+        request = TransactionCreateRequest.builder()
+                .bookId(dataset.bookId)
+                .date(dataset.endDate)
+                .type(TransactionType.EXPENSE)
+                .amount(new BigDecimal("12000"))
+                .categoryId(dataset.foodAccountId)
+                .paymentMethodId(dataset.cashAccountId)
+                .memo("벤치마크 점심")
+                .build();
+    }
+
+    @Benchmark
+    public TransactionResponse createTransaction() {
+        return transactionService.createTransaction(userId, request);
+    }
+}
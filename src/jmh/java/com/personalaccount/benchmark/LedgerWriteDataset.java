@@ -0,0 +1,71 @@
+package com.personalaccount.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 거래 생성 벤치마크용 데이터셋 (ID 생성 전략 비교)
+ *
+ * - sequence: 현재 매핑 (pooled-lo 시퀀스, INSERT 배치)
+ * - identity: 거래/분개/상세 ID를 IDENTITY로 덮어쓴 기준선 (INSERT마다 즉시 실행, 배치 불가)
+ *   매핑은 META-INF/jmh-identity-ids.xml 로 덮어쓰고, 일괄 시드용 시퀀스는 직접 생성
+ */
+@State(Scope.Benchmark)
+public class LedgerWriteDataset extends LedgerDataset {
+
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "transactions", "transactions_seq",
+            "journal_entries", "journal_entries_seq",
+            "transaction_details", "transaction_details_seq"
+    );
+
+    @Param({"sequence", "identity"})
+    public String idStrategy;
+
+    @Override
+    protected List<String> arguments() {
+        List<String> arguments = new ArrayList<>(super.arguments());
+        if (isIdentity()) {
+            arguments.add("--spring.jpa.mapping-resources=META-INF/jmh-identity-ids.xml");
+        }
+        return arguments;
+    }
+
+    /**
+     * 일괄 시드(TransactionBulkRepository)는 시퀀스 블록으로 ID를 직접 지정
+     */
+    @Override
+    protected void beforeSeed() {
+        if (!isIdentity()) {
+            return;
+        }
+        JdbcTemplate jdbc = bean(JdbcTemplate.class);
+        SEQUENCES.values().forEach(sequence ->
+                jdbc.execute("CREATE SEQUENCE IF NOT EXISTS " + sequence + " START WITH 1 INCREMENT BY 50"));
+    }
+
+    /**
+     * 시드가 직접 지정한 ID 이후부터 IDENTITY 발급
+     */
+    @Override
+    protected void afterSeed() {
+        if (!isIdentity()) {
+            return;
+        }
+        JdbcTemplate jdbc = bean(JdbcTemplate.class);
+        SEQUENCES.keySet().forEach(table -> {
+            Long next = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table, Long.class);
+            jdbc.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+        });
+    }
+
+    private boolean isIdentity() {
+        return "identity".equals(idStrategy);
+    }
+}
@@ -0,0 +1,117 @@
+package com.personalaccount.benchmark;
+
+import com.personalaccount.infrastructure.persistence.report.ReportQueryRepository;
+import com.personalaccount.infrastructure.persistence.report.dto.FinancialTotals;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * ReportQueryRepository 쿼리별 응답 시간
+ *
+ * - 월 단위 조회는 직전 월(마감 월), 잔액 조회는 오늘 기준
+ * - findTotalsSeparately(이전 방식: 분개 전체 스캔 쿼리 4건, {@link JournalScanQueries})와
+ *   findFinancialTotals(단일 쿼리 집계)를 나란히 두어 비교
+ * - findIncomeExpenseByDateRange(이전 방식: 상세 행 전체 조회)와 findMonthlyIncomeExpense(월별 GROUP BY)는
+ *   같은 12개월 구간으로 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReportQueryBenchmark {
+
+    private ReportQueryRepository repository;
+    private JournalScanQueries journalScanQueries;
+    private Long bookId;
+    private Long cashAccountId;
+    private LocalDate monthStart;
+    private LocalDate monthEnd;
+    private LocalDate yearStart;
+    private List<Long> accountIds;
+
+    @Setup(Level.Trial)
+    public void setUp(LedgerDataset dataset) {
+        repository = dataset.bean(ReportQueryRepository.class);
+        journalScanQueries = new JournalScanQueries(dataset.bean(JPAQueryFactory.class));
+        bookId = dataset.bookId;
+        cashAccountId = dataset.cashAccountId;
+        monthStart = dataset.lastMonth.atDay(1);
+        monthEnd = dataset.lastMonth.atEndOfMonth();
+        yearStart = dataset.lastMonth.minusMonths(11).atDay(1);
+        accountIds = List.of(dataset.cashAccountId, dataset.foodAccountId, dataset.salaryAccountId);
+    }
+
+    @Benchmark
+    public List<Tuple> findCategoryExpenses() {
+        return repository.findCategoryExpenses(bookId, monthStart, monthEnd);
+    }
+
+    @Benchmark
+    public void findTotalsSeparately(Blackhole bh) {
+        bh.consume(journalScanQueries.findTotalIncome(bookId, monthStart, monthEnd));
+        bh.consume(journalScanQueries.findTotalExpense(bookId, monthStart, monthEnd));
+        bh.consume(journalScanQueries.findTotalAssets(bookId, monthEnd));
+        bh.consume(journalScanQueries.findTotalLiabilities(bookId, monthEnd));
+    }
+
+    @Benchmark
+    public FinancialTotals findFinancialTotals() {
+        return repository.findFinancialTotals(bookId, monthStart, monthEnd);
+    }
+
+    @Benchmark
+    public BigDecimal findOpeningBalance() {
+        return repository.findOpeningBalance(bookId, cashAccountId, monthStart);
+    }
+
+    @Benchmark
+    public List<Tuple> findAccountLedgerEntries() {
+        return repository.findAccountLedgerEntries(bookId, cashAccountId, monthStart, monthEnd);
+    }
+
+    @Benchmark
+    public long streamAccountLedgerEntries(LedgerDataset dataset, Blackhole bh) {
+        // 스트림은 커넥션이 열려 있는 동안만 소비 가능
+        return dataset.readOnlyTransaction().execute(status -> {
+            try (Stream<Tuple> entries =
+                         repository.streamAccountLedgerEntries(bookId, cashAccountId, monthStart, monthEnd)) {
+                return entries.peek(bh::consume).count();
+            }
+        });
+    }
+
+    @Benchmark
+    public BigDecimal findAccountBalance() {
+        return repository.findAccountBalance(bookId, cashAccountId);
+    }
+
+    @Benchmark
+    public List<Tuple> findIncomeExpenseByDateRange() {
+        return journalScanQueries.findIncomeExpenseByDateRange(bookId, yearStart, monthEnd);
+    }
+
+    @Benchmark
+    public List<Tuple> findMonthlyIncomeExpense() {
+        return repository.findMonthlyIncomeExpense(bookId, yearStart, monthEnd);
+    }
+
+    @Benchmark
+    public Map<Long, BigDecimal> findAccountBalancesByIds() {
+        return repository.findAccountBalancesByIds(bookId, accountIds);
+    }
+}
@@ -0,0 +1,52 @@
+package com.personalaccount.benchmark;
+
+import com.personalaccount.application.report.dto.response.MonthlySummary;
+import com.personalaccount.application.report.service.ReportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리포트 서비스 집계 (권한 확인 + 쿼리 + 응답 조립)
+ *
+ * - 리포트 캐시는 jmh 프로파일에서 비활성화 → 매 호출 DB 집계
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReportServiceBenchmark {
+
+    private ReportService reportService;
+    private Long userId;
+    private Long bookId;
+    private Long cashAccountId;
+    private String yearMonth;
+
+    @Setup(Level.Trial)
+    public void setUp(LedgerDataset dataset) {
+        reportService = dataset.bean(ReportService.class);
+        userId = dataset.userId;
+        bookId = dataset.bookId;
+        cashAccountId = dataset.cashAccountId;
+        yearMonth = dataset.lastMonth.toString();
+    }
+
+    @Benchmark
+    public List<MonthlySummary> getMonthlySummary() {
+        return reportService.getMonthlySummary(userId, bookId, 12);
+    }
+
+    @Benchmark
+    public Map<String, Object> getAccountLedger() {
+        return reportService.getAccountLedger(userId, bookId, cashAccountId, yearMonth);
+    }
+}
@@ -0,0 +1,144 @@
+package com.personalaccount.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.personalaccount.application.ai.session.ConversationSession;
+import com.personalaccount.application.ai.session.ConversationSession.ChatMessage;
+import com.personalaccount.infrastructure.session.codec.BinarySessionCodec;
+import com.personalaccount.infrastructure.session.codec.JsonSessionCodec;
+import com.personalaccount.infrastructure.session.codec.SessionCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대화 세션 직렬화 비용/크기 (Redis 없이 코덱만)
+ *
+ * - codec: legacy(이전 Jackson2JsonRedisSerializer 단일 JSON), json, binary
+ * - messages: 세션 메시지 수 (12 = ai.context.max-window-messages 기본값, 요약 포함)
+ * - writeTurn: 한 턴 저장 시 전송량 (legacy는 세션 전체, 나머지는 헤더 + 이번 턴 메시지 2건)
+ * - 세션당 바이트 수는 Setup 시 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SessionCodecBenchmark {
+
+    @Param({"legacy", "json", "binary"})
+    public String codec;
+
+    @Param({"2", "12"})
+    public int messages;
+
+    private Jackson2JsonRedisSerializer<ConversationSession> legacySerializer;
+    private SessionCodec sessionCodec;
+    private ConversationSession session;
+
+    private byte[] legacyValue;
+    private byte[] header;
+    private List<byte[]> encodedMessages;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        legacySerializer = new Jackson2JsonRedisSerializer<>(objectMapper, ConversationSession.class);
+
+        sessionCodec = switch (codec) {
+            case "json" -> new JsonSessionCodec();
+            case "binary" -> new BinarySessionCodec(512);
+            default -> null;
+        };
+
+        session = ConversationSession.builder()
+                .conversationId("conv-1a2b3c4d")
+                .userId(1L)
+                .bookId(1L)
+                .summary(messages > 2 ? summary() : null)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .lastAccessedAt(LocalDateTime.of(2025, 1, 1, 12, 5))
+                .build();
+        for (int i = 0; i < messages; i++) {
+            session.addMessage(i % 2 == 0 ? "user" : "assistant", message(i));
+        }
+
+        int bytes;
+        if (sessionCodec == null) {
+            legacyValue = legacySerializer.serialize(session);
+            bytes = legacyValue.length;
+        } else {
+            header = sessionCodec.encodeHeader(session);
+            encodedMessages = new ArrayList<>();
+            for (ChatMessage message : session.getMessages()) {
+                encodedMessages.add(sessionCodec.encodeMessage(message));
+            }
+            bytes = header.length + encodedMessages.stream().mapToInt(value -> value.length).sum();
+        }
+        System.out.printf("%n[SessionCodec] codec=%s, messages=%d: %d bytes/session%n", codec, messages, bytes);
+    }
+
+    @Benchmark
+    public void writeSession(Blackhole blackhole) {
+        if (sessionCodec == null) {
+            blackhole.consume(legacySerializer.serialize(session));
+            return;
+        }
+        blackhole.consume(sessionCodec.encodeHeader(session));
+        for (ChatMessage message : session.getMessages()) {
+            blackhole.consume(sessionCodec.encodeMessage(message));
+        }
+    }
+
+    @Benchmark
+    public void writeTurn(Blackhole blackhole) {
+        if (sessionCodec == null) {
+            blackhole.consume(legacySerializer.serialize(session));
+            return;
+        }
+        List<ChatMessage> all = session.getMessages();
+        blackhole.consume(sessionCodec.encodeHeader(session));
+        for (ChatMessage message : all.subList(Math.max(0, all.size() - 2), all.size())) {
+            blackhole.consume(sessionCodec.encodeMessage(message));
+        }
+    }
+
+    @Benchmark
+    public ConversationSession readSession() {
+        if (sessionCodec == null) {
+            return legacySerializer.deserialize(legacyValue);
+        }
+        return sessionCodec.decode(header, encodedMessages);
+    }
+
+    private static String message(int index) {
+        return index % 2 == 0
+                ? "오늘 점심으로 회사 근처 식당에서 김치찌개 먹었고 체크카드로 " + (index + 1) + "만원 결제했어"
+                : "체크카드(국민) 결제로 식비 " + (index + 1) + "0,000원 지출 맞나요? 날짜는 오늘로 기록할까요?";
+    }
+
+    private static String summary() {
+        StringBuilder summary = new StringBuilder();
+        for (int i = 0; i < 6; i++) {
+            summary.append(i % 2 == 0 ? "user: " : "assistant: ")
+                    .append("어제 마트에서 장본 거 카드로 ").append(i + 3).append("만원 정도 나왔어…\n");
+        }
+        return summary.toString().strip();
+    }
+}
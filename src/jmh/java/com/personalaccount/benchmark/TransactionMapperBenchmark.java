@@ -0,0 +1,113 @@
+package com.personalaccount.benchmark;
+
+import com.personalaccount.domain.account.entity.Account;
+import com.personalaccount.domain.account.entity.AccountType;
+import com.personalaccount.domain.book.entity.Book;
+import com.personalaccount.domain.book.entity.BookType;
+import com.personalaccount.domain.transaction.dto.mapper.TransactionMapper;
+import com.personalaccount.domain.transaction.dto.response.TransactionDetailResponse;
+import com.personalaccount.domain.transaction.dto.response.TransactionResponse;
+import com.personalaccount.domain.transaction.entity.DetailType;
+import com.personalaccount.domain.transaction.entity.JournalEntry;
+import com.personalaccount.domain.transaction.entity.Transaction;
+import com.personalaccount.domain.transaction.entity.TransactionDetail;
+import com.personalaccount.domain.transaction.entity.TransactionType;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TransactionMapper 변환 비용 (DB 없이 엔티티 → DTO)
+ *
+ * - rows: 목록 조회 한 번에 변환하는 거래 수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionMapperBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int rows;
+
+    private TransactionMapper mapper;
+    private List<Transaction> transactions;
+    private List<JournalEntry> journalEntries;
+    private List<List<TransactionDetail>> detailsList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = Mappers.getMapper(TransactionMapper.class);
+
+        Book book = Book.builder()
+                .id(1L)
+                .name("벤치마크장부")
+                .bookType(BookType.PERSONAL)
+                .build();
+        Account food = Account.builder().id(11L).code("5100").name("식비")
+                .accountType(AccountType.EXPENSE).bookType(BookType.PERSONAL).build();
+        Account cash = Account.builder().id(1L).code("1100").name("현금")
+                .accountType(AccountType.PAYMENT_METHOD).bookType(BookType.PERSONAL).build();
+
+        transactions = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            transactions.add(Transaction.builder()
+                    .id((long) i + 1)
+                    .book(book)
+                    .date(LocalDate.of(2025, 1, 1).plusDays(i % 365))
+                    .type(TransactionType.EXPENSE)
+                    .amount(BigDecimal.valueOf(1_000L + i))
+                    .memo("점심 " + i)
+                    .build());
+        }
+
+        Transaction first = transactions.getFirst();
+        JournalEntry journalEntry = JournalEntry.builder()
+                .id(1L)
+                .transaction(first)
+                .date(first.getDate())
+                .description("지출")
+                .build();
+        journalEntries = List.of(journalEntry);
+        detailsList = List.of(List.of(
+                detail(1L, journalEntry, food, DetailType.DEBIT, first.getAmount(), BigDecimal.ZERO),
+                detail(2L, journalEntry, cash, DetailType.CREDIT, BigDecimal.ZERO, first.getAmount())
+        ));
+    }
+
+    @Benchmark
+    public List<TransactionResponse> toResponseList() {
+        return transactions.stream()
+                .map(mapper::toResponse)
+                .toList();
+    }
+
+    @Benchmark
+    public TransactionDetailResponse toDetailResponse() {
+        return mapper.toDetailResponse(transactions.getFirst(), journalEntries, detailsList);
+    }
+
+    private static TransactionDetail detail(Long id, JournalEntry journalEntry, Account account,
+                                            DetailType type, BigDecimal debit, BigDecimal credit) {
+        return TransactionDetail.builder()
+                .id(id)
+                .journalEntry(journalEntry)
+                .account(account)
+                .detailType(type)
+                .debitAmount(debit)
+                .creditAmount(credit)
+                .build();
+    }
+}
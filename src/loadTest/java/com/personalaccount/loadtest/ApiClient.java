@@ -0,0 +1,110 @@
+package com.personalaccount.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대상 서버 호출 (JDK HttpClient, 공용 커넥션 풀)
+ */
+final class ApiClient {
+
+    private static final String API = "/api/v1";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final Duration timeout;
+
+    ApiClient(String baseUrl, Duration timeout) {
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    HttpRequest.Builder get(String path, String accessToken) {
+        return request(path, accessToken).GET();
+    }
+
+    HttpRequest.Builder post(String path, String accessToken, Object body) {
+        return request(path, accessToken)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(body)));
+    }
+
+    /**
+     * 응답 본문은 끝까지 읽되 보관하지 않음 (스트리밍 응답 포함)
+     */
+    int send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /**
+     * 로그인 후 장부/카테고리/결제수단 ID까지 조회
+     */
+    Session login(int userIndex, String email, String password) throws IOException, InterruptedException {
+        JsonNode login = call(post("/auth/login", null, Map.of("email", email, "password", password)).build());
+        String accessToken = login.path("accessToken").asText();
+
+        List<Session.BookContext> books = new ArrayList<>();
+        for (JsonNode book : call(get("/books", accessToken).build())) {
+            String bookType = book.path("bookType").asText();
+            books.add(new Session.BookContext(
+                    book.path("id").asLong(),
+                    bookType,
+                    ids(call(get("/categories/expense?bookType=" + bookType, accessToken).build())),
+                    ids(call(get("/categories/payment-methods?bookType=" + bookType, accessToken).build()))
+            ));
+        }
+
+        if (books.isEmpty()) {
+            throw new IllegalStateException("장부가 없는 사용자: " + email);
+        }
+
+        return new Session(userIndex, email, accessToken, books);
+    }
+
+    private HttpRequest.Builder request(String path, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + API + path))
+                .timeout(timeout);
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder;
+    }
+
+    private JsonNode call(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(
+                    request.uri() + " 실패: " + response.statusCode() + " " + response.body());
+        }
+        return objectMapper.readTree(response.body()).path("data");
+    }
+
+    private List<Long> ids(JsonNode items) {
+        List<Long> ids = new ArrayList<>();
+        items.forEach(item -> ids.add(item.path("id").asLong()));
+        return ids;
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.personalaccount.loadtest;
+
+import com.personalaccount.PersonalAccountingApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+/**
+ * 임베디드 대상 서버 (H2 + 임베디드 Redis, 외부 컨테이너 없음)
+ *
+ * - loadtest 프로파일: H2(PostgreSQL 모드), 리포트 캐시 사용
+ * - datagen 프로파일을 함께 켜서 기동 시 합성 사용자/장부/거래 적재
+ */
+final class EmbeddedTarget implements AutoCloseable {
+
+    private final RedisServer redis;
+    private final ConfigurableApplicationContext context;
+    private final String baseUrl;
+
+    private EmbeddedTarget(RedisServer redis, ConfigurableApplicationContext context, String baseUrl) {
+        this.redis = redis;
+        this.context = context;
+        this.baseUrl = baseUrl;
+    }
+
+    static EmbeddedTarget start(LoadTestConfig config) throws IOException {
+        int redisPort = freePort();
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+
+        try {
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(PersonalAccountingApplication.class)
+                    .run(
+                            "--spring.profiles.active=loadtest,datagen",
+                            "--spring.data.redis.port=" + redisPort,
+                            "--spring.threads.virtual.enabled=" + config.virtualThreads(),
+                            "--datagen.users=" + config.users(),
+                            "--datagen.transactions-per-month=" + config.transactionsPerMonth(),
+                            "--datagen.years=" + config.years(),
+                            "--datagen.email-prefix=" + config.emailPrefix(),
+                            "--datagen.password=" + config.password(),
+                            "--datagen.exit-on-finish=false"
+                    );
+
+            String port = context.getEnvironment().getRequiredProperty("local.server.port");
+            return new EmbeddedTarget(redis, context, "http://localhost:" + port);
+
+        } catch (RuntimeException e) {
+            redis.stop();
+            throw e;
+        }
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    @Override
+    public void close() throws IOException {
+        context.close();
+        redis.stop();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.personalaccount.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔드포인트별 지연 기록 및 백분위 리포트
+ *
+ * - 지연 = 완료 시각 - 예정 시작 시각 (서버가 밀려 시작이 늦어진 시간 포함)
+ */
+final class LatencyStats {
+
+    private static final class Samples {
+        private long[] micros = new long[1024];
+        private int size;
+        private int errors;
+
+        synchronized void add(long latencyMicros, boolean error) {
+            if (size == micros.length) {
+                micros = Arrays.copyOf(micros, size * 2);
+            }
+            micros[size++] = latencyMicros;
+            if (error) {
+                errors++;
+            }
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(micros, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        synchronized int errors() {
+            return errors;
+        }
+    }
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long latencyNanos, boolean error) {
+        samples.computeIfAbsent(endpoint, k -> new Samples()).add(latencyNanos / 1_000, error);
+    }
+
+    void print(List<String> order, Duration duration) {
+        double seconds = duration.toMillis() / 1000.0;
+
+        System.out.printf("%n%-28s %8s %7s %8s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "rps", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+
+        long totalCount = 0;
+        long totalErrors = 0;
+        for (String endpoint : order) {
+            Samples s = samples.get(endpoint);
+            if (s == null) {
+                continue;
+            }
+
+            long[] sorted = s.sorted();
+            totalCount += sorted.length;
+            totalErrors += s.errors();
+
+            System.out.printf("%-28s %8d %7d %8.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    endpoint, sorted.length, s.errors(), sorted.length / seconds,
+                    percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1000.0);
+        }
+
+        System.out.printf("%-28s %8d %7d %8.1f%n", "TOTAL", totalCount, totalErrors, totalCount / seconds);
+    }
+
+    /**
+     * nearest-rank 백분위 (ms)
+     */
+    static double percentile(long[] sortedMicros, double percentile) {
+        if (sortedMicros.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedMicros.length);
+        return sortedMicros[Math.max(0, rank - 1)] / 1000.0;
+    }
+}
@@ -0,0 +1,87 @@
+package com.personalaccount.loadtest;
+
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+
+/**
+ * 읽기/쓰기 혼합 트래픽 (가중치 기반 엔드포인트 선택)
+ *
+ * - 조회: 거래 목록/페이지, 통계, 원장, 재무제표, 분석
+ * - 쓰기: 거래 생성, 로그인
+ * - 조회 월은 직전 월(마감 월) 기준
+ */
+final class LoadScenario {
+
+    record Endpoint(String name, int weight, BiFunction<Session, Session.BookContext, HttpRequest> request) {}
+
+    private final List<Endpoint> endpoints;
+    private final int totalWeight;
+
+    LoadScenario(ApiClient api, LoadTestConfig config) {
+        String yearMonth = YearMonth.now().minusMonths(1).toString();
+        LocalDate monthStart = YearMonth.now().minusMonths(1).atDay(1);
+        LocalDate monthEnd = YearMonth.now().minusMonths(1).atEndOfMonth();
+
+        this.endpoints = List.of(
+                new Endpoint("GET /transactions/page", 15, (s, b) ->
+                        api.get("/transactions/page?bookId=" + b.bookId() + "&size=50", s.accessToken()).build()),
+                new Endpoint("GET /transactions (1개월)", 5, (s, b) ->
+                        api.get("/transactions?bookId=" + b.bookId()
+                                + "&startDate=" + monthStart + "&endDate=" + monthEnd, s.accessToken()).build()),
+                new Endpoint("POST /transactions", 10, (s, b) ->
+                        api.post("/transactions", s.accessToken(), Map.of(
+                                "bookId", b.bookId(),
+                                "date", LocalDate.now().toString(),
+                                "type", "EXPENSE",
+                                "amount", 1_000 + ThreadLocalRandom.current().nextInt(50_000),
+                                "categoryId", pick(b.categoryIds()),
+                                "paymentMethodId", pick(b.paymentMethodIds()),
+                                "memo", "부하테스트"
+                        )).build()),
+                new Endpoint("GET /statistics/monthly", 10, (s, b) ->
+                        api.get("/statistics/monthly/" + b.bookId() + "?months=6", s.accessToken()).build()),
+                new Endpoint("GET /statistics/category", 8, (s, b) ->
+                        api.get("/statistics/category/" + b.bookId()
+                                + "?yearMonth=" + yearMonth + "&type=EXPENSE", s.accessToken()).build()),
+                new Endpoint("GET /statistics/balances", 5, (s, b) ->
+                        api.get("/statistics/balances/" + b.bookId(), s.accessToken()).build()),
+                new Endpoint("GET /ledger/statement", 8, (s, b) ->
+                        api.get("/ledger/statement/" + b.bookId() + "?yearMonth=" + yearMonth, s.accessToken()).build()),
+                new Endpoint("GET /ledger/account", 5, (s, b) ->
+                        api.get("/ledger/account/" + b.bookId() + "/" + pick(b.paymentMethodIds())
+                                + "?yearMonth=" + yearMonth, s.accessToken()).build()),
+                new Endpoint("GET /analysis", 3, (s, b) ->
+                        api.get("/analysis/" + b.bookId() + "?yearMonth=" + yearMonth, s.accessToken()).build()),
+                new Endpoint("POST /auth/login", 2, (s, b) ->
+                        api.post("/auth/login", null, Map.of(
+                                "email", s.email(),
+                                "password", config.password()
+                        )).build())
+        );
+        this.totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+    }
+
+    List<Endpoint> endpoints() {
+        return endpoints;
+    }
+
+    Endpoint next() {
+        int r = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Endpoint endpoint : endpoints) {
+            r -= endpoint.weight();
+            if (r < 0) {
+                return endpoint;
+            }
+        }
+        return endpoints.getLast();
+    }
+
+    private static Long pick(List<Long> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
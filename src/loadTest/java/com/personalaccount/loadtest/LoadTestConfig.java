@@ -0,0 +1,50 @@
+package com.personalaccount.loadtest;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정 (-Ploadtest.* → 시스템 프로퍼티)
+ *
+ * @param baseUrl 대상 서버, 비어 있으면 앱을 임베디드로 기동
+ * @param rps 초당 요청 수 (요청 시작 간격 고정, 응답 지연과 무관)
+ * @param users 로그인할 합성 사용자 수 (loadtest-{n}@personalaccount.com)
+ * @param virtualThreads 임베디드 대상의 가상 스레드 사용 여부 (플랫폼 스레드와 비교용)
+ */
+record LoadTestConfig(
+        String baseUrl,
+        int rps,
+        Duration warmup,
+        Duration duration,
+        Duration timeout,
+        int users,
+        int transactionsPerMonth,
+        int years,
+        String emailPrefix,
+        String password,
+        boolean virtualThreads
+) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                System.getProperty("loadtest.base-url", ""),
+                Integer.getInteger("loadtest.rps", 50),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup", 10L)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration", 60L)),
+                Duration.ofSeconds(Long.getLong("loadtest.timeout", 10L)),
+                Integer.getInteger("loadtest.users", 10),
+                Integer.getInteger("loadtest.transactions-per-month", 100),
+                Integer.getInteger("loadtest.years", 1),
+                System.getProperty("loadtest.email-prefix", "loadtest"),
+                System.getProperty("loadtest.password", "Loadtest1234!"),
+                Boolean.parseBoolean(System.getProperty("loadtest.virtual-threads", "true"))
+        );
+    }
+
+    boolean embedded() {
+        return baseUrl.isBlank();
+    }
+
+    String email(int index) {
+        return emailPrefix + "-" + index + "@personalaccount.com";
+    }
+}
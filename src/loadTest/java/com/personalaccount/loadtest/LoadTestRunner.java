@@ -0,0 +1,110 @@
+package com.personalaccount.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * HTTP 부하 테스트 진입점
+ *
+ * 1. 대상 준비: base-url 이 없으면 임베디드 서버 기동 + 합성 데이터 적재
+ * 2. 합성 사용자 전원 로그인 (장부/계정 ID 수집)
+ * 3. 고정 RPS(open model)로 요청 시작, 요청마다 가상 스레드 1개
+ *    → 응답이 느려져도 요청 발생률은 유지 (coordinated omission 방지)
+ * 4. 워밍업 이후 요청만 집계하여 엔드포인트별 p50/p95/p99, 처리량 출력
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        EmbeddedTarget embedded = config.embedded() ? EmbeddedTarget.start(config) : null;
+
+        try {
+            String baseUrl = embedded != null ? embedded.baseUrl() : config.baseUrl();
+            ApiClient api = new ApiClient(baseUrl, config.timeout());
+
+            List<Session> sessions = new ArrayList<>();
+            for (int i = 0; i < config.users(); i++) {
+                sessions.add(api.login(i, config.email(i), config.password()));
+            }
+
+            System.out.printf("부하 테스트 시작: target=%s, threads=%s, users=%d, rps=%d, warmup=%ds, duration=%ds%n",
+                    baseUrl, threadMode(config), sessions.size(), config.rps(),
+                    config.warmup().toSeconds(), config.duration().toSeconds());
+
+            LoadScenario scenario = new LoadScenario(api, config);
+            LatencyStats stats = run(api, scenario, sessions, config);
+
+            stats.print(scenario.endpoints().stream().map(LoadScenario.Endpoint::name).toList(), config.duration());
+
+        } finally {
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+    }
+
+    private static LatencyStats run(ApiClient api, LoadScenario scenario,
+                                    List<Session> sessions, LoadTestConfig config) {
+        LatencyStats stats = new LatencyStats();
+        long interval = 1_000_000_000L / config.rps();
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long scheduled = start + i * interval;
+                if (scheduled >= end) {
+                    break;
+                }
+
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                boolean measured = scheduled >= measureFrom;
+                executor.submit(() -> execute(api, scenario, sessions, stats, scheduled, measured));
+            }
+        }
+
+        return stats;
+    }
+
+    private static void execute(ApiClient api, LoadScenario scenario, List<Session> sessions,
+                                LatencyStats stats, long scheduled, boolean measured) {
+        Session session = sessions.get(ThreadLocalRandom.current().nextInt(sessions.size()));
+        Session.BookContext book = session.books().get(ThreadLocalRandom.current().nextInt(session.books().size()));
+        LoadScenario.Endpoint endpoint = scenario.next();
+
+        boolean error;
+        try {
+            HttpRequest request = endpoint.request().apply(session, book);
+            error = api.send(request) / 100 != 2;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            error = true;
+        }
+
+        if (measured) {
+            stats.record(endpoint.name(), System.nanoTime() - scheduled, error);
+        }
+    }
+
+    private static String threadMode(LoadTestConfig config) {
+        if (!config.embedded()) {
+            return "external";
+        }
+        return config.virtualThreads() ? "virtual" : "platform";
+    }
+}
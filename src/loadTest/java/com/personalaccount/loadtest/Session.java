@@ -0,0 +1,15 @@
+package com.personalaccount.loadtest;
+
+import java.util.List;
+
+/**
+ * 로그인된 사용자 1명의 요청 컨텍스트
+ */
+record Session(int userIndex, String email, String accessToken, List<BookContext> books) {
+
+    /**
+     * @param categoryIds 지출 카테고리 ID
+     * @param paymentMethodIds 결제수단 ID
+     */
+    record BookContext(Long bookId, String bookType, List<Long> categoryIds, List<Long> paymentMethodIds) {}
+}
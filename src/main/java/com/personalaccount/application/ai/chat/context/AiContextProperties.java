@@ -0,0 +1,28 @@
+package com.personalaccount.application.ai.chat.context;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * AI 대화 컨텍스트 설정 (ai.context.*)
+ *
+ * - max-prompt-tokens: 요약 + 최근 대화의 추정 토큰 상한 (프롬프트 크기 상한)
+ * - max-window-messages: 원문으로 보내는 최근 메시지 수 상한
+ * - max-summary-chars / summary-line-chars: 요약 전체 / 메시지 1건당 길이 상한
+ *
+ * 세션은 압축된 상태로 저장되므로 Redis 값 크기도 같은 상한을 따름
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.context")
+public class AiContextProperties {
+
+    private int maxPromptTokens = 1500;
+
+    private int maxWindowMessages = 12;
+
+    private int maxSummaryChars = 800;
+
+    private int summaryLineChars = 120;
+}
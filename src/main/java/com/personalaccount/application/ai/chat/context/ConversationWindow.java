@@ -0,0 +1,159 @@
+package com.personalaccount.application.ai.chat.context;
+
+import com.personalaccount.application.ai.session.ConversationSession;
+import com.personalaccount.application.ai.session.ConversationSession.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 대화 컨텍스트 관리 (토큰 예산 기반 슬라이딩 윈도우 + 요약)
+ *
+ * - 최근 메시지는 추정 토큰 예산(max-prompt-tokens) 안에서 원문 유지
+ * - 윈도우 밖으로 밀려난 메시지는 한 줄 요약으로 session.summary에 누적 (오래된 줄부터 삭제)
+ * - 요약은 추가 AI 호출 없이 원문을 줄여 만듦 (응답 지연/비용 없음)
+ * - 압축 결과는 세션에 반영되어 저장되므로 프롬프트와 Redis 값 크기가 함께 제한됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConversationWindow {
+
+    private static final String SUMMARY_HEADER = "[이전 대화 요약]\n";
+    private static final String RECENT_HEADER = "[최근 대화]\n";
+    private static final String ELLIPSIS = "…";
+    private static final int MESSAGE_OVERHEAD_TOKENS = 4;
+
+    private final AiContextProperties properties;
+
+    /**
+     * 세션 압축 후 프롬프트용 대화 텍스트 생성
+     */
+    public String buildConversationText(ConversationSession session) {
+        compact(session);
+        return render(session);
+    }
+
+    /**
+     * 윈도우 초과분을 요약으로 이동
+     * - 가장 최근 메시지(이번 사용자 입력)는 항상 원문 유지
+     * - 요약이 길어지면 윈도우 예산이 줄어드므로 수렴할 때까지 반복
+     */
+    public void compact(ConversationSession session) {
+        while (true) {
+            List<ChatMessage> messages = session.getMessages();
+            int evict = messages.size() - windowSize(messages, session.getSummary());
+            if (evict <= 0) {
+                return;
+            }
+
+            String summary = summarize(session.getSummary(), messages.subList(0, evict));
+            session.rollUp(evict, summary);
+
+            log.debug("대화 압축 - conversationId: {}, 요약 이동: {}건, 남은 메시지: {}건",
+                    session.getConversationId(), evict, session.getMessages().size());
+        }
+    }
+
+    /**
+     * 추정 토큰 수 (ASCII 4자당 1토큰, 그 외 문자(한글 등) 1자당 1토큰으로 보수적으로 계산)
+     */
+    public static int estimateTokens(String text) {
+        if (text == null) {
+            return 0;
+        }
+
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 128) {
+                ascii++;
+            } else {
+                other++;
+            }
+        }
+        return (ascii + 3) / 4 + other;
+    }
+
+    /**
+     * 뒤에서부터 예산 안에 들어가는 메시지 수 (최소 1)
+     */
+    private int windowSize(List<ChatMessage> messages, String summary) {
+        int budget = properties.getMaxPromptTokens() - estimateTokens(summary);
+        int used = 0;
+        int keep = 0;
+
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            int tokens = estimateTokens(messages.get(i).getContent()) + MESSAGE_OVERHEAD_TOKENS;
+            if (keep > 0 && (keep >= properties.getMaxWindowMessages() || used + tokens > budget)) {
+                break;
+            }
+            used += tokens;
+            keep++;
+        }
+        return keep;
+    }
+
+    private String summarize(String previous, List<ChatMessage> evicted) {
+        StringBuilder summary = new StringBuilder();
+        if (previous != null && !previous.isBlank()) {
+            summary.append(previous);
+        }
+
+        for (ChatMessage message : evicted) {
+            if (!summary.isEmpty()) {
+                summary.append('\n');
+            }
+            summary.append(message.getRole())
+                    .append(": ")
+                    .append(shorten(message.getContent(), properties.getSummaryLineChars()));
+        }
+
+        return trimOldestLines(summary.toString(), properties.getMaxSummaryChars());
+    }
+
+    /**
+     * 요약 상한 초과 시 오래된 줄부터 삭제 (한 줄만 남아도 초과하면 뒷부분만 유지)
+     */
+    private static String trimOldestLines(String summary, int maxChars) {
+        String trimmed = summary;
+        while (trimmed.length() > maxChars) {
+            int newline = trimmed.indexOf('\n');
+            if (newline < 0) {
+                return trimmed.substring(trimmed.length() - maxChars);
+            }
+            trimmed = trimmed.substring(newline + 1);
+        }
+        return trimmed;
+    }
+
+    private static String shorten(String content, int maxChars) {
+        String line = content == null ? "" : content.replaceAll("\\s+", " ").strip();
+        if (line.length() <= maxChars) {
+            return line;
+        }
+        return line.substring(0, maxChars) + ELLIPSIS;
+    }
+
+    private static String render(ConversationSession session) {
+        StringBuilder sb = new StringBuilder();
+
+        String summary = session.getSummary();
+        if (summary != null && !summary.isBlank()) {
+            sb.append(SUMMARY_HEADER)
+                    .append(summary)
+                    .append("\n\n")
+                    .append(RECENT_HEADER);
+        }
+
+        for (ChatMessage message : session.getMessages()) {
+            sb.append(message.getRole())
+                    .append(": ")
+                    .append(message.getContent())
+                    .append("\n");
+        }
+        return sb.toString();
+    }
+}
@@ -2,12 +2,20 @@ package com.personalaccount.application.ai.chat.service;
 
 import com.personalaccount.application.ai.dto.request.AiChatRequest;
 import com.personalaccount.application.ai.dto.response.AiChatResponse;
-import reactor.core.publisher.Mono;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
 
 public interface AiChatService {
 
     /**
-     * AI와 대화 (논블로킹)
+     * AI와 대화 (블로킹, 요청 스레드에서 AI 응답까지 대기)
      */
-    Mono<AiChatResponse> chat(Long userId, AiChatRequest request);
+    AiChatResponse chat(Long userId, AiChatRequest request);
+
+    /**
+     * AI와 대화 (스트리밍, 논블로킹)
+     * - 세션은 리액티브 Redis, JPA 작업(권한 조회/거래 생성)만 전용 스케줄러에서 실행
+     * - 이벤트: delta(텍스트 조각) → done(AiChatResponse), 실패 시 error(ErrorResponse)
+     */
+    Flux<ServerSentEvent<Object>> chatStream(Long userId, AiChatRequest request);
 }
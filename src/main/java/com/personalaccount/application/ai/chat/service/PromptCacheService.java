@@ -4,78 +4,274 @@ import com.personalaccount.application.ai.util.PromptTemplate;
 import com.personalaccount.common.exception.custom.AiServiceException;
 import com.personalaccount.domain.account.entity.Account;
 import com.personalaccount.domain.account.entity.AccountType;
-import com.personalaccount.domain.account.repository.AccountRepository;
+import com.personalaccount.domain.account.cache.ChartOfAccounts;
 import com.personalaccount.domain.ai.client.AiClient;
 import com.personalaccount.domain.ai.dto.CacheCreateRequest;
-import com.personalaccount.domain.ai.dto.CacheCreateResponse;
 import com.personalaccount.domain.book.entity.BookType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Gemini 프롬프트 캐시 (cachedContent) 조회/생성
+ *
+ * - 로컬 캐시: 요청마다 Redis 조회 없이 캐시 이름 반환
+ * - 단일 실행: 같은 bookType 생성은 노드 내 1건만 실행, 나머지는 진행 중인 결과를 공유
+ *   노드 간에는 Redis 임대(SET NX) 획득 노드만 생성, 나머지는 Redis 값이 생길 때까지 대기
+ *   (임대가 해제되면 대기 노드 중 새로 임대를 잡은 1개 노드만 생성)
+ * - 미스 경로(Redis 조회/임대/대기/생성)는 리액티브 Redis + Mono.delay 재시도로 처리 (스레드 점유 없음)
+ * - 만료 1시간 전부터 요청이 들어오면 백그라운드 갱신 (갱신 중에는 기존 캐시 계속 사용)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PromptCacheService {
 
     private static final String CACHE_KEY_PREFIX = "gemini:cache:";
+    private static final String LEASE_KEY_PREFIX = "gemini:cache-lease:";
     private static final Duration CACHE_TTL = Duration.ofHours(23);
+    private static final Duration REFRESH_BEFORE = Duration.ofHours(1);
+    private static final Duration EXPIRY_MARGIN = Duration.ofMinutes(1);
+    private static final Duration REFRESH_RETRY = Duration.ofMinutes(1);
+    private static final Duration LEASE_TTL = Duration.ofSeconds(60);
+    private static final Duration LEASE_POLL_INTERVAL = Duration.ofMillis(200);
+    // Gemini 요청 타임아웃(30초)보다 충분히 짧게 - 대기가 길어지면 요청을 실패시킴
+    private static final Duration LEASE_WAIT_TIMEOUT = Duration.ofSeconds(10);
+    private static final long LEASE_MAX_POLLS = LEASE_WAIT_TIMEOUT.toMillis() / LEASE_POLL_INTERVAL.toMillis();
+
+    // 임대 해제: 내가 잡은 임대만 삭제
+    private static final RedisScript<Long> RELEASE_LEASE = RedisScript.of(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
 
     private final AiClient aiClient;
-    private final AccountRepository accountRepository;
+    private final ChartOfAccounts chartOfAccounts;
     private final PromptTemplate promptTemplate;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<BookType, CachedPrompt> localCache = new ConcurrentHashMap<>();
+    private final Map<BookType, CompletableFuture<CachedPrompt>> inFlight = new ConcurrentHashMap<>();
+    private final Set<BookType> refreshing = ConcurrentHashMap.newKeySet();
 
     /**
-     * 캐시 조회 또는 생성
+     * 캐시 조회 또는 생성 (동기 대화 경로)
+     * - 요청 스레드(가상 스레드)에서 미스 결과까지 대기, AI 호출과 동일한 방식
      */
     public String getOrCreateCache(BookType bookType) {
-        String cacheKey = CACHE_KEY_PREFIX + bookType;
-        String cachedContentName = redisTemplate.opsForValue().get(cacheKey);
+        String cached = findLocal(bookType);
+        if (cached != null) {
+            return cached;
+        }
 
-        if (cachedContentName == null) {
-            cachedContentName = createCache(bookType, cacheKey);
+        return findOrCreateCache(bookType).block();
+    }
+
+    /**
+     * 캐시 조회 또는 생성 (논블로킹)
+     * - 로컬 캐시 적중 시 바로 반환
+     * - 미스(노드당 갱신 주기마다 1회)는 리액티브 Redis/Gemini 호출로 처리
+     */
+    public Mono<String> findOrCreateCache(BookType bookType) {
+        String cached = findLocal(bookType);
+        if (cached != null) {
+            return Mono.just(cached);
         }
 
-        return cachedContentName;
+        return singleFlight(bookType, false).map(CachedPrompt::name);
     }
 
     /**
-     * 캐시 생성
-     * - 읽기 전용 트랜잭션: 계정과목 조회
-     * - 외부 API 호출 포함
+     * 로컬 캐시 조회 (갱신 시각이 지났으면 백그라운드 갱신 시작)
      */
-    @Transactional(readOnly = true)
-    public String createCache(BookType bookType, String cacheKey) {
-        log.info("캐시 생성 시작 - bookType: {}", bookType);
+    private String findLocal(BookType bookType) {
+        long now = System.currentTimeMillis();
+        CachedPrompt cached = localCache.get(bookType);
 
-        String systemPrompt = buildSystemPrompt(bookType);
+        if (cached == null || cached.expiresAt() <= now) {
+            return null;
+        }
+        if (cached.refreshAt() <= now) {
+            refreshInBackground(bookType);
+        }
+        return cached.name();
+    }
 
-        CacheCreateRequest request = CacheCreateRequest.builder()
-                .model("models/gemini-2.5-flash")
-                .systemPrompt(systemPrompt)
-                .ttl("82800s")
-                .build();
+    // === 단일 실행 ===
 
-        CacheCreateResponse response = aiClient.createCachedContent(request).block();
+    /**
+     * 같은 bookType 조회/생성은 노드 내에서 1건만 실행
+     * - 먼저 온 요청이 생성을 시작하고, 나머지는 같은 결과(future)를 구독
+     * - 생성은 구독과 분리해 실행 (요청 하나가 취소되어도 다른 대기 요청에 영향 없음)
+     */
+    private Mono<CachedPrompt> singleFlight(BookType bookType, boolean refresh) {
+        return Mono.defer(() -> {
+            CompletableFuture<CachedPrompt> mine = new CompletableFuture<>();
+            CompletableFuture<CachedPrompt> running = inFlight.putIfAbsent(bookType, mine);
+            if (running != null) {
+                return Mono.fromFuture(running, true);
+            }
 
-        if (response == null) {
-            throw new AiServiceException("캐시 생성 실패");
+            resolve(bookType, refresh)
+                    .doOnNext(prompt -> localCache.put(bookType, prompt))
+                    .doFinally(signal -> inFlight.remove(bookType, mine))
+                    .subscribe(mine::complete, mine::completeExceptionally,
+                            () -> mine.completeExceptionally(new AiServiceException("캐시 생성 실패")));
+            return Mono.fromFuture(mine, true);
+        });
+    }
+
+    private void refreshInBackground(BookType bookType) {
+        if (!refreshing.add(bookType)) {
+            return;
         }
 
-        String cachedContentName = response.getCacheName();
-        redisTemplate.opsForValue().set(cacheKey, cachedContentName, CACHE_TTL);
+        singleFlight(bookType, true)
+                .doFinally(signal -> refreshing.remove(bookType))
+                .subscribe(
+                        prompt -> { },
+                        e -> log.warn("캐시 사전 갱신 실패 (기존 캐시 유지) - bookType: {}, {}", bookType, e.getMessage())
+                );
+    }
+
+    // === Redis 공유 캐시 + 임대 ===
 
-        log.info("캐시 생성 완료 - bookType: {}, name: {}", bookType, cachedContentName);
+    /**
+     * 1. Redis에 다른 노드가 만든 캐시가 있으면 사용 (갱신 시에는 갱신 시각 전인 경우만)
+     * 2. 임대를 잡으면 직접 생성
+     * 3. 다른 노드가 생성 중이면 기존 캐시 사용, 없으면 생성 완료까지 대기
+     */
+    private Mono<CachedPrompt> resolve(BookType bookType, boolean refresh) {
+        String cacheKey = CACHE_KEY_PREFIX + bookType;
+        String leaseKey = LEASE_KEY_PREFIX + bookType;
 
-        return cachedContentName;
+        return readShared(cacheKey)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(shared -> {
+                    if (shared.isPresent() && (!refresh || isFresh(shared.get()))) {
+                        return Mono.just(shared.get());
+                    }
+
+                    return acquireLease(leaseKey).flatMap(acquired -> {
+                        if (acquired) {
+                            return createUnderLease(bookType, cacheKey, leaseKey);
+                        }
+                        if (shared.isPresent()) {
+                            log.debug("다른 노드에서 캐시 갱신 중 - bookType: {}", bookType);
+                            return Mono.just(shared.get()
+                                    .retryRefreshAt(System.currentTimeMillis() + REFRESH_RETRY.toMillis()));
+                        }
+                        return awaitShared(bookType, cacheKey, leaseKey);
+                    });
+                });
+    }
+
+    /**
+     * 임대를 가진 노드의 생성 완료 대기 (Mono.delay 간격으로 재조회, 스레드 점유 없음)
+     * - 임대 보유 노드가 실패해 임대가 풀리면 다시 임대를 시도, 잡은 노드만 생성
+     * - 대기 시간 초과 시 임대 없이 생성하지 않고 실패 처리 (동시 생성 폭주 방지)
+     */
+    private Mono<CachedPrompt> awaitShared(BookType bookType, String cacheKey, String leaseKey) {
+        return Mono.delay(LEASE_POLL_INTERVAL)
+                .then(Mono.defer(() -> readShared(cacheKey)))
+                .switchIfEmpty(Mono.defer(() -> acquireLease(leaseKey).flatMap(acquired -> {
+                    if (!acquired) {
+                        return Mono.<CachedPrompt>empty();
+                    }
+                    log.info("캐시 생성 노드의 임대 해제 확인, 직접 생성 - bookType: {}", bookType);
+                    return createUnderLease(bookType, cacheKey, leaseKey);
+                })))
+                .repeatWhenEmpty(repeats -> repeats.take(LEASE_MAX_POLLS - 1))
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("캐시 생성 대기 시간 초과 - bookType: {}", bookType);
+                    return Mono.error(new AiServiceException("AI 캐시 준비가 지연되고 있습니다. 잠시 후 다시 시도해주세요."));
+                }));
+    }
+
+    /**
+     * 임대 보유 상태에서 생성 (그 사이 다른 노드가 만든 캐시가 있으면 그대로 사용)
+     * - 성공/실패/취소 모두 임대 해제
+     */
+    private Mono<CachedPrompt> createUnderLease(BookType bookType, String cacheKey, String leaseKey) {
+        return Mono.usingWhen(
+                Mono.just(leaseKey),
+                lease -> readShared(cacheKey)
+                        .filter(PromptCacheService::isFresh)
+                        .switchIfEmpty(Mono.defer(() -> createCache(bookType, cacheKey))),
+                this::releaseLease
+        );
+    }
+
+    private Mono<CachedPrompt> readShared(String cacheKey) {
+        return redisTemplate.opsForValue().get(cacheKey)
+                .flatMap(name -> redisTemplate.getExpire(cacheKey)
+                        .filter(ttl -> ttl.toMillis() > EXPIRY_MARGIN.toMillis())
+                        .map(ttl -> CachedPrompt.of(name, ttl.toMillis(), System.currentTimeMillis())));
+    }
+
+    private Mono<Boolean> acquireLease(String leaseKey) {
+        return redisTemplate.opsForValue().setIfAbsent(leaseKey, nodeId, LEASE_TTL)
+                .map(Boolean.TRUE::equals)
+                .defaultIfEmpty(false);
+    }
+
+    private Mono<Void> releaseLease(String leaseKey) {
+        return redisTemplate.execute(RELEASE_LEASE, List.of(leaseKey), List.of(nodeId))
+                .then()
+                .onErrorResume(e -> {
+                    log.warn("캐시 임대 해제 실패 (만료 대기) - key: {}, {}", leaseKey, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private static boolean isFresh(CachedPrompt prompt) {
+        return prompt.refreshAt() > System.currentTimeMillis();
+    }
+
+    // === 생성 ===
+
+    /**
+     * 캐시 생성
+     * - 계정과목은 인메모리 레지스트리에서 조회 (DB 트랜잭션 불필요)
+     * - 프롬프트 템플릿 최초 로드는 클래스패스 파일 읽기라 boundedElastic에서 구성
+     * - Gemini 생성 호출과 Redis 저장은 리액티브로 연결
+     */
+    private Mono<CachedPrompt> createCache(BookType bookType, String cacheKey) {
+        return Mono.fromCallable(() -> {
+                    log.info("캐시 생성 시작 - bookType: {}", bookType);
+                    return CacheCreateRequest.builder()
+                            .model("models/gemini-2.5-flash")
+                            .systemPrompt(buildSystemPrompt(bookType))
+                            .ttl(CACHE_TTL.toSeconds() + "s")
+                            .build();
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(aiClient::createCachedContent)
+                .switchIfEmpty(Mono.error(() -> new AiServiceException("캐시 생성 실패")))
+                .flatMap(response -> {
+                    String cachedContentName = response.getCacheName();
+                    return redisTemplate.opsForValue().set(cacheKey, cachedContentName, CACHE_TTL)
+                            .doOnSuccess(stored -> log.info("캐시 생성 완료 - bookType: {}, name: {}",
+                                    bookType, cachedContentName))
+                            .thenReturn(CachedPrompt.of(
+                                    cachedContentName, CACHE_TTL.toMillis(), System.currentTimeMillis()));
+                });
     }
 
     private String buildSystemPrompt(BookType bookType) {
@@ -95,11 +291,31 @@ public class PromptCacheService {
     }
 
     private List<String> getAccountNames(BookType bookType, AccountType accountType) {
-        return accountRepository
-                .findByBookTypeAndAccountTypeAndIsActive(bookType, accountType, true)
+        return chartOfAccounts.findActive(bookType, accountType)
                 .stream()
                 .map(Account::getName)
                 .sorted()
                 .toList();
     }
+
+    /**
+     * 로컬 캐시 항목
+     *
+     * @param expiresAt 사용 가능 시각 (Gemini 만료보다 조금 앞당김)
+     * @param refreshAt 사전 갱신 시작 시각
+     */
+    private record CachedPrompt(String name, long expiresAt, long refreshAt) {
+
+        static CachedPrompt of(String name, long ttlMillis, long now) {
+            return new CachedPrompt(
+                    name,
+                    now + ttlMillis - EXPIRY_MARGIN.toMillis(),
+                    now + ttlMillis - REFRESH_BEFORE.toMillis()
+            );
+        }
+
+        CachedPrompt retryRefreshAt(long retryAt) {
+            return new CachedPrompt(name, expiresAt, retryAt);
+        }
+    }
 }
@@ -4,7 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.personalaccount.common.exception.custom.AccountNotFoundException;
 import com.personalaccount.common.exception.custom.AiParsingException;
-import com.personalaccount.domain.account.repository.AccountRepository;
+import com.personalaccount.domain.account.cache.ChartOfAccounts;
 import com.personalaccount.domain.book.entity.BookType;
 import com.personalaccount.domain.transaction.dto.request.TransactionCreateRequest;
 import com.personalaccount.domain.transaction.dto.response.TransactionResponse;
@@ -24,7 +24,7 @@ import java.time.LocalDate;
 public class TransactionCreationService {
 
     private final TransactionService transactionService;
-    private final AccountRepository accountRepository;
+    private final ChartOfAccounts chartOfAccounts;
     private final ObjectMapper objectMapper;
 
     /**
@@ -105,7 +105,7 @@ public class TransactionCreationService {
     }
 
     private Long findAccountId(String name, BookType bookType) {
-        return accountRepository.findByNameAndBookTypeAndIsActive(name, bookType, true)
+        return chartOfAccounts.findActiveByName(name, bookType)
                 .orElseThrow(() -> new AccountNotFoundException(
                         String.format("계정과목을 찾을 수 없습니다. Name: %s, BookType: %s", name, bookType)
                 ))
@@ -1,28 +1,37 @@
 package com.personalaccount.application.ai.chat.service.impl;
 
+import com.personalaccount.application.ai.chat.context.ConversationWindow;
+import com.personalaccount.application.ai.chat.stream.CompletePayloadDetector;
 import com.personalaccount.application.ai.dto.request.AiChatRequest;
+import com.personalaccount.application.ai.dto.response.AiChatDelta;
 import com.personalaccount.application.ai.dto.response.AiChatResponse;
 import com.personalaccount.application.ai.chat.service.AiChatService;
 import com.personalaccount.application.ai.chat.service.PromptCacheService;
 import com.personalaccount.application.ai.chat.service.TransactionCreationService;
 import com.personalaccount.application.ai.session.ConversationSession;
+import com.personalaccount.common.dto.ErrorResponse;
+import com.personalaccount.common.exception.BusinessException;
 import com.personalaccount.common.exception.custom.AiServiceException;
-import com.personalaccount.common.exception.custom.BookNotFoundException;
 import com.personalaccount.common.exception.custom.SessionNotFoundException;
-import com.personalaccount.common.exception.custom.UnauthorizedBookAccessException;
 import com.personalaccount.domain.ai.client.AiClient;
 import com.personalaccount.domain.ai.dto.AiMessageRequest;
 import com.personalaccount.domain.ai.dto.AiMessageResponse;
+import com.personalaccount.domain.ai.repository.ReactiveSessionRepository;
 import com.personalaccount.domain.ai.repository.SessionRepository;
-import com.personalaccount.domain.book.entity.Book;
+import com.personalaccount.domain.book.cache.BookAccess;
+import com.personalaccount.domain.book.cache.BookAccessCache;
 import com.personalaccount.domain.book.entity.BookType;
-import com.personalaccount.domain.book.repository.BookRepository;
 import com.personalaccount.domain.transaction.dto.response.TransactionResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Service
@@ -31,55 +40,72 @@ public class AiChatServiceImpl implements AiChatService {
 
     private final AiClient aiClient;
     private final SessionRepository sessionRepository;
-    private final BookRepository bookRepository;
+    private final ReactiveSessionRepository reactiveSessionRepository;
+    private final BookAccessCache bookAccessCache;
     private final TransactionCreationService transactionCreationService;
     private final PromptCacheService promptCacheService;
+    private final ConversationWindow conversationWindow;
+    private final Scheduler jpaScheduler;
 
     @Override
-    public Mono<AiChatResponse> chat(Long userId, AiChatRequest request) {
+    public AiChatResponse chat(Long userId, AiChatRequest request) {
         log.info("AI 대화 시작 - userId: {}, bookId: {}", userId, request.getBookId());
 
-        // 1. DB 조회 (블로킹) - boundedElastic 스케줄러에서 실행
-        return Mono.fromCallable(() -> validateAndGetBook(userId, request.getBookId()))
-                .subscribeOn(Schedulers.boundedElastic())
+        // 1. 장부 권한 검증 (캐시 미스 시 DB 조회)
+        BookAccess bookAccess = bookAccessCache.validateAccess(userId, request.getBookId());
 
-                // 2. 세션 처리 (Redis 블로킹) - 같은 boundedElastic에서 실행
-                .map(book -> {
-                    ConversationSession session = getOrCreateSession(
-                            request.getConversationId(),
-                            userId,
-                            request.getBookId()
-                    );
-                    session.addMessage("user", request.getMessage());
-                    return new ChatContext(book, session);
-                })
+        // 2. 세션 처리 (Redis)
+        ConversationSession session = getOrCreateSession(
+                request.getConversationId(),
+                userId,
+                request.getBookId()
+        );
+        session.addMessage("user", request.getMessage());
+
+        // 3. AI 호출 - 요청 스레드(가상 스레드)에서 응답까지 대기
+        String cachedContentName = promptCacheService.getOrCreateCache(bookAccess.getBookType());
+        AiMessageRequest aiRequest = buildAiRequest(cachedContentName, session);
+        AiMessageResponse aiResponse = aiClient.sendMessage(aiRequest).block();
+        if (aiResponse == null) {
+            throw new AiServiceException("AI 응답이 비어있습니다");
+        }
 
-                // 3. AI 요청 생성 및 호출 (논블로킹)
-                .flatMap(context -> {
-                    AiMessageRequest aiRequest = buildAiRequest(context.session(), context.book().getBookType());
-                    
-                    return aiClient.sendMessage(aiRequest)
-                            .map(aiResponse -> {
-                                if (aiResponse == null) {
-                                    throw new AiServiceException("AI 응답이 비어있습니다");
-                                }
-                                return new AiResponseContext(context, aiResponse.getMessage());
-                            });
-                })
+        // 4. 응답 처리 (거래 생성/세션 저장)
+        return processResponse(userId, new AiResponseContext(new ChatContext(bookAccess, session), aiResponse.getMessage()));
+    }
 
-                // 4. 응답 처리 (DB 저장은 블로킹) - boundedElastic에서 실행
-                .flatMap(responseContext -> 
-                    Mono.fromCallable(() -> processResponse(userId, responseContext))
-                            .subscribeOn(Schedulers.boundedElastic())
-                );
+    @Override
+    public Flux<ServerSentEvent<Object>> chatStream(Long userId, AiChatRequest request) {
+        log.info("AI 스트리밍 대화 시작 - userId: {}, bookId: {}", userId, request.getBookId());
+
+        // 1. 장부 권한 검증 (캐시 미스 시 DB 조회 → JPA 전용 스케줄러)
+        return Mono.fromCallable(() -> bookAccessCache.validateAccess(userId, request.getBookId()))
+                .subscribeOn(jpaScheduler)
+                // 2. 세션 처리 (리액티브 Redis)
+                .flatMap(bookAccess -> findOrCreateSession(
+                        request.getConversationId(),
+                        userId,
+                        request.getBookId()
+                ).map(session -> {
+                    session.addMessage("user", request.getMessage());
+                    return new ChatContext(bookAccess, session);
+                }))
+                // 3~4. AI 스트리밍 호출 + 응답 처리
+                .flatMapMany(context -> promptCacheService.findOrCreateCache(context.book().getBookType())
+                        .flatMapMany(cachedContentName -> streamResponse(
+                                userId,
+                                context,
+                                buildAiRequest(cachedContentName, context.session())
+                        )))
+                .onErrorResume(error -> Flux.just(errorEvent(error)));
     }
 
     // === 내부 컨텍스트 클래스 ===
 
-    private record ChatContext(Book book, ConversationSession session) {}
+    private record ChatContext(BookAccess book, ConversationSession session) {}
     
     private record AiResponseContext(ChatContext chatContext, String aiMessage) {
-        Book book() { return chatContext.book(); }
+        BookAccess book() { return chatContext.book(); }
         ConversationSession session() { return chatContext.session(); }
     }
 
@@ -98,17 +124,133 @@ public class AiChatServiceImpl implements AiChatService {
         return handleMoreInfoNeeded(session, aiMessage);
     }
 
-    // === 검증 ===
+    // === 스트리밍 응답 처리 ===
 
-    private Book validateAndGetBook(Long userId, Long bookId) {
-        Book book = bookRepository.findByIdAndIsActive(bookId, true)
-                .orElseThrow(() -> new BookNotFoundException(bookId));
+    /**
+     * 조각을 받는 즉시 delta 이벤트로 전달, 종료 시 done 이벤트
+     * - COMPLETE 응답은 사용자에게 전달하지 않고, JSON이 닫히는 순간 거래 생성 시작
+     *   (남은 스트림 수신과 거래 생성이 겹침)
+     * - 일반 응답은 스트림 종료 후 세션 저장
+     * - 거래 생성 시작 후의 스트림 실패는 error 대신 done(생성된 거래)으로 종료
+     */
+    private Flux<ServerSentEvent<Object>> streamResponse(
+            Long userId,
+            ChatContext context,
+            AiMessageRequest aiRequest
+    ) {
+        CompletePayloadDetector detector = new CompletePayloadDetector();
+        AtomicReference<CompletableFuture<AiChatResponse>> transaction = new AtomicReference<>();
+
+        Flux<ServerSentEvent<Object>> deltas = aiClient.streamMessage(aiRequest)
+                .<ServerSentEvent<Object>>handle((chunk, sink) -> {
+                    String visible = detector.append(chunk);
+                    if (!visible.isEmpty()) {
+                        sink.next(deltaEvent(visible));
+                    }
+                    if (transaction.get() == null && detector.payload() != null) {
+                        log.info("COMPLETE 페이로드 수신 - 스트림 종료 전 거래 생성 시작");
+                        transaction.set(createTransactionAsync(userId, context, detector.payload()));
+                    }
+                })
+                // 거래 생성이 이미 시작됐다면 이후 스트림 실패는 무시하고 done으로 종료
+                // (error로 끝나면 클라이언트 재시도로 거래가 중복 생성됨)
+                .onErrorResume(error -> {
+                    if (transaction.get() == null) {
+                        return Flux.error(error);
+                    }
+                    log.warn("COMPLETE 페이로드 수신 후 AI 스트림 실패 - 생성된 거래로 종료: {}", error.getMessage());
+                    return Flux.empty();
+                });
+
+        Flux<ServerSentEvent<Object>> tail = Flux.defer(() -> {
+            String rest = detector.flush();
+            Flux<ServerSentEvent<Object>> restEvent = rest.isEmpty() ? Flux.empty() : Flux.just(deltaEvent(rest));
+            return restEvent.concatWith(finishStream(userId, context, detector, transaction.get()).map(this::doneEvent));
+        });
+
+        return deltas.concatWith(tail);
+    }
 
-        if (!book.getUser().getId().equals(userId)) {
-            throw new UnauthorizedBookAccessException(bookId);
+    private Mono<AiChatResponse> finishStream(
+            Long userId,
+            ChatContext context,
+            CompletePayloadDetector detector,
+            CompletableFuture<AiChatResponse> pending
+    ) {
+        if (detector.isComplete()) {
+            // JSON이 끝까지 닫히지 않은 경우 전체 텍스트로 파싱 시도 (실패 시 AiParsingException)
+            CompletableFuture<AiChatResponse> transaction = pending != null
+                    ? pending
+                    : createTransactionAsync(userId, context, detector.text());
+            // 클라이언트가 끊겨도 시작된 거래 생성은 취소하지 않음
+            return Mono.fromFuture(transaction, true);
         }
 
-        return book;
+        ConversationSession session = context.session();
+        session.addMessage("assistant", detector.text());
+
+        return reactiveSessionRepository.saveSession(session)
+                .then(Mono.fromSupplier(() -> moreInfoResponse(session, detector.text())));
+    }
+
+    /**
+     * 거래 생성 - 즉시 시작, 결과는 스트림 종료 시 전달
+     * - JPA 작업만 전용 스케줄러에서 실행, 세션 삭제는 리액티브 Redis
+     */
+    private CompletableFuture<AiChatResponse> createTransactionAsync(
+            Long userId,
+            ChatContext context,
+            String aiMessage
+    ) {
+        ConversationSession session = context.session();
+
+        return Mono.fromCallable(() -> {
+                    log.info("거래 생성 - conversationId: {}", session.getConversationId());
+                    return transactionCreationService.createFromAiResponse(
+                            userId,
+                            session.getBookId(),
+                            context.book().getBookType(),
+                            aiMessage
+                    );
+                })
+                .subscribeOn(jpaScheduler)
+                .flatMap(transaction -> reactiveSessionRepository.deleteSession(session.getConversationId())
+                        .thenReturn(completedResponse(transaction)))
+                .toFuture();
+    }
+
+    private ServerSentEvent<Object> deltaEvent(String text) {
+        return ServerSentEvent.<Object>builder()
+                .event("delta")
+                .data(new AiChatDelta(text))
+                .build();
+    }
+
+    private ServerSentEvent<Object> doneEvent(AiChatResponse response) {
+        return ServerSentEvent.<Object>builder()
+                .event("done")
+                .data(response)
+                .build();
+    }
+
+    /**
+     * 응답이 이미 시작된 뒤의 실패는 HTTP 상태 대신 error 이벤트로 전달
+     */
+    private ServerSentEvent<Object> errorEvent(Throwable error) {
+        ErrorResponse.ErrorResponseBuilder response = ErrorResponse.builder().success(false);
+
+        if (error instanceof BusinessException ex) {
+            log.warn("AI 스트리밍 실패: code={}, message={}", ex.getErrorCode().getCode(), ex.getMessage());
+            response.errorCode(ex.getErrorCode().getCode()).message(ex.getMessage());
+        } else {
+            log.error("AI 스트리밍 실패", error);
+            response.errorCode("INTERNAL_SERVER_ERROR").message("서버 오류가 발생했습니다.");
+        }
+
+        return ServerSentEvent.<Object>builder()
+                .event("error")
+                .data(response.build())
+                .build();
     }
 
     // === 세션 ===
@@ -130,11 +272,24 @@ public class AiChatServiceImpl implements AiChatService {
         return session;
     }
 
+    private Mono<ConversationSession> findOrCreateSession(
+            String conversationId,
+            Long userId,
+            Long bookId
+    ) {
+        if (conversationId == null || conversationId.isEmpty()) {
+            return reactiveSessionRepository.createSession(userId, bookId);
+        }
+
+        return reactiveSessionRepository.getSession(conversationId)
+                .switchIfEmpty(Mono.error(() -> new SessionNotFoundException(conversationId)));
+    }
+
     // === AI API ===
 
-    private AiMessageRequest buildAiRequest(ConversationSession session, BookType bookType) {
-        String cachedContentName = promptCacheService.getOrCreateCache(bookType);
-        String conversationText = buildConversationText(session);
+    private AiMessageRequest buildAiRequest(String cachedContentName, ConversationSession session) {
+        // 윈도우 밖 메시지는 요약으로 이동 (세션에 반영되어 저장 크기도 제한)
+        String conversationText = conversationWindow.buildConversationText(session);
 
         return AiMessageRequest.builder()
                 .cachedContentName(cachedContentName)
@@ -142,17 +297,6 @@ public class AiChatServiceImpl implements AiChatService {
                 .build();
     }
 
-    private String buildConversationText(ConversationSession session) {
-        StringBuilder sb = new StringBuilder();
-        for (ConversationSession.ChatMessage message : session.getMessages()) {
-            sb.append(message.getRole())
-                    .append(": ")
-                    .append(message.getContent())
-                    .append("\n");
-        }
-        return sb.toString();
-    }
-
     // === 응답 처리 ===
 
     private boolean isTransactionComplete(String message) {
@@ -178,12 +322,7 @@ public class AiChatServiceImpl implements AiChatService {
         // 세션 삭제
         sessionRepository.deleteSession(session.getConversationId());
 
-        return AiChatResponse.builder()
-                .conversationId(null)
-                .needsMoreInfo(false)
-                .message("거래가 생성되었습니다!")
-                .transaction(transaction)
-                .build();
+        return completedResponse(transaction);
     }
 
     private AiChatResponse handleMoreInfoNeeded(
@@ -192,6 +331,19 @@ public class AiChatServiceImpl implements AiChatService {
     ) {
         sessionRepository.saveSession(session);
 
+        return moreInfoResponse(session, aiMessage);
+    }
+
+    private AiChatResponse completedResponse(TransactionResponse transaction) {
+        return AiChatResponse.builder()
+                .conversationId(null)
+                .needsMoreInfo(false)
+                .message("거래가 생성되었습니다!")
+                .transaction(transaction)
+                .build();
+    }
+
+    private AiChatResponse moreInfoResponse(ConversationSession session, String aiMessage) {
         return AiChatResponse.builder()
                 .conversationId(session.getConversationId())
                 .needsMoreInfo(true)
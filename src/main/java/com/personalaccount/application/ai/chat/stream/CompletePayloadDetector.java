@@ -0,0 +1,135 @@
+package com.personalaccount.application.ai.chat.stream;
+
+/**
+ * 스트리밍 응답의 COMPLETE: 판별 (조각 단위, 응답 종료를 기다리지 않음)
+ *
+ * - 앞부분이 "COMPLETE:" 접두어인지 확정될 때까지는 조각을 보류 (최대 9자)
+ * - 일반 응답으로 확정되면 이후 조각은 그대로 전달
+ * - COMPLETE 응답이면 JSON 중괄호 깊이를 추적해 객체가 닫히는 순간 페이로드 반환
+ *   (문자열 안의 중괄호/이스케이프는 무시)
+ *
+ * 요청 1건의 스트림에서만 사용 (스레드 안전하지 않음)
+ */
+public class CompletePayloadDetector {
+
+    public static final String PREFIX = "COMPLETE:";
+
+    public enum Mode {
+        UNDECIDED, MESSAGE, COMPLETE
+    }
+
+    private final StringBuilder text = new StringBuilder();
+    private Mode mode = Mode.UNDECIDED;
+
+    // COMPLETE 모드 JSON 스캔 상태
+    private int scanned;
+    private int payloadStart = -1;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+    private String payload;
+
+    /**
+     * 조각 추가
+     *
+     * @return 사용자에게 바로 전달할 텍스트 (보류 중이거나 COMPLETE 응답이면 빈 문자열)
+     */
+    public String append(String chunk) {
+        int before = text.length();
+        text.append(chunk);
+
+        if (mode == Mode.UNDECIDED) {
+            decide();
+            if (mode == Mode.MESSAGE) {
+                return text.toString();
+            }
+        } else if (mode == Mode.MESSAGE) {
+            return text.substring(before);
+        }
+
+        if (mode == Mode.COMPLETE && payload == null) {
+            scan();
+        }
+        return "";
+    }
+
+    /**
+     * 스트림 종료 시 호출 - 보류 중이던 짧은 일반 응답 반환
+     */
+    public String flush() {
+        if (mode == Mode.UNDECIDED) {
+            mode = Mode.MESSAGE;
+            return text.toString();
+        }
+        return "";
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
+    public boolean isComplete() {
+        return mode == Mode.COMPLETE;
+    }
+
+    /**
+     * 닫힌 JSON 페이로드 (아직 닫히지 않았으면 null)
+     */
+    public String payload() {
+        return payload;
+    }
+
+    /**
+     * 지금까지 받은 전체 텍스트
+     */
+    public String text() {
+        return text.toString();
+    }
+
+    private void decide() {
+        String head = text.toString().stripLeading();
+        if (head.length() >= PREFIX.length()) {
+            mode = head.startsWith(PREFIX) ? Mode.COMPLETE : Mode.MESSAGE;
+            if (mode == Mode.COMPLETE) {
+                scanned = text.indexOf(PREFIX) + PREFIX.length();
+            }
+        } else if (!PREFIX.startsWith(head)) {
+            mode = Mode.MESSAGE;
+        }
+    }
+
+    private void scan() {
+        for (; scanned < text.length(); scanned++) {
+            char c = text.charAt(scanned);
+
+            if (payloadStart < 0) {
+                if (c == '{') {
+                    payloadStart = scanned;
+                    depth = 1;
+                }
+                continue;
+            }
+
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+
+            if (c == '"') {
+                inString = true;
+            } else if (c == '{') {
+                depth++;
+            } else if (c == '}' && --depth == 0) {
+                payload = text.substring(payloadStart, scanned + 1);
+                scanned++;
+                return;
+            }
+        }
+    }
+}
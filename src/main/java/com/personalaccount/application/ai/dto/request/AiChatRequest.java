@@ -3,6 +3,7 @@ package com.personalaccount.application.ai.dto.request;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -35,5 +36,6 @@ public class AiChatRequest {
             requiredMode = Schema.RequiredMode.REQUIRED
     )
     @NotBlank(message = "메시지는 필수입니다.")
+    @Size(max = 1000, message = "메시지는 1000자를 초과할 수 없습니다.")
     private String message;
 }
@@ -0,0 +1,20 @@
+package com.personalaccount.application.ai.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스트리밍 대화 이벤트 (SSE event: delta)
+ * - AI 응답 텍스트 조각, 도착 순서대로 이어 붙이면 전체 메시지
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "AI 응답 텍스트 조각")
+public class AiChatDelta {
+
+    @Schema(description = "텍스트 조각", example = "어떤 결제수단으로")
+    private String text;
+}
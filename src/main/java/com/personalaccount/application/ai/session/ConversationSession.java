@@ -1,5 +1,6 @@
 package com.personalaccount.application.ai.session;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,15 +28,61 @@ public class ConversationSession implements Serializable {
     @Builder.Default
     private List<ChatMessage> messages = new ArrayList<>();
 
+    // 윈도우 밖으로 밀려난 이전 대화 요약 (없으면 null)
+    private String summary;
+
     private LocalDateTime createdAt;
     private LocalDateTime lastAccessedAt;
 
+    // 저장소 메시지 리스트와의 동기화 상태 (직렬화 제외)
+    // storedCount: 앞에서부터 이미 저장된 메시지 수, trimCount: 저장소 리스트 앞쪽에서 지울 메시지 수
+    @Getter(AccessLevel.NONE)
+    private transient int storedCount;
+    @Getter(AccessLevel.NONE)
+    private transient int trimCount;
+
     // === 비즈니스 메서드 ===
     public void addMessage(String role, String content) {
         this.messages.add(new ChatMessage(role, content));
         this.lastAccessedAt = LocalDateTime.now();
     }
 
+    /**
+     * 앞쪽(오래된) 메시지 count개를 요약으로 대체
+     */
+    public void rollUp(int count, String summary) {
+        this.messages.subList(0, count).clear();
+        this.summary = summary;
+
+        int stored = Math.min(count, storedCount);
+        this.storedCount -= stored;
+        this.trimCount += stored;
+    }
+
+    // === 저장소 동기화 (세션 저장소 구현에서 사용) ===
+
+    /**
+     * 마지막 저장 이후 추가된 메시지
+     */
+    public List<ChatMessage> unsavedMessages() {
+        return messages.subList(storedCount, messages.size());
+    }
+
+    /**
+     * 마지막 저장 이후 요약으로 이동한 메시지 수 (저장소 리스트 앞쪽에서 삭제)
+     */
+    public int pendingTrim() {
+        return trimCount;
+    }
+
+    /**
+     * 저장 완료 표시 (현재 메시지 전체가 저장소와 일치)
+     */
+    public void markStored() {
+        this.storedCount = messages.size();
+        this.trimCount = 0;
+    }
+
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
@@ -3,7 +3,9 @@ package com.personalaccount.application.auth.service.impl;
 import com.personalaccount.application.auth.dto.request.LoginRequest;
 import com.personalaccount.application.auth.dto.request.RefreshRequest;
 import com.personalaccount.application.auth.dto.response.LoginResponse;
+import com.personalaccount.infrastructure.security.blacklist.TokenBlacklist;
 import com.personalaccount.infrastructure.security.jwt.JwtTokenProvider;
+import com.personalaccount.infrastructure.security.jwt.VerifiedToken;
 import com.personalaccount.infrastructure.security.repository.RefreshTokenRepository;
 import com.personalaccount.application.auth.service.AuthService;
 import com.personalaccount.common.exception.custom.RateLimitExceededException;
@@ -16,13 +18,10 @@ import com.personalaccount.domain.user.entity.User;
 import com.personalaccount.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.concurrent.TimeUnit;
-
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -33,7 +32,7 @@ public class AuthServiceImpl implements AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final PasswordEncoder passwordEncoder;
     private final RateLimitService rateLimitService;
-    private final StringRedisTemplate stringRedisTemplate;
+    private final TokenBlacklist tokenBlacklist;
     private final RefreshTokenRepository refreshTokenRepository;
 
     @Override
@@ -83,17 +82,15 @@ public class AuthServiceImpl implements AuthService {
         String refreshToken = request.getRefreshToken();
 
         // 1. JWT 서명 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new UnauthorizedException("유효하지 않은 리프레시 토큰입니다");
-        }
+        VerifiedToken verified = jwtTokenProvider.verify(refreshToken)
+                .orElseThrow(() -> new UnauthorizedException("유효하지 않은 리프레시 토큰입니다"));
 
         // 2. 토큰 타입 검증
-        String tokenType = jwtTokenProvider.getTokenType(refreshToken);
-        if (!"refresh".equals(tokenType)) {
+        if (!verified.isRefresh()) {
             throw new UnauthorizedException("리프레시 토큰이 아닙니다");
         }
 
-        Long userId = jwtTokenProvider.getUserId(refreshToken);
+        Long userId = verified.userId();
 
         // 3. Redis 저장소 검증 (실제 발급된 토큰인지)
         if (!refreshTokenRepository.validate(userId, refreshToken)) {
@@ -126,25 +123,17 @@ public class AuthServiceImpl implements AuthService {
     @Override
     @Transactional
     public void logout(String accessToken) {
-        if (!jwtTokenProvider.validateToken(accessToken)) {
-            throw new UnauthorizedException("유효하지 않은 액세스 토큰입니다");
-        }
+        VerifiedToken verified = jwtTokenProvider.verify(accessToken)
+                .orElseThrow(() -> new UnauthorizedException("유효하지 않은 액세스 토큰입니다"));
 
-        String tokenType = jwtTokenProvider.getTokenType(accessToken);
-        if (!"access".equals(tokenType)) {
+        if (!verified.isAccess()) {
             throw new UnauthorizedException("액세스 토큰이 아닙니다");
         }
 
-        Long userId = jwtTokenProvider.getUserId(accessToken);
+        Long userId = verified.userId();
 
-        // Access Token 블랙리스트 등록
-        long expiration = jwtTokenProvider.getExpiration(accessToken);
-        stringRedisTemplate.opsForValue().set(
-                "blacklist:" + accessToken,
-                "logout",
-                expiration,
-                TimeUnit.MILLISECONDS
-        );
+        // Access Token 블랙리스트 등록 (Redis 저장 + 다른 노드 전파)
+        tokenBlacklist.add(accessToken, verified.remainingMillis());
 
         // Refresh Token 삭제
         refreshTokenRepository.delete(userId);
@@ -0,0 +1,30 @@
+package com.personalaccount.application.report.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "계정 원장")
+public class AccountLedger {
+
+    @Schema(description = "계정과목 이름", example = "보통예금")
+    private String accountName;
+
+    @Schema(description = "기초 잔액", example = "1000000")
+    private BigDecimal openingBalance;
+
+    @Schema(description = "기말 잔액", example = "1200000")
+    private BigDecimal closingBalance;
+
+    @Schema(description = "거래 내역")
+    private List<TransactionEntry> entries;
+}
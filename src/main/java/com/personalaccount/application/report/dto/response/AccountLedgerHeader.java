@@ -0,0 +1,30 @@
+package com.personalaccount.application.report.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "계정 원장 헤더 (스트리밍 첫 줄)")
+public class AccountLedgerHeader {
+
+    @Schema(description = "계정과목 이름", example = "보통예금")
+    private String accountName;
+
+    @Schema(description = "조회 시작일", example = "2025-01-01")
+    private LocalDate startDate;
+
+    @Schema(description = "조회 종료일", example = "2025-12-31")
+    private LocalDate endDate;
+
+    @Schema(description = "기초 잔액", example = "1000000")
+    private BigDecimal openingBalance;
+}
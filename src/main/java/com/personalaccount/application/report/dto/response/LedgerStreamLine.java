@@ -0,0 +1,43 @@
+package com.personalaccount.application.report.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * 원장 스트리밍(NDJSON) 한 줄
+ * - header: 계정명, 기간, 기초 잔액
+ * - entry: 거래 내역 1건 (누적 잔액 포함)
+ * - footer: 기말 잔액, 거래 건수
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "원장 스트리밍 라인")
+public class LedgerStreamLine {
+
+    @Schema(description = "라인 타입 (header, entry, footer)", example = "entry")
+    private String type;
+
+    @Schema(description = "라인 데이터")
+    private Object data;
+
+    public static LedgerStreamLine header(AccountLedgerHeader header) {
+        return new LedgerStreamLine("header", header);
+    }
+
+    public static LedgerStreamLine entry(TransactionEntry entry) {
+        return new LedgerStreamLine("entry", entry);
+    }
+
+    public static LedgerStreamLine footer(BigDecimal closingBalance, long entryCount) {
+        return new LedgerStreamLine("footer", Map.of(
+                "closingBalance", closingBalance,
+                "entryCount", entryCount
+        ));
+    }
+}
@@ -1,13 +1,17 @@
 package com.personalaccount.application.report.service;
 
 import com.personalaccount.application.report.dto.response.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 public interface ReportService {
 
     // 통계
-    List<MonthlySummary> getMonthlySummary(Long userId, Long bookId);
+    List<MonthlySummary> getMonthlySummary(Long userId, Long bookId, int months);
     List<CategorySummary> getCategoryStatistics(Long userId, Long bookId, String yearMonth, String type);
     List<AccountBalance> getAccountBalances(Long userId, Long bookId);
 
@@ -17,6 +21,12 @@ public interface ReportService {
     // 계정 원장
     Map<String, Object> getAccountLedger(Long userId, Long bookId, Long accountId, String yearMonth);
 
+    // 계정 원장 (스트리밍): 권한 검증 + 헤더 조회 후 거래 내역을 한 건씩 전달
+    AccountLedgerHeader getAccountLedgerHeader(Long userId, Long bookId, Long accountId,
+                                               LocalDate startDate, LocalDate endDate);
+    BigDecimal streamAccountLedgerEntries(Long bookId, Long accountId, LocalDate startDate, LocalDate endDate,
+                                          BigDecimal openingBalance, Consumer<TransactionEntry> consumer);
+
     // AI 분석
     Map<String, Object> getAnalysis(Long userId, Long bookId, String yearMonth);
 }
\ No newline at end of file
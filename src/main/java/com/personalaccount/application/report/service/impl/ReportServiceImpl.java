@@ -1,15 +1,20 @@
 package com.personalaccount.application.report.service.impl;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.personalaccount.application.report.dto.response.*;
+import com.personalaccount.infrastructure.cache.ReportCache;
+import com.personalaccount.infrastructure.cache.ReportCache.ReportKind;
 import com.personalaccount.infrastructure.persistence.report.ReportQueryRepository;
+import com.personalaccount.infrastructure.persistence.report.dto.FinancialTotals;
 import com.personalaccount.application.report.service.ReportService;
 import com.personalaccount.common.exception.custom.AccountNotFoundException;
+import com.personalaccount.common.metrics.Monitored;
 import com.personalaccount.domain.account.entity.AccountType;
-import com.personalaccount.domain.account.repository.AccountRepository;
-import com.personalaccount.domain.book.entity.Book;
-import com.personalaccount.domain.book.repository.BookRepository;
-import com.personalaccount.common.exception.custom.BookNotFoundException;
-import com.personalaccount.common.exception.custom.UnauthorizedBookAccessException;
+import com.personalaccount.domain.account.cache.ChartOfAccounts;
+import com.personalaccount.domain.book.cache.BookAccess;
+import com.personalaccount.domain.book.cache.BookAccessCache;
+import com.personalaccount.domain.book.entity.BookType;
+import com.personalaccount.common.exception.custom.InvalidReportPeriodException;
 import com.querydsl.core.Tuple;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,57 +24,235 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
-
+import java.util.stream.Stream;
+
+/**
+ * 리포트 조회
+ *
+ * - @Monitored: 호출 단위 측정 프레임을 열어 두어야 권한 확인 시 기록한 장부 타입이
+ *   하위 report.query 측정에 전달됨
+ */
 @Slf4j
 @Service
+@Monitored("report.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ReportServiceImpl implements ReportService {
 
+    private static final int MAX_SUMMARY_MONTHS = 36;
+
+    // 리포트 캐시 역직렬화 타입
+    private static final TypeReference<List<MonthlySummary>> MONTHLY_SUMMARY_TYPE = new TypeReference<>() {};
+    private static final TypeReference<List<CategorySummary>> CATEGORY_SUMMARY_TYPE = new TypeReference<>() {};
+    private static final TypeReference<List<AccountBalance>> ACCOUNT_BALANCES_TYPE = new TypeReference<>() {};
+    private static final TypeReference<FinancialStatement> FINANCIAL_STATEMENT_TYPE = new TypeReference<>() {};
+    private static final TypeReference<AccountLedger> ACCOUNT_LEDGER_TYPE = new TypeReference<>() {};
+
     private final ReportQueryRepository reportQueryRepository;
-    private final BookRepository bookRepository;
-    private final AccountRepository accountRepository;
+    private final BookAccessCache bookAccessCache;
+    private final ChartOfAccounts chartOfAccounts;
+    private final ReportCache reportCache;
+
+    @Override
+    public List<MonthlySummary> getMonthlySummary(Long userId, Long bookId, int months) {
+        log.debug("월별 요약 조회: userId={}, bookId={}, months={}", userId, bookId, months);
+
+        if (months < 1 || months > MAX_SUMMARY_MONTHS) {
+            throw new InvalidReportPeriodException("조회 기간은 1~" + MAX_SUMMARY_MONTHS + "개월이어야 합니다");
+        }
+
+        validateBookAccess(userId, bookId);
+
+        return reportCache.getOrLoad(bookId, ReportKind.MONTHLY_SUMMARY, YearMonth.now(), String.valueOf(months),
+                MONTHLY_SUMMARY_TYPE, () -> buildMonthlySummary(bookId, months));
+    }
+
+    @Override
+    public List<CategorySummary> getCategoryStatistics(Long userId, Long bookId, String yearMonth, String type) {
+        log.debug("카테고리별 통계 조회: userId={}, bookId={}, yearMonth={}, type={}",
+                userId, bookId, yearMonth, type);
+
+        validateBookAccess(userId, bookId);
+
+        return loadCategoryStatistics(bookId, yearMonth, type);
+    }
+
+    @Override
+    public List<AccountBalance> getAccountBalances(Long userId, Long bookId) {
+        log.debug("계정별 잔액 조회: userId={}, bookId={}", userId, bookId);
+
+        BookAccess bookAccess = validateBookAccess(userId, bookId);
+
+        return reportCache.getOrLoad(bookId, ReportKind.BALANCES, YearMonth.now(), null,
+                ACCOUNT_BALANCES_TYPE, () -> buildAccountBalances(bookId, bookAccess.getBookType()));
+    }
+
+    @Override
+    public FinancialStatement getFinancialStatement(Long userId, Long bookId, String yearMonth) {
+        log.debug("재무제표 조회: userId={}, bookId={}, yearMonth={}", userId, bookId, yearMonth);
+
+        validateBookAccess(userId, bookId);
+
+        return loadFinancialStatement(bookId, yearMonth);
+    }
 
     @Override
-    public List<MonthlySummary> getMonthlySummary(Long userId, Long bookId) {
-        log.debug("월별 요약 조회: userId={}, bookId={}", userId, bookId);
+    public Map<String, Object> getAccountLedger(Long userId, Long bookId, Long accountId, String yearMonth) {
+        log.debug("계정 원장 조회: userId={}, bookId={}, accountId={}, yearMonth={}",
+                userId, bookId, accountId, yearMonth);
+
+        validateBookAccess(userId, bookId);
+
+        AccountLedger ledger = reportCache.getOrLoad(bookId, ReportKind.LEDGER, YearMonth.parse(yearMonth),
+                String.valueOf(accountId), ACCOUNT_LEDGER_TYPE, () -> buildAccountLedger(bookId, accountId, yearMonth));
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("accountName", ledger.getAccountName());
+        result.put("openingBalance", ledger.getOpeningBalance());
+        result.put("closingBalance", ledger.getClosingBalance());
+        result.put("entries", ledger.getEntries());
+
+        return result;
+    }
+
+    @Override
+    public AccountLedgerHeader getAccountLedgerHeader(Long userId, Long bookId, Long accountId,
+                                                      LocalDate startDate, LocalDate endDate) {
+        log.debug("계정 원장 스트리밍 준비: userId={}, bookId={}, accountId={}, period={}~{}",
+                userId, bookId, accountId, startDate, endDate);
+
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidReportPeriodException("시작일이 종료일보다 늦을 수 없습니다");
+        }
+        // 스트리밍 동안 읽기 트랜잭션과 커넥션을 점유하므로 조회 기간 상한 적용
+        if (ChronoUnit.MONTHS.between(YearMonth.from(startDate), YearMonth.from(endDate)) >= MAX_SUMMARY_MONTHS) {
+            throw new InvalidReportPeriodException("조회 기간은 1~" + MAX_SUMMARY_MONTHS + "개월이어야 합니다");
+        }
 
         validateBookAccess(userId, bookId);
 
-        LocalDate now = LocalDate.now();
-        LocalDate startDate = now.minusMonths(5).withDayOfMonth(1);
-        LocalDate endDate = now.withDayOfMonth(now.lengthOfMonth());
+        String accountName = chartOfAccounts.findById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException(accountId))
+                .getName();
+
+        return AccountLedgerHeader.builder()
+                .accountName(accountName)
+                .startDate(startDate)
+                .endDate(endDate)
+                .openingBalance(reportQueryRepository.findOpeningBalance(bookId, accountId, startDate))
+                .build();
+    }
+
+    @Override
+    public BigDecimal streamAccountLedgerEntries(Long bookId, Long accountId, LocalDate startDate, LocalDate endDate,
+                                                 BigDecimal openingBalance, Consumer<TransactionEntry> consumer) {
+        // 권한은 getAccountLedgerHeader에서 확인됨, 여기서는 측정 태그용 장부 타입만 기록 (캐시 조회)
+        bookAccessCache.get(bookId);
+
+        BigDecimal runningBalance = openingBalance;
 
-        // 6개월 데이터 한 번에 조회
-        List<Tuple> results = reportQueryRepository.findIncomeExpenseByDateRange(bookId, startDate, endDate);
+        // 커서 기반 조회: 한 건씩 누적 잔액 계산 후 바로 전달 (목록을 메모리에 쌓지 않음)
+        try (Stream<Tuple> tuples = reportQueryRepository.streamAccountLedgerEntries(
+                bookId, accountId, startDate, endDate)) {
+            Iterator<Tuple> iterator = tuples.iterator();
+            while (iterator.hasNext()) {
+                Tuple tuple = iterator.next();
+                BigDecimal debit = tuple.get(2, BigDecimal.class);
+                BigDecimal credit = tuple.get(3, BigDecimal.class);
+
+                runningBalance = runningBalance.add(debit).subtract(credit);
+
+                consumer.accept(TransactionEntry.builder()
+                        .date(tuple.get(0, LocalDate.class))
+                        .description(tuple.get(1, String.class))
+                        .debit(debit)
+                        .credit(credit)
+                        .balance(runningBalance)
+                        .build());
+            }
+        }
+
+        return runningBalance;
+    }
+
+    @Override
+    public Map<String, Object> getAnalysis(Long userId, Long bookId, String yearMonth) {
+        log.debug("AI 분석 조회: userId={}, bookId={}, yearMonth={}", userId, bookId, yearMonth);
+
+        validateBookAccess(userId, bookId);
+
+        // 재무 요약 (권한 검증은 위에서 1회만 수행)
+        FinancialStatement summary = loadFinancialStatement(bookId, yearMonth);
+
+        // 상위 지출 카테고리
+        List<CategorySummary> topExpenses = loadCategoryStatistics(bookId, yearMonth, "EXPENSE")
+                .stream()
+                .limit(5)
+                .collect(Collectors.toList());
+
+        // AI 코멘트 (TODO: AI 연동)
+        AiAnalysisComment aiComment = AiAnalysisComment.builder()
+                .overview("분석 준비 중")
+                .strengths(List.of())
+                .warnings(List.of())
+                .suggestions(List.of())
+                .build();
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("summary", summary);
+        result.put("topExpenses", topExpenses);
+        result.put("aiComment", aiComment);
+
+        return result;
+    }
+
+    private FinancialStatement loadFinancialStatement(Long bookId, String yearMonth) {
+        return reportCache.getOrLoad(bookId, ReportKind.STATEMENT, YearMonth.parse(yearMonth), null,
+                FINANCIAL_STATEMENT_TYPE, () -> buildFinancialStatement(bookId, yearMonth));
+    }
+
+    private List<CategorySummary> loadCategoryStatistics(Long bookId, String yearMonth, String type) {
+        return reportCache.getOrLoad(bookId, ReportKind.CATEGORY, YearMonth.parse(yearMonth), type,
+                CATEGORY_SUMMARY_TYPE, () -> buildCategoryStatistics(bookId, yearMonth));
+    }
+
+    private List<MonthlySummary> buildMonthlySummary(Long bookId, int months) {
+        YearMonth currentMonth = YearMonth.now();
+        YearMonth firstMonth = currentMonth.minusMonths(months - 1);
+        LocalDate startDate = firstMonth.atDay(1);
+        LocalDate endDate = currentMonth.atEndOfMonth();
+
+        // 월/계정유형별 집계 (DB GROUP BY, 최대 months * 2행)
+        List<Tuple> results = reportQueryRepository.findMonthlyIncomeExpense(bookId, startDate, endDate);
 
         // 월별 집계용 Map (yearMonth -> [income, expense])
-        Map<String, BigDecimal[]> dataMap = new LinkedHashMap<>();
+        Map<YearMonth, BigDecimal[]> dataMap = new LinkedHashMap<>();
 
-        // 6개월 초기화
-        for (int i = 5; i >= 0; i--) {
-            LocalDate targetMonth = now.minusMonths(i);
-            String yearMonth = targetMonth.toString().substring(0, 7);
-            dataMap.put(yearMonth, new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO});
+        // 기간 초기화
+        for (YearMonth month = firstMonth; !month.isAfter(currentMonth); month = month.plusMonths(1)) {
+            dataMap.put(month, new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO});
         }
 
-        // 데이터 집계
+        // 데이터 매핑
         for (Tuple tuple : results) {
-            LocalDate date = tuple.get(0, LocalDate.class);
-            AccountType accountType = tuple.get(1, AccountType.class);
-            BigDecimal creditAmount = tuple.get(2, BigDecimal.class);
-            BigDecimal debitAmount = tuple.get(3, BigDecimal.class);
+            Integer year = tuple.get(0, Integer.class);
+            Integer month = tuple.get(1, Integer.class);
+            AccountType accountType = tuple.get(2, AccountType.class);
+            BigDecimal creditAmount = tuple.get(3, BigDecimal.class);
+            BigDecimal debitAmount = tuple.get(4, BigDecimal.class);
 
-            if (date == null) continue;
-            String yearMonth = date.toString().substring(0, 7);
+            if (year == null || month == null) continue;
 
-            BigDecimal[] amounts = dataMap.get(yearMonth);
+            BigDecimal[] amounts = dataMap.get(YearMonth.of(year, month));
             if (amounts != null) {
-                if (accountType == AccountType.REVENUE) {
+                if (accountType == AccountType.REVENUE && creditAmount != null) {
                     amounts[0] = amounts[0].add(creditAmount);  // income
-                } else if (accountType == AccountType.EXPENSE) {
+                } else if (accountType == AccountType.EXPENSE && debitAmount != null) {
                     amounts[1] = amounts[1].add(debitAmount);   // expense
                 }
             }
@@ -78,12 +261,11 @@ public class ReportServiceImpl implements ReportService {
         // DTO 변환
         return dataMap.entrySet().stream()
                 .map(entry -> {
-                    String yearMonth = entry.getKey();
                     BigDecimal income = entry.getValue()[0];
                     BigDecimal expense = entry.getValue()[1];
 
                     return MonthlySummary.builder()
-                            .yearMonth(yearMonth)
+                            .yearMonth(entry.getKey().toString())
                             .income(income)
                             .expense(expense)
                             .balance(income.subtract(expense))
@@ -92,59 +274,12 @@ public class ReportServiceImpl implements ReportService {
                 .collect(Collectors.toList());
     }
 
-    @Override
-    public List<CategorySummary> getCategoryStatistics(Long userId, Long bookId, String yearMonth, String type) {
-        log.debug("카테고리별 통계 조회: userId={}, bookId={}, yearMonth={}, type={}",
-                userId, bookId, yearMonth, type);
-
-        validateBookAccess(userId, bookId);
-
-        LocalDate startDate = LocalDate.parse(yearMonth + "-01");
-        LocalDate endDate = startDate.plusMonths(1).minusDays(1);
-
-        List<Tuple> results = reportQueryRepository.findCategoryExpenses(bookId, startDate, endDate);
-
-        // 전체 합계
-        BigDecimal totalAmount = results.stream()
-                .map(tuple -> tuple.get(1, BigDecimal.class))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // CategorySummary 변환
-        return results.stream()
-                .map(tuple -> {
-                    String name = tuple.get(0, String.class);
-                    BigDecimal amount = tuple.get(1, BigDecimal.class);
-                    Double percentage = totalAmount.compareTo(BigDecimal.ZERO) > 0 && amount != null
-                            ? amount.divide(totalAmount, 4, RoundingMode.HALF_UP)
-                            .multiply(BigDecimal.valueOf(100))
-                            .doubleValue()
-                            : 0.0;
-
-                    return CategorySummary.builder()
-                            .categoryName(name)
-                            .amount(amount)
-                            .percentage(percentage)
-                            .build();
-                })
-                .collect(Collectors.toList());
-    }
-
-    @Override
-    public List<AccountBalance> getAccountBalances(Long userId, Long bookId) {
-        log.debug("계정별 잔액 조회: userId={}, bookId={}", userId, bookId);
-
-        validateBookAccess(userId, bookId);
-
-        // bookType 조회
-        Book book = bookRepository.findById(bookId)
-                .orElseThrow(() -> new BookNotFoundException("장부를 찾을 수 없습니다"));
-
+    private List<AccountBalance> buildAccountBalances(Long bookId, BookType bookType) {
         // 해당 장부 타입의 PAYMENT_METHOD 계정만 조회
         List<com.personalaccount.domain.account.entity.Account> accounts =
-                accountRepository.findByBookTypeAndAccountTypeAndIsActive(
-                        book.getBookType(),
-                        com.personalaccount.domain.account.entity.AccountType.PAYMENT_METHOD,
-                        true);
+                chartOfAccounts.findActive(
+                        bookType,
+                        com.personalaccount.domain.account.entity.AccountType.PAYMENT_METHOD);
 
         if (accounts.isEmpty()) {
             return Collections.emptyList();
@@ -168,18 +303,59 @@ public class ReportServiceImpl implements ReportService {
                 .collect(Collectors.toList());
     }
 
-    @Override
-    public FinancialStatement getFinancialStatement(Long userId, Long bookId, String yearMonth) {
-        log.debug("재무제표 조회: userId={}, bookId={}, yearMonth={}", userId, bookId, yearMonth);
+    private AccountLedger buildAccountLedger(Long bookId, Long accountId, String yearMonth) {
+        LocalDate startDate = LocalDate.parse(yearMonth + "-01");
+        LocalDate endDate = startDate.plusMonths(1).minusDays(1);
 
-        validateBookAccess(userId, bookId);
+        // 기초 잔액
+        BigDecimal openingBalance = reportQueryRepository.findOpeningBalance(bookId, accountId, startDate);
+
+        // 거래 내역
+        List<Tuple> tuples = reportQueryRepository.findAccountLedgerEntries(bookId, accountId, startDate, endDate);
+
+        BigDecimal runningBalance = openingBalance;
+        List<TransactionEntry> entries = new ArrayList<>();
 
+        for (Tuple tuple : tuples) {
+            LocalDate date = tuple.get(0, LocalDate.class);
+            String memo = tuple.get(1, String.class);
+            BigDecimal debit = tuple.get(2, BigDecimal.class);
+            BigDecimal credit = tuple.get(3, BigDecimal.class);
+
+            runningBalance = runningBalance.add(debit).subtract(credit);
+
+            entries.add(TransactionEntry.builder()
+                    .date(date)
+                    .description(memo)
+                    .debit(debit)
+                    .credit(credit)
+                    .balance(runningBalance)
+                    .build());
+        }
+
+        // 계정명 조회
+        String accountName = chartOfAccounts.findById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException(accountId))
+                .getName();
+
+        return AccountLedger.builder()
+                .accountName(accountName)
+                .openingBalance(openingBalance)
+                .closingBalance(runningBalance)
+                .entries(entries)
+                .build();
+    }
+
+    private FinancialStatement buildFinancialStatement(Long bookId, String yearMonth) {
         LocalDate startDate = LocalDate.parse(yearMonth + "-01");
         LocalDate endDate = startDate.plusMonths(1).minusDays(1);
 
+        // 수입/지출/자산/부채 단일 쿼리 집계
+        FinancialTotals totals = reportQueryRepository.findFinancialTotals(bookId, startDate, endDate);
+
         // 손익계산서
-        BigDecimal totalIncome = reportQueryRepository.findTotalIncome(bookId, startDate, endDate);
-        BigDecimal totalExpense = reportQueryRepository.findTotalExpense(bookId, startDate, endDate);
+        BigDecimal totalIncome = totals.getTotalIncome();
+        BigDecimal totalExpense = totals.getTotalExpense();
         BigDecimal netProfit = totalIncome.subtract(totalExpense);
 
         // 수익률 계산
@@ -197,8 +373,8 @@ public class ReportServiceImpl implements ReportService {
                 .build();
 
         // 재무상태표
-        BigDecimal totalAssets = reportQueryRepository.findTotalAssets(bookId, endDate);
-        BigDecimal totalLiabilities = reportQueryRepository.findTotalLiabilities(bookId, endDate);
+        BigDecimal totalAssets = totals.getTotalAssets();
+        BigDecimal totalLiabilities = totals.getTotalLiabilities();
         BigDecimal totalEquity = totalAssets.subtract(totalLiabilities);
 
         BalanceSheet balanceSheet = BalanceSheet.builder()
@@ -213,93 +389,38 @@ public class ReportServiceImpl implements ReportService {
                 .build();
     }
 
-    @Override
-    public Map<String, Object> getAccountLedger(Long userId, Long bookId, Long accountId, String yearMonth) {
-        log.debug("계정 원장 조회: userId={}, bookId={}, accountId={}, yearMonth={}",
-                userId, bookId, accountId, yearMonth);
-
-        validateBookAccess(userId, bookId);
-
+    private List<CategorySummary> buildCategoryStatistics(Long bookId, String yearMonth) {
         LocalDate startDate = LocalDate.parse(yearMonth + "-01");
         LocalDate endDate = startDate.plusMonths(1).minusDays(1);
 
-        // 기초 잔액
-        BigDecimal openingBalance = reportQueryRepository.findOpeningBalance(bookId, accountId, startDate);
-
-        // 거래 내역
-        List<Tuple> tuples = reportQueryRepository.findAccountLedgerEntries(bookId, accountId, startDate, endDate);
-
-        BigDecimal runningBalance = openingBalance;
-        List<TransactionEntry> entries = new ArrayList<>();
-
-        for (Tuple tuple : tuples) {
-            LocalDate date = tuple.get(0, LocalDate.class);
-            String memo = tuple.get(1, String.class);
-            BigDecimal debit = tuple.get(2, BigDecimal.class);
-            BigDecimal credit = tuple.get(3, BigDecimal.class);
-
-            runningBalance = runningBalance.add(debit).subtract(credit);
-
-            entries.add(TransactionEntry.builder()
-                    .date(date)
-                    .description(memo)
-                    .debit(debit)
-                    .credit(credit)
-                    .balance(runningBalance)
-                    .build());
-        }
-
-        // 계정명 조회
-        String accountName = accountRepository.findById(accountId)
-                .orElseThrow(() -> new AccountNotFoundException(accountId))
-                .getName();
-
-        Map<String, Object> result = new HashMap<>();
-        result.put("accountName", accountName);
-        result.put("openingBalance", openingBalance);
-        result.put("closingBalance", runningBalance);
-        result.put("entries", entries);
-
-        return result;
-    }
-
-    @Override
-    public Map<String, Object> getAnalysis(Long userId, Long bookId, String yearMonth) {
-        log.debug("AI 분석 조회: userId={}, bookId={}, yearMonth={}", userId, bookId, yearMonth);
+        List<Tuple> results = reportQueryRepository.findCategoryExpenses(bookId, startDate, endDate);
 
-        validateBookAccess(userId, bookId);
+        // 전체 합계
+        BigDecimal totalAmount = results.stream()
+                .map(tuple -> tuple.get(1, BigDecimal.class))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-        // 재무 요약
-        FinancialStatement summary = getFinancialStatement(userId, bookId, yearMonth);
+        // CategorySummary 변환
+        return results.stream()
+                .map(tuple -> {
+                    String name = tuple.get(0, String.class);
+                    BigDecimal amount = tuple.get(1, BigDecimal.class);
+                    Double percentage = totalAmount.compareTo(BigDecimal.ZERO) > 0 && amount != null
+                            ? amount.divide(totalAmount, 4, RoundingMode.HALF_UP)
+                            .multiply(BigDecimal.valueOf(100))
+                            .doubleValue()
+                            : 0.0;
 
-        // 상위 지출 카테고리
-        List<CategorySummary> topExpenses = getCategoryStatistics(userId, bookId, yearMonth, "EXPENSE")
-                .stream()
-                .limit(5)
+                    return CategorySummary.builder()
+                            .categoryName(name)
+                            .amount(amount)
+                            .percentage(percentage)
+                            .build();
+                })
                 .collect(Collectors.toList());
-
-        // AI 코멘트 (TODO: AI 연동)
-        AiAnalysisComment aiComment = AiAnalysisComment.builder()
-                .overview("분석 준비 중")
-                .strengths(List.of())
-                .warnings(List.of())
-                .suggestions(List.of())
-                .build();
-
-        Map<String, Object> result = new HashMap<>();
-        result.put("summary", summary);
-        result.put("topExpenses", topExpenses);
-        result.put("aiComment", aiComment);
-
-        return result;
     }
 
-    private void validateBookAccess(Long userId, Long bookId) {
-        Book book = bookRepository.findById(bookId)
-                .orElseThrow(() -> new BookNotFoundException("장부를 찾을 수 없습니다"));
-
-        if (!book.getUser().getId().equals(userId)) {
-            throw new UnauthorizedBookAccessException("해당 장부에 접근 권한이 없습니다");
-        }
+    private BookAccess validateBookAccess(Long userId, Long bookId) {
+        return bookAccessCache.validateAccess(userId, bookId);
     }
 }
\ No newline at end of file
@@ -17,9 +17,12 @@ public enum ErrorCode {
 
     TRANSACTION_NOT_FOUND("T001", "거래를 찾을 수 없습니다", HttpStatus.NOT_FOUND),
     INVALID_TRANSACTION("T002", "유효하지 않은 거래입니다", HttpStatus.BAD_REQUEST),
+    INVALID_CURSOR("T003", "유효하지 않은 페이지 커서입니다", HttpStatus.BAD_REQUEST),
 
     ACCOUNT_NOT_FOUND("A001", "계정과목을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
 
+    INVALID_REPORT_PERIOD("R001", "유효하지 않은 조회 기간입니다", HttpStatus.BAD_REQUEST),
+
     UNAUTHORIZED("AUTH001", "인증에 실패했습니다", HttpStatus.UNAUTHORIZED),
     RATE_LIMIT_EXCEEDED("AUTH002", "요청 횟수를 초과했습니다", HttpStatus.TOO_MANY_REQUESTS),
 
@@ -0,0 +1,15 @@
+package com.personalaccount.common.exception.custom;
+
+import com.personalaccount.common.exception.BusinessException;
+import com.personalaccount.common.exception.ErrorCode;
+
+public class InvalidCursorException extends BusinessException {
+
+    public InvalidCursorException() {
+        super(ErrorCode.INVALID_CURSOR);
+    }
+
+    public InvalidCursorException(String message) {
+        super(ErrorCode.INVALID_CURSOR, message);
+    }
+}
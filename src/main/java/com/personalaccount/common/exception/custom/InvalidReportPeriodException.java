@@ -0,0 +1,15 @@
+package com.personalaccount.common.exception.custom;
+
+import com.personalaccount.common.exception.BusinessException;
+import com.personalaccount.common.exception.ErrorCode;
+
+public class InvalidReportPeriodException extends BusinessException {
+
+    public InvalidReportPeriodException() {
+        super(ErrorCode.INVALID_REPORT_PERIOD);
+    }
+
+    public InvalidReportPeriodException(String message) {
+        super(ErrorCode.INVALID_REPORT_PERIOD, message);
+    }
+}
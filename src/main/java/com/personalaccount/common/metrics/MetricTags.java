@@ -0,0 +1,67 @@
+package com.personalaccount.common.metrics;
+
+import com.personalaccount.domain.book.entity.BookType;
+
+/**
+ * 측정 중인 호출에 붙일 태그 (스레드 단위)
+ *
+ * - @Monitored 호출마다 프레임을 쌓고, 중첩 호출은 바깥 호출의 장부 타입을 물려받음
+ * - 장부 권한 확인 시점에 bookType()으로 현재 호출 체인 전체에 장부 타입 기록
+ * - boolean이 아닌 반환값은 result()로 현재 호출의 결과 태그를 직접 기록
+ * - 측정 중이 아니면 아무 동작 없음
+ */
+public final class MetricTags {
+
+    public static final String NONE = "none";
+
+    private static final ThreadLocal<Frame> CURRENT = new ThreadLocal<>();
+
+    private MetricTags() {
+    }
+
+    static final class Frame {
+        private final Frame parent;
+        private String bookType;
+        private Boolean result;
+
+        private Frame(Frame parent) {
+            this.parent = parent;
+            this.bookType = parent != null ? parent.bookType : NONE;
+        }
+
+        String bookType() {
+            return bookType;
+        }
+
+        Boolean result() {
+            return result;
+        }
+    }
+
+    public static void bookType(BookType bookType) {
+        for (Frame frame = CURRENT.get(); frame != null; frame = frame.parent) {
+            frame.bookType = bookType.name();
+        }
+    }
+
+    public static void result(boolean result) {
+        Frame frame = CURRENT.get();
+        if (frame != null) {
+            frame.result = result;
+        }
+    }
+
+    static Frame enter() {
+        Frame frame = new Frame(CURRENT.get());
+        CURRENT.set(frame);
+        return frame;
+    }
+
+    static void exit(Frame frame) {
+        if (frame.parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(frame.parent);
+        }
+    }
+}
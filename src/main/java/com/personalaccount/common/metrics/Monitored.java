@@ -0,0 +1,25 @@
+package com.personalaccount.common.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Micrometer 타이머 측정 대상
+ *
+ * - 클래스에 지정: 모든 public 메서드, 메서드에 지정: 해당 메서드 (메서드 지정이 우선)
+ * - 태그: method, book.type, outcome(success/error), exception, result(boolean 반환값, 그 외 none)
+ * - Mono 반환 메서드는 구독~완료 시간 측정 (재시도 포함)
+ *
+ * @see MonitoredAspect
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Monitored {
+
+    /**
+     * 타이머 이름 (예: report.query)
+     */
+    String value();
+}
@@ -0,0 +1,95 @@
+package com.personalaccount.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Monitored 메서드 실행 시간 측정
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)  // @Transactional 보다 바깥 → 커밋 시간 포함
+@RequiredArgsConstructor
+public class MonitoredAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * *(..)) && @within(monitored) && !@annotation(com.personalaccount.common.metrics.Monitored)")
+    public Object aroundType(ProceedingJoinPoint joinPoint, Monitored monitored) throws Throwable {
+        return measure(joinPoint, monitored);
+    }
+
+    @Around("execution(* *(..)) && @annotation(monitored)")
+    public Object aroundMethod(ProceedingJoinPoint joinPoint, Monitored monitored) throws Throwable {
+        return measure(joinPoint, monitored);
+    }
+
+    private Object measure(ProceedingJoinPoint joinPoint, Monitored monitored) throws Throwable {
+        String method = ((MethodSignature) joinPoint.getSignature()).getMethod().getName();
+        MetricTags.Frame frame = MetricTags.enter();
+        long start = System.nanoTime();
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            record(monitored.value(), method, frame.bookType(), start, e, null);
+            throw e;
+        } finally {
+            MetricTags.exit(frame);
+        }
+
+        if (result instanceof Mono<?> mono) {
+            String bookType = frame.bookType();
+            return Mono.defer(() -> {
+                long subscribed = System.nanoTime();
+                return mono
+                        .doOnSuccess(value -> record(monitored.value(), method, bookType, subscribed, null, null))
+                        .doOnError(e -> record(monitored.value(), method, bookType, subscribed, e, null));
+            });
+        }
+
+        if (result instanceof Flux<?> flux) {
+            String bookType = frame.bookType();
+            return Flux.defer(() -> {
+                long subscribed = System.nanoTime();
+                return flux
+                        .doOnComplete(() -> record(monitored.value(), method, bookType, subscribed, null, null))
+                        .doOnError(e -> record(monitored.value(), method, bookType, subscribed, e, null));
+            });
+        }
+
+        Boolean outcome = result instanceof Boolean b ? b : frame.result();
+        record(monitored.value(), method, frame.bookType(), start, null, outcome);
+        return result;
+    }
+
+    private void record(String name, String method, String bookType, long start, Throwable error, Boolean result) {
+        // Prometheus: 같은 이름의 메트릭은 태그 키 구성이 같아야 함 → 해당 없으면 none
+        Tags tags = Tags.of(
+                "method", method,
+                "book.type", bookType,
+                "outcome", error == null ? "success" : "error",
+                "exception", error == null ? MetricTags.NONE : error.getClass().getSimpleName(),
+                "result", result == null ? MetricTags.NONE : result.toString()
+        );
+
+        Timer.builder(name)
+                .tags(tags)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
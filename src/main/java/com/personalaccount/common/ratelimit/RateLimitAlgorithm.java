@@ -0,0 +1,26 @@
+package com.personalaccount.common.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Rate Limit 알고리즘 (Redis Lua 스크립트로 원자 실행)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RateLimitAlgorithm {
+
+    /**
+     * 최근 윈도우 안의 요청 시각을 모두 기록 (정확, 키당 최대 limit개 저장)
+     * - 로그인처럼 횟수가 작고 정확해야 하는 경우
+     */
+    SLIDING_WINDOW_LOG("scripts/ratelimit/sliding_window.lua"),
+
+    /**
+     * 윈도우 동안 용량만큼 균등 충전되는 버킷 (키당 값 2개, 순간 몰림 허용)
+     * - API 호출량 제한
+     */
+    TOKEN_BUCKET("scripts/ratelimit/token_bucket.lua");
+
+    private final String scriptPath;
+}
@@ -0,0 +1,18 @@
+package com.personalaccount.common.ratelimit;
+
+/**
+ * Redis 장애 등으로 한도를 판정할 수 없을 때의 처리
+ */
+public enum RateLimitFailMode {
+
+    /**
+     * 차단 (보안 경계 - 로그인 무차별 대입 방지)
+     */
+    CLOSED,
+
+    /**
+     * 허용 (가용성 우선 - Redis 장애가 AI/분석 기능 장애로 번지지 않도록)
+     * - 오류 횟수는 ratelimit.errors 메트릭으로 집계
+     */
+    OPEN
+}
@@ -0,0 +1,85 @@
+package com.personalaccount.common.ratelimit;
+
+import com.personalaccount.common.exception.custom.RateLimitExceededException;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * {@link RateLimited} 핸들러 요청 제한
+ *
+ * - 제한 초과 시 RateLimitExceededException → GlobalExceptionHandler 가 429 응답
+ * - 비동기 재디스패치(ASYNC)는 최초 요청에서 이미 검사했으므로 건너뜀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    static final String HEADER_LIMIT = "X-RateLimit-Limit";
+    static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+    static final String HEADER_RESET = "X-RateLimit-Reset";
+
+    private final RateLimitService rateLimitService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+
+        RateLimited rateLimited = findAnnotation(handlerMethod);
+        if (rateLimited == null) {
+            return true;
+        }
+
+        RateLimitResult result = rateLimitService.consume(rateLimited.value(), identifier(request));
+
+        response.setHeader(HEADER_LIMIT, String.valueOf(result.limit()));
+        response.setHeader(HEADER_REMAINING, String.valueOf(result.remaining()));
+        response.setHeader(HEADER_RESET, String.valueOf(toSeconds(result.resetAfterMillis())));
+
+        if (!result.allowed()) {
+            long retryAfter = toSeconds(result.retryAfterMillis());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+            throw new RateLimitExceededException(
+                    "요청 횟수를 초과했습니다. " + retryAfter + "초 후 다시 시도해주세요."
+            );
+        }
+
+        return true;
+    }
+
+    private RateLimited findAnnotation(HandlerMethod handlerMethod) {
+        RateLimited onMethod = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), RateLimited.class);
+        if (onMethod != null) {
+            return onMethod;
+        }
+        return AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), RateLimited.class);
+    }
+
+    /**
+     * 인증 사용자는 userId, 그 외에는 클라이언트 IP
+     */
+    private String identifier(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return "user:" + userId;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static long toSeconds(long millis) {
+        return (millis + 999) / 1000;
+    }
+}
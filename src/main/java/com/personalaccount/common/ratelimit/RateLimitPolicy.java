@@ -0,0 +1,40 @@
+package com.personalaccount.common.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Rate Limit 정책
+ *
+ * @param algorithm 알고리즘
+ * @param limit 윈도우당 허용 횟수 (토큰 버킷은 윈도우당 충전량)
+ * @param window 윈도우
+ * @param burst 순간 추가 허용량 (토큰 버킷 용량 = limit + burst, 슬라이딩 윈도우는 미사용)
+ * @param failMode Redis 장애 시 처리 (기본 차단)
+ */
+public record RateLimitPolicy(
+        RateLimitAlgorithm algorithm,
+        int limit,
+        Duration window,
+        int burst,
+        RateLimitFailMode failMode
+) {
+
+    public static RateLimitPolicy slidingWindow(int limit, Duration window) {
+        return new RateLimitPolicy(RateLimitAlgorithm.SLIDING_WINDOW_LOG, limit, window, 0, RateLimitFailMode.CLOSED);
+    }
+
+    public static RateLimitPolicy tokenBucket(int limit, Duration window, int burst) {
+        return new RateLimitPolicy(RateLimitAlgorithm.TOKEN_BUCKET, limit, window, burst, RateLimitFailMode.CLOSED);
+    }
+
+    public RateLimitPolicy failOpen() {
+        return new RateLimitPolicy(algorithm, limit, window, burst, RateLimitFailMode.OPEN);
+    }
+
+    /**
+     * 한 번에 허용되는 최대 요청 수
+     */
+    public int capacity() {
+        return algorithm == RateLimitAlgorithm.TOKEN_BUCKET ? limit + burst : limit;
+    }
+}
@@ -0,0 +1,52 @@
+package com.personalaccount.common.ratelimit;
+
+import com.personalaccount.common.ratelimit.RateLimitService.KeyType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Rate Limit 설정 (rate-limit.*)
+ *
+ * - policies.{keyType}: 지정한 항목만 KeyType 기본 정책을 덮어씀 (fail-mode 포함)
+ * - local-block-cache: 제한된 키를 재시도 시각까지 로컬에서 바로 거절 (Redis 조회 생략)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean localBlockCache = true;
+
+    private Map<KeyType, PolicyOverride> policies = new EnumMap<>(KeyType.class);
+
+    public RateLimitPolicy policyFor(KeyType keyType) {
+        RateLimitPolicy base = keyType.getDefaultPolicy();
+        PolicyOverride override = policies.get(keyType);
+        if (override == null) {
+            return base;
+        }
+
+        return new RateLimitPolicy(
+                override.getAlgorithm() != null ? override.getAlgorithm() : base.algorithm(),
+                override.getLimit() != null ? override.getLimit() : base.limit(),
+                override.getWindow() != null ? override.getWindow() : base.window(),
+                override.getBurst() != null ? override.getBurst() : base.burst(),
+                override.getFailMode() != null ? override.getFailMode() : base.failMode()
+        );
+    }
+
+    @Getter
+    @Setter
+    public static class PolicyOverride {
+        private RateLimitAlgorithm algorithm;
+        private Integer limit;
+        private Duration window;
+        private Integer burst;
+        private RateLimitFailMode failMode;
+    }
+}
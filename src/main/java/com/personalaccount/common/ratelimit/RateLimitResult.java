@@ -0,0 +1,30 @@
+package com.personalaccount.common.ratelimit;
+
+/**
+ * Rate Limit 판정 결과
+ *
+ * @param allowed 허용 여부
+ * @param limit 한 번에 허용되는 최대 요청 수
+ * @param remaining 남은 횟수
+ * @param retryAfterMillis 제한 시 다시 시도할 수 있을 때까지 남은 시간 (허용 시 0)
+ * @param resetAfterMillis 한도가 모두 회복될 때까지 남은 시간
+ */
+public record RateLimitResult(
+        boolean allowed,
+        int limit,
+        int remaining,
+        long retryAfterMillis,
+        long resetAfterMillis
+) {
+
+    static RateLimitResult denied(int limit, long retryAfterMillis) {
+        return new RateLimitResult(false, limit, 0, retryAfterMillis, retryAfterMillis);
+    }
+
+    /**
+     * 판정 불가 시 허용 (Fail-open 정책)
+     */
+    static RateLimitResult unchecked(int limit) {
+        return new RateLimitResult(true, limit, limit, 0, 0);
+    }
+}
@@ -1,9 +1,18 @@
 package com.personalaccount.common.ratelimit;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.personalaccount.common.metrics.MetricTags;
+import com.personalaccount.common.metrics.Monitored;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
@@ -11,95 +20,198 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.util.Base64;
-
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis 기반 Rate Limit
+ *
+ * - 검사와 기록을 Lua 스크립트 1회 호출로 원자 실행 (동시 요청이 한도를 넘지 않음)
+ * - KeyType별 기본 정책, rate-limit.policies.* 로 덮어쓰기
+ * - 제한된 키는 재시도 시각까지 로컬 캐시에서 바로 거절
+ * - Redis 장애 시 정책별 처리: 로그인은 차단 (Fail-closed), AI/분석은 허용 (Fail-open) + 오류 횟수 집계
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class RateLimitService {
-
-    private final StringRedisTemplate redisTemplate;
+@Monitored("ratelimit")
+public class RateLimitService implements MeterBinder {
 
-    private static final int MAX_ATTEMPTS = 5;  // 최대 시도 횟수
-    private static final long WINDOW_SIZE_SECONDS = 60;  // 1분 윈도우
+    private static final String KEY_PREFIX = "rate_limit:";
+    private static final int LOCAL_BLOCK_MAX_KEYS = 100_000;
 
     @Getter
     @RequiredArgsConstructor
     public enum KeyType {
-        LOGIN("login");
+        LOGIN("login", RateLimitPolicy.slidingWindow(5, Duration.ofMinutes(1))),
+        AI_CHAT("ai_chat", RateLimitPolicy.tokenBucket(10, Duration.ofMinutes(1), 5).failOpen()),
+        ANALYSIS("analysis", RateLimitPolicy.tokenBucket(30, Duration.ofMinutes(1), 10).failOpen());
 
         private final String prefix;
+        private final RateLimitPolicy defaultPolicy;
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimitProperties properties;
+    @SuppressWarnings("rawtypes")
+    private final Map<RateLimitAlgorithm, RedisScript<List>> scripts = new EnumMap<>(RateLimitAlgorithm.class);
+    private final Map<KeyType, AtomicLong> errorCounts = new EnumMap<>(KeyType.class);
+
+    // 제한된 키 → 재시도 가능 시각 (epoch millis)
+    private final Cache<String, Long> blockedUntil = Caffeine.newBuilder()
+            .maximumSize(LOCAL_BLOCK_MAX_KEYS)
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+
+    public RateLimitService(StringRedisTemplate redisTemplate, RateLimitProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        for (RateLimitAlgorithm algorithm : RateLimitAlgorithm.values()) {
+            scripts.put(algorithm, RedisScript.of(new ClassPathResource(algorithm.getScriptPath()), List.class));
+        }
+        for (KeyType keyType : KeyType.values()) {
+            errorCounts.put(keyType, new AtomicLong());
+        }
     }
 
     /**
-     * Sliding Window 기반 Rate Limit 검증
+     * Rate Limit 검증
      *
      * @param keyType 키 타입
      * @param identifier 식별자
      * @return true: 허용, false: 제한
      */
     public boolean tryConsume(KeyType keyType, String identifier) {
-        String key = buildKey(keyType, identifier);
-        long currentTime = System.currentTimeMillis();
-        long windowStart = currentTime - (WINDOW_SIZE_SECONDS * 1000);
-
-        try {
-            // 1. 만료된 요청 삭제 (Sliding Window)
-            redisTemplate.opsForZSet().removeRangeByScore(key, 0, windowStart);
-
-            // 2. 현재 윈도우 내 요청 개수 확인
-            Long count = redisTemplate.opsForZSet().zCard(key);
+        return consume(keyType, identifier).allowed();
+    }
 
-            if (count != null && count >= MAX_ATTEMPTS) {
-                log.warn("Rate limit 초과: key={}, count={}", key, count);
-                return false;
-            }
+    /**
+     * Rate Limit 검증 + 남은 횟수/재시도 시간
+     */
+    public RateLimitResult consume(KeyType keyType, String identifier) {
+        RateLimitResult result = check(keyType, identifier);
+        MetricTags.result(result.allowed());
+        return result;
+    }
 
-            // 3. 현재 요청 기록
-            redisTemplate.opsForZSet().add(key, String.valueOf(currentTime), currentTime);
+    private RateLimitResult check(KeyType keyType, String identifier) {
+        RateLimitPolicy policy = properties.policyFor(keyType);
+        String key = buildKey(keyType, policy, identifier);
+        long now = System.currentTimeMillis();
 
-            // 4. TTL 설정 (메모리 관리)
-            redisTemplate.expire(key, Duration.ofSeconds(WINDOW_SIZE_SECONDS));
+        // 1. 로컬 차단 목록 (Redis 조회 없이 거절)
+        Long blocked = properties.isLocalBlockCache() ? blockedUntil.getIfPresent(key) : null;
+        if (blocked != null && blocked > now) {
+            return RateLimitResult.denied(policy.capacity(), blocked - now);
+        }
 
-            log.debug("Rate limit 통과: key={}, count={}", key, (count != null ? count + 1 : 1));
-            return true;
+        try {
+            RateLimitResult result = execute(policy, key, now, 1);
+
+            if (result.allowed()) {
+                log.debug("Rate limit 통과: key={}, remaining={}", key, result.remaining());
+            } else {
+                log.warn("Rate limit 초과: key={}, retryAfter={}ms", key, result.retryAfterMillis());
+                if (properties.isLocalBlockCache()) {
+                    blockedUntil.put(key, now + result.retryAfterMillis());
+                }
+            }
+            return result;
 
         } catch (Exception e) {
-            log.error("Rate limit 처리 실패: key={}", key, e);
-            // Redis 장애 시 차단 (Fail-closed)
-            return false;
+            errorCounts.get(keyType).incrementAndGet();
+            if (policy.failMode() == RateLimitFailMode.OPEN) {
+                log.error("Rate limit 처리 실패, 허용 (Fail-open): key={}", key, e);
+                return RateLimitResult.unchecked(policy.capacity());
+            }
+            log.error("Rate limit 처리 실패, 차단 (Fail-closed): key={}", key, e);
+            return RateLimitResult.denied(policy.capacity(), policy.window().toMillis());
         }
     }
 
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        errorCounts.forEach((keyType, count) -> FunctionCounter.builder("ratelimit.errors", count, AtomicLong::get)
+                .tag("key.type", keyType.name())
+                .tag("fail.mode", properties.policyFor(keyType).failMode().name())
+                .register(registry));
+    }
+
+    public long getErrorCount(KeyType keyType) {
+        return errorCounts.get(keyType).get();
+    }
+
     /**
      * Rate Limit 초기화 (로그인 성공 시)
      */
     public void reset(KeyType keyType, String identifier) {
-        String key = buildKey(keyType, identifier);
+        String key = buildKey(keyType, properties.policyFor(keyType), identifier);
+        blockedUntil.invalidate(key);
         redisTemplate.delete(key);
         log.debug("Rate limit 초기화: key={}", key);
     }
 
     /**
-     * 남은 시도 횟수 조회
+     * 남은 시도 횟수 조회 (기록하지 않음)
      */
     public int getRemainingAttempts(KeyType keyType, String identifier) {
-        String key = buildKey(keyType, identifier);
-        long currentTime = System.currentTimeMillis();
-        long windowStart = currentTime - (WINDOW_SIZE_SECONDS * 1000);
+        RateLimitPolicy policy = properties.policyFor(keyType);
+        String key = buildKey(keyType, policy, identifier);
 
         try {
-            redisTemplate.opsForZSet().removeRangeByScore(key, 0, windowStart);
-            Long count = redisTemplate.opsForZSet().zCard(key);
-            return MAX_ATTEMPTS - (count != null ? count.intValue() : 0);
+            return execute(policy, key, System.currentTimeMillis(), 0).remaining();
         } catch (Exception e) {
             log.error("남은 시도 횟수 조회 실패: key={}", key, e);
-            return MAX_ATTEMPTS;
+            return policy.capacity();
+        }
+    }
+
+    private RateLimitResult execute(RateLimitPolicy policy, String key, long now, int cost) {
+        List<?> reply = redisTemplate.execute(
+                scripts.get(policy.algorithm()),
+                List.of(key),
+                scriptArgs(policy, now, cost)
+        );
+
+        if (reply == null || reply.size() < 4) {
+            throw new IllegalStateException("Rate limit 스크립트 응답 오류: " + reply);
         }
+
+        return new RateLimitResult(
+                toLong(reply.get(0)) == 1L,
+                policy.capacity(),
+                (int) toLong(reply.get(1)),
+                toLong(reply.get(2)),
+                toLong(reply.get(3))
+        );
+    }
+
+    private Object[] scriptArgs(RateLimitPolicy policy, long now, int cost) {
+        String window = String.valueOf(policy.window().toMillis());
+        String capacity = String.valueOf(policy.capacity());
+
+        return switch (policy.algorithm()) {
+            case SLIDING_WINDOW_LOG -> new Object[]{
+                    String.valueOf(now), window, capacity, String.valueOf(cost),
+                    now + "-" + Long.toHexString(ThreadLocalRandom.current().nextLong())
+            };
+            case TOKEN_BUCKET -> new Object[]{
+                    String.valueOf(now), window, capacity, String.valueOf(cost),
+                    String.valueOf(policy.limit())
+            };
+        };
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
     }
 
-    private String buildKey(KeyType keyType, String identifier) {
+    private String buildKey(KeyType keyType, RateLimitPolicy policy, String identifier) {
         String hashedIdentifier = hashIdentifier(identifier);
-        return "rate_limit:" + keyType.getPrefix() + ":" + hashedIdentifier;
+        String algorithm = policy.algorithm() == RateLimitAlgorithm.TOKEN_BUCKET ? "tb" : "sw";
+        return KEY_PREFIX + keyType.getPrefix() + ":" + algorithm + ":" + hashedIdentifier;
     }
 
     private String hashIdentifier(String identifier) {
@@ -0,0 +1,27 @@
+package com.personalaccount.common.ratelimit;
+
+import com.personalaccount.common.ratelimit.RateLimitService.KeyType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 Rate Limit 대상
+ *
+ * - 클래스에 지정: 모든 핸들러 메서드, 메서드에 지정: 해당 메서드 (메서드 지정이 우선)
+ * - 인증 사용자는 userId, 비인증 요청은 클라이언트 IP 기준으로 KeyType 정책 적용
+ * - 응답 헤더: X-RateLimit-Limit / X-RateLimit-Remaining / X-RateLimit-Reset, 초과 시 Retry-After + 429
+ *
+ * @see RateLimitInterceptor
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    /**
+     * 적용할 정책 (rate-limit.policies.{keyType} 로 덮어쓰기)
+     */
+    KeyType value();
+}
@@ -0,0 +1,26 @@
+package com.personalaccount.config;
+
+import com.personalaccount.application.ai.chat.context.AiContextProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+@EnableConfigurationProperties(AiContextProperties.class)
+public class AiConfig {
+
+    private static final int JPA_QUEUED_TASK_CAP = 1_000;
+
+    /**
+     * AI 스트리밍 대화의 JPA 작업 전용 스케줄러 (장부 권한 조회, 거래 생성)
+     * - 스레드 수 = DB 커넥션 풀 크기 (더 늘려도 커넥션 대기만 늘어남)
+     * - 대기열 초과 시 즉시 거절 (RejectedExecutionException → error 이벤트)
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jpaScheduler(@Value("${spring.datasource.hikari.maximum-pool-size:20}") int poolSize) {
+        return Schedulers.newBoundedElastic(poolSize, JPA_QUEUED_TASK_CAP, "ai-jpa");
+    }
+}
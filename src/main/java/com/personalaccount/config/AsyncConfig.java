@@ -0,0 +1,15 @@
+package com.personalaccount.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * 비동기 실행 설정
+ *
+ * - spring.threads.virtual.enabled=true 이면 Boot 기본 applicationTaskExecutor가 가상 스레드 실행기로 구성됨
+ * - @Async, MVC 비동기 응답(StreamingResponseBody)이 같은 실행기를 사용
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
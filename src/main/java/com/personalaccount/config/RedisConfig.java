@@ -1,43 +1,87 @@
 package com.personalaccount.config;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.personalaccount.application.ai.session.ConversationSession;
+import com.personalaccount.domain.account.cache.ChartOfAccounts;
+import com.personalaccount.domain.book.cache.BookAccessCache;
+import com.personalaccount.infrastructure.security.blacklist.TokenBlacklist;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.nio.charset.StandardCharsets;
+
 @Configuration
 public class RedisConfig {
 
+    /**
+     * 대화 세션 저장소
+     * - Value는 SessionCodec이 만든 바이트를 그대로 저장 (헤더 + 메시지 리스트 요소)
+     */
     @Bean
-    public RedisTemplate<String, ConversationSession> redisTemplate(
+    public RedisTemplate<String, byte[]> redisTemplate(
             RedisConnectionFactory connectionFactory
     ) {
-        RedisTemplate<String, ConversationSession> template = new RedisTemplate<>();
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
-        // LocalDateTime 직렬화 설정
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-
-        // Jackson2JsonRedisSerializer 사용 (타입 지정)
-        Jackson2JsonRedisSerializer<ConversationSession> serializer =
-                new Jackson2JsonRedisSerializer<>(objectMapper, ConversationSession.class);
-
-        // Key는 String, Value는 JSON으로 직렬화
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(serializer);
+        template.setValueSerializer(RedisSerializer.byteArray());
         template.setHashKeySerializer(new StringRedisSerializer());
-        template.setHashValueSerializer(serializer);
+        template.setHashValueSerializer(RedisSerializer.byteArray());
 
         return template;
     }
-}
\ No newline at end of file
+
+    /**
+     * 세션 저장소 (리액티브, 스트리밍 대화용)
+     * - 같은 Lettuce 커넥션 사용, 값 형식은 redisTemplate과 동일
+     */
+    @Bean
+    public ReactiveRedisTemplate<String, byte[]> reactiveSessionRedisTemplate(
+            ReactiveRedisConnectionFactory connectionFactory
+    ) {
+        RedisSerializationContext<String, byte[]> context = RedisSerializationContext
+                .<String, byte[]>newSerializationContext(new StringRedisSerializer())
+                .value(RedisSerializer.byteArray())
+                .build();
+
+        return new ReactiveRedisTemplate<>(connectionFactory, context);
+    }
+
+    /**
+     * Pub/Sub 구독 컨테이너
+     * - 토큰 블랙리스트 등록 메시지를 받아 로컬 목록에 반영
+     * - 장부 접근 캐시 삭제 메시지를 받아 로컬 캐시에서 삭제
+     * - 계정과목 변경 메시지를 받아 계정과목표 재적재
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TokenBlacklist tokenBlacklist,
+            BookAccessCache bookAccessCache,
+            ChartOfAccounts chartOfAccounts
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> tokenBlacklist.onMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TokenBlacklist.CHANNEL)
+        );
+        container.addMessageListener(
+                (message, pattern) -> bookAccessCache.onMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(BookAccessCache.CHANNEL)
+        );
+        container.addMessageListener(
+                (message, pattern) -> chartOfAccounts.onMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(ChartOfAccounts.CHANNEL)
+        );
+        return container;
+    }
+}
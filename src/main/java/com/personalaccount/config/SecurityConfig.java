@@ -1,6 +1,7 @@
 package com.personalaccount.config;
 
 import com.personalaccount.infrastructure.security.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -16,6 +17,8 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.header.writers.ReferrerPolicyHeaderWriter;
 import org.springframework.security.web.header.writers.XXssProtectionHeaderWriter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -46,6 +49,12 @@ public class SecurityConfig {
     @Value("${cors.max-age:3600}")
     private long maxAge;
 
+    /**
+     * 액추에이터 전용 포트. 지정되지 않으면(-1) 메트릭 스크레이프도 인증을 거친다.
+     */
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -65,9 +74,14 @@ public class SecurityConfig {
                                 .policy(ReferrerPolicyHeaderWriter.ReferrerPolicy.STRICT_ORIGIN_WHEN_CROSS_ORIGIN))
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // 스트리밍 응답(StreamingResponseBody)의 ASYNC 디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/users").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        .requestMatchers("/actuator/health/**").permitAll()
+                        // 메트릭은 내부망에 바인딩된 관리 포트로 들어온 스크레이프만 허용
+                        .requestMatchers(prometheusOnManagementPort()).permitAll()
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session ->
@@ -78,6 +92,13 @@ public class SecurityConfig {
         return http.build();
     }
 
+    private RequestMatcher prometheusOnManagementPort() {
+        RequestMatcher path = PathPatternRequestMatcher.withDefaults().matcher("/actuator/prometheus");
+        return request -> managementPort > 0
+                && request.getLocalPort() == managementPort
+                && path.matches(request);
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -85,7 +106,13 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(parseCsv(allowedOrigins));
         configuration.setAllowedMethods(parseCsv(allowedMethods));
         configuration.setAllowedHeaders(parseCsv(allowedHeaders));
-        configuration.setExposedHeaders(List.of("Authorization"));
+        configuration.setExposedHeaders(List.of(
+                "Authorization",
+                "X-RateLimit-Limit",
+                "X-RateLimit-Remaining",
+                "X-RateLimit-Reset",
+                "Retry-After"
+        ));
         configuration.setAllowCredentials(allowCredentials);
         configuration.setMaxAge(maxAge);
 
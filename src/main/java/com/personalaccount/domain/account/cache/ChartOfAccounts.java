@@ -0,0 +1,271 @@
+package com.personalaccount.domain.account.cache;
+
+import com.personalaccount.domain.account.entity.Account;
+import com.personalaccount.domain.account.entity.AccountType;
+import com.personalaccount.domain.account.repository.AccountRepository;
+import com.personalaccount.domain.book.entity.BookType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 계정과목표 인메모리 레지스트리
+ *
+ * - accounts 테이블은 작고 거의 변하지 않으므로 전체를 불변 스냅샷으로 보관
+ * - id / (장부타입, 이름) / (장부타입, 계정타입) 인덱스 제공
+ * - 변경 시 새 스냅샷을 만들어 참조만 교체 (읽기는 락 없음)
+ * - 쓰기 락은 ReentrantLock (synchronized 안의 DB 조회는 가상 스레드를 캐리어에 고정시킴)
+ * - 트랜잭션 안의 변경은 커밋 전까지 해당 트랜잭션에서만 보이고, 커밋 후 공용 스냅샷에 반영
+ * - 커밋 후 채널 발행으로 다른 노드는 전체 재적재 (주기적 재적재로 유실된 메시지 보정)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChartOfAccounts {
+
+    public static final String CHANNEL = "account:chart:changed";
+
+    private final AccountRepository accountRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 전체 계정과목 적재 (기동 시 + 주기적으로 다른 노드 변경 누락 보정)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${chart-of-accounts.resync-interval:10m}",
+            fixedDelayString = "${chart-of-accounts.resync-interval:10m}"
+    )
+    public void refresh() {
+        writeLock.lock();
+        try {
+            List<Account> accounts = accountRepository.findAll(Sort.by("id"));
+            snapshot = new Snapshot(accounts);
+
+            log.info("계정과목표 적재 완료: {}건", accounts.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public Optional<Account> findById(Long id) {
+        return Optional.ofNullable(current().byId.get(id));
+    }
+
+    public Optional<Account> findActiveByName(String name, BookType bookType) {
+        return Optional.ofNullable(current().activeByName.get(bookType).get(name));
+    }
+
+    public List<Account> findActive(BookType bookType, AccountType accountType) {
+        return current().activeByType.get(bookType).get(accountType);
+    }
+
+    public List<Account> findActive(BookType bookType) {
+        return current().activeByBookType.get(bookType);
+    }
+
+    /**
+     * 계정과목 저장 반영 (엔티티 리스너에서 호출)
+     * - 트랜잭션 안이면 커밋 후 반영, 롤백되면 폐기
+     */
+    void saved(Account account) {
+        PendingChanges pending = pendingChanges(true);
+        if (pending == null) {
+            apply(Map.of(account.getId(), account), Set.of());
+            broadcast();
+            return;
+        }
+        pending.save(account);
+    }
+
+    void removed(Long accountId) {
+        PendingChanges pending = pendingChanges(true);
+        if (pending == null) {
+            apply(Map.of(), Set.of(accountId));
+            broadcast();
+            return;
+        }
+        pending.remove(accountId);
+    }
+
+    /**
+     * 다른 노드의 변경 메시지 반영 ({nodeId}) - 자신이 보낸 메시지는 무시
+     */
+    public void onMessage(String message) {
+        if (nodeId.equals(message)) {
+            return;
+        }
+        refresh();
+    }
+
+    /**
+     * 공용 스냅샷에 변경분 반영 (아직 적재 전이면 첫 조회 시 DB에서 읽음)
+     */
+    private void apply(Map<Long, Account> saved, Set<Long> removed) {
+        writeLock.lock();
+        try {
+            if (snapshot == null) {
+                return;
+            }
+            snapshot = snapshot.with(saved, removed);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 다른 노드에 변경 전파
+     * - Redis 장애 시 다른 노드는 주기적 재적재까지 이전 목록 사용
+     */
+    private void broadcast() {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId);
+        } catch (Exception e) {
+            log.warn("계정과목 변경 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 트랜잭션의 커밋 전 변경분 (트랜잭션 밖이면 null)
+     */
+    private PendingChanges pendingChanges(boolean create) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending != null || !create) {
+            return pending;
+        }
+
+        PendingChanges created = new PendingChanges();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(created.saved, created.removed);
+                broadcast();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ChartOfAccounts.this);
+            }
+        });
+        return created;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+
+        PendingChanges pending = pendingChanges(false);
+        return pending == null ? current : pending.view(current);
+    }
+
+    private static List<Account> sortById(Collection<Account> accounts) {
+        return accounts.stream()
+                .sorted(Comparator.comparing(Account::getId))
+                .toList();
+    }
+
+    /**
+     * 커밋 전 변경분 - 해당 트랜잭션 스레드에서만 접근
+     */
+    private static final class PendingChanges {
+
+        private final Map<Long, Account> saved = new LinkedHashMap<>();
+        private final Set<Long> removed = new HashSet<>();
+
+        private Snapshot base;
+        private Snapshot view;
+
+        void save(Account account) {
+            removed.remove(account.getId());
+            saved.put(account.getId(), account);
+            view = null;
+        }
+
+        void remove(Long accountId) {
+            saved.remove(accountId);
+            removed.add(accountId);
+            view = null;
+        }
+
+        Snapshot view(Snapshot current) {
+            if (view == null || base != current) {
+                base = current;
+                view = current.with(saved, removed);
+            }
+            return view;
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final Map<Long, Account> byId;
+        private final Map<BookType, List<Account>> activeByBookType;
+        private final Map<BookType, Map<String, Account>> activeByName;
+        private final Map<BookType, Map<AccountType, List<Account>>> activeByType;
+
+        private Snapshot(List<Account> accounts) {
+            Map<Long, Account> ids = new LinkedHashMap<>();
+            accounts.forEach(account -> ids.put(account.getId(), account));
+            this.byId = Collections.unmodifiableMap(ids);
+
+            Map<BookType, List<Account>> bookTypes = new EnumMap<>(BookType.class);
+            Map<BookType, Map<String, Account>> names = new EnumMap<>(BookType.class);
+            Map<BookType, Map<AccountType, List<Account>>> types = new EnumMap<>(BookType.class);
+
+            for (BookType bookType : BookType.values()) {
+                List<Account> active = accounts.stream()
+                        .filter(account -> account.getBookType() == bookType)
+                        .filter(account -> Boolean.TRUE.equals(account.getIsActive()))
+                        .toList();
+
+                bookTypes.put(bookType, active);
+                names.put(bookType, active.stream()
+                        .collect(Collectors.toUnmodifiableMap(
+                                Account::getName, account -> account, (first, second) -> first)));
+
+                Map<AccountType, List<Account>> byType = new EnumMap<>(AccountType.class);
+                for (AccountType accountType : AccountType.values()) {
+                    byType.put(accountType, active.stream()
+                            .filter(account -> account.getAccountType() == accountType)
+                            .toList());
+                }
+                types.put(bookType, Collections.unmodifiableMap(byType));
+            }
+
+            this.activeByBookType = Collections.unmodifiableMap(bookTypes);
+            this.activeByName = Collections.unmodifiableMap(names);
+            this.activeByType = Collections.unmodifiableMap(types);
+        }
+
+        private Snapshot with(Map<Long, Account> saved, Set<Long> removed) {
+            Map<Long, Account> accounts = new LinkedHashMap<>(byId);
+            accounts.putAll(saved);
+            removed.forEach(accounts::remove);
+            return new Snapshot(sortById(accounts.values()));
+        }
+    }
+}
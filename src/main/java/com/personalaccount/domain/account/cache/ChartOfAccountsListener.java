@@ -0,0 +1,33 @@
+package com.personalaccount.domain.account.cache;
+
+import com.personalaccount.domain.account.entity.Account;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 계정과목 변경을 레지스트리에 반영하는 JPA 엔티티 리스너
+ *
+ * - 커밋 전에는 같은 트랜잭션에서만 보이고, 커밋 후 전체 반영 + 다른 노드 전파
+ * - 롤백되면 변경분 폐기
+ */
+@Component
+@RequiredArgsConstructor
+public class ChartOfAccountsListener {
+
+    private final ObjectProvider<ChartOfAccounts> chartOfAccounts;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Account account) {
+        chartOfAccounts.getObject().saved(account);
+    }
+
+    @PostRemove
+    public void onRemove(Account account) {
+        chartOfAccounts.getObject().removed(account.getId());
+    }
+}
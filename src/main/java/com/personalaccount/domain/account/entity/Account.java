@@ -1,5 +1,6 @@
 package com.personalaccount.domain.account.entity;
 
+import com.personalaccount.domain.account.cache.ChartOfAccountsListener;
 import com.personalaccount.domain.book.entity.BookType;
 import com.personalaccount.common.entity.BaseEntity;
 import jakarta.persistence.*;
@@ -7,6 +8,7 @@ import lombok.*;
 
 @Entity
 @Table(name = "accounts")
+@EntityListeners(ChartOfAccountsListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -1,60 +1,52 @@
 package com.personalaccount.domain.account.service.impl;
 
+import com.personalaccount.domain.account.cache.ChartOfAccounts;
 import com.personalaccount.domain.account.entity.Account;
 import com.personalaccount.domain.account.entity.AccountType;
-import com.personalaccount.domain.account.repository.AccountRepository;
 import com.personalaccount.domain.account.service.AccountService;
 import com.personalaccount.domain.book.entity.BookType;
 import com.personalaccount.common.exception.custom.AccountNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class AccountServiceImpl implements AccountService {
 
-    private final AccountRepository accountRepository;
+    private final ChartOfAccounts chartOfAccounts;
 
     @Override
     public List<Account> getIncomeCategories(BookType bookType) {
         log.debug("수입 카테고리 조회: bookType={}", bookType);
-        return accountRepository.findByBookTypeAndAccountTypeAndIsActive(
-                bookType, AccountType.REVENUE, true
-        );
+        return chartOfAccounts.findActive(bookType, AccountType.REVENUE);
     }
 
     @Override
     public List<Account> getExpenseCategories(BookType bookType) {
         log.debug("지출 카테고리 조회: bookType={}", bookType);
-        return accountRepository.findByBookTypeAndAccountTypeAndIsActive(
-                bookType, AccountType.EXPENSE, true
-        );
+        return chartOfAccounts.findActive(bookType, AccountType.EXPENSE);
     }
 
     @Override
     public List<Account> getPaymentMethods(BookType bookType) {
         log.debug("결제수단 조회: bookType={}", bookType);
-        return accountRepository.findByBookTypeAndAccountTypeAndIsActive(
-                bookType, AccountType.PAYMENT_METHOD, true
-        );
+        return chartOfAccounts.findActive(bookType, AccountType.PAYMENT_METHOD);
     }
 
     @Override
     public List<Account> getAllAccounts(BookType bookType) {
         log.debug("전체 계정과목 조회: bookType={}", bookType);
-        return accountRepository.findByBookTypeAndIsActive(bookType, true);
+        return chartOfAccounts.findActive(bookType);
     }
 
     @Override
     public Account getAccountById(Long id) {
         log.debug("계정과목 조회: id={}", id);
-        return accountRepository.findById(id)
+        return chartOfAccounts.findById(id)
                 .orElseThrow(()-> new AccountNotFoundException(id));
     }
 }
@@ -4,11 +4,17 @@ import com.personalaccount.domain.ai.dto.AiMessageRequest;
 import com.personalaccount.domain.ai.dto.AiMessageResponse;
 import com.personalaccount.domain.ai.dto.CacheCreateRequest;
 import com.personalaccount.domain.ai.dto.CacheCreateResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface AiClient {
 
     Mono<AiMessageResponse> sendMessage(AiMessageRequest request);
 
+    /**
+     * 스트리밍 응답 (생성되는 순서대로 텍스트 조각 전달)
+     */
+    Flux<String> streamMessage(AiMessageRequest request);
+
     Mono<CacheCreateResponse> createCachedContent(CacheCreateRequest request);
 }
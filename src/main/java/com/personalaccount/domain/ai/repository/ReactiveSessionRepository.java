@@ -0,0 +1,31 @@
+package com.personalaccount.domain.ai.repository;
+
+import com.personalaccount.application.ai.session.ConversationSession;
+import reactor.core.publisher.Mono;
+
+/**
+ * 대화 세션 저장소 (리액티브)
+ * - 스트리밍 대화에서 Netty 스레드를 막지 않도록 사용
+ */
+public interface ReactiveSessionRepository {
+
+    /**
+     * 새 세션 생성
+     */
+    Mono<ConversationSession> createSession(Long userId, Long bookId);
+
+    /**
+     * 세션 조회 (없으면 empty)
+     */
+    Mono<ConversationSession> getSession(String conversationId);
+
+    /**
+     * 세션 저장
+     */
+    Mono<Void> saveSession(ConversationSession session);
+
+    /**
+     * 세션 삭제
+     */
+    Mono<Void> deleteSession(String conversationId);
+}
@@ -0,0 +1,27 @@
+package com.personalaccount.domain.book.cache;
+
+import com.personalaccount.domain.book.entity.BookType;
+import lombok.Getter;
+
+/**
+ * 장부 접근 검증용 최소 정보 (엔티티/프록시 없이 캐시)
+ */
+@Getter
+public class BookAccess {
+
+    private final Long bookId;
+    private final Long ownerId;
+    private final BookType bookType;
+    private final boolean active;
+
+    public BookAccess(Long bookId, Long ownerId, BookType bookType, Boolean active) {
+        this.bookId = bookId;
+        this.ownerId = ownerId;
+        this.bookType = bookType;
+        this.active = Boolean.TRUE.equals(active);
+    }
+
+    public boolean isOwnedBy(Long userId) {
+        return ownerId.equals(userId);
+    }
+}
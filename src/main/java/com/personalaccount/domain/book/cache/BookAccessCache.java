@@ -0,0 +1,117 @@
+package com.personalaccount.domain.book.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.personalaccount.common.exception.custom.BookNotFoundException;
+import com.personalaccount.common.metrics.MetricTags;
+import com.personalaccount.common.exception.custom.UnauthorizedBookAccessException;
+import com.personalaccount.domain.book.repository.BookRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 장부 접근 권한 캐시 (bookId → 소유자, 장부 타입, 활성 여부)
+ *
+ * - 리포트/거래/AI 요청마다 반복되던 장부 조회를 인메모리로 대체
+ * - 크기 제한 + TTL로 메모리 사용량 제한 (TTL은 전파 메시지 유실 시의 안전망)
+ * - 장부 수정/삭제 시 evict (커밋 후 한 번 더 삭제하여 커밋 전 재적재 방지)
+ * - 커밋 후 채널 발행으로 다른 노드의 캐시도 삭제 (토큰 블랙리스트와 같은 Pub/Sub 방식)
+ */
+@Slf4j
+@Component
+public class BookAccessCache {
+
+    public static final String CHANNEL = "book:access:evict";
+
+    private static final long MAX_SIZE = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final BookRepository bookRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<Long, BookAccess> cache;
+
+    public BookAccessCache(BookRepository bookRepository, StringRedisTemplate redisTemplate) {
+        this.bookRepository = bookRepository;
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAX_SIZE)
+                .expireAfterWrite(TTL)
+                .build();
+    }
+
+    /**
+     * 장부 접근 권한 검증
+     *
+     * @throws BookNotFoundException 장부가 없거나 비활성화된 경우
+     * @throws UnauthorizedBookAccessException 소유자가 아닌 경우
+     */
+    public BookAccess validateAccess(Long userId, Long bookId) {
+        BookAccess access = get(bookId);
+
+        if (!access.isOwnedBy(userId)) {
+            throw new UnauthorizedBookAccessException(bookId);
+        }
+
+        return access;
+    }
+
+    /**
+     * 활성 장부의 접근 정보 조회 (캐시 미스 시 1회 조회)
+     */
+    public BookAccess get(Long bookId) {
+        BookAccess access = cache.get(bookId, id -> bookRepository.findAccessById(id).orElse(null));
+
+        if (access == null || !access.isActive()) {
+            throw new BookNotFoundException(bookId);
+        }
+
+        MetricTags.bookType(access.getBookType());
+        return access;
+    }
+
+    public void evict(Long bookId) {
+        cache.invalidate(bookId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(bookId);
+                    broadcast(bookId);
+                }
+            });
+        } else {
+            broadcast(bookId);
+        }
+
+        log.debug("장부 접근 캐시 삭제: bookId={}", bookId);
+    }
+
+    /**
+     * 다른 노드의 삭제 메시지 반영 ({bookId})
+     */
+    public void onMessage(String message) {
+        try {
+            cache.invalidate(Long.parseLong(message));
+        } catch (NumberFormatException e) {
+            log.warn("장부 접근 캐시 삭제 메시지 형식 오류: {}", message);
+        }
+    }
+
+    /**
+     * 다른 노드에 삭제 전파
+     * - Redis 장애 시 다른 노드는 TTL 만료까지 이전 값 사용
+     */
+    private void broadcast(Long bookId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(bookId));
+        } catch (Exception e) {
+            log.warn("장부 접근 캐시 삭제 전파 실패: bookId={}, {}", bookId, e.getMessage());
+        }
+    }
+}
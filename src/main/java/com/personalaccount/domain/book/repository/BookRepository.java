@@ -1,4 +1,5 @@
 package com.personalaccount.domain.book.repository;
+import com.personalaccount.domain.book.cache.BookAccess;
 import com.personalaccount.domain.book.entity.Book;
 import com.personalaccount.domain.book.entity.BookType;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -22,4 +23,14 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     long countByUserIdAndIsActive(Long userId, Boolean isActive);
 
     Optional<Book> findByIdAndIsActive(Long id, Boolean isActive);
+
+    /**
+     * 접근 검증용 projection (User 조인 없이 FK만 조회)
+     */
+    @Query("""
+        select new com.personalaccount.domain.book.cache.BookAccess(b.id, b.user.id, b.bookType, b.isActive)
+        from Book b
+        where b.id = :id
+    """)
+    Optional<BookAccess> findAccessById(@Param("id") Long id);
 }
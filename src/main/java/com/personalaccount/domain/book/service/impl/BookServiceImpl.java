@@ -4,6 +4,7 @@ import com.personalaccount.domain.account.constants.DefaultAccounts;
 import com.personalaccount.domain.account.constants.DefaultAccounts.AccountTemplate;
 import com.personalaccount.domain.account.entity.Account;
 import com.personalaccount.domain.account.repository.AccountRepository;
+import com.personalaccount.domain.book.cache.BookAccessCache;
 import com.personalaccount.domain.book.dto.request.BookCreateRequest;
 import com.personalaccount.domain.book.dto.request.BookUpdateRequest;
 import com.personalaccount.domain.book.entity.Book;
@@ -29,6 +30,7 @@ public class BookServiceImpl implements BookService {
     private final BookRepository bookRepository;
     private final UserRepository userRepository;
     private final AccountRepository accountRepository;
+    private final BookAccessCache bookAccessCache;
 
     @Transactional
     @Override
@@ -93,6 +95,8 @@ public class BookServiceImpl implements BookService {
             book.changeName(request.getName());
         }
 
+        bookAccessCache.evict(id);
+
         log.info("장부 수정 완료: bookId={}", id);
 
         return book;
@@ -106,6 +110,7 @@ public class BookServiceImpl implements BookService {
         Book book = getBook(id, userId);
 
         book.deactivate();
+        bookAccessCache.evict(id);
 
         log.info("장부 삭제 완료: bookId={}", id);
     }
@@ -0,0 +1,41 @@
+package com.personalaccount.domain.transaction.dto.request;
+
+import com.personalaccount.common.exception.custom.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * 거래 목록 키셋 페이지네이션 커서
+ *
+ * - 정렬 기준 (date DESC, id DESC) 의 마지막 행 위치
+ * - 클라이언트에는 불투명 문자열(Base64 URL)로만 노출
+ */
+public record TransactionCursor(LocalDate date, Long id) {
+
+    private static final String SEPARATOR = ":";
+
+    public String encode() {
+        String raw = date + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return cursor 가 비어 있으면 null (첫 페이지)
+     */
+    public static TransactionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 2);
+            return new TransactionCursor(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("페이지 커서를 해석할 수 없습니다: " + cursor);
+        }
+    }
+}
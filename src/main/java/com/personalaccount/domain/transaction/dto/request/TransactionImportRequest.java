@@ -0,0 +1,27 @@
+package com.personalaccount.domain.transaction.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "거래 일괄 등록 요청")
+public class TransactionImportRequest {
+
+    public static final int MAX_SIZE = 5000;
+
+    @Schema(
+            description = "등록할 거래 목록 (최대 5000건)",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    @NotEmpty(message = "등록할 거래가 없습니다.")
+    @Size(max = MAX_SIZE, message = "한 번에 최대 5000건까지 등록할 수 있습니다.")
+    private List<@Valid TransactionCreateRequest> transactions;
+}
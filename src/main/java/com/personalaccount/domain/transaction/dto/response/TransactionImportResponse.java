@@ -0,0 +1,24 @@
+package com.personalaccount.domain.transaction.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "거래 일괄 등록 결과")
+public class TransactionImportResponse {
+
+    @Schema(description = "등록된 거래 수", example = "5000")
+    private int importedCount;
+
+    @Schema(description = "처리 시간 (ms)", example = "850")
+    private long elapsedMillis;
+
+    @Schema(description = "초당 처리 건수", example = "5882")
+    private long rowsPerSecond;
+}
@@ -0,0 +1,29 @@
+package com.personalaccount.domain.transaction.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "거래 목록 페이지 (키셋 페이지네이션)")
+public class TransactionPageResponse {
+
+    @Schema(description = "거래 목록 (날짜 DESC, ID DESC)")
+    private List<TransactionResponse> content;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNS0wMS0wNToxMjM")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "전체 건수 (withTotal=true 인 첫 페이지에서만 계산)", example = "1234")
+    private Long totalCount;
+}
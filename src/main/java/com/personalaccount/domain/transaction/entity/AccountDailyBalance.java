@@ -0,0 +1,59 @@
+package com.personalaccount.domain.transaction.entity;
+
+import com.personalaccount.common.entity.BaseEntity;
+import com.personalaccount.domain.account.entity.Account;
+import com.personalaccount.domain.book.entity.Book;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 계정별 일별 잔액 집계 (Rollup)
+ *
+ * - (장부, 계정, 날짜) 당 1행
+ * - debitSum / creditSum: 해당 일자의 차변/대변 합계
+ * - balance: 해당 일자까지의 누적 잔액 (차변 - 대변)
+ */
+@Entity
+@Table(
+        name = "account_daily_balances",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_account_daily_balance",
+                        columnNames = {"book_id", "account_id", "date"})
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class AccountDailyBalance extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "book_id", nullable = false)
+    private Book book;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", nullable = false)
+    private Account account;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    @Builder.Default
+    private BigDecimal debitSum = BigDecimal.ZERO;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    @Builder.Default
+    private BigDecimal creditSum = BigDecimal.ZERO;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    @Builder.Default
+    private BigDecimal balance = BigDecimal.ZERO;
+}
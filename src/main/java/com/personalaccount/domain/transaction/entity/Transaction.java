@@ -13,7 +13,8 @@ import java.time.LocalDate;
         name = "transactions",
         indexes = {
                 @Index(name = "idx_transaction_book_date", columnList = "book_id, date, is_active"),
-                @Index(name = "idx_transaction_book_type", columnList = "book_id, type, is_active")
+                @Index(name = "idx_transaction_book_type", columnList = "book_id, type, is_active"),
+                @Index(name = "idx_transaction_book_keyset", columnList = "book_id, is_active, date DESC, id DESC")
         }
 )
 @Getter
@@ -23,7 +24,8 @@ import java.time.LocalDate;
 public class Transaction extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transactions_seq")
+    @SequenceGenerator(name = "transactions_seq", sequenceName = "transactions_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
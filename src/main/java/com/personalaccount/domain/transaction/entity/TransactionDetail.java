@@ -24,7 +24,8 @@ import java.math.BigDecimal;
 public class TransactionDetail extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_details_seq")
+    @SequenceGenerator(name = "transaction_details_seq", sequenceName = "transaction_details_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,18 @@
+package com.personalaccount.domain.transaction.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 거래 생성/수정/삭제 이벤트
+ * - date 이후의 집계(리포트 캐시 등)와 장부의 메모 검색 색인이 무효화 대상
+ */
+@Getter
+@RequiredArgsConstructor
+public class TransactionChangedEvent {
+
+    private final Long bookId;
+    private final LocalDate date;
+}
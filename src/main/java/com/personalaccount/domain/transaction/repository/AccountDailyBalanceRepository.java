@@ -0,0 +1,158 @@
+package com.personalaccount.domain.transaction.repository;
+
+import com.personalaccount.domain.transaction.entity.AccountDailyBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface AccountDailyBalanceRepository extends JpaRepository<AccountDailyBalance, Long> {
+
+    Optional<AccountDailyBalance> findByBookIdAndAccountIdAndDate(Long bookId, Long accountId, LocalDate date);
+
+    /**
+     * 특정 일자 이전의 가장 최근 누적 잔액 행
+     */
+    Optional<AccountDailyBalance> findFirstByBookIdAndAccountIdAndDateLessThanOrderByDateDesc(
+            Long bookId,
+            Long accountId,
+            LocalDate date
+    );
+
+    /**
+     * 장부 단위 잔액 갱신 잠금 (트랜잭션 종료 시 해제)
+     * - 같은 장부의 일별 잔액 갱신/재계산을 직렬화
+     */
+    @Query(value = "SELECT id FROM books WHERE id = :bookId FOR UPDATE", nativeQuery = true)
+    Long lockBook(@Param("bookId") Long bookId);
+
+    /**
+     * 일별 잔액 행이 없으면 직전 누적 잔액으로 생성 (합계 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO account_daily_balances
+            (book_id, account_id, date, debit_sum, credit_sum, balance, created_at, updated_at)
+        SELECT :bookId,
+               :accountId,
+               :date,
+               0,
+               0,
+               COALESCE((
+                   SELECT p.balance
+                   FROM account_daily_balances p
+                   WHERE p.book_id = :bookId
+                     AND p.account_id = :accountId
+                     AND p.date < :date
+                   ORDER BY p.date DESC
+                   LIMIT 1
+               ), 0),
+               CURRENT_TIMESTAMP,
+               CURRENT_TIMESTAMP
+        WHERE NOT EXISTS (
+            SELECT 1
+            FROM account_daily_balances e
+            WHERE e.book_id = :bookId
+              AND e.account_id = :accountId
+              AND e.date = :date
+        )
+    """, nativeQuery = true)
+    int insertIfAbsent(
+            @Param("bookId") Long bookId,
+            @Param("accountId") Long accountId,
+            @Param("date") LocalDate date
+    );
+
+    /**
+     * 해당 일자 합계 가산 + 해당 일자 이후 누적 잔액 보정 (소급 거래 반영)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        UPDATE account_daily_balances b
+        SET debit_sum = b.debit_sum + CASE WHEN b.date = :date THEN :debit ELSE 0 END,
+            credit_sum = b.credit_sum + CASE WHEN b.date = :date THEN :credit ELSE 0 END,
+            balance = b.balance + :debit - :credit,
+            updated_at = CURRENT_TIMESTAMP
+        WHERE b.book_id = :bookId
+          AND b.account_id = :accountId
+          AND b.date >= :date
+    """, nativeQuery = true)
+    int applyDelta(
+            @Param("bookId") Long bookId,
+            @Param("accountId") Long accountId,
+            @Param("date") LocalDate date,
+            @Param("debit") BigDecimal debit,
+            @Param("credit") BigDecimal credit
+    );
+
+    /**
+     * 장부의 지정 계정 일별 잔액 중 기준일 이후 삭제 (재계산 전 단계)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        DELETE FROM account_daily_balances
+        WHERE book_id = :bookId
+          AND account_id IN (:accountIds)
+          AND date >= :fromDate
+    """, nativeQuery = true)
+    int deleteFrom(
+            @Param("bookId") Long bookId,
+            @Param("accountIds") Collection<Long> accountIds,
+            @Param("fromDate") LocalDate fromDate
+    );
+
+    /**
+     * 기준일 이후 거래 상세로부터 일별 잔액 재적재
+     * - 누적 잔액 = 기준일 직전 누적 잔액 + 윈도우 함수 누적합
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO account_daily_balances
+            (book_id, account_id, date, debit_sum, credit_sum, balance, created_at, updated_at)
+        SELECT daily.book_id,
+               daily.account_id,
+               daily.date,
+               daily.debit_sum,
+               daily.credit_sum,
+               COALESCE((
+                   SELECT p.balance
+                   FROM account_daily_balances p
+                   WHERE p.book_id = daily.book_id
+                     AND p.account_id = daily.account_id
+                     AND p.date < :fromDate
+                   ORDER BY p.date DESC
+                   LIMIT 1
+               ), 0)
+               + SUM(daily.debit_sum - daily.credit_sum)
+                   OVER (PARTITION BY daily.account_id ORDER BY daily.date),
+               CURRENT_TIMESTAMP,
+               CURRENT_TIMESTAMP
+        FROM (
+            SELECT t.book_id,
+                   td.account_id,
+                   t.date,
+                   SUM(td.debit_amount) AS debit_sum,
+                   SUM(td.credit_amount) AS credit_sum
+            FROM transactions t
+            JOIN journal_entries je ON je.transaction_id = t.id
+            JOIN transaction_details td ON td.journal_entry_id = je.id
+            WHERE t.book_id = :bookId
+              AND t.is_active = TRUE
+              AND t.date >= :fromDate
+              AND td.account_id IN (:accountIds)
+            GROUP BY t.book_id, td.account_id, t.date
+        ) daily
+    """, nativeQuery = true)
+    int insertFromDetails(
+            @Param("bookId") Long bookId,
+            @Param("accountIds") Collection<Long> accountIds,
+            @Param("fromDate") LocalDate fromDate
+    );
+}
@@ -0,0 +1,181 @@
+package com.personalaccount.domain.transaction.repository;
+
+import com.personalaccount.domain.transaction.entity.DetailType;
+import com.personalaccount.domain.transaction.entity.TransactionType;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 거래 일괄 등록 (JDBC 배치)
+ *
+ * - JPA save() 대신 transactions / journal_entries / transaction_details 를 테이블별 배치 INSERT
+ * - ID는 엔티티와 같은 시퀀스에서 블록(50) 단위로 미리 할당 → 키 반환 없이 multi-row INSERT
+ * - 청크 단위로 처리하여 드라이버 메모리 제한
+ * - 검증은 호출 측(서비스)에서 끝난 행만 전달
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TransactionBulkRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    // 엔티티 @SequenceGenerator allocationSize, DB 시퀀스 INCREMENT BY 와 동일 (pooled-lo)
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private static final String TRANSACTION_SEQUENCE = "transactions_seq";
+    private static final String JOURNAL_ENTRY_SEQUENCE = "journal_entries_seq";
+    private static final String DETAIL_SEQUENCE = "transaction_details_seq";
+
+    private static final String INSERT_TRANSACTION = """
+            INSERT INTO transactions (id, book_id, date, type, amount, memo, is_active, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, TRUE, ?, ?)
+            """;
+
+    private static final String INSERT_JOURNAL_ENTRY = """
+            INSERT INTO journal_entries (id, transaction_id, date, description, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_DETAIL = """
+            INSERT INTO transaction_details
+                (id, journal_entry_id, account_id, detail_type, debit_amount, credit_amount, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 검증이 끝난 거래 1건 (차변/대변 계정 확정)
+     */
+    public record Row(
+            Long bookId,
+            LocalDate date,
+            TransactionType type,
+            BigDecimal amount,
+            String memo,
+            String description,
+            Long debitAccountId,
+            Long creditAccountId
+    ) {}
+
+    public int insertAll(List<Row> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            List<Row> chunk = rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()));
+
+            long[] transactionIds = insertTransactions(chunk, now);
+            long[] journalEntryIds = insertJournalEntries(chunk, transactionIds, now);
+            insertDetails(chunk, journalEntryIds, now);
+        }
+
+        log.debug("거래 일괄 INSERT 완료: {}건", rows.size());
+        return rows.size();
+    }
+
+    private long[] insertTransactions(List<Row> chunk, Timestamp now) {
+        long[] ids = allocateIds(TRANSACTION_SEQUENCE, chunk.size());
+
+        batchInsert(INSERT_TRANSACTION, chunk.size(), (ps, i) -> {
+            Row row = chunk.get(i);
+            ps.setLong(1, ids[i]);
+            ps.setLong(2, row.bookId());
+            ps.setDate(3, Date.valueOf(row.date()));
+            ps.setString(4, row.type().name());
+            ps.setBigDecimal(5, row.amount());
+            ps.setString(6, row.memo());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+        return ids;
+    }
+
+    private long[] insertJournalEntries(List<Row> chunk, long[] transactionIds, Timestamp now) {
+        long[] ids = allocateIds(JOURNAL_ENTRY_SEQUENCE, chunk.size());
+
+        batchInsert(INSERT_JOURNAL_ENTRY, chunk.size(), (ps, i) -> {
+            Row row = chunk.get(i);
+            ps.setLong(1, ids[i]);
+            ps.setLong(2, transactionIds[i]);
+            ps.setDate(3, Date.valueOf(row.date()));
+            ps.setString(4, row.description());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+        return ids;
+    }
+
+    private void insertDetails(List<Row> chunk, long[] journalEntryIds, Timestamp now) {
+        // 거래 1건당 차변 1행 + 대변 1행
+        long[] ids = allocateIds(DETAIL_SEQUENCE, chunk.size() * 2);
+
+        batchInsert(INSERT_DETAIL, chunk.size() * 2, (ps, i) -> {
+            Row row = chunk.get(i / 2);
+            boolean debit = i % 2 == 0;
+
+            ps.setLong(1, ids[i]);
+            ps.setLong(2, journalEntryIds[i / 2]);
+            ps.setLong(3, debit ? row.debitAccountId() : row.creditAccountId());
+            ps.setString(4, (debit ? DetailType.DEBIT : DetailType.CREDIT).name());
+            ps.setBigDecimal(5, debit ? row.amount() : BigDecimal.ZERO);
+            ps.setBigDecimal(6, debit ? BigDecimal.ZERO : row.amount());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+    }
+
+    /**
+     * 시퀀스 블록 할당 (pooled-lo: nextval 값 v 에 대해 [v, v + 49] 사용)
+     */
+    private long[] allocateIds(String sequence, int count) {
+        String nextValSql = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect()
+                .getSequenceSupport()
+                .getSequenceNextValString(sequence);
+
+        long[] ids = new long[count];
+        for (int from = 0; from < count; from += ID_BLOCK_SIZE) {
+            Long blockStart = jdbcTemplate.queryForObject(nextValSql, Long.class);
+            for (int offset = 0; offset < ID_BLOCK_SIZE && from + offset < count; offset++) {
+                ids[from + offset] = blockStart + offset;
+            }
+        }
+        return ids;
+    }
+
+    private void batchInsert(String sql, int size, RowBinder binder) {
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                binder.bind(ps, i);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return size;
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement ps, int index) throws SQLException;
+    }
+}
@@ -30,4 +30,14 @@ public interface TransactionDetailRepository extends JpaRepository<TransactionDe
     List<TransactionDetail> findWithAccountByJournalEntryIdIn(
             @Param("journalEntryIds") List<Long> journalEntryIds
     );
+
+    @Query("""
+        select td
+        from TransactionDetail td
+        join fetch td.account
+        where td.journalEntry.transaction.id = :transactionId
+    """)
+    List<TransactionDetail> findWithAccountByTransactionId(
+            @Param("transactionId") Long transactionId
+    );
 }
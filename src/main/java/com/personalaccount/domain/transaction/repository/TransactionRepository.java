@@ -2,10 +2,12 @@ package com.personalaccount.domain.transaction.repository;
 
 import com.personalaccount.domain.transaction.entity.Transaction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -23,4 +25,15 @@ public interface TransactionRepository
             "JOIN FETCH b.user " +
             "WHERE t.id = :id AND t.isActive = true")
     Optional<Transaction> findByIdWithBookAndUser(@Param("id") Long id);
+
+    /**
+     * 활성 거래만 비활성화 (조건부 UPDATE)
+     * - 동시 삭제 요청 중 1건만 1을 반환 → 그 요청만 일별 잔액 차감
+     *
+     * @return 비활성화된 행 수 (이미 삭제된 거래면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Transaction t SET t.isActive = false, t.updatedAt = :now " +
+            "WHERE t.id = :id AND t.isActive = true")
+    int deactivateIfActive(@Param("id") Long id, @Param("now") LocalDateTime now);
 }
\ No newline at end of file
@@ -1,10 +1,20 @@
 package com.personalaccount.domain.transaction.repository;
 
+import com.personalaccount.domain.transaction.dto.request.TransactionCursor;
 import com.personalaccount.domain.transaction.dto.request.TransactionSearchCondition;
+import com.personalaccount.domain.transaction.dto.response.TransactionResponse;
 import com.personalaccount.domain.transaction.entity.Transaction;
 
 import java.util.List;
 
 public interface TransactionRepositoryCustom {
     List<Transaction> searchTransactions(TransactionSearchCondition condition);
+
+    List<TransactionResponse> searchTransactionPage(
+            TransactionSearchCondition condition,
+            TransactionCursor cursor,
+            int limit
+    );
+
+    long countTransactions(TransactionSearchCondition condition);
 }
\ No newline at end of file
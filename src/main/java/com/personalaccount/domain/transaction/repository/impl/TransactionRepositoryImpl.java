@@ -1,10 +1,14 @@
 package com.personalaccount.domain.transaction.repository.impl;
 
+import com.personalaccount.domain.transaction.dto.request.TransactionCursor;
 import com.personalaccount.domain.transaction.dto.request.TransactionSearchCondition;
+import com.personalaccount.domain.transaction.dto.response.TransactionResponse;
 import com.personalaccount.domain.transaction.entity.QTransaction;
 import com.personalaccount.domain.transaction.entity.Transaction;
 import com.personalaccount.domain.transaction.repository.TransactionRepositoryCustom;
+import com.personalaccount.domain.transaction.repository.search.MemoSearch;
 import com.personalaccount.domain.transaction.repository.specification.TransactionSpecification;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -17,12 +21,14 @@ public class TransactionRepositoryImpl implements TransactionRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
     private final TransactionSpecification spec;
+    private final MemoSearch memoSearch;
     private static final QTransaction transaction = QTransaction.transaction;
 
     /**
      * 동적 조건으로 거래 검색
      * - Fetch Join으로 N+1 방지
      * - null 조건은 자동 제외
+     * - 메모 키워드는 MemoSearch (pg_trgm 인덱스 / 인메모리 역색인)
      * - 최신순 정렬 (날짜 DESC, ID DESC)
      */
     @Override
@@ -34,10 +40,62 @@ public class TransactionRepositoryImpl implements TransactionRepositoryCustom {
                         spec.bookIdEq(condition.getBookId()),
                         spec.typeEq(condition.getType()),
                         spec.dateBetween(condition.getStartDate(), condition.getEndDate()),
-                        spec.memoContains(condition.getKeyword()),
+                        memoSearch.memoMatches(condition.getBookId(), condition.getKeyword()),
                         spec.isActive()
                 )
                 .orderBy(transaction.date.desc(), transaction.id.desc())
                 .fetch();
     }
-}
\ No newline at end of file
+
+    /**
+     * 키셋 페이지네이션 검색
+     * - 엔티티/장부 로딩 없이 TransactionResponse 로 바로 프로젝션
+     * - OFFSET 대신 (date, id) 커서 조건 → 페이지 깊이와 무관하게 인덱스 범위 스캔
+     */
+    @Override
+    public List<TransactionResponse> searchTransactionPage(
+            TransactionSearchCondition condition,
+            TransactionCursor cursor,
+            int limit) {
+
+        return queryFactory
+                .select(Projections.constructor(TransactionResponse.class,
+                        transaction.id,
+                        transaction.book.id,
+                        transaction.date,
+                        transaction.type,
+                        transaction.amount,
+                        transaction.memo,
+                        transaction.createdAt,
+                        transaction.updatedAt))
+                .from(transaction)
+                .where(
+                        spec.bookIdEq(condition.getBookId()),
+                        spec.typeEq(condition.getType()),
+                        spec.dateBetween(condition.getStartDate(), condition.getEndDate()),
+                        memoSearch.memoMatches(condition.getBookId(), condition.getKeyword()),
+                        spec.isActive(),
+                        spec.afterCursor(cursor)
+                )
+                .orderBy(transaction.date.desc(), transaction.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long countTransactions(TransactionSearchCondition condition) {
+        Long count = queryFactory
+                .select(transaction.count())
+                .from(transaction)
+                .where(
+                        spec.bookIdEq(condition.getBookId()),
+                        spec.typeEq(condition.getType()),
+                        spec.dateBetween(condition.getStartDate(), condition.getEndDate()),
+                        memoSearch.memoMatches(condition.getBookId(), condition.getKeyword()),
+                        spec.isActive()
+                )
+                .fetchOne();
+
+        return count != null ? count : 0L;
+    }
+}
@@ -0,0 +1,108 @@
+package com.personalaccount.domain.transaction.repository.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.personalaccount.domain.transaction.entity.QTransaction;
+import com.personalaccount.domain.transaction.event.TransactionChangedEvent;
+import com.personalaccount.domain.transaction.repository.specification.TransactionSpecification;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 인메모리 메모 검색 (pg_trgm 이 없는 H2 테스트 프로파일용)
+ *
+ * - 장부별 {@link MemoIndex}를 첫 검색 시 적재해 캐시
+ * - 검색은 역색인으로 거래 ID를 구한 뒤 id IN (...) 조건으로 변환
+ * - 거래 변경 이벤트 수신 시 즉시 + 트랜잭션 종료 후 한 번 더 삭제 (롤백 포함)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "transaction.memo-search.mode", havingValue = "in-memory")
+public class InMemoryMemoSearch implements MemoSearch {
+
+    private static final long MAX_BOOKS = 1_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final QTransaction transaction = QTransaction.transaction;
+
+    private final JPAQueryFactory queryFactory;
+    private final TransactionSpecification spec;
+    private final Cache<Long, MemoIndex> indexes;
+
+    public InMemoryMemoSearch(JPAQueryFactory queryFactory, TransactionSpecification spec) {
+        this.queryFactory = queryFactory;
+        this.spec = spec;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(MAX_BOOKS)
+                .expireAfterWrite(TTL)
+                .build();
+    }
+
+    @Override
+    public BooleanExpression memoMatches(Long bookId, String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+
+        // 장부 범위가 없으면 색인 단위가 없으므로 LIKE 조건 사용
+        if (bookId == null) {
+            return spec.memoContains(keyword);
+        }
+
+        Set<Long> ids = indexes.get(bookId, this::load).search(keyword);
+
+        return ids.isEmpty() ? Expressions.FALSE.isTrue() : transaction.id.in(ids);
+    }
+
+    @EventListener
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        evict(event.getBookId());
+    }
+
+    public void evict(Long bookId) {
+        indexes.invalidate(bookId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    indexes.invalidate(bookId);
+                }
+            });
+        }
+
+        log.debug("메모 색인 삭제: bookId={}", bookId);
+    }
+
+    private MemoIndex load(Long bookId) {
+        Map<Long, String> memos = new HashMap<>();
+
+        for (Tuple tuple : queryFactory
+                .select(transaction.id, transaction.memo)
+                .from(transaction)
+                .where(
+                        spec.bookIdEq(bookId),
+                        spec.isActive(),
+                        transaction.memo.isNotNull()
+                )
+                .fetch()) {
+            memos.put(tuple.get(transaction.id), tuple.get(transaction.memo));
+        }
+
+        MemoIndex index = MemoIndex.build(memos);
+        log.debug("메모 색인 적재: bookId={}, size={}", bookId, index.size());
+        return index;
+    }
+}
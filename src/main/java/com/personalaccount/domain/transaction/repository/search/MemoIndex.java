@@ -0,0 +1,97 @@
+package com.personalaccount.domain.transaction.repository.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한 장부의 메모 역색인 (불변)
+ *
+ * - 메모를 소문자로 바꾼 뒤 1글자/2글자 조각(n-gram) → 거래 ID 목록으로 색인
+ * - 검색: 키워드 조각들의 포스팅 교집합(짧은 것부터) → 실제 포함 여부로 최종 확인
+ */
+final class MemoIndex {
+
+    private final Map<Long, String> memos;
+    private final Map<String, Set<Long>> postings;
+
+    private MemoIndex(Map<Long, String> memos, Map<String, Set<Long>> postings) {
+        this.memos = memos;
+        this.postings = postings;
+    }
+
+    static MemoIndex build(Map<Long, String> memosById) {
+        Map<Long, String> memos = new HashMap<>();
+        Map<String, Set<Long>> postings = new HashMap<>();
+
+        memosById.forEach((id, memo) -> {
+            if (memo == null || memo.isEmpty()) {
+                return;
+            }
+
+            String normalized = normalize(memo);
+            memos.put(id, normalized);
+
+            for (int i = 0; i < normalized.length(); i++) {
+                postings.computeIfAbsent(normalized.substring(i, i + 1), k -> new HashSet<>()).add(id);
+                if (i + 2 <= normalized.length()) {
+                    postings.computeIfAbsent(normalized.substring(i, i + 2), k -> new HashSet<>()).add(id);
+                }
+            }
+        });
+
+        return new MemoIndex(memos, postings);
+    }
+
+    Set<Long> search(String keyword) {
+        String needle = normalize(keyword);
+        if (needle.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams(needle)) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) {
+                return Set.of();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> candidates = new HashSet<>(lists.getFirst());
+        for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(lists.get(i));
+        }
+
+        // 조각이 모두 있어도 순서가 다를 수 있으므로 원문으로 확인
+        candidates.removeIf(id -> !memos.get(id).contains(needle));
+        return candidates;
+    }
+
+    int size() {
+        return memos.size();
+    }
+
+    private static Set<String> grams(String text) {
+        if (text.length() == 1) {
+            return Set.of(text);
+        }
+
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,20 @@
+package com.personalaccount.domain.transaction.repository.search;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+
+/**
+ * 거래 메모 키워드 검색 조건
+ *
+ * - PostgreSQL: pg_trgm GIN 인덱스를 타는 LIKE 조건 ({@link TrigramMemoSearch})
+ * - H2(테스트): 장부별 인메모리 역색인으로 후보 ID를 좁힌 IN 조건 ({@link InMemoryMemoSearch})
+ * - transaction.memo-search.mode 설정으로 선택
+ */
+public interface MemoSearch {
+
+    /**
+     * 메모에 키워드(대소문자 무시)가 포함된 거래 조건
+     *
+     * @return 키워드가 비어 있으면 null (조건 제외)
+     */
+    BooleanExpression memoMatches(Long bookId, String keyword);
+}
@@ -0,0 +1,28 @@
+package com.personalaccount.domain.transaction.repository.search;
+
+import com.personalaccount.domain.transaction.repository.specification.TransactionSpecification;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * PostgreSQL 메모 검색
+ *
+ * - lower(memo) LIKE '%kw%' 조건을 그대로 사용
+ * - V6의 idx_transaction_memo_trgm (GIN, lower(memo) gin_trgm_ops)이 같은 식을 색인하므로
+ *   순차 스캔 대신 비트맵 인덱스 스캔으로 처리
+ * - 3글자 미만 키워드는 트라이그램이 부족해 인덱스 효과가 작음
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "transaction.memo-search.mode", havingValue = "trigram", matchIfMissing = true)
+public class TrigramMemoSearch implements MemoSearch {
+
+    private final TransactionSpecification spec;
+
+    @Override
+    public BooleanExpression memoMatches(Long bookId, String keyword) {
+        return spec.memoContains(keyword);
+    }
+}
@@ -1,5 +1,6 @@
 package com.personalaccount.domain.transaction.repository.specification;
 
+import com.personalaccount.domain.transaction.dto.request.TransactionCursor;
 import com.personalaccount.domain.transaction.entity.QTransaction;
 import com.personalaccount.domain.transaction.entity.TransactionType;
 import com.querydsl.core.types.dsl.BooleanExpression;
@@ -50,4 +51,14 @@ public class TransactionSpecification {
                 .map(transaction.memo::containsIgnoreCase)
                 .orElse(null);
     }
-}
\ No newline at end of file
+
+    /**
+     * 키셋 페이지네이션: (date DESC, id DESC) 정렬에서 커서 이후 행
+     */
+    public BooleanExpression afterCursor(TransactionCursor cursor) {
+        return Optional.ofNullable(cursor)
+                .map(c -> transaction.date.lt(c.date())
+                        .or(transaction.date.eq(c.date()).and(transaction.id.lt(c.id()))))
+                .orElse(null);
+    }
+}
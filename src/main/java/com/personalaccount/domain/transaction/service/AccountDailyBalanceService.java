@@ -0,0 +1,32 @@
+package com.personalaccount.domain.transaction.service;
+
+import com.personalaccount.domain.transaction.entity.Transaction;
+import com.personalaccount.domain.transaction.entity.TransactionDetail;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface AccountDailyBalanceService {
+
+    /**
+     * 장부 일별 잔액 잠금 (트랜잭션 종료까지 유지)
+     * - 잔액 반영 전에 거래 상태를 확인/변경해야 하는 경우(삭제) 먼저 획득
+     */
+    void lockBook(Long bookId);
+
+    /**
+     * 거래 생성 시 계정별 일별 잔액 반영
+     */
+    void apply(Transaction transaction, List<TransactionDetail> details);
+
+    /**
+     * 거래 삭제(비활성화) 시 계정별 일별 잔액 차감
+     */
+    void revert(Transaction transaction, List<TransactionDetail> details);
+
+    /**
+     * 거래 일괄 등록 후 계정별 일별 잔액 재계산 (fromDate 이후 행만, 이전 누적 잔액에서 이어서 계산)
+     */
+    void rebuild(Long bookId, Collection<Long> accountIds, LocalDate fromDate);
+}
@@ -1,8 +1,11 @@
 package com.personalaccount.domain.transaction.service;
 
 import com.personalaccount.domain.transaction.dto.request.TransactionCreateRequest;
+import com.personalaccount.domain.transaction.dto.request.TransactionSearchCondition;
 import com.personalaccount.domain.transaction.dto.request.TransactionUpdateRequest;
 import com.personalaccount.domain.transaction.dto.response.TransactionDetailResponse;
+import com.personalaccount.domain.transaction.dto.response.TransactionImportResponse;
+import com.personalaccount.domain.transaction.dto.response.TransactionPageResponse;
 import com.personalaccount.domain.transaction.dto.response.TransactionResponse;
 import com.personalaccount.domain.transaction.entity.TransactionType;
 
@@ -16,6 +19,11 @@ public interface TransactionService {
      */
     TransactionResponse createTransaction(Long userId, TransactionCreateRequest request);
 
+    /**
+     * 거래 일괄 등록 (JDBC 배치, 전체 성공 또는 전체 실패)
+     */
+    TransactionImportResponse importTransactions(Long userId, List<TransactionCreateRequest> requests);
+
     List<TransactionResponse> getTransactions(
             Long userId,
             Long bookId,
@@ -24,6 +32,20 @@ public interface TransactionService {
             LocalDate endDate
     );
 
+    /**
+     * 거래 목록 키셋 페이지 조회 (date DESC, id DESC)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param withTotal true 이면 첫 페이지에서 전체 건수 함께 조회
+     */
+    TransactionPageResponse getTransactionPage(
+            Long userId,
+            TransactionSearchCondition condition,
+            String cursor,
+            int size,
+            boolean withTotal
+    );
+
     TransactionResponse getTransaction(Long userId, Long id);
 
     TransactionDetailResponse getTransactionWithDetails(Long userId, Long id);
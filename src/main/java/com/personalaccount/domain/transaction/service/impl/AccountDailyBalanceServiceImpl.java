@@ -0,0 +1,106 @@
+package com.personalaccount.domain.transaction.service.impl;
+
+import com.personalaccount.domain.transaction.entity.Transaction;
+import com.personalaccount.domain.transaction.entity.TransactionDetail;
+import com.personalaccount.domain.transaction.repository.AccountDailyBalanceRepository;
+import com.personalaccount.domain.transaction.service.AccountDailyBalanceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계정별 일별 잔액(account_daily_balances) 갱신
+ *
+ * - 거래 1건당 계정별로 1행만 갱신
+ * - 소급 거래는 이후 일자의 누적 잔액을 일괄 보정
+ * - 일괄 등록은 가장 이른 등록일 이후 행만 재계산
+ * - 같은 장부의 갱신은 장부 행 잠금(SELECT ... FOR UPDATE)으로 직렬화
+ *   (새 일자 행의 직전 잔액 시드와 다른 트랜잭션의 소급 보정이 엇갈리지 않도록)
+ * - 합계/잔액은 엔티티를 읽어 고치지 않고 가산 UPDATE로 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class AccountDailyBalanceServiceImpl implements AccountDailyBalanceService {
+
+    private final AccountDailyBalanceRepository accountDailyBalanceRepository;
+
+    @Override
+    public void lockBook(Long bookId) {
+        accountDailyBalanceRepository.lockBook(bookId);
+    }
+
+    @Override
+    public void apply(Transaction transaction, List<TransactionDetail> details) {
+        update(transaction, details, false);
+    }
+
+    @Override
+    public void revert(Transaction transaction, List<TransactionDetail> details) {
+        update(transaction, details, true);
+    }
+
+    @Override
+    public void rebuild(Long bookId, Collection<Long> accountIds, LocalDate fromDate) {
+        if (accountIds.isEmpty()) {
+            return;
+        }
+
+        accountDailyBalanceRepository.lockBook(bookId);
+        accountDailyBalanceRepository.deleteFrom(bookId, accountIds, fromDate);
+        int rows = accountDailyBalanceRepository.insertFromDetails(bookId, accountIds, fromDate);
+
+        log.debug("일별 잔액 재계산: bookId={}, accounts={}, from={}, rows={}",
+                bookId, accountIds.size(), fromDate, rows);
+    }
+
+    private void update(Transaction transaction, List<TransactionDetail> details, boolean revert) {
+        Long bookId = transaction.getBook().getId();
+        LocalDate date = transaction.getDate();
+
+        accountDailyBalanceRepository.lockBook(bookId);
+
+        for (AccountDelta delta : groupByAccount(details).values()) {
+            BigDecimal debit = revert ? delta.debit.negate() : delta.debit;
+            BigDecimal credit = revert ? delta.credit.negate() : delta.credit;
+
+            accountDailyBalanceRepository.insertIfAbsent(bookId, delta.accountId, date);
+            accountDailyBalanceRepository.applyDelta(bookId, delta.accountId, date, debit, credit);
+        }
+
+        log.debug("일별 잔액 갱신: bookId={}, date={}, revert={}", bookId, date, revert);
+    }
+
+    private Map<Long, AccountDelta> groupByAccount(List<TransactionDetail> details) {
+        Map<Long, AccountDelta> deltas = new LinkedHashMap<>();
+        for (TransactionDetail detail : details) {
+            deltas.computeIfAbsent(detail.getAccount().getId(), AccountDelta::new)
+                    .add(detail.getDebitAmount(), detail.getCreditAmount());
+        }
+        return deltas;
+    }
+
+    private static class AccountDelta {
+        private final Long accountId;
+        private BigDecimal debit = BigDecimal.ZERO;
+        private BigDecimal credit = BigDecimal.ZERO;
+
+        private AccountDelta(Long accountId) {
+            this.accountId = accountId;
+        }
+
+        private void add(BigDecimal debitAmount, BigDecimal creditAmount) {
+            this.debit = this.debit.add(debitAmount);
+            this.credit = this.credit.add(creditAmount);
+        }
+    }
+}
@@ -2,31 +2,42 @@ package com.personalaccount.domain.transaction.service.impl;
 
 import com.personalaccount.domain.account.entity.Account;
 import com.personalaccount.domain.account.entity.AccountType;
-import com.personalaccount.domain.account.repository.AccountRepository;
+import com.personalaccount.domain.account.cache.ChartOfAccounts;
+import com.personalaccount.domain.book.cache.BookAccess;
+import com.personalaccount.domain.book.cache.BookAccessCache;
 import com.personalaccount.domain.book.entity.Book;
+import com.personalaccount.domain.book.entity.BookType;
 import com.personalaccount.domain.book.repository.BookRepository;
 import com.personalaccount.common.exception.custom.*;
+import com.personalaccount.common.metrics.MetricTags;
+import com.personalaccount.common.metrics.Monitored;
 import com.personalaccount.domain.transaction.dto.mapper.TransactionMapper;
 import com.personalaccount.domain.transaction.dto.request.TransactionCreateRequest;
+import com.personalaccount.domain.transaction.dto.request.TransactionCursor;
 import com.personalaccount.domain.transaction.dto.request.TransactionSearchCondition;
 import com.personalaccount.domain.transaction.dto.request.TransactionUpdateRequest;
 import com.personalaccount.domain.transaction.dto.response.TransactionDetailResponse;
+import com.personalaccount.domain.transaction.dto.response.TransactionImportResponse;
+import com.personalaccount.domain.transaction.dto.response.TransactionPageResponse;
 import com.personalaccount.domain.transaction.dto.response.TransactionResponse;
 import com.personalaccount.domain.transaction.entity.*;
+import com.personalaccount.domain.transaction.event.TransactionChangedEvent;
 import com.personalaccount.domain.transaction.repository.JournalEntryRepository;
+import com.personalaccount.domain.transaction.repository.TransactionBulkRepository;
 import com.personalaccount.domain.transaction.repository.TransactionDetailRepository;
 import com.personalaccount.domain.transaction.repository.TransactionRepository;
+import com.personalaccount.domain.transaction.service.AccountDailyBalanceService;
 import com.personalaccount.domain.transaction.service.TransactionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.time.LocalDateTime;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -35,29 +46,39 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class TransactionServiceImpl implements TransactionService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final TransactionRepository transactionRepository;
     private final JournalEntryRepository journalEntryRepository;
     private final TransactionDetailRepository transactionDetailRepository;
+    private final TransactionBulkRepository transactionBulkRepository;
     private final BookRepository bookRepository;
-    private final AccountRepository accountRepository;
+    private final BookAccessCache bookAccessCache;
+    private final ChartOfAccounts chartOfAccounts;
     private final TransactionMapper transactionMapper;
+    private final AccountDailyBalanceService accountDailyBalanceService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Monitored("transaction.write")
     @Transactional
     @Override
     public TransactionResponse createTransaction(Long userId, TransactionCreateRequest request) {
         log.info("거래 생성 요청: userId={}, bookId={}, type={}, amount={}",
                 userId, request.getBookId(), request.getType(), request.getAmount());
 
-        Book book = validateAndGetBook(userId, request.getBookId());
+        BookAccess bookAccess = bookAccessCache.validateAccess(userId, request.getBookId());
 
-        Account category = accountRepository.findById(request.getCategoryId())
+        Account category = chartOfAccounts.findById(request.getCategoryId())
                 .orElseThrow(() -> new AccountNotFoundException(request.getCategoryId()));
 
-        Account paymentMethod = accountRepository.findById(request.getPaymentMethodId())
+        Account paymentMethod = chartOfAccounts.findById(request.getPaymentMethodId())
                 .orElseThrow(() -> new AccountNotFoundException(request.getPaymentMethodId()));
 
         validateAccountTypes(request.getType(), category, paymentMethod);
-        validateBookTypes(book, category, paymentMethod);
+        validateBookTypes(bookAccess.getBookType(), category, paymentMethod);
+
+        // 권한 검증은 캐시로 끝났으므로 장부는 프록시 참조만 사용 (추가 조회 없음)
+        Book book = bookRepository.getReferenceById(request.getBookId());
 
         Transaction transaction = Transaction.builder()
                 .book(book)
@@ -76,13 +97,75 @@ public class TransactionServiceImpl implements TransactionService {
                 .build();
         JournalEntry savedJournalEntry = journalEntryRepository.save(journalEntry);
 
-        createDoubleEntryDetails(savedJournalEntry, request.getType(), category, paymentMethod, request.getAmount());
+        List<TransactionDetail> details = createDoubleEntryDetails(
+                savedJournalEntry, request.getType(), category, paymentMethod, request.getAmount());
+        accountDailyBalanceService.apply(savedTransaction, details);
+        eventPublisher.publishEvent(new TransactionChangedEvent(book.getId(), savedTransaction.getDate()));
 
         log.info("거래 생성 완료: transactionId={}", savedTransaction.getId());
 
         return transactionMapper.toResponse(savedTransaction);
     }
 
+    @Monitored("transaction.write")
+    @Transactional
+    @Override
+    public TransactionImportResponse importTransactions(Long userId, List<TransactionCreateRequest> requests) {
+        log.info("거래 일괄 등록 요청: userId={}, count={}", userId, requests.size());
+        long startedAt = System.nanoTime();
+
+        Map<Long, BookAccess> bookAccesses = new HashMap<>();
+        List<TransactionBulkRepository.Row> rows = new ArrayList<>(requests.size());
+
+        for (TransactionCreateRequest request : requests) {
+            BookAccess bookAccess = bookAccesses.computeIfAbsent(
+                    request.getBookId(), bookId -> bookAccessCache.validateAccess(userId, bookId));
+
+            Account category = chartOfAccounts.findById(request.getCategoryId())
+                    .orElseThrow(() -> new AccountNotFoundException(request.getCategoryId()));
+
+            Account paymentMethod = chartOfAccounts.findById(request.getPaymentMethodId())
+                    .orElseThrow(() -> new AccountNotFoundException(request.getPaymentMethodId()));
+
+            validateAccountTypes(request.getType(), category, paymentMethod);
+            validateBookTypes(bookAccess.getBookType(), category, paymentMethod);
+
+            rows.add(toBulkRow(request, category, paymentMethod));
+        }
+
+        int importedCount = transactionBulkRepository.insertAll(rows);
+
+        // 장부별로 일별 잔액 재계산 + 집계 캐시 무효화 (가장 이른 거래일 기준)
+        Map<Long, List<TransactionBulkRepository.Row>> rowsByBook = rows.stream()
+                .collect(Collectors.groupingBy(TransactionBulkRepository.Row::bookId));
+
+        rowsByBook.forEach((bookId, bookRows) -> {
+            Set<Long> accountIds = new HashSet<>();
+            bookRows.forEach(row -> {
+                accountIds.add(row.debitAccountId());
+                accountIds.add(row.creditAccountId());
+            });
+            LocalDate earliest = bookRows.stream()
+                    .map(TransactionBulkRepository.Row::date)
+                    .min(LocalDate::compareTo)
+                    .orElseThrow();
+
+            accountDailyBalanceService.rebuild(bookId, accountIds, earliest);
+            eventPublisher.publishEvent(new TransactionChangedEvent(bookId, earliest));
+        });
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        long rowsPerSecond = importedCount * 1000L / elapsedMillis;
+
+        log.info("거래 일괄 등록 완료: count={}, elapsed={}ms, {} rows/s", importedCount, elapsedMillis, rowsPerSecond);
+
+        return TransactionImportResponse.builder()
+                .importedCount(importedCount)
+                .elapsedMillis(elapsedMillis)
+                .rowsPerSecond(rowsPerSecond)
+                .build();
+    }
+
     @Override
     public List<TransactionResponse> getTransactions(
             Long userId,
@@ -94,7 +177,7 @@ public class TransactionServiceImpl implements TransactionService {
         log.debug("거래 목록 조회: userId={}, bookId={}, type={}, start={}, end={}",
                 userId, bookId, type, startDate, endDate);
 
-        validateAndGetBook(userId, bookId);
+        bookAccessCache.validateAccess(userId, bookId);
 
         TransactionSearchCondition condition = TransactionSearchCondition.builder()
                 .bookId(bookId)
@@ -110,6 +193,45 @@ public class TransactionServiceImpl implements TransactionService {
                 .toList();
     }
 
+    @Override
+    public TransactionPageResponse getTransactionPage(
+            Long userId,
+            TransactionSearchCondition condition,
+            String cursor,
+            int size,
+            boolean withTotal) {
+
+        log.debug("거래 페이지 조회: userId={}, bookId={}, cursor={}, size={}",
+                userId, condition.getBookId(), cursor, size);
+
+        bookAccessCache.validateAccess(userId, condition.getBookId());
+
+        TransactionCursor after = TransactionCursor.decode(cursor);
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+
+        // 1건 더 조회하여 다음 페이지 존재 여부 판단
+        List<TransactionResponse> rows = transactionRepository.searchTransactionPage(condition, after, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<TransactionResponse> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TransactionResponse last = content.getLast();
+            nextCursor = new TransactionCursor(last.getDate(), last.getId()).encode();
+        }
+
+        Long totalCount = (withTotal && after == null)
+                ? transactionRepository.countTransactions(condition)
+                : null;
+
+        return TransactionPageResponse.builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .totalCount(totalCount)
+                .build();
+    }
+
     @Override
     public TransactionResponse getTransaction(Long userId, Long id) {
         log.debug("거래 상세 조회: userId={}, transactionId={}", userId, id);
@@ -148,6 +270,7 @@ public class TransactionServiceImpl implements TransactionService {
         return transactionMapper.toDetailResponse(transaction, journalEntries, detailsList);
     }
 
+    @Monitored("transaction.write")
     @Transactional
     @Override
     public TransactionResponse updateTransaction(Long userId, Long id, TransactionUpdateRequest request) {
@@ -157,6 +280,8 @@ public class TransactionServiceImpl implements TransactionService {
 
         if (request.getMemo() != null) {
             transaction.updateMemo(request.getMemo());
+            // 원장(메모 표시)과 메모 검색 색인 무효화
+            eventPublisher.publishEvent(new TransactionChangedEvent(transaction.getBook().getId(), transaction.getDate()));
         }
 
         log.info("거래 수정 완료: transactionId={}", id);
@@ -164,14 +289,25 @@ public class TransactionServiceImpl implements TransactionService {
         return transactionMapper.toResponse(transaction);
     }
 
+    @Monitored("transaction.write")
     @Transactional
     @Override
     public void deleteTransaction(Long userId, Long id) {
         log.info("거래 삭제 요청: userId={}, transactionId={}", userId, id);
 
         Transaction transaction = getTransactionEntity(userId, id);
+
+        // 장부 잠금 후 조건부 비활성화 - 동시 삭제 시 잔액 차감은 1번만
+        accountDailyBalanceService.lockBook(transaction.getBook().getId());
+        if (transactionRepository.deactivateIfActive(id, LocalDateTime.now()) == 0) {
+            throw new TransactionNotFoundException(id);
+        }
         transaction.deactivate();
 
+        List<TransactionDetail> details = transactionDetailRepository.findWithAccountByTransactionId(id);
+        accountDailyBalanceService.revert(transaction, details);
+        eventPublisher.publishEvent(new TransactionChangedEvent(transaction.getBook().getId(), transaction.getDate()));
+
         log.info("거래 삭제 완료: transactionId={}", id);
     }
 
@@ -185,10 +321,11 @@ public class TransactionServiceImpl implements TransactionService {
             throw new UnauthorizedBookAccessException(transaction.getBook().getId());
         }
 
+        MetricTags.bookType(transaction.getBook().getBookType());
         return transaction;
     }
 
-    private void createDoubleEntryDetails(
+    private List<TransactionDetail> createDoubleEntryDetails(
             JournalEntry journalEntry,
             TransactionType type,
             Account category,
@@ -207,6 +344,27 @@ public class TransactionServiceImpl implements TransactionService {
 
         validateDoubleEntry(details);
         transactionDetailRepository.saveAll(details);
+        return details;
+    }
+
+    private TransactionBulkRepository.Row toBulkRow(
+            TransactionCreateRequest request,
+            Account category,
+            Account paymentMethod) {
+
+        // 수입: 차변(결제수단) / 대변(카테고리), 지출: 차변(카테고리) / 대변(결제수단)
+        boolean income = request.getType() == TransactionType.INCOME;
+
+        return new TransactionBulkRepository.Row(
+                request.getBookId(),
+                request.getDate(),
+                request.getType(),
+                request.getAmount(),
+                request.getMemo(),
+                generateDescription(request.getType(), category.getName(), request.getAmount()),
+                income ? paymentMethod.getId() : category.getId(),
+                income ? category.getId() : paymentMethod.getId()
+        );
     }
 
     private void validateDoubleEntry(List<TransactionDetail> details) {
@@ -248,17 +406,17 @@ public class TransactionServiceImpl implements TransactionService {
         }
     }
 
-    private void validateBookTypes(Book book, Account category, Account paymentMethod) {
-        if (!category.getBookType().equals(book.getBookType())) {
+    private void validateBookTypes(BookType bookType, Account category, Account paymentMethod) {
+        if (!category.getBookType().equals(bookType)) {
             throw new InvalidTransactionException(
                     String.format("장부 타입(%s)과 카테고리 타입(%s)이 일치하지 않습니다.",
-                            book.getBookType(), category.getBookType()));
+                            bookType, category.getBookType()));
         }
 
-        if (!paymentMethod.getBookType().equals(book.getBookType())) {
+        if (!paymentMethod.getBookType().equals(bookType)) {
             throw new InvalidTransactionException(
                     String.format("장부 타입(%s)과 결제수단 타입(%s)이 일치하지 않습니다.",
-                            book.getBookType(), paymentMethod.getBookType()));
+                            bookType, paymentMethod.getBookType()));
         }
     }
 
@@ -283,15 +441,4 @@ public class TransactionServiceImpl implements TransactionService {
                 categoryName,
                 amount.toString());
     }
-
-    private Book validateAndGetBook(Long userId, Long bookId) {
-        Book book = bookRepository.findByIdAndIsActive(bookId, true)
-                .orElseThrow(() -> new BookNotFoundException(bookId));
-
-        if (!book.getUser().getId().equals(userId)) {
-            throw new UnauthorizedBookAccessException(bookId);
-        }
-
-        return book;
-    }
 }
\ No newline at end of file
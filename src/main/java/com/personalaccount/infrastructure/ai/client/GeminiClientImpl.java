@@ -4,6 +4,7 @@ import com.personalaccount.common.exception.custom.AiBadRequestException;
 import com.personalaccount.common.exception.custom.AiRateLimitException;
 import com.personalaccount.common.exception.custom.AiServiceException;
 import com.personalaccount.common.exception.custom.AiTimeoutException;
+import com.personalaccount.common.metrics.Monitored;
 import com.personalaccount.domain.ai.client.AiClient;
 import com.personalaccount.domain.ai.dto.AiMessageRequest;
 import com.personalaccount.domain.ai.dto.AiMessageResponse;
@@ -13,44 +14,72 @@ import com.personalaccount.infrastructure.ai.dto.request.CachedContentRequest;
 import com.personalaccount.infrastructure.ai.dto.response.CachedContentResponse;
 import com.personalaccount.infrastructure.ai.dto.request.GeminiRequest;
 import com.personalaccount.infrastructure.ai.dto.response.GeminiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @Component
 public class GeminiClientImpl implements AiClient {
 
+    private static final ParameterizedTypeReference<ServerSentEvent<GeminiResponse>> STREAM_EVENT =
+            new ParameterizedTypeReference<>() {};
+
     private final WebClient webClient;
+    private final WebClient streamWebClient;
     private final String apiKey;
     private final String cacheUrl;
     private final int maxRetry;
     private final long timeout;
+    private final Counter retryCounter;
+    private final Timer firstTokenTimer;
 
     public GeminiClientImpl(
             WebClient.Builder webClientBuilder,
             @Value("${gemini.api-key}") String apiKey,
             @Value("${gemini.api-url}") String apiUrl,
+            @Value("${gemini.stream-url:}") String streamUrl,
             @Value("${gemini.cache-url}") String cacheUrl,
             @Value("${gemini.max-retry:3}") int maxRetry,
-            @Value("${gemini.timeout:30000}") long timeout
+            @Value("${gemini.timeout:30000}") long timeout,
+            MeterRegistry meterRegistry
     ) {
         this.webClient = webClientBuilder.baseUrl(apiUrl).build();
+        this.streamWebClient = webClientBuilder.clone()
+                .baseUrl(streamUrl.isBlank() ? toStreamUrl(apiUrl) : streamUrl)
+                .build();
         this.apiKey = apiKey;
         this.cacheUrl = cacheUrl;
         this.maxRetry = maxRetry;
         this.timeout = timeout;
+        this.retryCounter = Counter.builder("ai.gemini.retries")
+                .description("Gemini API 재시도 횟수")
+                .register(meterRegistry);
+        this.firstTokenTimer = Timer.builder("ai.gemini.first-token")
+                .description("Gemini 스트리밍 요청 ~ 첫 텍스트 조각 수신 시간")
+                .register(meterRegistry);
     }
 
+    @Monitored("ai.gemini")
     @Override
     public Mono<AiMessageResponse> sendMessage(AiMessageRequest request) {
         GeminiRequest geminiRequest = toGeminiRequest(request);
@@ -71,6 +100,49 @@ public class GeminiClientImpl implements AiClient {
                 .onErrorMap(this::mapToBusinessException);
     }
 
+    /**
+     * 스트리밍 호출 (streamGenerateContent?alt=sse)
+     * - 청크마다 텍스트 조각을 바로 전달
+     * - 재시도는 첫 조각 수신 전까지만 (이후 재시도하면 앞부분이 중복 전달됨)
+     * - timeout은 청크 사이 대기 시간에 적용
+     */
+    @Monitored("ai.gemini")
+    @Override
+    public Flux<String> streamMessage(AiMessageRequest request) {
+        GeminiRequest geminiRequest = toGeminiRequest(request);
+
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            AtomicBoolean received = new AtomicBoolean(false);
+
+            return streamWebClient.post()
+                    .uri(uriBuilder -> uriBuilder
+                            .queryParam("alt", "sse")
+                            .queryParam("key", apiKey)
+                            .build())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .bodyValue(geminiRequest)
+                    .retrieve()
+                    .bodyToFlux(STREAM_EVENT)
+                    .timeout(Duration.ofMillis(timeout))
+                    .retryWhen(createRetrySpec()
+                            .modifyErrorFilter(retryable -> retryable.and(error -> !received.get())))
+                    .mapNotNull(ServerSentEvent::data)
+                    .doOnNext(this::logTokenUsage)
+                    .mapNotNull(this::extractText)
+                    .filter(text -> !text.isEmpty())
+                    .doOnNext(text -> {
+                        if (received.compareAndSet(false, true)) {
+                            firstTokenTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        }
+                    });
+        })
+                .doOnError(error -> log.error("Gemini 스트리밍 호출 실패: {}", error.getMessage()))
+                .onErrorMap(this::mapToBusinessException);
+    }
+
+    @Monitored("ai.gemini")
     @Override
     public Mono<CacheCreateResponse> createCachedContent(CacheCreateRequest request) {
         log.info("캐시 생성 시작");
@@ -126,6 +198,34 @@ public class GeminiClientImpl implements AiClient {
         return builder.build();
     }
 
+    /**
+     * 스트리밍 청크 → 텍스트 (마지막 청크는 usageMetadata만 있고 텍스트가 없을 수 있음)
+     */
+    private String extractText(GeminiResponse chunk) {
+        if (chunk.getCandidates() == null || chunk.getCandidates().isEmpty()) {
+            return null;
+        }
+        GeminiResponse.Content content = chunk.getCandidates().getFirst().getContent();
+        if (content == null || content.getParts() == null) {
+            return null;
+        }
+
+        StringBuilder text = new StringBuilder();
+        for (GeminiResponse.Part part : content.getParts()) {
+            if (part.getText() != null) {
+                text.append(part.getText());
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * .../models/{model}:generateContent → .../models/{model}:streamGenerateContent
+     */
+    private static String toStreamUrl(String apiUrl) {
+        return apiUrl.replace(":generateContent", ":streamGenerateContent");
+    }
+
     private CachedContentRequest toCachedContentRequest(CacheCreateRequest request) {
         return CachedContentRequest.builder()
                 .model(request.getModel())
@@ -147,9 +247,10 @@ public class GeminiClientImpl implements AiClient {
 
     // === Retry & Error Handling ===
 
-    private Retry createRetrySpec() {
+    private RetryBackoffSpec createRetrySpec() {
         return Retry.backoff(maxRetry, Duration.ofSeconds(1))
                 .filter(this::isRetryable)
+                .doBeforeRetry(signal -> retryCounter.increment())
                 .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) -> {
                     Throwable failure = retrySignal.failure();
                     log.error("Gemini API 재시도 횟수 초과: {}", retrySignal.totalRetries());
@@ -219,6 +320,17 @@ public class GeminiClientImpl implements AiClient {
         return defaultMessage;
     }
 
+    private void logTokenUsage(GeminiResponse chunk) {
+        var usage = chunk.getUsageMetadata();
+        if (usage != null && usage.getTotalTokenCount() != null) {
+            log.info("토큰 사용량(스트리밍) - total: {}, prompt: {}, candidates: {}, cached: {}",
+                    usage.getTotalTokenCount(),
+                    usage.getPromptTokenCount(),
+                    usage.getCandidatesTokenCount(),
+                    usage.getCachedContentTokenCount());
+        }
+    }
+
     private void logTokenUsage(AiMessageResponse response) {
         if (response != null && response.getTotalTokenCount() != null) {
             log.info("토큰 사용량 - total: {}, prompt: {}, candidates: {}, cached: {}",
@@ -0,0 +1,268 @@
+package com.personalaccount.infrastructure.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personalaccount.domain.transaction.event.TransactionChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 리포트 결과 캐시 (Redis)
+ *
+ * - Key: report:{bookId}:{kind}:{yearMonth}[:{qualifier}]
+ * - 장부별 인덱스(ZSET, score = 연월)로 특정 월 이후 키만 정확히 삭제
+ * - 장부별 세대 번호: 삭제 시 증가, 계산 전에 읽은 세대가 그대로일 때만 저장
+ *   (계산 중 커밋된 변경의 삭제 뒤에 이전 값이 저장되지 않도록)
+ * - 저장(세대 확인 + SET + ZADD)과 삭제(세대 증가 + DEL + 인덱스 정리)는 각각 Lua 스크립트 1회로 원자 실행
+ * - 마감된 월은 긴 TTL, 당월(및 이후)은 짧은 TTL
+ * - Redis 장애 시 캐시를 건너뛰고 DB에서 계산 (Fail-open)
+ * - 적중/미스/삭제/오류 건수를 report.cache.* 메트릭으로 노출
+ */
+@Slf4j
+@Component
+public class ReportCache implements MeterBinder {
+
+    private static final String KEY_PREFIX = "report:";
+    private static final String INDEX_SUFFIX = "index";
+    private static final String GENERATION_SUFFIX = "gen";
+    private static final String NO_GENERATION = "0";
+
+    /**
+     * 세대가 계산 전과 같을 때만 값 저장 + 인덱스 등록
+     * - KEYS: [값, 인덱스, 세대]
+     * - ARGV: [계산 전 세대, 값, 값 TTL(ms), 연월 score, 인덱스/세대 TTL(ms)]
+     * - 반환: 1 저장, 0 계산 중 무효화되어 저장 안 함
+     */
+    private static final RedisScript<Long> PUT_SCRIPT = RedisScript.of("""
+            local generation = redis.call('GET', KEYS[3]) or '0'
+            if generation ~= ARGV[1] then
+              return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            redis.call('ZADD', KEYS[2], ARGV[4], KEYS[1])
+            redis.call('PEXPIRE', KEYS[2], ARGV[5])
+            return 1
+            """, Long.class);
+
+    /**
+     * 세대 증가 + 해당 월 이후 키 삭제 + 인덱스 정리
+     * - KEYS: [인덱스, 세대]
+     * - ARGV: [시작 연월 score, 인덱스/세대 TTL(ms)]
+     * - 반환: 삭제한 키 수
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = RedisScript.of("""
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            local keys = redis.call('ZRANGEBYSCORE', KEYS[1], ARGV[1], '+inf')
+            local deleted = 0
+            for i = 1, #keys, 500 do
+              deleted = deleted + redis.call('DEL', unpack(keys, i, math.min(i + 499, #keys)))
+            end
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], ARGV[1], '+inf')
+            return deleted
+            """, Long.class);
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum ReportKind {
+        MONTHLY_SUMMARY("monthly"),
+        CATEGORY("category"),
+        BALANCES("balances"),
+        STATEMENT("statement"),
+        LEDGER("ledger");
+
+        private final String prefix;
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration closedMonthTtl;
+    private final Duration currentMonthTtl;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+
+    public ReportCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${report.cache.enabled:true}") boolean enabled,
+            @Value("${report.cache.closed-month-ttl:24h}") Duration closedMonthTtl,
+            @Value("${report.cache.current-month-ttl:5m}") Duration currentMonthTtl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.closedMonthTtl = closedMonthTtl;
+        this.currentMonthTtl = currentMonthTtl;
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 계산 후 저장
+     *
+     * @param qualifier 같은 종류/월 안에서 구분이 필요한 경우 (계정 ID, 조회 개월 수 등), 없으면 null
+     */
+    public <T> T getOrLoad(
+            Long bookId,
+            ReportKind kind,
+            YearMonth yearMonth,
+            String qualifier,
+            TypeReference<T> type,
+            Supplier<T> loader
+    ) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        String key = buildKey(bookId, kind, yearMonth, qualifier);
+        String generation;
+
+        try {
+            // 값과 세대를 한 번에 조회 (세대는 MISS 시 저장 조건으로 사용)
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(key, buildGenerationKey(bookId)));
+            String cached = values != null ? values.get(0) : null;
+            if (cached != null) {
+                hitCount.incrementAndGet();
+                log.debug("리포트 캐시 HIT: key={}", key);
+                return objectMapper.readValue(cached, type);
+            }
+            generation = values != null && values.get(1) != null ? values.get(1) : NO_GENERATION;
+        } catch (Exception e) {
+            errorCount.incrementAndGet();
+            log.warn("리포트 캐시 조회 실패: key={}", key, e);
+            return loader.get();
+        }
+
+        missCount.incrementAndGet();
+        log.debug("리포트 캐시 MISS: key={}", key);
+
+        T value = loader.get();
+        put(bookId, yearMonth, key, generation, value);
+        return value;
+    }
+
+    /**
+     * 특정 월 이후의 캐시 일괄 삭제 (소급 거래는 이후 월의 잔액에도 영향)
+     */
+    public void evictFrom(Long bookId, YearMonth fromMonth) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            Long deleted = redisTemplate.execute(
+                    EVICT_SCRIPT,
+                    List.of(buildIndexKey(bookId), buildGenerationKey(bookId)),
+                    String.valueOf(toScore(fromMonth)),
+                    String.valueOf(closedMonthTtl.toMillis())
+            );
+
+            evictionCount.addAndGet(deleted != null ? deleted : 0);
+            log.debug("리포트 캐시 삭제: bookId={}, from={}, count={}", bookId, fromMonth, deleted);
+
+        } catch (Exception e) {
+            errorCount.incrementAndGet();
+            log.error("리포트 캐시 삭제 실패: bookId={}, from={}", bookId, fromMonth, e);
+        }
+    }
+
+    /**
+     * 거래 변경 커밋 후 해당 월 이후 캐시 무효화
+     * - 트랜잭션 밖에서 발행된 경우 즉시 실행
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        evictFrom(event.getBookId(), YearMonth.from(event.getDate()));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("report.cache.requests", hitCount, AtomicLong::get)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("report.cache.requests", missCount, AtomicLong::get)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("report.cache.evictions", evictionCount, AtomicLong::get)
+                .register(registry);
+        FunctionCounter.builder("report.cache.errors", errorCount, AtomicLong::get)
+                .register(registry);
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+
+    private void put(Long bookId, YearMonth yearMonth, String key, String generation, Object value) {
+        try {
+            String json = objectMapper.writeValueAsString(value);
+            Long stored = redisTemplate.execute(
+                    PUT_SCRIPT,
+                    List.of(key, buildIndexKey(bookId), buildGenerationKey(bookId)),
+                    generation,
+                    json,
+                    String.valueOf(ttlFor(yearMonth).toMillis()),
+                    String.valueOf(toScore(yearMonth)),
+                    String.valueOf(closedMonthTtl.toMillis())
+            );
+
+            if (stored == null || stored == 0) {
+                log.debug("계산 중 캐시 무효화 - 저장 생략: key={}", key);
+            }
+
+        } catch (Exception e) {
+            errorCount.incrementAndGet();
+            log.warn("리포트 캐시 저장 실패: key={}", key, e);
+        }
+    }
+
+    private Duration ttlFor(YearMonth yearMonth) {
+        return yearMonth.isBefore(YearMonth.now()) ? closedMonthTtl : currentMonthTtl;
+    }
+
+    private String buildKey(Long bookId, ReportKind kind, YearMonth yearMonth, String qualifier) {
+        String key = KEY_PREFIX + bookId + ":" + kind.getPrefix() + ":" + yearMonth;
+        return qualifier != null ? key + ":" + qualifier : key;
+    }
+
+    private String buildIndexKey(Long bookId) {
+        return KEY_PREFIX + bookId + ":" + INDEX_SUFFIX;
+    }
+
+    private String buildGenerationKey(Long bookId) {
+        return KEY_PREFIX + bookId + ":" + GENERATION_SUFFIX;
+    }
+
+    private long toScore(YearMonth yearMonth) {
+        return yearMonth.getYear() * 12 + yearMonth.getMonthValue() - 1;
+    }
+}
@@ -0,0 +1,214 @@
+package com.personalaccount.infrastructure.datagen;
+
+import com.personalaccount.domain.account.cache.ChartOfAccounts;
+import com.personalaccount.domain.account.constants.DefaultAccounts;
+import com.personalaccount.domain.account.constants.DefaultAccounts.AccountTemplate;
+import com.personalaccount.domain.account.entity.Account;
+import com.personalaccount.domain.account.repository.AccountRepository;
+import com.personalaccount.domain.book.entity.Book;
+import com.personalaccount.domain.book.entity.BookType;
+import com.personalaccount.domain.book.repository.BookRepository;
+import com.personalaccount.domain.transaction.repository.TransactionBulkRepository;
+import com.personalaccount.domain.transaction.service.AccountDailyBalanceService;
+import com.personalaccount.domain.user.entity.User;
+import com.personalaccount.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 부하 테스트용 합성 데이터 생성기 (datagen 프로파일)
+ *
+ * - 사용자 N명 × 장부 타입별 장부 1개 × 월 M건 × Y년치 거래를 JDBC 배치로 적재
+ * - 계정과목은 DefaultAccounts 기준 (없으면 생성)
+ * - 장부마다 (seed, 사용자 번호, 장부 순번)으로 RNG 초기화 → 같은 설정이면 같은 데이터
+ * - 이미 존재하는 이메일의 사용자는 건너뜀 (재실행 가능)
+ * - 적재 후 장부별 일별 잔액 재계산, 완료 시 종료
+ *
+ * 실행: SPRING_PROFILES_ACTIVE=dev,datagen ./gradlew bootRun
+ */
+@Slf4j
+@Component
+@Profile("datagen")
+public class DataGenerator implements ApplicationRunner {
+
+    private static final int MONTHS_PER_CHUNK = 12;
+
+    private final UserRepository userRepository;
+    private final BookRepository bookRepository;
+    private final AccountRepository accountRepository;
+    private final ChartOfAccounts chartOfAccounts;
+    private final TransactionBulkRepository transactionBulkRepository;
+    private final AccountDailyBalanceService accountDailyBalanceService;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final ConfigurableApplicationContext context;
+
+    private final int users;
+    private final BookType[] bookTypes;
+    private final int transactionsPerMonth;
+    private final int years;
+    private final long seed;
+    private final String endMonth;
+    private final String emailPrefix;
+    private final String password;
+    private final boolean exitOnFinish;
+
+    public DataGenerator(
+            UserRepository userRepository,
+            BookRepository bookRepository,
+            AccountRepository accountRepository,
+            ChartOfAccounts chartOfAccounts,
+            TransactionBulkRepository transactionBulkRepository,
+            AccountDailyBalanceService accountDailyBalanceService,
+            PasswordEncoder passwordEncoder,
+            PlatformTransactionManager transactionManager,
+            ConfigurableApplicationContext context,
+            @Value("${datagen.users:10}") int users,
+            @Value("${datagen.book-types:PERSONAL,BUSINESS}") BookType[] bookTypes,
+            @Value("${datagen.transactions-per-month:100}") int transactionsPerMonth,
+            @Value("${datagen.years:1}") int years,
+            @Value("${datagen.seed:42}") long seed,
+            @Value("${datagen.end-month:}") String endMonth,
+            @Value("${datagen.email-prefix:loadtest}") String emailPrefix,
+            @Value("${datagen.password:Loadtest1234!}") String password,
+            @Value("${datagen.exit-on-finish:true}") boolean exitOnFinish
+    ) {
+        this.userRepository = userRepository;
+        this.bookRepository = bookRepository;
+        this.accountRepository = accountRepository;
+        this.chartOfAccounts = chartOfAccounts;
+        this.transactionBulkRepository = transactionBulkRepository;
+        this.accountDailyBalanceService = accountDailyBalanceService;
+        this.passwordEncoder = passwordEncoder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.context = context;
+        this.users = users;
+        this.bookTypes = bookTypes;
+        this.transactionsPerMonth = transactionsPerMonth;
+        this.years = years;
+        this.seed = seed;
+        this.endMonth = endMonth;
+        this.emailPrefix = emailPrefix;
+        this.password = password;
+        this.exitOnFinish = exitOnFinish;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        YearMonth end = endMonth.isBlank() ? YearMonth.now() : YearMonth.parse(endMonth);
+        YearMonth start = end.minusMonths(years * 12L - 1);
+
+        log.info("합성 데이터 생성 시작: users={}, bookTypes={}, perMonth={}, period={}~{}, seed={}",
+                users, List.of(bookTypes), transactionsPerMonth, start, end, seed);
+
+        long startedAt = System.nanoTime();
+        Map<BookType, Map<String, Long>> accountIds = resolveAccounts();
+        String encodedPassword = passwordEncoder.encode(password);
+
+        long rows = 0;
+        int books = 0;
+        for (int u = 0; u < users; u++) {
+            String email = emailPrefix + "-" + u + "@personalaccount.com";
+            if (userRepository.existsByEmail(email)) {
+                log.warn("이미 존재하는 사용자 건너뜀: email={}", email);
+                continue;
+            }
+
+            User user = userRepository.save(User.builder()
+                    .email(email)
+                    .password(encodedPassword)
+                    .name(emailPrefix + u)
+                    .isActive(true)
+                    .build());
+
+            for (int b = 0; b < bookTypes.length; b++) {
+                BookType bookType = bookTypes[b];
+                Book book = bookRepository.save(Book.builder()
+                        .user(user)
+                        .name(bookType == BookType.PERSONAL ? "개인 장부" : "사업 장부")
+                        .bookType(bookType)
+                        .isActive(true)
+                        .build());
+
+                Random random = new Random(seed * 31 + (long) u * bookTypes.length + b);
+                rows += generateBook(book.getId(), bookType, accountIds.get(bookType), start, end, random);
+                books++;
+            }
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("합성 데이터 생성 완료: books={}, transactions={}, elapsed={}ms, rows/s={}",
+                books, rows, elapsedMillis, rows * 1000 / elapsedMillis);
+
+        if (exitOnFinish) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    private long generateBook(Long bookId, BookType bookType, Map<String, Long> accountIds,
+                              YearMonth start, YearMonth end, Random random) {
+        LedgerScenario scenario = new LedgerScenario(bookType, accountIds);
+        List<TransactionBulkRepository.Row> chunk = new ArrayList<>();
+        long count = 0;
+        int months = 0;
+
+        for (YearMonth month = start; !month.isAfter(end); month = month.plusMonths(1)) {
+            chunk.addAll(scenario.month(bookId, month, transactionsPerMonth, random));
+
+            if (++months % MONTHS_PER_CHUNK == 0 || month.equals(end)) {
+                List<TransactionBulkRepository.Row> rows = List.copyOf(chunk);
+                transactionTemplate.executeWithoutResult(status -> transactionBulkRepository.insertAll(rows));
+                count += rows.size();
+                chunk.clear();
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status ->
+                accountDailyBalanceService.rebuild(bookId, accountIds.values(), start.atDay(1)));
+
+        log.info("장부 생성 완료: bookId={}, bookType={}, transactions={}", bookId, bookType, count);
+        return count;
+    }
+
+    /**
+     * 장부 타입별 기본 계정과목 이름 → ID (없는 계정은 생성)
+     */
+    private Map<BookType, Map<String, Long>> resolveAccounts() {
+        Map<BookType, Map<String, Long>> result = new EnumMap<>(BookType.class);
+
+        for (BookType bookType : bookTypes) {
+            Map<String, Long> ids = new HashMap<>();
+            for (AccountTemplate template : DefaultAccounts.getDefaultAccounts(bookType)) {
+                Account account = chartOfAccounts.findActiveByName(template.name, bookType)
+                        .orElseGet(() -> accountRepository.save(Account.builder()
+                                .code(template.code)
+                                .name(template.name)
+                                .accountType(template.accountType)
+                                .bookType(bookType)
+                                .isActive(true)
+                                .build()));
+                ids.put(template.name, account.getId());
+            }
+            result.put(bookType, ids);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,166 @@
+package com.personalaccount.infrastructure.datagen;
+
+import com.personalaccount.domain.book.entity.BookType;
+import com.personalaccount.domain.transaction.entity.TransactionType;
+import com.personalaccount.domain.transaction.repository.TransactionBulkRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 장부 타입별 월간 거래 시나리오
+ *
+ * - 고정 거래: 매월 같은 날 발생 (급여, 월세, 임차료 등)
+ * - 변동 거래: 나머지 건수를 가중치에 따라 계정과목별로 배분, 금액은 범위 내 100원 단위
+ * - 계정은 DefaultAccounts 이름으로 지정 → 생성 시 실제 계정 ID로 변환
+ */
+final class LedgerScenario {
+
+    private record Fixed(int day, TransactionType type, String account, String paymentMethod,
+                         long min, long max, String memo) {}
+
+    private record Variable(TransactionType type, String account, int weight,
+                            long min, long max, List<String> memos) {}
+
+    private static final List<Fixed> PERSONAL_FIXED = List.of(
+            new Fixed(25, TransactionType.INCOME, "급여", "은행", 3_000_000, 4_500_000, "월급"),
+            new Fixed(1, TransactionType.EXPENSE, "월세/관리비", "은행", 750_000, 750_000, "월세"),
+            new Fixed(5, TransactionType.EXPENSE, "월세/관리비", "은행", 80_000, 120_000, "관리비"),
+            new Fixed(18, TransactionType.EXPENSE, "공과금", "은행", 20_000, 80_000, "전기/가스요금"),
+            new Fixed(20, TransactionType.EXPENSE, "통신비", "신용카드", 55_000, 90_000, "휴대폰 요금"),
+            new Fixed(10, TransactionType.EXPENSE, "보험료", "은행", 80_000, 150_000, "실손보험")
+    );
+
+    private static final List<Variable> PERSONAL_VARIABLE = List.of(
+            new Variable(TransactionType.EXPENSE, "식비", 40, 5_000, 45_000, List.of("점심", "저녁", "카페", "장보기", "배달")),
+            new Variable(TransactionType.EXPENSE, "교통비", 15, 1_400, 30_000, List.of("지하철", "버스", "택시", "주유")),
+            new Variable(TransactionType.EXPENSE, "쇼핑", 10, 10_000, 150_000, List.of("의류", "생활용품", "온라인 쇼핑")),
+            new Variable(TransactionType.EXPENSE, "문화생활", 8, 8_000, 60_000, List.of("영화", "도서", "공연", "구독료")),
+            new Variable(TransactionType.EXPENSE, "의료비", 4, 5_000, 80_000, List.of("병원", "약국")),
+            new Variable(TransactionType.EXPENSE, "교육비", 3, 20_000, 200_000, List.of("온라인 강의", "학원비")),
+            new Variable(TransactionType.EXPENSE, "경조사비", 2, 50_000, 100_000, List.of("축의금", "조의금")),
+            new Variable(TransactionType.EXPENSE, "기타지출", 5, 3_000, 50_000, List.of("기타")),
+            new Variable(TransactionType.INCOME, "부업수입", 3, 100_000, 500_000, List.of("블로그 원고료", "번역 아르바이트")),
+            new Variable(TransactionType.INCOME, "이자수입", 1, 1_000, 15_000, List.of("예금 이자")),
+            new Variable(TransactionType.INCOME, "기타수입", 1, 10_000, 100_000, List.of("중고거래"))
+    );
+
+    private static final List<Fixed> BUSINESS_FIXED = List.of(
+            new Fixed(1, TransactionType.EXPENSE, "임차료", "사업자계좌", 1_500_000, 1_500_000, "사무실 임대료"),
+            new Fixed(10, TransactionType.EXPENSE, "인건비", "사업자계좌", 2_500_000, 3_500_000, "급여 지급"),
+            new Fixed(15, TransactionType.EXPENSE, "수도광열비", "사업자계좌", 50_000, 200_000, "전기/수도"),
+            new Fixed(20, TransactionType.EXPENSE, "통신비", "법인카드", 60_000, 120_000, "인터넷/전화"),
+            new Fixed(25, TransactionType.EXPENSE, "보험료", "사업자계좌", 100_000, 200_000, "4대보험")
+    );
+
+    private static final List<Variable> BUSINESS_VARIABLE = List.of(
+            new Variable(TransactionType.INCOME, "매출", 30, 100_000, 3_000_000, List.of("제품 판매", "온라인 매출", "납품")),
+            new Variable(TransactionType.INCOME, "용역수입", 8, 500_000, 5_000_000, List.of("컨설팅", "외주 개발")),
+            new Variable(TransactionType.INCOME, "수수료수입", 3, 10_000, 300_000, List.of("중개 수수료")),
+            new Variable(TransactionType.EXPENSE, "재료비", 15, 50_000, 1_500_000, List.of("원자재", "부품 구매")),
+            new Variable(TransactionType.EXPENSE, "외주비", 5, 300_000, 3_000_000, List.of("디자인 외주", "개발 외주")),
+            new Variable(TransactionType.EXPENSE, "소모품비", 10, 5_000, 100_000, List.of("사무용품", "비품")),
+            new Variable(TransactionType.EXPENSE, "광고선전비", 5, 50_000, 1_000_000, List.of("검색 광고", "SNS 광고")),
+            new Variable(TransactionType.EXPENSE, "접대비", 5, 30_000, 300_000, List.of("거래처 식사")),
+            new Variable(TransactionType.EXPENSE, "차량유지비", 5, 30_000, 150_000, List.of("주유", "주차비")),
+            new Variable(TransactionType.EXPENSE, "운반비", 5, 5_000, 50_000, List.of("택배", "퀵서비스")),
+            new Variable(TransactionType.EXPENSE, "세금과공과", 2, 50_000, 500_000, List.of("부가세", "면허세")),
+            new Variable(TransactionType.EXPENSE, "수선비", 2, 30_000, 300_000, List.of("장비 수리")),
+            new Variable(TransactionType.EXPENSE, "기타비용", 5, 5_000, 100_000, List.of("기타"))
+    );
+
+    // 지출 결제수단 (중복 = 가중치), 수입은 입금 계좌로 고정
+    private static final List<String> PERSONAL_PAYMENT_METHODS = List.of("현금", "체크카드", "신용카드", "신용카드");
+    private static final List<String> BUSINESS_PAYMENT_METHODS = List.of("사업자계좌", "법인카드", "법인카드", "현금");
+
+    private final List<Fixed> fixed;
+    private final List<Variable> variable;
+    private final List<String> paymentMethods;
+    private final String depositAccount;
+    private final int totalWeight;
+    private final Map<String, Long> accountIds;
+
+    /**
+     * @param accountIds 계정과목 이름 → ID (해당 장부 타입의 기본 계정 전체)
+     */
+    LedgerScenario(BookType bookType, Map<String, Long> accountIds) {
+        boolean personal = bookType == BookType.PERSONAL;
+        this.fixed = personal ? PERSONAL_FIXED : BUSINESS_FIXED;
+        this.variable = personal ? PERSONAL_VARIABLE : BUSINESS_VARIABLE;
+        this.paymentMethods = personal ? PERSONAL_PAYMENT_METHODS : BUSINESS_PAYMENT_METHODS;
+        this.depositAccount = personal ? "은행" : "사업자계좌";
+        this.totalWeight = variable.stream().mapToInt(Variable::weight).sum();
+        this.accountIds = accountIds;
+    }
+
+    /**
+     * 한 달치 거래 생성 (고정 거래 포함 count 건, 고정 거래가 더 많으면 고정 거래만)
+     */
+    List<TransactionBulkRepository.Row> month(Long bookId, YearMonth month, int count, Random random) {
+        List<TransactionBulkRepository.Row> rows = new ArrayList<>(Math.max(count, fixed.size()));
+
+        for (Fixed f : fixed) {
+            LocalDate date = month.atDay(Math.min(f.day(), month.lengthOfMonth()));
+            rows.add(row(bookId, date, f.type(), f.account(), f.paymentMethod(),
+                    amount(f.min(), f.max(), random), f.memo()));
+        }
+
+        for (int i = fixed.size(); i < count; i++) {
+            Variable v = pickVariable(random);
+            LocalDate date = month.atDay(1 + random.nextInt(month.lengthOfMonth()));
+            String paymentMethod = v.type() == TransactionType.INCOME
+                    ? depositAccount
+                    : paymentMethods.get(random.nextInt(paymentMethods.size()));
+            rows.add(row(bookId, date, v.type(), v.account(), paymentMethod,
+                    amount(v.min(), v.max(), random), v.memos().get(random.nextInt(v.memos().size()))));
+        }
+
+        return rows;
+    }
+
+    private Variable pickVariable(Random random) {
+        int r = random.nextInt(totalWeight);
+        for (Variable v : variable) {
+            r -= v.weight();
+            if (r < 0) {
+                return v;
+            }
+        }
+        return variable.getLast();
+    }
+
+    private TransactionBulkRepository.Row row(Long bookId, LocalDate date, TransactionType type,
+                                              String account, String paymentMethod,
+                                              BigDecimal amount, String memo) {
+        Long categoryId = accountId(account);
+        Long paymentMethodId = accountId(paymentMethod);
+
+        // 수입: 차변(결제수단) / 대변(카테고리), 지출: 차변(카테고리) / 대변(결제수단)
+        boolean income = type == TransactionType.INCOME;
+        String description = String.format("%s - %s %s원", income ? "수입" : "지출", account, amount);
+
+        return new TransactionBulkRepository.Row(
+                bookId, date, type, amount, memo, description,
+                income ? paymentMethodId : categoryId,
+                income ? categoryId : paymentMethodId
+        );
+    }
+
+    private Long accountId(String name) {
+        Long id = accountIds.get(name);
+        if (id == null) {
+            throw new IllegalStateException("시나리오 계정과목 없음: " + name);
+        }
+        return id;
+    }
+
+    private static BigDecimal amount(long min, long max, Random random) {
+        long value = min == max ? min : min + (long) (random.nextDouble() * (max - min + 1));
+        return BigDecimal.valueOf(Math.max(100, value / 100 * 100));
+    }
+}
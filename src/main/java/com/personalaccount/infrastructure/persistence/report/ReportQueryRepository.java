@@ -1,19 +1,28 @@
 package com.personalaccount.infrastructure.persistence.report;
 
+import com.personalaccount.common.metrics.Monitored;
 import com.personalaccount.domain.account.entity.AccountType;
 import com.personalaccount.domain.account.entity.QAccount;
 import com.personalaccount.domain.transaction.entity.*;
+import com.personalaccount.infrastructure.persistence.report.dto.FinancialTotals;
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * 재무제표 및 통계 조회용 Repository
@@ -22,66 +31,18 @@ import java.util.Map;
  * - Transaction 도메인에서 N+1 방지 (Fetch Join, IN 절) 완료
  * - 복잡한 집계 쿼리는 QueryDSL 사용
  * - 인덱스 활용: idx_transaction_book_date, idx_detail_account_id
+ * - 잔액 조회는 account_daily_balances(계정별 일별 누적 잔액)에서 계정당 1행만 조회
 
- * TODO: 거래 데이터 1000건 이상 시 성능 모니터링 필요
+ * 성능 측정: src/jmh ReportQueryBenchmark (./gradlew jmh -PjmhIncludes=ReportQuery)
  */
 @Repository
+@Monitored("report.query")
 @RequiredArgsConstructor
 public class ReportQueryRepository {
 
-    private final JPAQueryFactory queryFactory;
-
-    /**
-     * 수입 총액 (REVENUE 계정의 creditAmount)
-     */
-    public BigDecimal findTotalIncome(Long bookId, LocalDate startDate, LocalDate endDate) {
-        QTransaction transaction = QTransaction.transaction;
-        QJournalEntry journalEntry = QJournalEntry.journalEntry;
-        QTransactionDetail detail = QTransactionDetail.transactionDetail;
-        QAccount account = QAccount.account;
-
-        BigDecimal result = queryFactory
-                .select(detail.creditAmount.sum())
-                .from(transaction)
-                .join(journalEntry).on(journalEntry.transaction.eq(transaction))
-                .join(detail).on(detail.journalEntry.eq(journalEntry))
-                .join(account).on(detail.account.eq(account))
-                .where(
-                        transaction.book.id.eq(bookId),
-                        transaction.date.between(startDate, endDate),
-                        transaction.isActive.isTrue(),
-                        account.accountType.eq(AccountType.REVENUE)
-                )
-                .fetchOne();
-
-        return result != null ? result : BigDecimal.ZERO;
-    }
-
-    /**
-     * 지출 총액 (EXPENSE 계정의 debitAmount)
-     */
-    public BigDecimal findTotalExpense(Long bookId, LocalDate startDate, LocalDate endDate) {
-        QTransaction transaction = QTransaction.transaction;
-        QJournalEntry journalEntry = QJournalEntry.journalEntry;
-        QTransactionDetail detail = QTransactionDetail.transactionDetail;
-        QAccount account = QAccount.account;
-
-        BigDecimal result = queryFactory
-                .select(detail.debitAmount.sum())
-                .from(transaction)
-                .join(journalEntry).on(journalEntry.transaction.eq(transaction))
-                .join(detail).on(detail.journalEntry.eq(journalEntry))
-                .join(account).on(detail.account.eq(account))
-                .where(
-                        transaction.book.id.eq(bookId),
-                        transaction.date.between(startDate, endDate),
-                        transaction.isActive.isTrue(),
-                        account.accountType.eq(AccountType.EXPENSE)
-                )
-                .fetchOne();
+    private static final int LEDGER_FETCH_SIZE = 500;
 
-        return result != null ? result : BigDecimal.ZERO;
-    }
+    private final JPAQueryFactory queryFactory;
 
     /**
      * 카테고리별 지출 TOP5 (EXPENSE 계정의 debitAmount)
@@ -113,85 +74,108 @@ public class ReportQueryRepository {
     }
 
     /**
-     * 자산 총액 (ASSET 계정의 차변-대변)
+     * 재무제표 합계 일괄 조회 (수입/지출/자산/부채를 단일 쿼리로 집계)
+     * - REVENUE/EXPENSE: 기간 내 일별 합계
+     * - ASSET/LIABILITY: endDate 기준 계정별 최근 누적 잔액
+     * - 계정 유형별 조건부 합계 후 GROUP BY accountType
      */
-    public BigDecimal findTotalAssets(Long bookId, LocalDate asOfDate) {
-        QTransaction transaction = QTransaction.transaction;
-        QJournalEntry journalEntry = QJournalEntry.journalEntry;
-        QTransactionDetail detail = QTransactionDetail.transactionDetail;
+    public FinancialTotals findFinancialTotals(Long bookId, LocalDate startDate, LocalDate endDate) {
+        QAccountDailyBalance balance = QAccountDailyBalance.accountDailyBalance;
         QAccount account = QAccount.account;
 
-        BigDecimal result = queryFactory
-                .select(detail.debitAmount.subtract(detail.creditAmount).sum())
-                .from(transaction)
-                .join(journalEntry).on(journalEntry.transaction.eq(transaction))
-                .join(detail).on(detail.journalEntry.eq(journalEntry))
-                .join(account).on(detail.account.eq(account))
+        NumberExpression<BigDecimal> amount = new CaseBuilder()
+                .when(account.accountType.eq(AccountType.REVENUE)).then(balance.creditSum)
+                .when(account.accountType.eq(AccountType.EXPENSE)).then(balance.debitSum)
+                .otherwise(balance.balance);
+
+        List<Tuple> results = queryFactory
+                .select(account.accountType, amount.sum())
+                .from(balance)
+                .join(account).on(balance.account.eq(account))
                 .where(
-                        transaction.book.id.eq(bookId),
-                        transaction.date.loe(asOfDate),
-                        transaction.isActive.isTrue(),
-                        account.accountType.eq(AccountType.ASSET)
+                        balance.book.id.eq(bookId),
+                        account.accountType.in(AccountType.REVENUE, AccountType.EXPENSE)
+                                .and(balance.date.between(startDate, endDate))
+                                .or(account.accountType.in(AccountType.ASSET, AccountType.LIABILITY)
+                                        .and(balance.date.eq(latestBalanceDate(balance, endDate))))
                 )
-                .fetchOne();
+                .groupBy(account.accountType)
+                .fetch();
 
-        return result != null ? result : BigDecimal.ZERO;
+        Map<AccountType, BigDecimal> totals = new EnumMap<>(AccountType.class);
+        for (Tuple tuple : results) {
+            BigDecimal sum = tuple.get(1, BigDecimal.class);
+            totals.put(tuple.get(0, AccountType.class), sum != null ? sum : BigDecimal.ZERO);
+        }
+
+        return FinancialTotals.builder()
+                .totalIncome(totals.getOrDefault(AccountType.REVENUE, BigDecimal.ZERO))
+                .totalExpense(totals.getOrDefault(AccountType.EXPENSE, BigDecimal.ZERO))
+                .totalAssets(totals.getOrDefault(AccountType.ASSET, BigDecimal.ZERO))
+                // 누적 잔액은 차변-대변 기준이므로 부호 반전
+                .totalLiabilities(totals.getOrDefault(AccountType.LIABILITY, BigDecimal.ZERO).negate())
+                .build();
     }
 
     /**
-     * 부채 총액 (LIABILITY 계정의 대변-차변)
+     * 기초 잔액 (특정 계정의 startDate 직전 누적 잔액)
      */
-    public BigDecimal findTotalLiabilities(Long bookId, LocalDate asOfDate) {
-        QTransaction transaction = QTransaction.transaction;
-        QJournalEntry journalEntry = QJournalEntry.journalEntry;
-        QTransactionDetail detail = QTransactionDetail.transactionDetail;
-        QAccount account = QAccount.account;
+    public BigDecimal findOpeningBalance(Long bookId, Long accountId, LocalDate startDate) {
+        QAccountDailyBalance balance = QAccountDailyBalance.accountDailyBalance;
 
         BigDecimal result = queryFactory
-                .select(detail.creditAmount.subtract(detail.debitAmount).sum())
-                .from(transaction)
-                .join(journalEntry).on(journalEntry.transaction.eq(transaction))
-                .join(detail).on(detail.journalEntry.eq(journalEntry))
-                .join(account).on(detail.account.eq(account))
+                .select(balance.balance)
+                .from(balance)
                 .where(
-                        transaction.book.id.eq(bookId),
-                        transaction.date.loe(asOfDate),
-                        transaction.isActive.isTrue(),
-                        account.accountType.eq(AccountType.LIABILITY)
+                        balance.book.id.eq(bookId),
+                        balance.account.id.eq(accountId),
+                        balance.date.lt(startDate)
                 )
-                .fetchOne();
+                .orderBy(balance.date.desc())
+                .fetchFirst();
 
         return result != null ? result : BigDecimal.ZERO;
     }
 
     /**
-     * 기초 잔액 (특정 계정의 startDate 이전 누적)
+     * 계정별 거래 내역 (날짜, 메모, 차변, 대변)
      */
-    public BigDecimal findOpeningBalance(Long bookId, Long accountId, LocalDate startDate) {
+    public List<Tuple> findAccountLedgerEntries(
+            Long bookId,
+            Long accountId,
+            LocalDate startDate,
+            LocalDate endDate
+    ) {
         QTransaction transaction = QTransaction.transaction;
         QJournalEntry journalEntry = QJournalEntry.journalEntry;
         QTransactionDetail detail = QTransactionDetail.transactionDetail;
 
-        BigDecimal result = queryFactory
-                .select(detail.debitAmount.subtract(detail.creditAmount).sum())
+        return queryFactory
+                .select(
+                        transaction.date,
+                        transaction.memo,
+                        detail.debitAmount,
+                        detail.creditAmount
+                )
                 .from(transaction)
                 .join(journalEntry).on(journalEntry.transaction.eq(transaction))
                 .join(detail).on(detail.journalEntry.eq(journalEntry))
                 .where(
                         transaction.book.id.eq(bookId),
                         detail.account.id.eq(accountId),
-                        transaction.date.lt(startDate),
+                        transaction.date.between(startDate, endDate),
                         transaction.isActive.isTrue()
                 )
-                .fetchOne();
-
-        return result != null ? result : BigDecimal.ZERO;
+                .orderBy(transaction.date.asc())
+                .fetch();
     }
 
     /**
-     * 계정별 거래 내역 (날짜, 메모, 차변, 대변)
+     * 계정별 거래내역 스트리밍 조회 (원장 스트리밍용)
+     * - 서버 측 커서(fetch size)로 읽어 기간과 무관하게 메모리 사용량 일정
+     * - 호출 측에서 반드시 close (try-with-resources), 트랜잭션 안에서 소비해야 함
      */
-    public List<Tuple> findAccountLedgerEntries(
+    public Stream<Tuple> streamAccountLedgerEntries(
             Long bookId,
             Long accountId,
             LocalDate startDate,
@@ -217,96 +201,89 @@ public class ReportQueryRepository {
                         transaction.date.between(startDate, endDate),
                         transaction.isActive.isTrue()
                 )
-                .orderBy(transaction.date.asc())
-                .fetch();
+                .orderBy(transaction.date.asc(), transaction.id.asc(), detail.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, LEDGER_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
     }
 
     /**
-     * 특정 계정의 현재 잔액 (차변 - 대변)
+     * 특정 계정의 현재 잔액 (가장 최근 누적 잔액)
      */
     public BigDecimal findAccountBalance(Long bookId, Long accountId) {
-        QTransaction transaction = QTransaction.transaction;
-        QJournalEntry journalEntry = QJournalEntry.journalEntry;
-        QTransactionDetail detail = QTransactionDetail.transactionDetail;
+        QAccountDailyBalance balance = QAccountDailyBalance.accountDailyBalance;
 
         BigDecimal result = queryFactory
-                .select(detail.debitAmount.subtract(detail.creditAmount).sum())
-                .from(transaction)
-                .join(journalEntry).on(journalEntry.transaction.eq(transaction))
-                .join(detail).on(detail.journalEntry.eq(journalEntry))
+                .select(balance.balance)
+                .from(balance)
                 .where(
-                        transaction.book.id.eq(bookId),
-                        detail.account.id.eq(accountId),
-                        transaction.isActive.isTrue()
+                        balance.book.id.eq(bookId),
+                        balance.account.id.eq(accountId)
                 )
-                .fetchOne();
+                .orderBy(balance.date.desc())
+                .fetchFirst();
 
         return result != null ? result : BigDecimal.ZERO;
     }
 
     /**
-     * 기간별 수입/지출 거래 일괄 조회 (월별 요약용)
+     * 월별 수입/지출 집계 (연-월, 계정 유형별 GROUP BY)
+     * - 계정별 일별 잔액 기준으로 DB에서 집계하여 월당 최대 2행만 반환
+     * - 반환: [year, month, accountType, creditSum, debitSum]
      */
-    public List<Tuple> findIncomeExpenseByDateRange(Long bookId, LocalDate startDate, LocalDate endDate) {
-        QTransaction transaction = QTransaction.transaction;
-        QJournalEntry journalEntry = QJournalEntry.journalEntry;
-        QTransactionDetail detail = QTransactionDetail.transactionDetail;
+    public List<Tuple> findMonthlyIncomeExpense(Long bookId, LocalDate startDate, LocalDate endDate) {
+        QAccountDailyBalance balance = QAccountDailyBalance.accountDailyBalance;
         QAccount account = QAccount.account;
 
         return queryFactory
                 .select(
-                        transaction.date,
+                        balance.date.year(),
+                        balance.date.month(),
                         account.accountType,
-                        detail.creditAmount,
-                        detail.debitAmount
+                        balance.creditSum.sum(),
+                        balance.debitSum.sum()
                 )
-                .from(transaction)
-                .join(journalEntry).on(journalEntry.transaction.eq(transaction))
-                .join(detail).on(detail.journalEntry.eq(journalEntry))
-                .join(account).on(detail.account.eq(account))
+                .from(balance)
+                .join(account).on(balance.account.eq(account))
                 .where(
-                        transaction.book.id.eq(bookId),
-                        transaction.date.between(startDate, endDate),
-                        transaction.isActive.isTrue(),
+                        balance.book.id.eq(bookId),
+                        balance.date.between(startDate, endDate),
                         account.accountType.in(AccountType.REVENUE, AccountType.EXPENSE)
                 )
+                .groupBy(balance.date.year(), balance.date.month(), account.accountType)
+                .orderBy(balance.date.year().asc(), balance.date.month().asc())
                 .fetch();
     }
 
     /**
-     * 여러 계정의 잔액 일괄 조회 (IN 절)
+     * 여러 계정의 잔액 일괄 조회 (IN 절, 계정당 최근 1행)
      */
     public Map<Long, BigDecimal> findAccountBalancesByIds(Long bookId, List<Long> accountIds) {
         if (accountIds == null || accountIds.isEmpty()) {
             return Collections.emptyMap();
         }
 
-        QTransaction transaction = QTransaction.transaction;
-        QJournalEntry journalEntry = QJournalEntry.journalEntry;
-        QTransactionDetail detail = QTransactionDetail.transactionDetail;
+        QAccountDailyBalance balance = QAccountDailyBalance.accountDailyBalance;
 
         List<Tuple> results = queryFactory
                 .select(
-                        detail.account.id,
-                        detail.debitAmount.subtract(detail.creditAmount).sum()
+                        balance.account.id,
+                        balance.balance
                 )
-                .from(transaction)
-                .join(journalEntry).on(journalEntry.transaction.eq(transaction))
-                .join(detail).on(detail.journalEntry.eq(journalEntry))
+                .from(balance)
                 .where(
-                        transaction.book.id.eq(bookId),
-                        detail.account.id.in(accountIds),
-                        transaction.isActive.isTrue()
+                        balance.book.id.eq(bookId),
+                        balance.account.id.in(accountIds),
+                        balance.date.eq(latestBalanceDate(balance, null))
                 )
-                .groupBy(detail.account.id)
                 .fetch();
 
         // Map으로 변환
         Map<Long, BigDecimal> balanceMap = new HashMap<>();
         for (Tuple tuple : results) {
             Long accountId = tuple.get(0, Long.class);
-            BigDecimal balance = tuple.get(1, BigDecimal.class);
-            balanceMap.put(accountId, balance != null ? balance : BigDecimal.ZERO);
+            BigDecimal amount = tuple.get(1, BigDecimal.class);
+            balanceMap.put(accountId, amount != null ? amount : BigDecimal.ZERO);
         }
 
         // 조회되지 않은 계정은 0으로 설정
@@ -316,4 +293,22 @@ public class ReportQueryRepository {
 
         return balanceMap;
     }
+
+    /**
+     * 계정별 기준일 이전 가장 최근 잔액 일자 (상관 서브쿼리)
+     *
+     * @param asOfDate null이면 전체 기간
+     */
+    private JPQLQuery<LocalDate> latestBalanceDate(QAccountDailyBalance balance, LocalDate asOfDate) {
+        QAccountDailyBalance latest = new QAccountDailyBalance("latest");
+
+        return JPAExpressions
+                .select(latest.date.max())
+                .from(latest)
+                .where(
+                        latest.book.id.eq(balance.book.id),
+                        latest.account.id.eq(balance.account.id),
+                        asOfDate != null ? latest.date.loe(asOfDate) : null
+                );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.personalaccount.infrastructure.persistence.report.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 재무제표 집계 결과 (수입/지출/자산/부채 합계)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class FinancialTotals {
+
+    private final BigDecimal totalIncome;
+    private final BigDecimal totalExpense;
+    private final BigDecimal totalAssets;
+    private final BigDecimal totalLiabilities;
+}
@@ -0,0 +1,27 @@
+package com.personalaccount.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 해시 (원본 토큰을 캐시/Redis 키로 보관하지 않기 위함)
+ */
+public class TokenHashUtil {
+
+    private TokenHashUtil() {
+    }
+
+    /**
+     * 토큰 SHA-256 해시 (16진수 소문자)
+     */
+    public static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원", e);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.personalaccount.infrastructure.security.blacklist;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.personalaccount.infrastructure.security.TokenHashUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃 토큰 블랙리스트 (로컬 조회 + Redis 동기화)
+ *
+ * - 요청마다 Redis를 조회하지 않고 로컬 집합(토큰 해시 → 만료 시각)만 확인
+ * - 항목은 토큰의 남은 만료 시간이 지나면 자동 삭제 (만료된 토큰은 서명 검증에서 이미 거부)
+ * - 등록: Redis 키 blacklist:{hash} 저장 (원본) + 채널 발행으로 다른 노드에 전파
+ * - 기동 시/주기적으로 Redis 키 전체를 다시 읽어 유실된 메시지 보정
+ */
+@Slf4j
+@Component
+public class TokenBlacklist {
+
+    public static final String CHANNEL = "auth:blacklist";
+
+    private static final String KEY_PREFIX = "blacklist:";
+    private static final String SEPARATOR = ":";
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final Cache<String, Long> entries = Caffeine.newBuilder()
+            .expireAfter(new UntilTokenExpiry())
+            .build();
+
+    public TokenBlacklist(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 블랙리스트 여부 (로컬 조회만 수행)
+     *
+     * @param tokenHash 서명 검증 시 계산한 토큰 해시 ({@link TokenHashUtil#sha256})
+     */
+    public boolean contains(String tokenHash) {
+        return entries.getIfPresent(tokenHash) != null;
+    }
+
+    /**
+     * 블랙리스트 등록 (로그아웃)
+     *
+     * @param ttlMillis 토큰의 남은 만료 시간
+     */
+    public void add(String token, long ttlMillis) {
+        if (ttlMillis <= 0) {
+            return;
+        }
+
+        String hash = TokenHashUtil.sha256(token);
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+
+        entries.put(hash, expiresAt);
+        redisTemplate.opsForValue().set(KEY_PREFIX + hash, "logout", ttlMillis, TimeUnit.MILLISECONDS);
+        redisTemplate.convertAndSend(CHANNEL, hash + SEPARATOR + expiresAt);
+
+        log.debug("블랙리스트 등록: hash={}", hash);
+    }
+
+    /**
+     * 다른 노드의 등록 메시지 반영 ({hash}:{만료 시각})
+     */
+    public void onMessage(String message) {
+        int separator = message.lastIndexOf(SEPARATOR);
+        if (separator <= 0) {
+            log.warn("블랙리스트 메시지 형식 오류: {}", message);
+            return;
+        }
+
+        try {
+            long expiresAt = Long.parseLong(message.substring(separator + 1));
+            if (expiresAt > System.currentTimeMillis()) {
+                entries.put(message.substring(0, separator), expiresAt);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("블랙리스트 메시지 형식 오류: {}", message);
+        }
+    }
+
+    /**
+     * Redis 전체 재동기화 (기동 시 + 주기적으로 구독 끊김 보정)
+     * - Redis 장애 시 로컬 목록 유지
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${jwt.blacklist.resync-interval:10m}",
+            fixedDelayString = "${jwt.blacklist.resync-interval:10m}"
+    )
+    public void resync() {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(500).build();
+        long now = System.currentTimeMillis();
+        int count = 0;
+
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                String key = keys.next();
+                Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                if (ttl == null || ttl <= 0) {
+                    continue;
+                }
+                entries.put(hashOfKey(key), now + ttl);
+                count++;
+            }
+            log.info("블랙리스트 재동기화 완료: {}건", count);
+
+        } catch (Exception e) {
+            log.warn("블랙리스트 재동기화 실패 (로컬 목록 유지): {}", e.getMessage());
+        }
+    }
+
+    long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    /**
+     * 키에서 해시 추출 (이전 형식 blacklist:{원본 토큰} 키는 해시로 변환)
+     */
+    private static String hashOfKey(String key) {
+        String suffix = key.substring(KEY_PREFIX.length());
+        return suffix.contains(".") ? TokenHashUtil.sha256(suffix) : suffix;
+    }
+
+    /**
+     * 항목별 만료 = 값(토큰 만료 시각)까지 남은 시간
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String hash, Long expiresAt, long currentTime) {
+            return remainingNanos(expiresAt);
+        }
+
+        @Override
+        public long expireAfterUpdate(String hash, Long expiresAt, long currentTime, long currentDuration) {
+            return remainingNanos(expiresAt);
+        }
+
+        @Override
+        public long expireAfterRead(String hash, Long expiresAt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private static long remainingNanos(long expiresAt) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAt - System.currentTimeMillis()));
+        }
+    }
+}
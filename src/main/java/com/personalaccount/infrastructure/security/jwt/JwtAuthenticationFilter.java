@@ -4,9 +4,9 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.personalaccount.infrastructure.security.blacklist.TokenBlacklist;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -23,7 +23,7 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final StringRedisTemplate stringRedisTemplate;
+    private final TokenBlacklist tokenBlacklist;
 
     @Override
     protected void doFilterInternal(
@@ -35,24 +35,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = extractToken(request);
 
-            if (token != null && jwtTokenProvider.validateToken(token)) {
+            // 서명 검증 + 클레임 추출 1회 (최근 검증 토큰은 캐시)
+            VerifiedToken verified = token != null
+                    ? jwtTokenProvider.verify(token).orElse(null)
+                    : null;
 
-                // 블랙리스트 체크
-                if (isBlacklisted(token)) {
+            if (verified != null) {
+
+                // 블랙리스트 체크 (로컬 조회, Redis 왕복 없음)
+                if (tokenBlacklist.contains(verified.tokenHash())) {
                     log.warn("블랙리스트 토큰 접근 시도: {}", request.getRequestURI());
                     filterChain.doFilter(request, response);
                     return;
                 }
 
                 // Access Token 타입 검증
-                String tokenType = jwtTokenProvider.getTokenType(token);
-                if (!"access".equals(tokenType)) {
-                    log.warn("Access Token이 아닌 토큰으로 접근 시도: type={}", tokenType);
+                if (!verified.isAccess()) {
+                    log.warn("Access Token이 아닌 토큰으로 접근 시도: type={}", verified.type());
                     filterChain.doFilter(request, response);
                     return;
                 }
 
-                Long userId = jwtTokenProvider.getUserId(token);
+                Long userId = verified.userId();
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
@@ -79,9 +83,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
-
-    private boolean isBlacklisted(String token) {
-        Boolean exists = stringRedisTemplate.hasKey("blacklist:" + token);
-        return exists != null && exists;
-    }
 }
\ No newline at end of file
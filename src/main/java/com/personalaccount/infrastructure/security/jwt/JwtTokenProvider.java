@@ -1,34 +1,65 @@
 package com.personalaccount.infrastructure.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.personalaccount.infrastructure.security.TokenHashUtil;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    private static final int DEFAULT_VERIFIED_CACHE_SIZE = 10_000;
+
     private final SecretKey secretKey;
     private final long accessTokenValidityInMilliseconds;
     @Getter
     private final long refreshTokenValidityInMilliseconds;
 
+    // 불변·스레드 안전, 요청마다 새로 만들지 않음
+    private final JwtParser parser;
+
+    // 최근 검증한 토큰 해시 → 클레임 (원본 토큰은 메모리에 보관하지 않음, 토큰 만료 시각에 삭제, 크기 0이면 미사용)
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtTokenProvider(String secret, long accessTokenValidity, long refreshTokenValidity) {
+        this(secret, accessTokenValidity, refreshTokenValidity, DEFAULT_VERIFIED_CACHE_SIZE);
+    }
+
+    @Autowired
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-validity}") long accessTokenValidity,
-            @Value("${jwt.refresh-token-validity}") long refreshTokenValidity
+            @Value("${jwt.refresh-token-validity}") long refreshTokenValidity,
+            @Value("${jwt.verified-cache-size:" + DEFAULT_VERIFIED_CACHE_SIZE + "}") int verifiedCacheSize
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessTokenValidityInMilliseconds = accessTokenValidity;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidity;
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = verifiedCacheSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(verifiedCacheSize)
+                        .expireAfter(new UntilTokenExpiry())
+                        .build()
+                : null;
     }
 
     public String createAccessToken(Long userId, String email) {
@@ -58,48 +89,53 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public Long getUserId(String token) {
-        return Long.parseLong(
-                Jwts.parser()
-                        .verifyWith(secretKey)
-                        .build()
-                        .parseSignedClaims(token)
-                        .getPayload()
-                        .getSubject()
-        );
-    }
-
     /**
-     * 토큰 타입 조회 (access / refresh)
+     * 서명 검증 + 클레임 추출 (요청당 1회)
+     * - 최근 검증한 토큰은 캐시에서 반환 (HMAC 검증/JSON 파싱 생략)
+     * - 유효하지 않으면 empty
      */
-    public String getTokenType(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("type", String.class);
-    }
+    public Optional<VerifiedToken> verify(String token) {
+        if (!StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
+
+        // 해시는 여기서 한 번만 계산 (검증 캐시 키 + 블랙리스트 조회 키로 재사용)
+        String tokenHash = TokenHashUtil.sha256(token);
+        if (verifiedTokens != null) {
+            VerifiedToken cached = verifiedTokens.getIfPresent(tokenHash);
+            if (cached != null && cached.remainingMillis() > 0) {
+                return Optional.of(cached);
+            }
+        }
 
-    public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                log.error("Invalid JWT token: 만료 시간 없음");
+                return Optional.empty();
+            }
+
+            VerifiedToken verified = new VerifiedToken(
+                    tokenHash,
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("type", String.class),
+                    expiration.getTime()
+            );
+            if (verifiedTokens != null) {
+                verifiedTokens.put(tokenHash, verified);
+            }
+            return Optional.of(verified);
+
         } catch (JwtException | IllegalArgumentException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
 
     public long getExpiration(String token) {
         try {
-            Date expiration = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
+            Date expiration = parser.parseSignedClaims(token)
                     .getPayload()
                     .getExpiration();
 
@@ -117,4 +153,25 @@ public class JwtTokenProvider {
     public Duration getRefreshTokenTtl() {
         return Duration.ofMillis(refreshTokenValidityInMilliseconds);
     }
-}
\ No newline at end of file
+
+    /**
+     * 캐시 항목 만료 = 토큰 만료 시각까지 남은 시간
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(verified.remainingMillis());
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+            return TimeUnit.MILLISECONDS.toNanos(verified.remainingMillis());
+        }
+
+        @Override
+        public long expireAfterRead(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
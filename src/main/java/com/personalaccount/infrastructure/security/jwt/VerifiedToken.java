@@ -0,0 +1,24 @@
+package com.personalaccount.infrastructure.security.jwt;
+
+/**
+ * 서명 검증이 끝난 토큰의 클레임
+ *
+ * @param tokenHash 토큰 SHA-256 해시 (블랙리스트 조회 키, 요청당 1회 계산)
+ * @param userId subject
+ * @param type access / refresh
+ * @param expiresAt 만료 시각 (epoch millis)
+ */
+public record VerifiedToken(String tokenHash, Long userId, String type, long expiresAt) {
+
+    public boolean isAccess() {
+        return "access".equals(type);
+    }
+
+    public boolean isRefresh() {
+        return "refresh".equals(type);
+    }
+
+    public long remainingMillis() {
+        return Math.max(0, expiresAt - System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,106 @@
+package com.personalaccount.infrastructure.session;
+
+import com.personalaccount.application.ai.session.ConversationSession;
+import com.personalaccount.common.metrics.Monitored;
+import com.personalaccount.domain.ai.repository.ReactiveSessionRepository;
+import com.personalaccount.infrastructure.session.codec.SessionCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.personalaccount.infrastructure.session.RedisSessionLayout.SAVE_SCRIPT;
+import static com.personalaccount.infrastructure.session.RedisSessionLayout.SESSION_TTL;
+
+/**
+ * 대화 세션 저장소 (ReactiveRedisTemplate, Lettuce)
+ * - 키/TTL/값 형식은 RedisSessionRepository와 동일 (두 경로에서 같은 세션 사용 가능)
+ * - 조회 명령 3개는 응답을 기다리지 않고 같은 커넥션으로 연속 전송 (왕복 1회)
+ */
+@Slf4j
+@Repository
+@Monitored("ai.session")
+@RequiredArgsConstructor
+public class ReactiveRedisSessionRepository implements ReactiveSessionRepository {
+
+    private final ReactiveRedisTemplate<String, byte[]> reactiveSessionRedisTemplate;
+    private final SessionCodec sessionCodec;
+
+    @Override
+    public Mono<ConversationSession> createSession(Long userId, Long bookId) {
+        String conversationId = RedisSessionLayout.generateConversationId();
+
+        ConversationSession session = ConversationSession.builder()
+                .conversationId(conversationId)
+                .userId(userId)
+                .bookId(bookId)
+                .createdAt(LocalDateTime.now())
+                .lastAccessedAt(LocalDateTime.now())
+                .build();
+
+        return saveSession(session)
+                .doOnSuccess(ignored -> log.debug("새 세션 생성: conversationId={}", conversationId))
+                .thenReturn(session);
+    }
+
+    @Override
+    public Mono<ConversationSession> getSession(String conversationId) {
+        String messagesKey = RedisSessionLayout.messagesKey(conversationId);
+
+        return Mono.zip(
+                        reactiveSessionRedisTemplate.opsForValue()
+                                .getAndExpire(RedisSessionLayout.headerKey(conversationId), SESSION_TTL),
+                        reactiveSessionRedisTemplate.opsForList().range(messagesKey, 0, -1).collectList(),
+                        reactiveSessionRedisTemplate.expire(messagesKey, SESSION_TTL)
+                )
+                .flatMap(result -> decode(conversationId, result.getT1(), result.getT2()));
+    }
+
+    @Override
+    public Mono<Void> saveSession(ConversationSession session) {
+        List<String> keys = RedisSessionLayout.keys(session.getConversationId());
+        int size = session.getMessages().size();
+
+        return reactiveSessionRedisTemplate
+                .execute(SAVE_SCRIPT, keys, RedisSessionLayout.saveArgs(sessionCodec, session, false))
+                .next()
+                .flatMap(length -> {
+                    if (length == size) {
+                        return Mono.just(length);
+                    }
+                    log.warn("세션 메시지 리스트 불일치, 전체 재작성 - conversationId: {}, 저장소: {}건, 세션: {}건",
+                            session.getConversationId(), length, size);
+                    return reactiveSessionRedisTemplate
+                            .execute(SAVE_SCRIPT, keys, RedisSessionLayout.saveArgs(sessionCodec, session, true))
+                            .next();
+                })
+                .doOnSuccess(ignored -> session.markStored())
+                .then();
+    }
+
+    @Override
+    public Mono<Void> deleteSession(String conversationId) {
+        return reactiveSessionRedisTemplate.delete(
+                        RedisSessionLayout.headerKey(conversationId),
+                        RedisSessionLayout.messagesKey(conversationId)
+                )
+                .doOnSuccess(ignored -> log.debug("세션 삭제: conversationId={}", conversationId))
+                .then();
+    }
+
+    private Mono<ConversationSession> decode(String conversationId, byte[] header, List<byte[]> messages) {
+        try {
+            ConversationSession session = sessionCodec.decode(header, messages);
+            session.markStored();
+            return Mono.just(session);
+        } catch (SerializationException e) {
+            log.warn("세션 디코딩 실패 (만료로 처리) - conversationId: {}, {}", conversationId, e.getMessage());
+            return Mono.empty();
+        }
+    }
+}
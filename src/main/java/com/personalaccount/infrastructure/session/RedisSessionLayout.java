@@ -0,0 +1,89 @@
+package com.personalaccount.infrastructure.session;
+
+import com.personalaccount.application.ai.session.ConversationSession;
+import com.personalaccount.application.ai.session.ConversationSession.ChatMessage;
+import com.personalaccount.infrastructure.session.codec.SessionCodec;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 대화 세션 Redis 키/저장 스크립트 (동기, 리액티브 저장소 공통)
+ *
+ * - ai:conversation:{id}          : 헤더 (메시지 제외 필드)
+ * - ai:conversation:{id}:messages : 메시지 리스트 (메시지당 1개 요소)
+ * - id를 해시 태그로 감싸 두 키를 같은 슬롯에 둠 (클러스터에서도 스크립트 실행 가능)
+ */
+final class RedisSessionLayout {
+
+    static final String SESSION_PREFIX = "ai:conversation:";
+    static final Duration SESSION_TTL = Duration.ofMinutes(30);
+
+    private static final String REWRITE = "-1";
+
+    /**
+     * 헤더 저장 + 요약으로 이동한 메시지 삭제(LTRIM) + 추가분 RPUSH + TTL 갱신을 한 번에 실행
+     * - ARGV: [TTL(ms), 앞에서 지울 개수(-1이면 리스트 전체 재작성), 헤더, 추가 메시지...]
+     * - 반환: 저장 후 리스트 길이 (세션 메시지 수와 다르면 호출 측에서 전체 재작성)
+     */
+    static final RedisScript<Long> SAVE_SCRIPT = RedisScript.of("""
+            redis.call('SET', KEYS[1], ARGV[3], 'PX', ARGV[1])
+            local trim = tonumber(ARGV[2])
+            if trim < 0 then
+              redis.call('DEL', KEYS[2])
+            elseif trim > 0 then
+              redis.call('LTRIM', KEYS[2], trim, -1)
+            end
+            if #ARGV > 3 then
+              redis.call('RPUSH', KEYS[2], unpack(ARGV, 4))
+            end
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return redis.call('LLEN', KEYS[2])
+            """, Long.class);
+
+    private RedisSessionLayout() {
+    }
+
+    static String headerKey(String conversationId) {
+        return SESSION_PREFIX + "{" + conversationId + "}";
+    }
+
+    static String messagesKey(String conversationId) {
+        return headerKey(conversationId) + ":messages";
+    }
+
+    static List<String> keys(String conversationId) {
+        return List.of(headerKey(conversationId), messagesKey(conversationId));
+    }
+
+    /**
+     * SAVE_SCRIPT 인자
+     *
+     * @param rewrite true면 리스트를 지우고 메시지 전체를 다시 저장
+     */
+    static List<byte[]> saveArgs(SessionCodec codec, ConversationSession session, boolean rewrite) {
+        List<ChatMessage> messages = rewrite ? session.getMessages() : session.unsavedMessages();
+        String trim = rewrite ? REWRITE : String.valueOf(session.pendingTrim());
+
+        List<byte[]> args = new ArrayList<>(messages.size() + 3);
+        args.add(ascii(String.valueOf(SESSION_TTL.toMillis())));
+        args.add(ascii(trim));
+        args.add(codec.encodeHeader(session));
+        for (ChatMessage message : messages) {
+            args.add(codec.encodeMessage(message));
+        }
+        return args;
+    }
+
+    static String generateConversationId() {
+        return "conv-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -1,29 +1,41 @@
 package com.personalaccount.infrastructure.session;
 
 import com.personalaccount.application.ai.session.ConversationSession;
+import com.personalaccount.common.metrics.Monitored;
 import com.personalaccount.domain.ai.repository.SessionRepository;
+import com.personalaccount.infrastructure.session.codec.SessionCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.SerializationException;
 import org.springframework.stereotype.Repository;
 
-import java.time.Duration;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.List;
 
+import static com.personalaccount.infrastructure.session.RedisSessionLayout.SAVE_SCRIPT;
+import static com.personalaccount.infrastructure.session.RedisSessionLayout.SESSION_TTL;
+
+/**
+ * 대화 세션 저장소 (헤더 + 메시지 리스트, 형식은 {@link RedisSessionLayout})
+ * - 저장 시 마지막 저장 이후 추가된 메시지만 RPUSH
+ * - 조회 시 헤더 GETEX(TTL 갱신) + 메시지 LRANGE + 리스트 TTL 갱신을 파이프라인 1회로 전송
+ */
 @Slf4j
 @Repository
+@Monitored("ai.session")
 @RequiredArgsConstructor
 public class RedisSessionRepository implements SessionRepository {
 
-    private static final String SESSION_PREFIX = "ai:conversation:";
-    private static final Duration SESSION_TTL = Duration.ofMinutes(30);
-
-    private final RedisTemplate<String, ConversationSession> redisTemplate;
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final SessionCodec sessionCodec;
 
     @Override
     public ConversationSession createSession(Long userId, Long bookId) {
-        String conversationId = generateConversationId();
+        String conversationId = RedisSessionLayout.generateConversationId();
 
         ConversationSession session = ConversationSession.builder()
                 .conversationId(conversationId)
@@ -41,32 +53,53 @@ public class RedisSessionRepository implements SessionRepository {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public ConversationSession getSession(String conversationId) {
-        String key = SESSION_PREFIX + conversationId;
-        ConversationSession session = redisTemplate.opsForValue().get(key);
-
-        if (session != null) {
-            // TTL 갱신
-            redisTemplate.expire(key, SESSION_TTL);
+        byte[] headerKey = RedisSessionLayout.headerKey(conversationId).getBytes(StandardCharsets.UTF_8);
+        byte[] messagesKey = RedisSessionLayout.messagesKey(conversationId).getBytes(StandardCharsets.UTF_8);
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().getEx(headerKey, Expiration.from(SESSION_TTL));
+            connection.listCommands().lRange(messagesKey, 0, -1);
+            connection.keyCommands().pExpire(messagesKey, SESSION_TTL.toMillis());
+            return null;
+        });
+
+        byte[] header = (byte[]) results.get(0);
+        if (header == null) {
+            return null;
         }
 
-        return session;
+        try {
+            ConversationSession session = sessionCodec.decode(header, (List<byte[]>) results.get(1));
+            session.markStored();
+            return session;
+        } catch (SerializationException e) {
+            log.warn("세션 디코딩 실패 (만료로 처리) - conversationId: {}, {}", conversationId, e.getMessage());
+            return null;
+        }
     }
 
     @Override
     public void saveSession(ConversationSession session) {
-        String key = SESSION_PREFIX + session.getConversationId();
-        redisTemplate.opsForValue().set(key, session, SESSION_TTL);
+        List<String> keys = RedisSessionLayout.keys(session.getConversationId());
+
+        Long length = redisTemplate.execute(SAVE_SCRIPT, keys,
+                RedisSessionLayout.saveArgs(sessionCodec, session, false).toArray());
+
+        if (length == null || length != session.getMessages().size()) {
+            log.warn("세션 메시지 리스트 불일치, 전체 재작성 - conversationId: {}, 저장소: {}건, 세션: {}건",
+                    session.getConversationId(), length, session.getMessages().size());
+            redisTemplate.execute(SAVE_SCRIPT, keys,
+                    RedisSessionLayout.saveArgs(sessionCodec, session, true).toArray());
+        }
+
+        session.markStored();
     }
 
     @Override
     public void deleteSession(String conversationId) {
-        String key = SESSION_PREFIX + conversationId;
-        redisTemplate.delete(key);
+        redisTemplate.delete(RedisSessionLayout.keys(conversationId));
         log.debug("세션 삭제: conversationId={}", conversationId);
     }
-
-    private String generateConversationId() {
-        return "conv-" + UUID.randomUUID().toString().substring(0, 8);
-    }
-}
\ No newline at end of file
+}
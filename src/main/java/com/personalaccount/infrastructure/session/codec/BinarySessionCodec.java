@@ -0,0 +1,356 @@
+package com.personalaccount.infrastructure.session.codec;
+
+import com.personalaccount.application.ai.session.ConversationSession;
+import com.personalaccount.application.ai.session.ConversationSession.ChatMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 대화 세션 바이너리 코덱 (기본값)
+ *
+ * 값 형식: [버전 1바이트][플래그 1바이트][본문]
+ * - 플래그 bit0: 본문 압축 (Deflate, 원본 길이 varint 선행) - 본문이 compress-threshold 이상이고 줄어들 때만
+ * - 정수는 zigzag varint, 문자열은 (UTF-8 길이 + 1) varint + 바이트 (0 = null)
+ * - 헤더 본문 v1: [null 여부 비트][conversationId][userId][bookId][summary][createdAt][lastAccessedAt]
+ * - 메시지 본문 v1: [역할 코드][content] (역할 코드 0 = user, 1 = assistant, 그 외 문자열 직접 기록)
+ *
+ * 스키마 변경
+ * - 필드 추가: 본문 끝에 붙이고 버전 유지 (이전 버전 노드는 남은 바이트를 무시, 새 노드는 남은 바이트가 없으면 기본값)
+ * - 기존 필드 형식 변경/삭제: 버전을 올리고 read 분기 추가 (세션 TTL 30분이 지나면 이전 버전 분기 삭제 가능)
+ */
+@Component
+@ConditionalOnProperty(name = "ai.session.codec", havingValue = "binary", matchIfMissing = true)
+public class BinarySessionCodec implements SessionCodec {
+
+    static final byte VERSION = 1;
+
+    private static final int FLAG_DEFLATED = 1;
+    private static final int MAX_INFLATED_BYTES = 1 << 20;
+
+    private static final int HAS_USER_ID = 1;
+    private static final int HAS_BOOK_ID = 1 << 1;
+    private static final int HAS_CREATED_AT = 1 << 2;
+    private static final int HAS_LAST_ACCESSED_AT = 1 << 3;
+
+    private static final List<String> ROLES = List.of("user", "assistant");
+    private static final int CUSTOM_ROLE = 0xFF;
+
+    private final int compressThreshold;
+
+    /**
+     * @param compressThreshold 압축 시작 본문 크기 (바이트, 0 이하면 압축 안 함)
+     */
+    public BinarySessionCodec(@Value("${ai.session.compress-threshold:512}") int compressThreshold) {
+        this.compressThreshold = compressThreshold;
+    }
+
+    @Override
+    public byte[] encodeHeader(ConversationSession session) {
+        Writer out = new Writer();
+
+        int presence = (session.getUserId() != null ? HAS_USER_ID : 0)
+                | (session.getBookId() != null ? HAS_BOOK_ID : 0)
+                | (session.getCreatedAt() != null ? HAS_CREATED_AT : 0)
+                | (session.getLastAccessedAt() != null ? HAS_LAST_ACCESSED_AT : 0);
+        out.writeByte(presence);
+        out.writeString(session.getConversationId());
+        if (session.getUserId() != null) {
+            out.writeLong(session.getUserId());
+        }
+        if (session.getBookId() != null) {
+            out.writeLong(session.getBookId());
+        }
+        out.writeString(session.getSummary());
+        if (session.getCreatedAt() != null) {
+            out.writeDateTime(session.getCreatedAt());
+        }
+        if (session.getLastAccessedAt() != null) {
+            out.writeDateTime(session.getLastAccessedAt());
+        }
+
+        return frame(out.toByteArray());
+    }
+
+    @Override
+    public byte[] encodeMessage(ChatMessage message) {
+        Writer out = new Writer();
+
+        int role = ROLES.indexOf(message.getRole());
+        if (role >= 0) {
+            out.writeByte(role);
+        } else {
+            out.writeByte(CUSTOM_ROLE);
+            out.writeString(message.getRole());
+        }
+        out.writeString(message.getContent());
+
+        return frame(out.toByteArray());
+    }
+
+    @Override
+    public ConversationSession decode(byte[] header, List<byte[]> messages) {
+        try {
+            Reader in = unframe(header);
+
+            int presence = in.readByte();
+            String conversationId = in.readString();
+            Long userId = (presence & HAS_USER_ID) != 0 ? in.readLong() : null;
+            Long bookId = (presence & HAS_BOOK_ID) != 0 ? in.readLong() : null;
+            String summary = in.readString();
+            LocalDateTime createdAt = (presence & HAS_CREATED_AT) != 0 ? in.readDateTime() : null;
+            LocalDateTime lastAccessedAt = (presence & HAS_LAST_ACCESSED_AT) != 0 ? in.readDateTime() : null;
+
+            List<ChatMessage> chatMessages = new ArrayList<>(messages.size());
+            for (byte[] message : messages) {
+                chatMessages.add(decodeMessage(message));
+            }
+
+            return ConversationSession.builder()
+                    .conversationId(conversationId)
+                    .userId(userId)
+                    .bookId(bookId)
+                    .messages(chatMessages)
+                    .summary(summary)
+                    .createdAt(createdAt)
+                    .lastAccessedAt(lastAccessedAt)
+                    .build();
+        } catch (BufferUnderflowException | IllegalArgumentException | DateTimeException e) {
+            throw new SerializationException("세션 디코딩 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private ChatMessage decodeMessage(byte[] message) {
+        Reader in = unframe(message);
+
+        int code = in.readByte();
+        String role = code == CUSTOM_ROLE ? in.readString() : roleOf(code);
+        String content = in.readString();
+
+        return new ChatMessage(role, content);
+    }
+
+    private static String roleOf(int code) {
+        if (code >= ROLES.size()) {
+            throw new IllegalArgumentException("알 수 없는 역할 코드: " + code);
+        }
+        return ROLES.get(code);
+    }
+
+    // === 버전 + 압축 ===
+
+    private byte[] frame(byte[] body) {
+        byte[] deflated = compressThreshold > 0 && body.length >= compressThreshold ? deflate(body) : null;
+
+        Writer out = new Writer();
+        out.writeByte(VERSION);
+        if (deflated != null) {
+            out.writeByte(FLAG_DEFLATED);
+            out.writeVarInt(body.length);
+            out.writeBytes(deflated);
+        } else {
+            out.writeByte(0);
+            out.writeBytes(body);
+        }
+        return out.toByteArray();
+    }
+
+    private static Reader unframe(byte[] value) {
+        if (value == null || value.length < 2) {
+            throw new SerializationException("세션 값이 비어 있습니다");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(value);
+        int version = buffer.get();
+        if (version != VERSION) {
+            throw new SerializationException("지원하지 않는 세션 형식 버전: " + version);
+        }
+
+        int flags = buffer.get();
+        if ((flags & FLAG_DEFLATED) == 0) {
+            return new Reader(buffer);
+        }
+
+        Reader compressed = new Reader(buffer);
+        int length = compressed.readVarInt();
+        return new Reader(ByteBuffer.wrap(inflate(buffer, length)));
+    }
+
+    /**
+     * 압축 결과가 원본보다 작을 때만 반환 (아니면 null)
+     */
+    private static byte[] deflate(byte[] body) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+
+            byte[] buffer = new byte[body.length];
+            int length = 0;
+            while (!deflater.finished() && length < buffer.length) {
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            if (!deflater.finished()) {
+                return null;
+            }
+
+            byte[] result = new byte[length];
+            System.arraycopy(buffer, 0, result, 0, length);
+            return result;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(ByteBuffer compressed, int length) {
+        if (length < 0 || length > MAX_INFLATED_BYTES) {
+            throw new SerializationException("세션 압축 해제 길이 오류: " + length);
+        }
+
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed);
+
+            byte[] body = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int n = inflater.inflate(body, read, length - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != length) {
+                throw new SerializationException("세션 압축 해제 실패: 길이 불일치");
+            }
+            return body;
+        } catch (DataFormatException e) {
+            throw new SerializationException("세션 압축 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // === varint 입출력 ===
+
+    private static final class Writer {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+
+        void writeByte(int value) {
+            out.write(value);
+        }
+
+        void writeBytes(byte[] bytes) {
+            out.writeBytes(bytes);
+        }
+
+        void writeVarInt(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        void writeVarLong(long value) {
+            long v = value;
+            while ((v & ~0x7FL) != 0) {
+                out.write((int) ((v & 0x7F) | 0x80));
+                v >>>= 7;
+            }
+            out.write((int) v);
+        }
+
+        void writeLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            out.writeBytes(bytes);
+        }
+
+        void writeDateTime(LocalDateTime value) {
+            writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            writeVarInt(value.getNano());
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+
+    private static final class Reader {
+
+        private final ByteBuffer buffer;
+
+        Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        int readByte() {
+            return buffer.get() & 0xFF;
+        }
+
+        int readVarInt() {
+            long value = readVarLong();
+            if (value > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("varint 범위 초과");
+            }
+            return (int) value;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("varint 형식 오류");
+        }
+
+        long readLong() {
+            long raw = readVarLong();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        String readString() {
+            int length = readVarInt() - 1;
+            if (length < 0) {
+                return null;
+            }
+            if (length > buffer.remaining()) {
+                throw new IllegalArgumentException("문자열 길이 오류: " + length);
+            }
+            String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+
+        LocalDateTime readDateTime() {
+            long seconds = readLong();
+            int nanos = readVarInt();
+            return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.personalaccount.infrastructure.session.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.personalaccount.application.ai.session.ConversationSession;
+import com.personalaccount.application.ai.session.ConversationSession.ChatMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대화 세션 JSON 코덱 (redis-cli로 값을 직접 확인할 때)
+ *
+ * - 필드 이름 기반이라 필드 추가/삭제에 별도 버전 관리 불필요 (모르는 필드 무시)
+ * - 바이너리 코덱보다 크고 느림 (SessionCodecBenchmark 참고)
+ */
+@Component
+@ConditionalOnProperty(name = "ai.session.codec", havingValue = "json")
+public class JsonSessionCodec implements SessionCodec {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Override
+    public byte[] encodeHeader(ConversationSession session) {
+        return write(new Header(
+                session.getConversationId(),
+                session.getUserId(),
+                session.getBookId(),
+                session.getSummary(),
+                session.getCreatedAt(),
+                session.getLastAccessedAt()
+        ));
+    }
+
+    @Override
+    public byte[] encodeMessage(ChatMessage message) {
+        return write(message);
+    }
+
+    @Override
+    public ConversationSession decode(byte[] header, List<byte[]> messages) {
+        try {
+            Header decoded = objectMapper.readValue(header, Header.class);
+
+            List<ChatMessage> chatMessages = new ArrayList<>(messages.size());
+            for (byte[] message : messages) {
+                chatMessages.add(objectMapper.readValue(message, ChatMessage.class));
+            }
+
+            return ConversationSession.builder()
+                    .conversationId(decoded.conversationId())
+                    .userId(decoded.userId())
+                    .bookId(decoded.bookId())
+                    .messages(chatMessages)
+                    .summary(decoded.summary())
+                    .createdAt(decoded.createdAt())
+                    .lastAccessedAt(decoded.lastAccessedAt())
+                    .build();
+        } catch (IOException e) {
+            throw new SerializationException("세션 디코딩 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private byte[] write(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("세션 인코딩 실패", e);
+        }
+    }
+
+    private record Header(
+            String conversationId,
+            Long userId,
+            Long bookId,
+            String summary,
+            LocalDateTime createdAt,
+            LocalDateTime lastAccessedAt
+    ) {
+    }
+}
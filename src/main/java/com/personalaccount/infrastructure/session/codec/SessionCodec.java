@@ -0,0 +1,34 @@
+package com.personalaccount.infrastructure.session.codec;
+
+import com.personalaccount.application.ai.session.ConversationSession;
+import com.personalaccount.application.ai.session.ConversationSession.ChatMessage;
+
+import java.util.List;
+
+/**
+ * 대화 세션 Redis 값 변환
+ *
+ * - 세션은 헤더(메시지 제외 필드) 1개 + 메시지 리스트(메시지당 1개 요소)로 저장
+ * - 바이너리: 버전 태그 + 가변 길이 정수, 큰 값은 압축 ({@link BinarySessionCodec}, 기본값)
+ * - JSON: redis-cli로 값 확인이 필요할 때 ({@link JsonSessionCodec})
+ * - ai.session.codec 설정으로 선택
+ */
+public interface SessionCodec {
+
+    /**
+     * 헤더 인코딩 (messages 제외)
+     */
+    byte[] encodeHeader(ConversationSession session);
+
+    /**
+     * 메시지 1건 인코딩
+     */
+    byte[] encodeMessage(ChatMessage message);
+
+    /**
+     * 헤더 + 메시지 리스트 디코딩
+     *
+     * @throws org.springframework.data.redis.serializer.SerializationException 해석할 수 없는 값
+     */
+    ConversationSession decode(byte[] header, List<byte[]> messages);
+}
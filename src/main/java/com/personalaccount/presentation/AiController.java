@@ -5,6 +5,8 @@ import com.personalaccount.application.ai.dto.response.AiChatResponse;
 import com.personalaccount.application.ai.chat.service.AiChatService;
 import com.personalaccount.common.dto.CommonResponse;
 import com.personalaccount.common.dto.ResponseFactory;
+import com.personalaccount.common.ratelimit.RateLimitService.KeyType;
+import com.personalaccount.common.ratelimit.RateLimited;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,10 +18,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-import reactor.core.publisher.Mono;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @RestController
@@ -51,8 +55,9 @@ public class AiController {
                     
                     정보가 부족하면 AI가 추가 질문을 합니다.
                     
-                    **논블로킹 처리:**
-                    AI API 호출은 논블로킹으로 처리되어 서버 처리량이 향상됩니다.
+                    **블로킹 처리:**
+                    요청 스레드(가상 스레드)에서 AI 응답까지 대기한 뒤 한 번에 응답합니다.
+                    응답을 조각 단위로 받으려면 /chat/stream 을 사용하세요.
                     """
     )
     @ApiResponses({
@@ -69,19 +74,64 @@ public class AiController {
                     responseCode = "403",
                     description = "해당 장부에 접근 권한이 없습니다"
             ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "요청 횟수 초과 (Retry-After 헤더 참고)"
+            ),
             @ApiResponse(
                     responseCode = "503",
                     description = "AI 서비스 일시적 오류"
             )
     })
+    @RateLimited(KeyType.AI_CHAT)
     @PostMapping("/chat")
-    public Mono<ResponseEntity<CommonResponse<AiChatResponse>>> chat(
+    public ResponseEntity<CommonResponse<AiChatResponse>> chat(
             @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
             @Valid @RequestBody AiChatRequest request
     ) {
         log.info("POST /api/v1/ai/chat - userId={}", userId);
         
-        return aiChatService.chat(userId, request)
-                .map(response -> ResponseEntity.ok(ResponseFactory.success(response)));
+        AiChatResponse response = aiChatService.chat(userId, request);
+        return ResponseEntity.ok(ResponseFactory.success(response));
+    }
+
+    @Operation(
+            summary = "AI와 대화하여 거래 생성 (스트리밍)",
+            description = """
+                    /chat 과 같은 대화를 Server-Sent Events로 응답합니다.
+                    AI 응답이 생성되는 대로 전달되어 첫 글자를 바로 볼 수 있습니다.
+                    
+                    **이벤트:**
+                    - delta: 응답 텍스트 조각 ({"text": "..."}), 순서대로 이어 붙이면 전체 메시지
+                    - done: 최종 결과 (AiChatResponse, 거래 생성 시 transaction 포함)
+                    - error: 실패 (ErrorResponse, 권한/세션 오류 포함 - errorCode로 구분)
+                    
+                    거래 생성 응답(COMPLETE)은 delta로 전달하지 않고 done 이벤트로만 전달합니다.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "스트림 시작 (delta → done 또는 error)",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 요청 (입력값 검증 실패)"
+            ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "요청 횟수 초과 (Retry-After 헤더 참고)"
+            )
+    })
+    @RateLimited(KeyType.AI_CHAT)
+    @PostMapping(value = "/chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> chatStream(
+            @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
+            @Valid @RequestBody AiChatRequest request
+    ) {
+        log.info("POST /api/v1/ai/chat/stream - userId={}", userId);
+
+        return aiChatService.chatStream(userId, request);
     }
 }
@@ -2,6 +2,8 @@ package com.personalaccount.presentation;
 
 import com.personalaccount.application.report.service.ReportService;
 import com.personalaccount.common.dto.CommonResponse;
+import com.personalaccount.common.ratelimit.RateLimitService.KeyType;
+import com.personalaccount.common.ratelimit.RateLimited;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -21,6 +23,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 @Tag(name = "Analysis", description = "AI 경영 분석 API")
 @SecurityRequirement(name = "bearerAuth")
+@RateLimited(KeyType.ANALYSIS)
 public class AnalysisController {
 
     private final ReportService reportService;
@@ -48,6 +51,10 @@ public class AnalysisController {
             @ApiResponse(
                     responseCode = "403",
                     description = "해당 장부에 접근 권한이 없습니다"
+            ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "요청 횟수 초과 (Retry-After 헤더 참고)"
             )
     })
     @GetMapping("/{bookId}")
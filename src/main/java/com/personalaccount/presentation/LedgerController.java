@@ -1,8 +1,12 @@
 package com.personalaccount.presentation;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.personalaccount.application.report.dto.response.AccountLedgerHeader;
 import com.personalaccount.application.report.dto.response.FinancialStatement;
+import com.personalaccount.application.report.dto.response.LedgerStreamLine;
 import com.personalaccount.application.report.service.ReportService;
 import com.personalaccount.common.dto.CommonResponse;
+import com.personalaccount.common.exception.custom.InvalidReportPeriodException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,10 +17,24 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @RestController
@@ -27,6 +45,7 @@ import java.util.Map;
 public class LedgerController {
 
     private final ReportService reportService;
+    private final ObjectMapper objectMapper;
 
     @Operation(
             summary = "재무제표 조회",
@@ -107,4 +126,95 @@ public class LedgerController {
         Map<String, Object> result = reportService.getAccountLedger(userId, bookId, accountId, yearMonth);
         return CommonResponse.success(result);
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "계정별 원장 스트리밍 조회",
+            description = """
+                    특정 계정의 기간별 거래 내역을 NDJSON(application/x-ndjson)으로 스트리밍합니다.
+                    서버 측 커서로 한 건씩 읽어 기간이 길어도(예: 1년) 메모리 사용량이 일정합니다.
+                    
+                    **응답 라인 (한 줄에 JSON 1개):**
+                    - header: 계정명, 조회 기간, 기초 잔액
+                    - entry: 거래 내역 (날짜, 적요, 차변, 대변, 누적 잔액)
+                    - footer: 기말 잔액, 거래 건수
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(
+                            mediaType = "application/x-ndjson",
+                            schema = @Schema(implementation = LedgerStreamLine.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 조회 기간입니다"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "해당 장부에 접근 권한이 없습니다"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "계정과목을 찾을 수 없습니다"
+            )
+    })
+    @GetMapping(value = "/account/{bookId}/{accountId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAccountLedger(
+            @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
+            @PathVariable Long bookId,
+            @PathVariable Long accountId,
+            @Parameter(description = "시작 월 (YYYY-MM)", example = "2025-01")
+            @RequestParam String startMonth,
+            @Parameter(description = "종료 월 (YYYY-MM, 생략 시 시작 월)", example = "2025-12")
+            @RequestParam(required = false) String endMonth
+    ) {
+        log.info("GET /api/v1/ledger/account/{}/{}/stream - userId={}, startMonth={}, endMonth={}",
+                bookId, accountId, userId, startMonth, endMonth);
+
+        LocalDate startDate = parseMonth(startMonth).atDay(1);
+        LocalDate endDate = parseMonth(endMonth != null ? endMonth : startMonth).atEndOfMonth();
+
+        // 권한 검증은 응답 커밋 전에 수행 (실패 시 일반 에러 응답)
+        AccountLedgerHeader header = reportService.getAccountLedgerHeader(
+                userId, bookId, accountId, startDate, endDate);
+
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            AtomicLong entryCount = new AtomicLong();
+
+            writeLine(writer, LedgerStreamLine.header(header));
+            BigDecimal closingBalance = reportService.streamAccountLedgerEntries(
+                    bookId, accountId, startDate, endDate, header.getOpeningBalance(),
+                    entry -> {
+                        writeLine(writer, LedgerStreamLine.entry(entry));
+                        entryCount.incrementAndGet();
+                    });
+            writeLine(writer, LedgerStreamLine.footer(closingBalance, entryCount.get()));
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private YearMonth parseMonth(String month) {
+        try {
+            return YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            throw new InvalidReportPeriodException("조회 월 형식은 YYYY-MM 이어야 합니다: " + month);
+        }
+    }
+
+    private void writeLine(Writer writer, LedgerStreamLine line) {
+        try {
+            writer.write(objectMapper.writeValueAsString(line));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -33,7 +33,7 @@ public class StatisticsController {
     @Operation(
             summary = "월별 요약 통계 조회",
             description = """
-                    최근 6개월의 월별 수입/지출 요약을 조회합니다.
+                    최근 N개월(기본 6개월, 최대 36개월)의 월별 수입/지출 요약을 조회합니다.
                     
                     **응답 정보:**
                     - yearMonth: 연월 (YYYY-MM)
@@ -48,6 +48,10 @@ public class StatisticsController {
                     description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = MonthlySummary.class))
             ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 조회 기간입니다"
+            ),
             @ApiResponse(
                     responseCode = "403",
                     description = "해당 장부에 접근 권한이 없습니다"
@@ -56,10 +60,12 @@ public class StatisticsController {
     @GetMapping("/monthly/{bookId}")
     public CommonResponse<List<MonthlySummary>> getMonthlySummary(
             @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
-            @PathVariable Long bookId
+            @PathVariable Long bookId,
+            @Parameter(description = "조회 개월 수 (1~36)", example = "12")
+            @RequestParam(defaultValue = "6") int months
     ) {
-        log.info("GET /api/v1/statistics/monthly/{} - userId={}", bookId, userId);
-        List<MonthlySummary> result = reportService.getMonthlySummary(userId, bookId);
+        log.info("GET /api/v1/statistics/monthly/{} - userId={}, months={}", bookId, userId, months);
+        List<MonthlySummary> result = reportService.getMonthlySummary(userId, bookId, months);
         return CommonResponse.success(result);
     }
 
@@ -3,8 +3,12 @@ package com.personalaccount.presentation;
 import com.personalaccount.common.dto.CommonResponse;
 import com.personalaccount.common.dto.ResponseFactory;
 import com.personalaccount.domain.transaction.dto.request.TransactionCreateRequest;
+import com.personalaccount.domain.transaction.dto.request.TransactionImportRequest;
+import com.personalaccount.domain.transaction.dto.request.TransactionSearchCondition;
 import com.personalaccount.domain.transaction.dto.request.TransactionUpdateRequest;
 import com.personalaccount.domain.transaction.dto.response.TransactionDetailResponse;
+import com.personalaccount.domain.transaction.dto.response.TransactionImportResponse;
+import com.personalaccount.domain.transaction.dto.response.TransactionPageResponse;
 import com.personalaccount.domain.transaction.dto.response.TransactionResponse;
 import com.personalaccount.domain.transaction.entity.TransactionType;
 import com.personalaccount.domain.transaction.service.TransactionService;
@@ -80,6 +84,47 @@ public class TransactionController {
                 .body(ResponseFactory.success(response, "거래 생성 완료"));
     }
 
+    @Operation(
+            summary = "거래 일괄 등록",
+            description = """
+                    과거 내역 이관용으로 여러 거래를 한 번에 등록합니다 (최대 5000건).
+                    
+                    모든 거래를 먼저 검증한 뒤 JDBC 배치로 저장하며, 하나라도 실패하면 전체가 롤백됩니다.
+                    등록 후 계정별 일별 잔액을 재계산합니다.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "일괄 등록 성공",
+                    content = @Content(schema = @Schema(implementation = TransactionImportResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 거래 포함 (계정과목 타입 불일치, 건수 초과 등)"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "해당 장부에 접근 권한이 없습니다"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "장부 또는 계정과목을 찾을 수 없습니다"
+            )
+    })
+    @PostMapping("/import")
+    public ResponseEntity<CommonResponse<TransactionImportResponse>> importTransactions(
+            @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
+            @Valid @RequestBody TransactionImportRequest request) {
+
+        log.info("POST /api/v1/transactions/import - userId={}, count={}",
+                userId, request.getTransactions().size());
+        TransactionImportResponse response = transactionService.importTransactions(userId, request.getTransactions());
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ResponseFactory.success(response, "거래 일괄 등록 완료"));
+    }
+
     @Operation(
             summary = "거래 목록 조회",
             description = "조건에 따라 거래 목록을 조회합니다. 모든 파라미터는 선택적입니다."
@@ -110,6 +155,61 @@ public class TransactionController {
         return ResponseEntity.ok(ResponseFactory.success(response));
     }
 
+    @Operation(
+            summary = "거래 목록 페이지 조회",
+            description = """
+                    거래 목록을 최신순(날짜 DESC, ID DESC)으로 페이지 단위 조회합니다.
+                    
+                    응답의 nextCursor 를 다음 요청의 cursor 로 전달하면 이어서 조회합니다.
+                    withTotal=true 이면 첫 페이지에서 전체 건수를 함께 반환합니다.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = TransactionPageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "유효하지 않은 페이지 커서"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "해당 장부에 접근 권한이 없습니다"
+            )
+    })
+    @GetMapping("/page")
+    public ResponseEntity<CommonResponse<TransactionPageResponse>> getTransactionPage(
+            @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
+            @RequestParam Long bookId,
+            @RequestParam(required = false) TransactionType type,
+            @Parameter(description = "시작일 (선택적)", example = "2025-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "종료일 (선택적)", example = "2025-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "메모 검색어 (선택적)", example = "점심")
+            @RequestParam(required = false) String keyword,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 200)", example = "50")
+            @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "첫 페이지에서 전체 건수 포함 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+
+        log.info("GET /api/v1/transactions/page - userId={}, bookId={}", userId, bookId);
+        TransactionSearchCondition condition = TransactionSearchCondition.builder()
+                .bookId(bookId)
+                .type(type)
+                .startDate(startDate)
+                .endDate(endDate)
+                .keyword(keyword)
+                .build();
+        TransactionPageResponse response = transactionService.getTransactionPage(
+                userId, condition, cursor, size, withTotal);
+        return ResponseEntity.ok(ResponseFactory.success(response));
+    }
+
     @Operation(
             summary = "거래 상세 조회",
             description = "거래 ID로 기본 정보를 조회합니다. 복식부기 상세는 포함되지 않습니다."
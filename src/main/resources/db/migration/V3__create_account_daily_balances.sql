@@ -0,0 +1,39 @@
+-- Account Daily Balances 테이블 (계정별 일별 누적 잔액)
+CREATE TABLE account_daily_balances (
+    id BIGSERIAL PRIMARY KEY,
+    book_id BIGINT NOT NULL,
+    account_id BIGINT NOT NULL,
+    date DATE NOT NULL,
+    debit_sum DECIMAL(19, 2) NOT NULL,
+    credit_sum DECIMAL(19, 2) NOT NULL,
+    balance DECIMAL(19, 2) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_daily_balance_book FOREIGN KEY (book_id) REFERENCES books(id),
+    CONSTRAINT fk_daily_balance_account FOREIGN KEY (account_id) REFERENCES accounts(id),
+    CONSTRAINT uk_account_daily_balance UNIQUE (book_id, account_id, date)
+);
+
+-- 기존 거래 백필 (활성 거래만, 누적 잔액은 윈도우 함수로 계산)
+INSERT INTO account_daily_balances (book_id, account_id, date, debit_sum, credit_sum, balance, created_at, updated_at)
+SELECT daily.book_id,
+       daily.account_id,
+       daily.date,
+       daily.debit_sum,
+       daily.credit_sum,
+       SUM(daily.debit_sum - daily.credit_sum)
+           OVER (PARTITION BY daily.book_id, daily.account_id ORDER BY daily.date),
+       NOW(),
+       NOW()
+FROM (
+    SELECT t.book_id,
+           td.account_id,
+           t.date,
+           SUM(td.debit_amount) AS debit_sum,
+           SUM(td.credit_amount) AS credit_sum
+    FROM transactions t
+    JOIN journal_entries je ON je.transaction_id = t.id
+    JOIN transaction_details td ON td.journal_entry_id = je.id
+    WHERE t.is_active = TRUE
+    GROUP BY t.book_id, td.account_id, t.date
+) daily;
@@ -0,0 +1,25 @@
+-- 원장 테이블 ID를 IDENTITY(BIGSERIAL) 대신 블록 단위 시퀀스로 전환
+-- - INCREMENT BY 50 = 엔티티 @SequenceGenerator allocationSize
+-- - pooled-lo: nextval 값이 블록 시작값, [v, v + 49] 구간을 호출 측이 사용
+-- - 컬럼 기본값도 같은 시퀀스를 사용하므로 직접 INSERT와 충돌하지 않음
+
+-- Transactions
+CREATE SEQUENCE transactions_seq INCREMENT BY 50;
+SELECT setval('transactions_seq', COALESCE((SELECT MAX(id) FROM transactions), 0) + 1, false);
+ALTER TABLE transactions ALTER COLUMN id SET DEFAULT nextval('transactions_seq');
+ALTER SEQUENCE transactions_seq OWNED BY transactions.id;
+DROP SEQUENCE transactions_id_seq;
+
+-- Journal Entries
+CREATE SEQUENCE journal_entries_seq INCREMENT BY 50;
+SELECT setval('journal_entries_seq', COALESCE((SELECT MAX(id) FROM journal_entries), 0) + 1, false);
+ALTER TABLE journal_entries ALTER COLUMN id SET DEFAULT nextval('journal_entries_seq');
+ALTER SEQUENCE journal_entries_seq OWNED BY journal_entries.id;
+DROP SEQUENCE journal_entries_id_seq;
+
+-- Transaction Details
+CREATE SEQUENCE transaction_details_seq INCREMENT BY 50;
+SELECT setval('transaction_details_seq', COALESCE((SELECT MAX(id) FROM transaction_details), 0) + 1, false);
+ALTER TABLE transaction_details ALTER COLUMN id SET DEFAULT nextval('transaction_details_seq');
+ALTER SEQUENCE transaction_details_seq OWNED BY transaction_details.id;
+DROP SEQUENCE transaction_details_id_seq;
@@ -0,0 +1,3 @@
+-- 거래 목록 키셋 페이지네이션용 인덱스
+-- - WHERE book_id = ? AND is_active = TRUE ORDER BY date DESC, id DESC 를 정렬 없이 범위 스캔
+CREATE INDEX idx_transaction_book_keyset ON transactions (book_id, is_active, date DESC, id DESC);
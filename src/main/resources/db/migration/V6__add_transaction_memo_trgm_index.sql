@@ -0,0 +1,6 @@
+-- 거래 메모 키워드 검색용 트라이그램 인덱스
+-- - memoContains 는 lower(memo) LIKE '%kw%' 로 컴파일되어 B-tree 로는 처리 불가 (순차 스캔)
+-- - 같은 식 lower(memo) 에 GIN(gin_trgm_ops) 인덱스를 두어 LIKE 를 인덱스로 처리
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_transaction_memo_trgm ON transactions USING gin (lower(memo) gin_trgm_ops);
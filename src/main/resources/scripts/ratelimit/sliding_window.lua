@@ -0,0 +1,32 @@
+-- Sliding Window Log (원자적 검사 + 기록)
+-- KEYS[1]: 카운터 키 (ZSET, score = 요청 시각)
+-- ARGV[1]: 현재 시각(ms), ARGV[2]: 윈도우(ms), ARGV[3]: 허용 횟수
+-- ARGV[4]: 소비량 (1 = 기록, 0 = 조회만), ARGV[5]: 요청 식별 값 (같은 ms 요청 구분)
+-- 반환: {허용 여부(1/0), 남은 횟수, 재시도까지 남은 시간(ms), 한도가 모두 회복될 때까지 남은 시간(ms)}
+local key = KEYS[1]
+local now = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local limit = tonumber(ARGV[3])
+local cost = tonumber(ARGV[4])
+
+local function until_expired(index)
+    local entry = redis.call('ZRANGE', key, index, index, 'WITHSCORES')
+    if entry[2] then
+        return math.max(0, tonumber(entry[2]) + window - now)
+    end
+    return 0
+end
+
+redis.call('ZREMRANGEBYSCORE', key, 0, now - window)
+local count = redis.call('ZCARD', key)
+
+if count + cost > limit then
+    return {0, math.max(0, limit - count), math.max(1, until_expired(0)), until_expired(-1)}
+end
+
+if cost > 0 then
+    redis.call('ZADD', key, now, ARGV[5])
+    redis.call('PEXPIRE', key, window)
+end
+
+return {1, limit - count - cost, 0, until_expired(-1)}
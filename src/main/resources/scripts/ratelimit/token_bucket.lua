@@ -0,0 +1,34 @@
+-- Token Bucket (원자적 충전 + 소비)
+-- KEYS[1]: 버킷 키 (HASH: tokens, ts)
+-- ARGV[1]: 현재 시각(ms), ARGV[2]: 윈도우(ms), ARGV[3]: 버킷 용량 (기본 허용량 + 버스트)
+-- ARGV[4]: 소비량 (1 = 소비, 0 = 조회만), ARGV[5]: 윈도우당 충전량
+-- 반환: {허용 여부(1/0), 남은 토큰(내림), 재시도까지 남은 시간(ms), 가득 찰 때까지 남은 시간(ms)}
+local key = KEYS[1]
+local now = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local capacity = tonumber(ARGV[3])
+local cost = tonumber(ARGV[4])
+local rate = tonumber(ARGV[5]) / window
+
+local state = redis.call('HMGET', key, 'tokens', 'ts')
+local tokens = tonumber(state[1])
+local ts = tonumber(state[2])
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+
+if tokens < cost then
+    local full = math.ceil((capacity - tokens) / rate)
+    return {0, math.floor(tokens), math.max(1, math.ceil((cost - tokens) / rate)), full}
+end
+
+if cost > 0 then
+    tokens = tokens - cost
+    redis.call('HSET', key, 'tokens', tostring(tokens), 'ts', now)
+    redis.call('PEXPIRE', key, math.ceil(capacity / rate))
+end
+
+return {1, math.floor(tokens), 0, math.ceil((capacity - tokens) / rate)}
@@ -0,0 +1,97 @@
+package com.personalaccount.application.ai.chat.context;
+
+import com.personalaccount.application.ai.session.ConversationSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConversationWindow 테스트")
+class ConversationWindowTest {
+
+    private AiContextProperties properties;
+    private ConversationWindow conversationWindow;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AiContextProperties();
+        conversationWindow = new ConversationWindow(properties);
+    }
+
+    @Test
+    @DisplayName("예산이내_기존형식_그대로")
+    void buildConversationText_WithinBudget_KeepsAllMessages() {
+        ConversationSession session = session("오늘 점심 만원", "어떤 결제수단인가요?", "체크카드");
+
+        String text = conversationWindow.buildConversationText(session);
+
+        assertThat(text).isEqualTo("user: 오늘 점심 만원\nassistant: 어떤 결제수단인가요?\nuser: 체크카드\n");
+        assertThat(session.getSummary()).isNull();
+        assertThat(session.getMessages()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("메시지수_초과_오래된메시지_요약으로_이동")
+    void compact_TooManyMessages_RollsUpOldest() {
+        properties.setMaxWindowMessages(2);
+        ConversationSession session = session("오늘 점심 만원", "어떤 결제수단인가요?", "체크카드");
+
+        String text = conversationWindow.buildConversationText(session);
+
+        assertThat(session.getMessages()).hasSize(2);
+        assertThat(session.getSummary()).isEqualTo("user: 오늘 점심 만원");
+        assertThat(text).startsWith("[이전 대화 요약]\nuser: 오늘 점심 만원\n\n[최근 대화]\n")
+                .endsWith("assistant: 어떤 결제수단인가요?\nuser: 체크카드\n");
+    }
+
+    @Test
+    @DisplayName("토큰예산_초과_최신메시지는_항상_유지")
+    void compact_OverBudget_KeepsLatestMessage() {
+        properties.setMaxPromptTokens(50);
+        ConversationSession session = session("가".repeat(100), "나".repeat(100), "다".repeat(100));
+
+        conversationWindow.compact(session);
+
+        assertThat(session.getMessages()).hasSize(1);
+        assertThat(session.getMessages().getFirst().getContent()).isEqualTo("다".repeat(100));
+        assertThat(session.getSummary()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("요약_한줄_길이_및_전체_길이_제한")
+    void compact_LongHistory_SummaryBounded() {
+        properties.setMaxWindowMessages(1);
+        properties.setSummaryLineChars(10);
+        properties.setMaxSummaryChars(40);
+        ConversationSession session = ConversationSession.builder().conversationId("conv-test").build();
+
+        for (int i = 0; i < 50; i++) {
+            session.addMessage("user", i + "번째 메시지입니다 아주 길게 " + "가".repeat(50));
+            conversationWindow.compact(session);
+        }
+
+        assertThat(session.getMessages()).hasSize(1);
+        assertThat(session.getSummary().length()).isLessThanOrEqualTo(40);
+        assertThat(session.getSummary()).contains("48번째").doesNotContain("0번째 ");
+        assertThat(session.getSummary().lines())
+                .allSatisfy(line -> assertThat(line.length()).isLessThanOrEqualTo("user: ".length() + 10 + 1));
+    }
+
+    @Test
+    @DisplayName("토큰추정_ASCII_4자당1_한글_1자당1")
+    void estimateTokens_AsciiAndHangul() {
+        assertThat(ConversationWindow.estimateTokens(null)).isZero();
+        assertThat(ConversationWindow.estimateTokens("abcd")).isEqualTo(1);
+        assertThat(ConversationWindow.estimateTokens("abcde")).isEqualTo(2);
+        assertThat(ConversationWindow.estimateTokens("점심")).isEqualTo(2);
+    }
+
+    private ConversationSession session(String... contents) {
+        ConversationSession session = ConversationSession.builder().conversationId("conv-test").build();
+        for (int i = 0; i < contents.length; i++) {
+            session.addMessage(i % 2 == 0 ? "user" : "assistant", contents[i]);
+        }
+        return session;
+    }
+}
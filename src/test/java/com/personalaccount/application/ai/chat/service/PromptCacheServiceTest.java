@@ -0,0 +1,228 @@
+package com.personalaccount.application.ai.chat.service;
+
+import com.personalaccount.application.ai.util.PromptTemplate;
+import com.personalaccount.common.exception.custom.AiServiceException;
+import com.personalaccount.domain.account.cache.ChartOfAccounts;
+import com.personalaccount.domain.ai.client.AiClient;
+import com.personalaccount.domain.ai.dto.CacheCreateResponse;
+import com.personalaccount.domain.book.entity.BookType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PromptCacheService 테스트")
+class PromptCacheServiceTest {
+
+    private static final String CACHE_KEY = "gemini:cache:PERSONAL";
+    private static final Duration CACHE_TTL = Duration.ofHours(23);
+
+    @Mock
+    private AiClient aiClient;
+
+    @Mock
+    private ChartOfAccounts chartOfAccounts;
+
+    @Mock
+    private PromptTemplate promptTemplate;
+
+    @Mock
+    private ReactiveStringRedisTemplate redisTemplate;
+
+    @Mock
+    private ReactiveValueOperations<String, String> valueOperations;
+
+    private PromptCacheService promptCacheService;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        lenient().when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), anyList()))
+                .thenReturn(Flux.just(1L));
+        promptCacheService = new PromptCacheService(aiClient, chartOfAccounts, promptTemplate, redisTemplate);
+    }
+
+    @Test
+    @DisplayName("동시요청_캐시생성_1회만_실행")
+    void getOrCreateCache_ConcurrentMiss_CreatesOnce() throws Exception {
+        AtomicReference<String> stored = givenStoredValue();
+        lenient().when(redisTemplate.getExpire(CACHE_KEY)).thenReturn(Mono.just(CACHE_TTL));
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(Mono.just(true));
+        given(promptTemplate.loadTemplate(anyString(), anyMap())).willReturn("prompt");
+        given(aiClient.createCachedContent(any())).willReturn(Mono.delay(Duration.ofMillis(200))
+                .thenReturn(CacheCreateResponse.builder().cacheName("cachedContents/abc").build()));
+
+        List<String> names = callInParallel(16);
+
+        assertThat(names).hasSize(16).containsOnly("cachedContents/abc");
+        assertThat(stored.get()).isEqualTo("cachedContents/abc");
+        verify(aiClient, times(1)).createCachedContent(any());
+    }
+
+    @Test
+    @DisplayName("리액티브_동시요청_진행중결과_공유")
+    void findOrCreateCache_ConcurrentMiss_SharesInFlight() {
+        givenStoredValue();
+        lenient().when(redisTemplate.getExpire(CACHE_KEY)).thenReturn(Mono.just(CACHE_TTL));
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(Mono.just(true));
+        given(promptTemplate.loadTemplate(anyString(), anyMap())).willReturn("prompt");
+        given(aiClient.createCachedContent(any())).willReturn(Mono.delay(Duration.ofMillis(100))
+                .thenReturn(CacheCreateResponse.builder().cacheName("cachedContents/abc").build()));
+
+        List<String> names = Flux.range(0, 16)
+                .flatMap(i -> promptCacheService.findOrCreateCache(BookType.PERSONAL))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(names).hasSize(16).containsOnly("cachedContents/abc");
+        verify(aiClient, times(1)).createCachedContent(any());
+        verify(valueOperations, times(1)).setIfAbsent(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("로컬캐시_적중시_Redis_미조회")
+    void getOrCreateCache_LocalHit_SkipsRedis() {
+        given(valueOperations.get(CACHE_KEY)).willReturn(Mono.just("cachedContents/abc"));
+        given(redisTemplate.getExpire(CACHE_KEY)).willReturn(Mono.just(CACHE_TTL));
+
+        assertThat(promptCacheService.getOrCreateCache(BookType.PERSONAL)).isEqualTo("cachedContents/abc");
+        assertThat(promptCacheService.getOrCreateCache(BookType.PERSONAL)).isEqualTo("cachedContents/abc");
+
+        verify(valueOperations, times(1)).get(CACHE_KEY);
+        verify(aiClient, never()).createCachedContent(any());
+    }
+
+    @Test
+    @DisplayName("다른노드_임대보유_생성완료까지_대기")
+    void getOrCreateCache_LeaseHeldElsewhere_WaitsForSharedValue() {
+        given(valueOperations.get(CACHE_KEY))
+                .willReturn(Mono.empty(), Mono.empty(), Mono.just("cachedContents/other"));
+        given(redisTemplate.getExpire(CACHE_KEY)).willReturn(Mono.just(CACHE_TTL));
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(Mono.just(false));
+
+        assertThat(promptCacheService.getOrCreateCache(BookType.PERSONAL)).isEqualTo("cachedContents/other");
+
+        verify(aiClient, never()).createCachedContent(any());
+    }
+
+    @Test
+    @DisplayName("임대보유노드_실패로_임대해제시_대기노드가_임대잡고_생성")
+    void getOrCreateCache_LeaseReleasedWithoutValue_ReacquiresAndCreates() {
+        given(valueOperations.get(CACHE_KEY)).willReturn(Mono.empty());
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .willReturn(Mono.just(false), Mono.just(false), Mono.just(true));
+        given(valueOperations.set(eq(CACHE_KEY), anyString(), any(Duration.class))).willReturn(Mono.just(true));
+        given(promptTemplate.loadTemplate(anyString(), anyMap())).willReturn("prompt");
+        given(aiClient.createCachedContent(any()))
+                .willReturn(Mono.just(CacheCreateResponse.builder().cacheName("cachedContents/retry").build()));
+
+        assertThat(promptCacheService.getOrCreateCache(BookType.PERSONAL)).isEqualTo("cachedContents/retry");
+
+        verify(aiClient, times(1)).createCachedContent(any());
+        verify(valueOperations, times(3)).setIfAbsent(anyString(), anyString(), any(Duration.class));
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), anyList());
+    }
+
+    @Test
+    @DisplayName("캐시생성_실패시_임대해제_후_예외전파")
+    void getOrCreateCache_CreateFails_ReleasesLease() {
+        given(valueOperations.get(CACHE_KEY)).willReturn(Mono.empty());
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(Mono.just(true));
+        given(promptTemplate.loadTemplate(anyString(), anyMap())).willReturn("prompt");
+        given(aiClient.createCachedContent(any())).willReturn(Mono.error(new AiServiceException("캐시 생성 실패")));
+
+        assertThatThrownBy(() -> promptCacheService.getOrCreateCache(BookType.PERSONAL))
+                .isInstanceOf(AiServiceException.class);
+
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), anyList());
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("만료임박_기존캐시_반환하고_백그라운드_갱신")
+    void getOrCreateCache_NearExpiry_RefreshesInBackground() {
+        given(valueOperations.get(CACHE_KEY)).willReturn(Mono.just("cachedContents/old"));
+        given(redisTemplate.getExpire(CACHE_KEY)).willReturn(Mono.just(Duration.ofMinutes(30)));
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(Mono.just(true));
+        given(valueOperations.set(eq(CACHE_KEY), anyString(), any(Duration.class))).willReturn(Mono.just(true));
+        given(promptTemplate.loadTemplate(anyString(), anyMap())).willReturn("prompt");
+        given(aiClient.createCachedContent(any()))
+                .willReturn(Mono.just(CacheCreateResponse.builder().cacheName("cachedContents/new").build()));
+
+        assertThat(promptCacheService.getOrCreateCache(BookType.PERSONAL)).isEqualTo("cachedContents/old");
+        assertThat(promptCacheService.getOrCreateCache(BookType.PERSONAL)).isEqualTo("cachedContents/old");
+
+        verify(aiClient, timeout(2_000).times(1)).createCachedContent(any());
+        verify(valueOperations, timeout(2_000))
+                .set(eq(CACHE_KEY), eq("cachedContents/new"), eq(CACHE_TTL));
+    }
+
+    /**
+     * Redis 값 저장/조회를 메모리 참조로 흉내 (생성 후 조회 시 값 반환)
+     */
+    private AtomicReference<String> givenStoredValue() {
+        AtomicReference<String> stored = new AtomicReference<>();
+        given(valueOperations.get(CACHE_KEY)).willAnswer(invocation -> Mono.justOrEmpty(stored.get()));
+        given(valueOperations.set(eq(CACHE_KEY), anyString(), any(Duration.class))).willAnswer(invocation -> {
+            stored.set(invocation.getArgument(1));
+            return Mono.just(true);
+        });
+        return stored;
+    }
+
+    private List<String> callInParallel(int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return promptCacheService.getOrCreateCache(BookType.PERSONAL);
+                }));
+            }
+            start.countDown();
+
+            List<String> names = new ArrayList<>();
+            for (Future<String> result : results) {
+                names.add(result.get(10, TimeUnit.SECONDS));
+            }
+            return names;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.personalaccount.application.ai.chat.service.impl;
+
+import com.personalaccount.application.ai.chat.context.AiContextProperties;
+import com.personalaccount.application.ai.chat.context.ConversationWindow;
+import com.personalaccount.application.ai.chat.service.AiChatService;
+import com.personalaccount.application.ai.chat.service.PromptCacheService;
+import com.personalaccount.application.ai.chat.service.TransactionCreationService;
+import com.personalaccount.application.ai.dto.request.AiChatRequest;
+import com.personalaccount.application.ai.dto.response.AiChatResponse;
+import com.personalaccount.application.ai.util.PromptTemplate;
+import com.personalaccount.application.ai.session.ConversationSession;
+import com.personalaccount.common.dto.ErrorResponse;
+import com.personalaccount.common.exception.custom.AiServiceException;
+import com.personalaccount.config.RedisConfig;
+import com.personalaccount.domain.account.cache.ChartOfAccounts;
+import com.personalaccount.domain.account.entity.AccountType;
+import com.personalaccount.domain.ai.client.AiClient;
+import com.personalaccount.domain.ai.dto.CacheCreateResponse;
+import com.personalaccount.domain.ai.repository.SessionRepository;
+import com.personalaccount.domain.book.cache.BookAccess;
+import com.personalaccount.domain.book.cache.BookAccessCache;
+import com.personalaccount.domain.book.entity.BookType;
+import com.personalaccount.domain.transaction.dto.response.TransactionResponse;
+import com.personalaccount.infrastructure.session.ReactiveRedisSessionRepository;
+import com.personalaccount.infrastructure.session.codec.BinarySessionCodec;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.blockhound.BlockHound;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+/**
+ * 스트리밍 대화 논블로킹 검증 (BlockHound + 임베디드 Redis)
+ *
+ * - AI 스트림은 parallel 스레드(논블로킹)에서 방출 → Netty 스레드와 같은 조건
+ * - 권한 조회/거래 생성 목은 Thread.sleep으로 JPA 블로킹을 흉내냄 → 전용 스케줄러에서만 실행되어야 함
+ * - 프롬프트 캐시는 실제 PromptCacheService + 임베디드 Redis, 테스트마다 캐시 미스에서 시작
+ *   (단일 실행 대기, Redis 동기 호출, 캐시 생성 block()이 논블로킹 스레드에서 일어나지 않는지 확인)
+ * - 논블로킹 스레드에서 블로킹 호출이 감지되면 violations에 기록
+ * - BlockHound 계측은 JVM 전체에 남으므로 blockHoundTest 태스크(별도 JVM)에서만 실행
+ */
+@Tag("blockhound")
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AI 스트리밍 대화 블로킹 검사")
+class AiChatStreamBlockingTest {
+
+    private static final String CACHE_KEY = "gemini:cache:PERSONAL";
+    private static final String CACHE_LEASE_KEY = "gemini:cache-lease:PERSONAL";
+
+    private static final List<String> violations = new CopyOnWriteArrayList<>();
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static ReactiveRedisTemplate<String, byte[]> sessionTemplate;
+    private static StringRedisTemplate stringRedisTemplate;
+    private static ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+    private static Scheduler jpaScheduler;
+
+    @Mock
+    private AiClient aiClient;
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private BookAccessCache bookAccessCache;
+
+    @Mock
+    private TransactionCreationService transactionCreationService;
+
+    @Mock
+    private ChartOfAccounts chartOfAccounts;
+
+    @Mock
+    private PromptTemplate promptTemplate;
+
+    private PromptCacheService promptCacheService;
+    private ReactiveRedisSessionRepository reactiveSessionRepository;
+    private AiChatService aiChatService;
+
+    @BeforeAll
+    static void setUpAll() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        sessionTemplate = new RedisConfig().reactiveSessionRedisTemplate(connectionFactory);
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        reactiveStringRedisTemplate = new ReactiveStringRedisTemplate(connectionFactory);
+        jpaScheduler = Schedulers.newBoundedElastic(4, 100, "test-jpa");
+
+        BlockHound.install(builder -> builder
+                // 클래스 로딩, 콘솔 로그 출력은 검사 대상 아님
+                .allowBlockingCallsInside(ClassLoader.class.getName(), "loadClass")
+                .allowBlockingCallsInside("ch.qos.logback.core.OutputStreamAppender", "writeBytes")
+                .blockingMethodCallback(method -> violations.add(method.toString())));
+    }
+
+    @AfterAll
+    static void tearDownAll() throws IOException {
+        jpaScheduler.dispose();
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        violations.clear();
+        stringRedisTemplate.delete(List.of(CACHE_KEY, CACHE_LEASE_KEY));
+        promptCacheService = new PromptCacheService(aiClient, chartOfAccounts, promptTemplate, reactiveStringRedisTemplate);
+        reactiveSessionRepository = new ReactiveRedisSessionRepository(sessionTemplate, new BinarySessionCodec(512));
+        aiChatService = new AiChatServiceImpl(
+                aiClient,
+                sessionRepository,
+                reactiveSessionRepository,
+                bookAccessCache,
+                transactionCreationService,
+                promptCacheService,
+                new ConversationWindow(new AiContextProperties()),
+                jpaScheduler
+        );
+    }
+
+    @Test
+    @DisplayName("일반응답_스트림완료후_세션저장_블로킹없음")
+    void chatStream_MoreInfo_SavesSessionWithoutBlocking() {
+        givenAccessAndCache();
+        given(aiClient.streamMessage(any())).willReturn(chunks("어떤 ", "결제수단으로 ", "받으셨나요?"));
+
+        List<ServerSentEvent<Object>> events = stream(null);
+
+        assertThat(events).extracting(ServerSentEvent::event)
+                .containsExactly("delta", "delta", "delta", "done");
+        AiChatResponse done = (AiChatResponse) events.getLast().data();
+        assertThat(done.getNeedsMoreInfo()).isTrue();
+
+        ConversationSession saved = reactiveSessionRepository.getSession(done.getConversationId())
+                .block(Duration.ofSeconds(5));
+        assertThat(saved).isNotNull();
+        assertThat(saved.getMessages()).extracting(ConversationSession.ChatMessage::getContent)
+                .containsExactly("점심 만원", "어떤 결제수단으로 받으셨나요?");
+        assertThat(violations).isEmpty();
+    }
+
+    @Test
+    @DisplayName("COMPLETE_거래생성은_JPA스케줄러_블로킹없음")
+    void chatStream_Complete_CreatesTransactionOnJpaScheduler() {
+        givenAccessAndCache();
+        given(aiClient.streamMessage(any())).willReturn(chunks(
+                "COMPLETE: {\"type\":\"EXPENSE\",",
+                "\"amount\":10000,\"category\":\"식비\"}",
+                "\n"
+        ));
+        AtomicReference<String> jpaThread = new AtomicReference<>();
+        given(transactionCreationService.createFromAiResponse(eq(1L), eq(1L), eq(BookType.PERSONAL), anyString()))
+                .willAnswer(invocation -> {
+                    jpaThread.set(Thread.currentThread().getName());
+                    Thread.sleep(20);
+                    return TransactionResponse.builder().id(10L).build();
+                });
+
+        List<ServerSentEvent<Object>> events = stream(null);
+
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("done");
+        AiChatResponse done = (AiChatResponse) events.getLast().data();
+        assertThat(done.getNeedsMoreInfo()).isFalse();
+        assertThat(done.getTransaction().getId()).isEqualTo(10L);
+        assertThat(jpaThread.get()).startsWith("test-jpa");
+        assertThat(violations).isEmpty();
+    }
+
+    @Test
+    @DisplayName("COMPLETE_페이로드수신후_스트림실패_done이벤트")
+    void chatStream_StreamFailsAfterPayload_EmitsDoneWithTransaction() {
+        givenAccessAndCache();
+        given(aiClient.streamMessage(any())).willReturn(chunks(
+                "COMPLETE: {\"type\":\"EXPENSE\",",
+                "\"amount\":10000,\"category\":\"식비\"}"
+        ).concatWith(Flux.error(new AiServiceException("AI 스트림 연결이 끊어졌습니다"))));
+        given(transactionCreationService.createFromAiResponse(eq(1L), eq(1L), eq(BookType.PERSONAL), anyString()))
+                .willReturn(TransactionResponse.builder().id(10L).build());
+
+        List<ServerSentEvent<Object>> events = stream(null);
+
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("done");
+        AiChatResponse done = (AiChatResponse) events.getLast().data();
+        assertThat(done.getTransaction().getId()).isEqualTo(10L);
+        then(transactionCreationService).should(times(1))
+                .createFromAiResponse(eq(1L), eq(1L), eq(BookType.PERSONAL), anyString());
+        assertThat(violations).isEmpty();
+    }
+
+    @Test
+    @DisplayName("COMPLETE_페이로드전_스트림실패_error이벤트")
+    void chatStream_StreamFailsBeforePayload_EmitsErrorEvent() {
+        givenAccessAndCache();
+        given(aiClient.streamMessage(any())).willReturn(chunks(
+                "COMPLETE: {\"type\":\"EXPENSE\","
+        ).concatWith(Flux.error(new AiServiceException("AI 스트림 연결이 끊어졌습니다"))));
+
+        List<ServerSentEvent<Object>> events = stream(null);
+
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("error");
+        then(transactionCreationService).shouldHaveNoInteractions();
+        assertThat(violations).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시미스_동시요청_캐시생성1회_블로킹없음")
+    void chatStream_ConcurrentCacheMiss_CreatesCacheOnceWithoutBlocking() {
+        givenAccessAndCache();
+        given(aiClient.streamMessage(any())).willAnswer(invocation -> chunks("어떤 ", "결제수단인가요?"));
+
+        List<List<ServerSentEvent<Object>>> results = Flux.range(0, 4)
+                .flatMap(i -> aiChatService.chatStream(1L, request(null)).collectList())
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(results).hasSize(4)
+                .allSatisfy(events -> assertThat(events.getLast().event()).isEqualTo("done"));
+        then(aiClient).should(times(1)).createCachedContent(any());
+        assertThat(stringRedisTemplate.opsForValue().get(CACHE_KEY)).isEqualTo("cachedContents/test");
+        assertThat(violations).isEmpty();
+    }
+
+    @Test
+    @DisplayName("세션없음_error이벤트")
+    void chatStream_SessionNotFound_EmitsErrorEvent() {
+        given(bookAccessCache.validateAccess(1L, 1L))
+                .willReturn(new BookAccess(1L, 1L, BookType.PERSONAL, true));
+
+        List<ServerSentEvent<Object>> events = stream("conv-missing");
+
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("error");
+        assertThat(((ErrorResponse) events.getFirst().data()).getErrorCode()).isEqualTo("AI003");
+        assertThat(violations).isEmpty();
+    }
+
+    @Test
+    @DisplayName("BlockHound_논블로킹스레드_블로킹호출_감지")
+    void blockHound_DetectsBlockingOnParallelThread() {
+        Mono.fromCallable(() -> {
+                    Thread.sleep(1);
+                    return 1;
+                })
+                .subscribeOn(Schedulers.parallel())
+                .block(Duration.ofSeconds(5));
+
+        assertThat(violations).isNotEmpty();
+    }
+
+    private void givenAccessAndCache() {
+        given(bookAccessCache.validateAccess(1L, 1L)).willAnswer(invocation -> {
+            Thread.sleep(5);
+            return new BookAccess(1L, 1L, BookType.PERSONAL, true);
+        });
+        // 캐시 미스 → 리액티브 Redis 임대 + Gemini 캐시 생성 (응답은 parallel 스레드에서 방출)
+        given(chartOfAccounts.findActive(eq(BookType.PERSONAL), any(AccountType.class))).willReturn(List.of());
+        given(promptTemplate.loadTemplate(anyString(), anyMap())).willReturn("prompt");
+        given(aiClient.createCachedContent(any())).willReturn(Mono.delay(Duration.ofMillis(20))
+                .thenReturn(CacheCreateResponse.builder().cacheName("cachedContents/test").build()));
+    }
+
+    /**
+     * parallel 스레드에서 조각 방출 (WebClient Netty 스레드 대용)
+     */
+    private static Flux<String> chunks(String... chunks) {
+        return Flux.fromArray(chunks).delayElements(Duration.ofMillis(5));
+    }
+
+    private List<ServerSentEvent<Object>> stream(String conversationId) {
+        return aiChatService.chatStream(1L, request(conversationId)).collectList().block(Duration.ofSeconds(10));
+    }
+
+    private static AiChatRequest request(String conversationId) {
+        return AiChatRequest.builder()
+                .bookId(1L)
+                .conversationId(conversationId)
+                .message("점심 만원")
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.personalaccount.application.ai.chat.stream;
+
+import com.personalaccount.application.ai.chat.stream.CompletePayloadDetector.Mode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CompletePayloadDetector 테스트")
+class CompletePayloadDetectorTest {
+
+    @Test
+    @DisplayName("일반응답_접두어_불일치_즉시_전달")
+    void append_Message_ForwardsImmediately() {
+        CompletePayloadDetector detector = new CompletePayloadDetector();
+
+        assertThat(detector.append("어떤 ")).isEqualTo("어떤 ");
+        assertThat(detector.append("결제수단으로")).isEqualTo("결제수단으로");
+        assertThat(detector.mode()).isEqualTo(Mode.MESSAGE);
+        assertThat(detector.text()).isEqualTo("어떤 결제수단으로");
+    }
+
+    @Test
+    @DisplayName("접두어_판별전_보류후_한번에_전달")
+    void append_AmbiguousPrefix_HoldsUntilDecided() {
+        CompletePayloadDetector detector = new CompletePayloadDetector();
+
+        assertThat(detector.append("COM")).isEmpty();
+        assertThat(detector.mode()).isEqualTo(Mode.UNDECIDED);
+        assertThat(detector.append("MENT 입니다")).isEqualTo("COMMENT 입니다");
+        assertThat(detector.mode()).isEqualTo(Mode.MESSAGE);
+    }
+
+    @Test
+    @DisplayName("짧은응답_종료시_보류분_전달")
+    void flush_ShortMessage_ReturnsHeldText() {
+        CompletePayloadDetector detector = new CompletePayloadDetector();
+
+        assertThat(detector.append("CO")).isEmpty();
+
+        assertThat(detector.flush()).isEqualTo("CO");
+        assertThat(detector.isComplete()).isFalse();
+    }
+
+    @Test
+    @DisplayName("COMPLETE_조각분할_JSON닫히는순간_페이로드_반환")
+    void append_CompleteSplitAcrossChunks_PayloadOnClose() {
+        CompletePayloadDetector detector = new CompletePayloadDetector();
+
+        assertThat(detector.append("COMPL")).isEmpty();
+        assertThat(detector.append("ETE: {\"type\":\"EXPENSE\",")).isEmpty();
+        assertThat(detector.isComplete()).isTrue();
+        assertThat(detector.payload()).isNull();
+
+        detector.append("\"amount\":50000,\"category\":\"식비\"");
+        assertThat(detector.payload()).isNull();
+
+        detector.append("}\n");
+        assertThat(detector.payload())
+                .isEqualTo("{\"type\":\"EXPENSE\",\"amount\":50000,\"category\":\"식비\"}");
+    }
+
+    @Test
+    @DisplayName("문자열안_중괄호_이스케이프_무시")
+    void append_BracesInsideString_Ignored() {
+        CompletePayloadDetector detector = new CompletePayloadDetector();
+
+        detector.append("COMPLETE: {\"memo\":\"괄호 } 와 \\\" 따옴표 {\"");
+        assertThat(detector.payload()).isNull();
+
+        detector.append(",\"amount\":1000}");
+        assertThat(detector.payload())
+                .isEqualTo("{\"memo\":\"괄호 } 와 \\\" 따옴표 {\",\"amount\":1000}");
+    }
+
+    @Test
+    @DisplayName("앞공백_있어도_COMPLETE_판별")
+    void append_LeadingWhitespace_DetectsComplete() {
+        CompletePayloadDetector detector = new CompletePayloadDetector();
+
+        assertThat(detector.append("\n COMPLETE: {\"a\":{\"b\":1}}")).isEmpty();
+
+        assertThat(detector.isComplete()).isTrue();
+        assertThat(detector.payload()).isEqualTo("{\"a\":{\"b\":1}}");
+        assertThat(detector.flush()).isEmpty();
+    }
+}
@@ -92,8 +92,7 @@ class AiChatServiceIntegrationTest {
                 .message("오늘 부수입으로 30만원 벌었어")
                 .build();
 
-        // Mono를 block()으로 동기 처리 (테스트에서는 OK)
-        AiChatResponse response = aiChatService.chat(testUser.getId(), request).block();
+        AiChatResponse response = aiChatService.chat(testUser.getId(), request);
 
         assertThat(response).isNotNull();
 
@@ -107,7 +106,7 @@ class AiChatServiceIntegrationTest {
                     .message("현금으로 받았어")
                     .build();
 
-            response = aiChatService.chat(testUser.getId(), followUpRequest).block();
+            response = aiChatService.chat(testUser.getId(), followUpRequest);
         }
 
         assertThat(response).isNotNull();
@@ -125,7 +124,7 @@ class AiChatServiceIntegrationTest {
                 .message("돈 벌었어")
                 .build();
 
-        AiChatResponse response = aiChatService.chat(testUser.getId(), request).block();
+        AiChatResponse response = aiChatService.chat(testUser.getId(), request);
 
         assertThat(response).isNotNull();
         assertThat(response.getNeedsMoreInfo()).isTrue();
@@ -141,7 +140,7 @@ class AiChatServiceIntegrationTest {
                 .message("오늘 부수입으로 30만원을 현금으로 받았어")
                 .build();
 
-        AiChatResponse response = aiChatService.chat(testUser.getId(), request).block();
+        AiChatResponse response = aiChatService.chat(testUser.getId(), request);
 
         assertThat(response).isNotNull();
         if (!response.getNeedsMoreInfo()) {
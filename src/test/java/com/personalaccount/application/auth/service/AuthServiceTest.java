@@ -3,7 +3,9 @@ package com.personalaccount.application.auth.service;
 import com.personalaccount.application.auth.dto.request.LoginRequest;
 import com.personalaccount.application.auth.dto.request.RefreshRequest;
 import com.personalaccount.application.auth.dto.response.LoginResponse;
+import com.personalaccount.infrastructure.security.blacklist.TokenBlacklist;
 import com.personalaccount.infrastructure.security.jwt.JwtTokenProvider;
+import com.personalaccount.infrastructure.security.jwt.VerifiedToken;
 import com.personalaccount.infrastructure.security.repository.RefreshTokenRepository;
 import com.personalaccount.application.auth.service.impl.AuthServiceImpl;
 import com.personalaccount.common.exception.custom.UnauthorizedException;
@@ -17,18 +19,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.Duration;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,10 +48,7 @@ class AuthServiceTest {
     private RateLimitService rateLimitService;
 
     @Mock
-    private StringRedisTemplate stringRedisTemplate;
-
-    @Mock
-    private ValueOperations<String, String> valueOperations;
+    private TokenBlacklist tokenBlacklist;
 
     @Mock
     private RefreshTokenRepository refreshTokenRepository;
@@ -160,9 +157,8 @@ class AuthServiceTest {
             throw new RuntimeException(e);
         }
 
-        given(jwtTokenProvider.validateToken("validRefreshToken")).willReturn(true);
-        given(jwtTokenProvider.getTokenType("validRefreshToken")).willReturn("refresh");
-        given(jwtTokenProvider.getUserId("validRefreshToken")).willReturn(1L);
+        given(jwtTokenProvider.verify("validRefreshToken"))
+                .willReturn(Optional.of(verifiedToken(1L, "refresh", 604800000L)));
         given(refreshTokenRepository.validate(1L, "validRefreshToken")).willReturn(true);
         given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
         given(jwtTokenProvider.createAccessToken(1L, "test@test.com")).willReturn("newAccessToken");
@@ -179,9 +175,7 @@ class AuthServiceTest {
         assertThat(result.getUser()).isNotNull();
         assertThat(result.getUser().getId()).isEqualTo(1L);
 
-        verify(jwtTokenProvider).validateToken("validRefreshToken");
-        verify(jwtTokenProvider).getTokenType("validRefreshToken");
-        verify(jwtTokenProvider).getUserId("validRefreshToken");
+        verify(jwtTokenProvider).verify("validRefreshToken");
         verify(refreshTokenRepository).validate(1L, "validRefreshToken");
         verify(userRepository).findById(1L);
         verify(jwtTokenProvider).createRefreshToken(1L);
@@ -201,14 +195,14 @@ class AuthServiceTest {
             throw new RuntimeException(e);
         }
 
-        given(jwtTokenProvider.validateToken("invalidRefreshToken")).willReturn(false);
+        given(jwtTokenProvider.verify("invalidRefreshToken")).willReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> authService.refresh(refreshRequest))
                 .isInstanceOf(UnauthorizedException.class)
                 .hasMessageContaining("유효하지 않은 리프레시 토큰입니다");
 
-        verify(jwtTokenProvider).validateToken("invalidRefreshToken");
+        verify(jwtTokenProvider).verify("invalidRefreshToken");
     }
 
     @Test
@@ -219,24 +213,15 @@ class AuthServiceTest {
         Long userId = 1L;
         Long expiration = 900000L;
 
-        given(jwtTokenProvider.validateToken(accessToken)).willReturn(true);
-        given(jwtTokenProvider.getTokenType(accessToken)).willReturn("access");
-        given(jwtTokenProvider.getUserId(accessToken)).willReturn(userId);
-        given(jwtTokenProvider.getExpiration(accessToken)).willReturn(expiration);
-        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(jwtTokenProvider.verify(accessToken))
+                .willReturn(Optional.of(verifiedToken(userId, "access", expiration)));
 
         // When
         authService.logout(accessToken);
 
         // Then
-        verify(jwtTokenProvider).getUserId(accessToken);
-        verify(jwtTokenProvider).getExpiration(accessToken);
-        verify(valueOperations).set(
-                eq("blacklist:" + accessToken),
-                eq("logout"),
-                eq(expiration),
-                eq(TimeUnit.MILLISECONDS)
-        );
+        verify(jwtTokenProvider).verify(accessToken);
+        verify(tokenBlacklist).add(eq(accessToken), longThat(ttl -> ttl > 0 && ttl <= expiration));
         verify(refreshTokenRepository).delete(userId);
     }
 
@@ -245,14 +230,14 @@ class AuthServiceTest {
     void logout_InvalidToken_ThrowsException() {
         // Given
         String invalidToken = "invalidAccessToken";
-        given(jwtTokenProvider.validateToken(invalidToken)).willReturn(false);
+        given(jwtTokenProvider.verify(invalidToken)).willReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> authService.logout(invalidToken))
                 .isInstanceOf(UnauthorizedException.class)
                 .hasMessageContaining("유효하지 않은 액세스 토큰입니다");
 
-        verify(jwtTokenProvider).validateToken(invalidToken);
+        verify(jwtTokenProvider).verify(invalidToken);
     }
 
     @Test
@@ -260,16 +245,19 @@ class AuthServiceTest {
     void logout_RefreshToken_ThrowsException() {
         // Given
         String refreshToken = "refreshToken";
-        given(jwtTokenProvider.validateToken(refreshToken)).willReturn(true);
-        given(jwtTokenProvider.getTokenType(refreshToken)).willReturn("refresh");
+        given(jwtTokenProvider.verify(refreshToken))
+                .willReturn(Optional.of(verifiedToken(1L, "refresh", 604800000L)));
 
         // When & Then
         assertThatThrownBy(() -> authService.logout(refreshToken))
                 .isInstanceOf(UnauthorizedException.class)
                 .hasMessageContaining("액세스 토큰이 아닙니다");
 
-        verify(jwtTokenProvider).validateToken(refreshToken);
-        verify(jwtTokenProvider).getTokenType(refreshToken);
+        verify(jwtTokenProvider).verify(refreshToken);
+        verify(tokenBlacklist, never()).add(anyString(), anyLong());
     }
 
+    private VerifiedToken verifiedToken(Long userId, String type, long validity) {
+        return new VerifiedToken("token-hash", userId, type, System.currentTimeMillis() + validity);
+    }
 }
@@ -0,0 +1,114 @@
+package com.personalaccount.application.report.service;
+
+import com.personalaccount.domain.account.entity.Account;
+import com.personalaccount.domain.account.entity.AccountType;
+import com.personalaccount.domain.account.repository.AccountRepository;
+import com.personalaccount.domain.book.entity.Book;
+import com.personalaccount.domain.book.entity.BookType;
+import com.personalaccount.domain.book.repository.BookRepository;
+import com.personalaccount.domain.user.entity.User;
+import com.personalaccount.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 ReportService를 거친 report.query 측정에 장부 타입 태그가 붙는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("리포트 측정 태그 통합 테스트")
+class ReportMetricsIntegrationTest {
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    private User testUser;
+    private Book testBook;
+    private Account cashAccount;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(User.builder()
+                .email("metrics@test.com")
+                .password("password")
+                .name("측정테스터")
+                .isActive(true)
+                .build());
+
+        testBook = bookRepository.save(Book.builder()
+                .user(testUser)
+                .name("사업장부")
+                .bookType(BookType.BUSINESS)
+                .isActive(true)
+                .build());
+
+        cashAccount = accountRepository.save(Account.builder()
+                .code("M1100")
+                .name("측정현금")
+                .accountType(AccountType.PAYMENT_METHOD)
+                .bookType(BookType.BUSINESS)
+                .isActive(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("재무제표_조회_report.query_장부타입_태그")
+    void getFinancialStatement_TagsReportQueryWithBookType() {
+        long before = reportQueryCount("BUSINESS");
+
+        reportService.getFinancialStatement(testUser.getId(), testBook.getId(), "2025-01");
+
+        assertThat(reportQueryCount("BUSINESS")).isGreaterThan(before);
+        assertThat(meterRegistry.get("report.service")
+                .tags("method", "getFinancialStatement", "book.type", "BUSINESS")
+                .timer().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("원장_스트리밍_report.query_장부타입_태그")
+    void streamAccountLedgerEntries_TagsReportQueryWithBookType() {
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        LocalDate end = LocalDate.of(2025, 1, 31);
+        long before = reportQueryCount("BUSINESS");
+
+        reportService.streamAccountLedgerEntries(testBook.getId(), cashAccount.getId(), start, end,
+                BigDecimal.ZERO, entry -> {
+                });
+
+        assertThat(reportQueryCount("BUSINESS")).isGreaterThan(before);
+    }
+
+    private long reportQueryCount(String bookType) {
+        return meterRegistry.find("report.query")
+                .tags("book.type", bookType)
+                .timers()
+                .stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+}
@@ -1,17 +1,20 @@
 package com.personalaccount.application.report.service;
 
 import com.personalaccount.application.report.dto.response.*;
+import com.personalaccount.infrastructure.cache.ReportCache;
 import com.personalaccount.infrastructure.persistence.report.ReportQueryRepository;
+import com.personalaccount.infrastructure.persistence.report.dto.FinancialTotals;
 import com.personalaccount.application.report.service.impl.ReportServiceImpl;
 import com.personalaccount.common.exception.custom.AccountNotFoundException;
 import com.personalaccount.common.exception.custom.BookNotFoundException;
+import com.personalaccount.common.exception.custom.InvalidReportPeriodException;
 import com.personalaccount.common.exception.custom.UnauthorizedBookAccessException;
+import com.personalaccount.domain.account.cache.ChartOfAccounts;
 import com.personalaccount.domain.account.entity.Account;
 import com.personalaccount.domain.account.entity.AccountType;
-import com.personalaccount.domain.account.repository.AccountRepository;
-import com.personalaccount.domain.book.entity.Book;
+import com.personalaccount.domain.book.cache.BookAccess;
+import com.personalaccount.domain.book.cache.BookAccessCache;
 import com.personalaccount.domain.book.entity.BookType;
-import com.personalaccount.domain.book.repository.BookRepository;
 import com.personalaccount.domain.user.entity.User;
 import com.querydsl.core.Tuple;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,10 +23,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -31,6 +37,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,16 +50,19 @@ class ReportServiceImplTest {
     private ReportQueryRepository reportQueryRepository;
 
     @Mock
-    private BookRepository bookRepository;
+    private BookAccessCache bookAccessCache;
 
     @Mock
-    private AccountRepository accountRepository;
+    private ChartOfAccounts chartOfAccounts;
+
+    @Spy
+    private ReportCache reportCache = new ReportCache(null, null, false, Duration.ZERO, Duration.ZERO);
 
     @InjectMocks
     private ReportServiceImpl reportService;
 
     private User testUser;
-    private Book testBook;
+    private BookAccess testBookAccess;
     private Account paymentAccount;
 
     @BeforeEach
@@ -61,13 +73,7 @@ class ReportServiceImplTest {
                 .name("테스터")
                 .build();
 
-        testBook = Book.builder()
-                .id(1L)
-                .user(testUser)
-                .name("테스트장부")
-                .bookType(BookType.PERSONAL)
-                .isActive(true)
-                .build();
+        testBookAccess = new BookAccess(1L, testUser.getId(), BookType.PERSONAL, true);
 
         paymentAccount = Account.builder()
                 .id(10L)
@@ -82,14 +88,14 @@ class ReportServiceImplTest {
     @Test
     @DisplayName("월별_요약_조회_성공")
     void getMonthlySummary_Success() {
-        given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
+        given(bookAccessCache.validateAccess(1L, 1L)).willReturn(testBookAccess);
 
         LocalDate now = LocalDate.now();
         List<Tuple> mockResults = createMockIncomeExpenseTuples(now);
-        given(reportQueryRepository.findIncomeExpenseByDateRange(eq(1L), any(LocalDate.class), any(LocalDate.class)))
+        given(reportQueryRepository.findMonthlyIncomeExpense(eq(1L), any(LocalDate.class), any(LocalDate.class)))
                 .willReturn(mockResults);
 
-        List<MonthlySummary> result = reportService.getMonthlySummary(1L, 1L);
+        List<MonthlySummary> result = reportService.getMonthlySummary(1L, 1L, 6);
 
         assertThat(result).hasSize(6);
 
@@ -102,37 +108,47 @@ class ReportServiceImplTest {
     @Test
     @DisplayName("월별_요약_조회_권한없음_예외발생")
     void getMonthlySummary_UnauthorizedAccess_ThrowsException() {
-        User anotherUser = User.builder()
-                .id(2L)
-                .email("another@test.com")
-                .name("다른사용자")
-                .build();
+        given(bookAccessCache.validateAccess(1L, 1L)).willThrow(new UnauthorizedBookAccessException(1L));
 
-        Book anotherBook = Book.builder()
-                .id(1L)
-                .user(anotherUser)
-                .name("다른장부")
-                .build();
-
-        given(bookRepository.findById(1L)).willReturn(Optional.of(anotherBook));
-
-        assertThatThrownBy(() -> reportService.getMonthlySummary(1L, 1L))
+        assertThatThrownBy(() -> reportService.getMonthlySummary(1L, 1L, 6))
                 .isInstanceOf(UnauthorizedBookAccessException.class);
     }
 
     @Test
     @DisplayName("월별_요약_조회_장부없음_예외발생")
     void getMonthlySummary_BookNotFound_ThrowsException() {
-        given(bookRepository.findById(999L)).willReturn(Optional.empty());
+        given(bookAccessCache.validateAccess(1L, 999L)).willThrow(new BookNotFoundException(999L));
 
-        assertThatThrownBy(() -> reportService.getMonthlySummary(1L, 999L))
+        assertThatThrownBy(() -> reportService.getMonthlySummary(1L, 999L, 6))
                 .isInstanceOf(BookNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("월별_요약_조회_24개월_성공")
+    void getMonthlySummary_24Months_Success() {
+        given(bookAccessCache.validateAccess(1L, 1L)).willReturn(testBookAccess);
+        given(reportQueryRepository.findMonthlyIncomeExpense(eq(1L), any(LocalDate.class), any(LocalDate.class)))
+                .willReturn(Collections.emptyList());
+
+        List<MonthlySummary> result = reportService.getMonthlySummary(1L, 1L, 24);
+
+        assertThat(result).hasSize(24);
+        assertThat(result.getLast().getYearMonth()).isEqualTo(YearMonth.now().toString());
+    }
+
+    @Test
+    @DisplayName("월별_요약_조회_기간초과_예외발생")
+    void getMonthlySummary_InvalidPeriod_ThrowsException() {
+        assertThatThrownBy(() -> reportService.getMonthlySummary(1L, 1L, 37))
+                .isInstanceOf(InvalidReportPeriodException.class);
+        assertThatThrownBy(() -> reportService.getMonthlySummary(1L, 1L, 0))
+                .isInstanceOf(InvalidReportPeriodException.class);
+    }
+
     @Test
     @DisplayName("카테고리별_통계_조회_성공")
     void getCategoryStatistics_Success() {
-        given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
+        given(bookAccessCache.validateAccess(1L, 1L)).willReturn(testBookAccess);
 
         List<Tuple> mockResults = createMockCategoryExpenses();
         given(reportQueryRepository.findCategoryExpenses(eq(1L), any(LocalDate.class), any(LocalDate.class)))
@@ -151,7 +167,7 @@ class ReportServiceImplTest {
     @Test
     @DisplayName("카테고리별_통계_조회_데이터없음_빈리스트반환")
     void getCategoryStatistics_NoData_ReturnsEmpty() {
-        given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
+        given(bookAccessCache.validateAccess(1L, 1L)).willReturn(testBookAccess);
         given(reportQueryRepository.findCategoryExpenses(eq(1L), any(LocalDate.class), any(LocalDate.class)))
                 .willReturn(Collections.emptyList());
 
@@ -163,7 +179,7 @@ class ReportServiceImplTest {
     @Test
     @DisplayName("계정별_잔액_조회_성공")
     void getAccountBalances_Success() {
-        given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
+        given(bookAccessCache.validateAccess(1L, 1L)).willReturn(testBookAccess);
 
         List<Account> mockAccounts = Arrays.asList(
                 paymentAccount,
@@ -177,8 +193,7 @@ class ReportServiceImplTest {
                         .build()
         );
 
-        given(accountRepository.findByBookTypeAndAccountTypeAndIsActive(
-                BookType.PERSONAL, AccountType.PAYMENT_METHOD, true))
+        given(chartOfAccounts.findActive(BookType.PERSONAL, AccountType.PAYMENT_METHOD))
                 .willReturn(mockAccounts);
 
         Map<Long, BigDecimal> mockBalances = new HashMap<>();
@@ -198,9 +213,8 @@ class ReportServiceImplTest {
     @Test
     @DisplayName("계정별_잔액_조회_계정없음_빈리스트반환")
     void getAccountBalances_NoAccounts_ReturnsEmpty() {
-        given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
-        given(accountRepository.findByBookTypeAndAccountTypeAndIsActive(
-                BookType.PERSONAL, AccountType.PAYMENT_METHOD, true))
+        given(bookAccessCache.validateAccess(1L, 1L)).willReturn(testBookAccess);
+        given(chartOfAccounts.findActive(BookType.PERSONAL, AccountType.PAYMENT_METHOD))
                 .willReturn(Collections.emptyList());
 
         List<AccountBalance> result = reportService.getAccountBalances(1L, 1L);
@@ -211,16 +225,14 @@ class ReportServiceImplTest {
     @Test
     @DisplayName("재무제표_조회_성공")
     void getFinancialStatement_Success() {
-        given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
+        given(bookAccessCache.validateAccess(1L, 1L)).willReturn(testBookAccess);
 
-        given(reportQueryRepository.findTotalIncome(eq(1L), any(LocalDate.class), any(LocalDate.class)))
-                .willReturn(new BigDecimal("500000"));
-        given(reportQueryRepository.findTotalExpense(eq(1L), any(LocalDate.class), any(LocalDate.class)))
-                .willReturn(new BigDecimal("300000"));
-        given(reportQueryRepository.findTotalAssets(eq(1L), any(LocalDate.class)))
-                .willReturn(new BigDecimal("1000000"));
-        given(reportQueryRepository.findTotalLiabilities(eq(1L), any(LocalDate.class)))
-                .willReturn(new BigDecimal("200000"));
+        given(reportQueryRepository.findFinancialTotals(eq(1L), any(LocalDate.class), any(LocalDate.class)))
+                .willReturn(createFinancialTotals(
+                        new BigDecimal("500000"),
+                        new BigDecimal("300000"),
+                        new BigDecimal("1000000"),
+                        new BigDecimal("200000")));
 
         FinancialStatement result = reportService.getFinancialStatement(1L, 1L, "2025-01");
 
@@ -239,15 +251,13 @@ class ReportServiceImplTest {
     @Test
     @DisplayName("재무제표_조회_수입0_수익률0반환")
     void getFinancialStatement_ZeroIncome_ProfitRateZero() {
-        given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
-        given(reportQueryRepository.findTotalIncome(eq(1L), any(LocalDate.class), any(LocalDate.class)))
-                .willReturn(BigDecimal.ZERO);
-        given(reportQueryRepository.findTotalExpense(eq(1L), any(LocalDate.class), any(LocalDate.class)))
-                .willReturn(new BigDecimal("100000"));
-        given(reportQueryRepository.findTotalAssets(eq(1L), any(LocalDate.class)))
-                .willReturn(BigDecimal.ZERO);
-        given(reportQueryRepository.findTotalLiabilities(eq(1L), any(LocalDate.class)))
-                .willReturn(BigDecimal.ZERO);
+        given(bookAccessCache.validateAccess(1L, 1L)).willReturn(testBookAccess);
+        given(reportQueryRepository.findFinancialTotals(eq(1L), any(LocalDate.class), any(LocalDate.class)))
+                .willReturn(createFinancialTotals(
+                        BigDecimal.ZERO,
+                        new BigDecimal("100000"),
+                        BigDecimal.ZERO,
+                        BigDecimal.ZERO));
 
         FinancialStatement result = reportService.getFinancialStatement(1L, 1L, "2025-01");
 
@@ -257,8 +267,8 @@ class ReportServiceImplTest {
     @Test
     @DisplayName("계정원장_조회_성공")
     void getAccountLedger_Success() {
-        given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
-        given(accountRepository.findById(10L)).willReturn(Optional.of(paymentAccount));
+        given(bookAccessCache.validateAccess(1L, 1L)).willReturn(testBookAccess);
+        given(chartOfAccounts.findById(10L)).willReturn(Optional.of(paymentAccount));
 
         given(reportQueryRepository.findOpeningBalance(eq(1L), eq(10L), any(LocalDate.class)))
                 .willReturn(new BigDecimal("100000"));
@@ -286,30 +296,63 @@ class ReportServiceImplTest {
     @Test
     @DisplayName("계정원장_조회_계정없음_예외발생")
     void getAccountLedger_AccountNotFound_ThrowsException() {
-        given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
+        given(bookAccessCache.validateAccess(1L, 1L)).willReturn(testBookAccess);
         given(reportQueryRepository.findOpeningBalance(eq(1L), eq(999L), any(LocalDate.class)))
                 .willReturn(BigDecimal.ZERO);
         given(reportQueryRepository.findAccountLedgerEntries(eq(1L), eq(999L), any(LocalDate.class), any(LocalDate.class)))
                 .willReturn(Collections.emptyList());
-        given(accountRepository.findById(999L)).willReturn(Optional.empty());
+        given(chartOfAccounts.findById(999L)).willReturn(Optional.empty());
 
         assertThatThrownBy(() -> reportService.getAccountLedger(1L, 1L, 999L, "2025-01"))
                 .isInstanceOf(AccountNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("계정원장_스트리밍_누적잔액_계산")
+    void streamAccountLedgerEntries_ComputesRunningBalance() {
+        List<Tuple> mockEntries = createMockLedgerEntries();
+        given(reportQueryRepository.streamAccountLedgerEntries(eq(1L), eq(10L), any(LocalDate.class), any(LocalDate.class)))
+                .willReturn(mockEntries.stream());
+
+        List<TransactionEntry> received = new ArrayList<>();
+        BigDecimal closingBalance = reportService.streamAccountLedgerEntries(
+                1L, 10L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31),
+                new BigDecimal("100000"), received::add);
+
+        assertThat(received).hasSize(2);
+        assertThat(received.getFirst().getBalance()).isEqualByComparingTo(new BigDecimal("400000"));
+        assertThat(closingBalance).isEqualByComparingTo(new BigDecimal("350000"));
+    }
+
+    @Test
+    @DisplayName("계정원장_스트리밍_기간역전_예외발생")
+    void getAccountLedgerHeader_InvalidPeriod_ThrowsException() {
+        assertThatThrownBy(() -> reportService.getAccountLedgerHeader(
+                1L, 1L, 10L, LocalDate.of(2025, 12, 1), LocalDate.of(2025, 1, 31)))
+                .isInstanceOf(InvalidReportPeriodException.class);
+    }
+
+    @Test
+    @DisplayName("계정원장_스트리밍_기간초과_예외발생")
+    void getAccountLedgerHeader_PeriodTooLong_ThrowsException() {
+        assertThatThrownBy(() -> reportService.getAccountLedgerHeader(
+                1L, 1L, 10L, LocalDate.of(2022, 1, 1), LocalDate.of(2025, 1, 31)))
+                .isInstanceOf(InvalidReportPeriodException.class);
+
+        verify(bookAccessCache, never()).validateAccess(any(), any());
+    }
+
     @Test
     @DisplayName("AI_분석_조회_성공")
     void getAnalysis_Success() {
-        given(bookRepository.findById(1L)).willReturn(Optional.of(testBook));
+        given(bookAccessCache.validateAccess(1L, 1L)).willReturn(testBookAccess);
 
-        given(reportQueryRepository.findTotalIncome(eq(1L), any(LocalDate.class), any(LocalDate.class)))
-                .willReturn(new BigDecimal("500000"));
-        given(reportQueryRepository.findTotalExpense(eq(1L), any(LocalDate.class), any(LocalDate.class)))
-                .willReturn(new BigDecimal("300000"));
-        given(reportQueryRepository.findTotalAssets(eq(1L), any(LocalDate.class)))
-                .willReturn(new BigDecimal("1000000"));
-        given(reportQueryRepository.findTotalLiabilities(eq(1L), any(LocalDate.class)))
-                .willReturn(new BigDecimal("200000"));
+        given(reportQueryRepository.findFinancialTotals(eq(1L), any(LocalDate.class), any(LocalDate.class)))
+                .willReturn(createFinancialTotals(
+                        new BigDecimal("500000"),
+                        new BigDecimal("300000"),
+                        new BigDecimal("1000000"),
+                        new BigDecimal("200000")));
 
         List<Tuple> mockCategories = createMockCategoryExpenses();
         given(reportQueryRepository.findCategoryExpenses(eq(1L), any(LocalDate.class), any(LocalDate.class)))
@@ -329,6 +372,19 @@ class ReportServiceImplTest {
 
         AiAnalysisComment aiComment = (AiAnalysisComment) result.get("aiComment");
         assertThat(aiComment.getOverview()).isEqualTo("분석 준비 중");
+
+        verify(bookAccessCache, times(1)).validateAccess(1L, 1L);
+        verify(reportQueryRepository, times(1)).findFinancialTotals(eq(1L), any(LocalDate.class), any(LocalDate.class));
+    }
+
+    private FinancialTotals createFinancialTotals(BigDecimal income, BigDecimal expense,
+                                                  BigDecimal assets, BigDecimal liabilities) {
+        return FinancialTotals.builder()
+                .totalIncome(income)
+                .totalExpense(expense)
+                .totalAssets(assets)
+                .totalLiabilities(liabilities)
+                .build();
     }
 
     private List<Tuple> createMockIncomeExpenseTuples(LocalDate baseDate) {
@@ -379,10 +435,11 @@ class ReportServiceImplTest {
     private Tuple createMockTuple(LocalDate date, AccountType accountType,
                                   BigDecimal creditAmount, BigDecimal debitAmount) {
         Tuple tuple = mock(Tuple.class);
-        when(tuple.get(0, LocalDate.class)).thenReturn(date);
-        when(tuple.get(1, AccountType.class)).thenReturn(accountType);
-        when(tuple.get(2, BigDecimal.class)).thenReturn(creditAmount);
-        when(tuple.get(3, BigDecimal.class)).thenReturn(debitAmount);
+        when(tuple.get(0, Integer.class)).thenReturn(date.getYear());
+        when(tuple.get(1, Integer.class)).thenReturn(date.getMonthValue());
+        when(tuple.get(2, AccountType.class)).thenReturn(accountType);
+        when(tuple.get(3, BigDecimal.class)).thenReturn(creditAmount);
+        when(tuple.get(4, BigDecimal.class)).thenReturn(debitAmount);
         return tuple;
     }
 
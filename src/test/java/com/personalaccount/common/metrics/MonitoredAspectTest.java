@@ -0,0 +1,127 @@
+package com.personalaccount.common.metrics;
+
+import com.personalaccount.domain.book.entity.BookType;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MonitoredAspect 테스트")
+class MonitoredAspectTest {
+
+    @Monitored("test.query")
+    static class SampleQuery {
+
+        public String find(BookType bookType) {
+            MetricTags.bookType(bookType);
+            return "ok";
+        }
+
+        public boolean tryConsume() {
+            return false;
+        }
+
+        public String check() {
+            MetricTags.result(true);
+            return "allowed";
+        }
+
+        public String fail() {
+            throw new IllegalStateException("실패");
+        }
+
+        public Mono<String> async() {
+            return Mono.just("ok");
+        }
+
+        public Flux<String> stream() {
+            return Flux.just("a", "b", "c");
+        }
+    }
+
+    private SimpleMeterRegistry registry;
+    private SampleQuery query;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleQuery());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new MonitoredAspect(registry));
+        query = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("성공_호출_장부타입_태그")
+    void measure_Success_TagsBookType() {
+        query.find(BookType.BUSINESS);
+
+        Timer timer = registry.get("test.query")
+                .tags("method", "find", "book.type", "BUSINESS", "outcome", "success")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예외_호출_error_태그")
+    void measure_Failure_TagsException() {
+        assertThatThrownBy(() -> query.fail()).isInstanceOf(IllegalStateException.class);
+
+        Timer timer = registry.get("test.query")
+                .tags("method", "fail", "outcome", "error", "exception", "IllegalStateException")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("boolean_반환값_result_태그")
+    void measure_Boolean_TagsResult() {
+        query.tryConsume();
+
+        assertThat(registry.get("test.query").tags("method", "tryConsume", "result", "false").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("직접_기록한_결과_result_태그")
+    void measure_ExplicitResult_TagsResult() {
+        query.check();
+        query.find(BookType.PERSONAL);
+
+        assertThat(registry.get("test.query").tags("method", "check", "result", "true").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("test.query").tags("method", "find", "result", "none").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Mono_구독시점_측정")
+    void measure_Mono_RecordsOnCompletion() {
+        Mono<String> mono = query.async();
+        assertThat(registry.find("test.query").tags("method", "async").timer()).isNull();
+
+        mono.block();
+
+        assertThat(registry.get("test.query").tags("method", "async", "outcome", "success").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Flux_스트림_완료시_측정")
+    void measure_Flux_RecordsOnComplete() {
+        Flux<String> flux = query.stream();
+        assertThat(registry.find("test.query").tags("method", "stream").timer()).isNull();
+
+        assertThat(flux.collectList().block()).containsExactly("a", "b", "c");
+
+        assertThat(registry.get("test.query").tags("method", "stream", "outcome", "success").timer().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,188 @@
+package com.personalaccount.common.ratelimit;
+
+import com.personalaccount.common.exception.custom.RateLimitExceededException;
+import com.personalaccount.common.ratelimit.RateLimitService.KeyType;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimitInterceptor 테스트")
+class RateLimitInterceptorTest {
+
+    @Mock
+    private RateLimitService rateLimitService;
+
+    @InjectMocks
+    private RateLimitInterceptor interceptor;
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        response = new MockHttpServletResponse();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("허용_사용자기준_헤더설정")
+    void preHandle_Allowed_SetsHeaders() throws Exception {
+        authenticate(7L);
+        given(rateLimitService.consume(KeyType.AI_CHAT, "user:7"))
+                .willReturn(new RateLimitResult(true, 15, 14, 0, 6_000));
+
+        boolean proceed = interceptor.preHandle(request, response, handler("chat"));
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getHeader("X-RateLimit-Limit")).isEqualTo("15");
+        assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("14");
+        assertThat(response.getHeader("X-RateLimit-Reset")).isEqualTo("6");
+        assertThat(response.getHeader("Retry-After")).isNull();
+    }
+
+    @Test
+    @DisplayName("초과_429예외_RetryAfter설정")
+    void preHandle_Denied_ThrowsWithRetryAfter() throws Exception {
+        authenticate(7L);
+        given(rateLimitService.consume(KeyType.AI_CHAT, "user:7"))
+                .willReturn(new RateLimitResult(false, 15, 0, 4_200, 60_000));
+
+        assertThatThrownBy(() -> interceptor.preHandle(request, response, handler("chat")))
+                .isInstanceOf(RateLimitExceededException.class)
+                .hasMessageContaining("5초");
+
+        assertThat(response.getHeader("Retry-After")).isEqualTo("5");
+        assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("클래스지정_비인증요청_IP기준")
+    void preHandle_ClassLevelAnnotation_AnonymousUsesIp() throws Exception {
+        given(rateLimitService.consume(KeyType.ANALYSIS, "ip:10.0.0.1"))
+                .willReturn(new RateLimitResult(true, 40, 39, 0, 2_000));
+
+        boolean proceed = interceptor.preHandle(request, response, new HandlerMethod(
+                new ClassLevelController(), ClassLevelController.class.getMethod("analysis")));
+
+        assertThat(proceed).isTrue();
+        verify(rateLimitService).consume(KeyType.ANALYSIS, "ip:10.0.0.1");
+    }
+
+    @Test
+    @DisplayName("미지정_핸들러_및_비동기재디스패치_검사안함")
+    void preHandle_NotAnnotatedOrAsync_Skips() throws Exception {
+        assertThat(interceptor.preHandle(request, response, handler("plain"))).isTrue();
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        assertThat(interceptor.preHandle(request, response, handler("chat"))).isTrue();
+
+        verify(rateLimitService, never()).consume(any(), any());
+    }
+
+    @Test
+    @DisplayName("Redis장애_AI요청_허용_오류집계")
+    void preHandle_RedisDown_FailOpenPolicyAllows() throws Exception {
+        RateLimitService failingService = failingRateLimitService(new RateLimitProperties());
+        RateLimitInterceptor failingInterceptor = new RateLimitInterceptor(failingService);
+        authenticate(7L);
+
+        boolean proceed = failingInterceptor.preHandle(request, response, handler("chat"));
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("15");
+        assertThat(failingService.getErrorCount(KeyType.AI_CHAT)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis장애_로그인요청_차단")
+    void preHandle_RedisDown_FailClosedPolicyDenies() throws Exception {
+        RateLimitService failingService = failingRateLimitService(new RateLimitProperties());
+        RateLimitInterceptor failingInterceptor = new RateLimitInterceptor(failingService);
+
+        assertThatThrownBy(() -> failingInterceptor.preHandle(request, response, handler("login")))
+                .isInstanceOf(RateLimitExceededException.class);
+
+        assertThat(response.getHeader("Retry-After")).isEqualTo("60");
+        assertThat(failingService.getErrorCount(KeyType.LOGIN)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis장애_설정으로_차단모드_변경")
+    void preHandle_RedisDown_FailModeOverrideDenies() throws Exception {
+        RateLimitProperties properties = new RateLimitProperties();
+        RateLimitProperties.PolicyOverride override = new RateLimitProperties.PolicyOverride();
+        override.setFailMode(RateLimitFailMode.CLOSED);
+        properties.getPolicies().put(KeyType.AI_CHAT, override);
+        RateLimitInterceptor failingInterceptor = new RateLimitInterceptor(failingRateLimitService(properties));
+
+        assertThatThrownBy(() -> failingInterceptor.preHandle(request, response, handler("chat")))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    private RateLimitService failingRateLimitService(RateLimitProperties properties) {
+        StringRedisTemplate brokenTemplate = mock(StringRedisTemplate.class, invocation -> {
+            throw new RedisConnectionFailureException("connection refused");
+        });
+        return new RateLimitService(brokenTemplate, properties);
+    }
+
+    private void authenticate(Long userId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList()));
+    }
+
+    private HandlerMethod handler(String methodName) throws NoSuchMethodException {
+        return new HandlerMethod(new SampleController(), SampleController.class.getMethod(methodName));
+    }
+
+    static class SampleController {
+
+        @RateLimited(KeyType.AI_CHAT)
+        public void chat() {
+        }
+
+        @RateLimited(KeyType.LOGIN)
+        public void login() {
+        }
+
+        public void plain() {
+        }
+    }
+
+    @RateLimited(KeyType.ANALYSIS)
+    static class ClassLevelController {
+
+        public void analysis() {
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.personalaccount.common.ratelimit;
+
+import com.personalaccount.common.ratelimit.RateLimitService.KeyType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lua 스크립트 원자성 검증 (임베디드 Redis)
+ */
+@DisplayName("RateLimitService 동시성 테스트")
+class RateLimitServiceConcurrencyTest {
+
+    private static final int PARALLEL_ATTEMPTS = 100;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RateLimitProperties properties;
+    private RateLimitService rateLimitService;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        flushAll();
+        properties = new RateLimitProperties();
+        rateLimitService = new RateLimitService(redisTemplate, properties);
+    }
+
+    @Test
+    @DisplayName("슬라이딩윈도우_동시100회_한도만큼만_허용")
+    void slidingWindow_ParallelAttempts_NeverExceedsLimit() throws Exception {
+        int allowed = consumeInParallel(KeyType.LOGIN, "race@test.com");
+
+        assertThat(allowed).isEqualTo(5);
+        assertThat(rateLimitService.getRemainingAttempts(KeyType.LOGIN, "race@test.com")).isZero();
+    }
+
+    @Test
+    @DisplayName("토큰버킷_동시100회_용량만큼만_허용")
+    void tokenBucket_ParallelAttempts_NeverExceedsCapacity() throws Exception {
+        override(RateLimitAlgorithm.TOKEN_BUCKET, 10, Duration.ofHours(1));
+
+        int allowed = consumeInParallel(KeyType.LOGIN, "bucket@test.com");
+
+        assertThat(allowed).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("토큰버킷_버스트포함_용량만큼_허용")
+    void tokenBucket_Burst_AllowsLimitPlusBurst() throws Exception {
+        RateLimitPolicy policy = KeyType.AI_CHAT.getDefaultPolicy();
+
+        int allowed = consumeInParallel(KeyType.AI_CHAT, "user:1");
+        RateLimitResult denied = rateLimitService.consume(KeyType.AI_CHAT, "user:1");
+
+        assertThat(allowed).isEqualTo(policy.limit() + policy.burst());
+        assertThat(denied.limit()).isEqualTo(policy.capacity());
+        assertThat(denied.retryAfterMillis()).isPositive()
+                .isLessThanOrEqualTo(policy.window().toMillis() / policy.limit() + 1);
+        assertThat(denied.resetAfterMillis()).isGreaterThanOrEqualTo(denied.retryAfterMillis());
+    }
+
+    @Test
+    @DisplayName("제한후_재시도시간_반환_로컬차단")
+    void consume_Blocked_ReturnsRetryAfter() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimitService.tryConsume(KeyType.LOGIN, "block@test.com")).isTrue();
+        }
+
+        RateLimitResult denied = rateLimitService.consume(KeyType.LOGIN, "block@test.com");
+
+        assertThat(denied.allowed()).isFalse();
+        assertThat(denied.remaining()).isZero();
+        assertThat(denied.retryAfterMillis()).isPositive().isLessThanOrEqualTo(60_000L);
+
+        // Redis 기록을 지워도 재시도 시각 전에는 로컬에서 거절
+        flushAll();
+        assertThat(rateLimitService.tryConsume(KeyType.LOGIN, "block@test.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("초기화후_다시_허용")
+    void reset_AllowsAgain() {
+        for (int i = 0; i < 6; i++) {
+            rateLimitService.tryConsume(KeyType.LOGIN, "reset@test.com");
+        }
+
+        rateLimitService.reset(KeyType.LOGIN, "reset@test.com");
+
+        assertThat(rateLimitService.tryConsume(KeyType.LOGIN, "reset@test.com")).isTrue();
+        assertThat(rateLimitService.getRemainingAttempts(KeyType.LOGIN, "reset@test.com")).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("남은횟수_조회는_기록하지_않음")
+    void getRemainingAttempts_DoesNotConsume() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(rateLimitService.getRemainingAttempts(KeyType.LOGIN, "peek@test.com")).isEqualTo(5);
+        }
+    }
+
+    private void flushAll() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    private int consumeInParallel(KeyType keyType, String identifier) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < PARALLEL_ATTEMPTS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return rateLimitService.tryConsume(keyType, identifier);
+                }));
+            }
+            start.countDown();
+
+            int allowed = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    allowed++;
+                }
+            }
+            return allowed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void override(RateLimitAlgorithm algorithm, int limit, Duration window) {
+        RateLimitProperties.PolicyOverride override = new RateLimitProperties.PolicyOverride();
+        override.setAlgorithm(algorithm);
+        override.setLimit(limit);
+        override.setWindow(window);
+        properties.getPolicies().put(KeyType.LOGIN, override);
+    }
+}
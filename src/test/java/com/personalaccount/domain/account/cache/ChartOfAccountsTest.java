@@ -0,0 +1,197 @@
+package com.personalaccount.domain.account.cache;
+
+import com.personalaccount.domain.account.entity.Account;
+import com.personalaccount.domain.account.entity.AccountType;
+import com.personalaccount.domain.account.repository.AccountRepository;
+import com.personalaccount.domain.book.entity.BookType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChartOfAccounts 테스트")
+class ChartOfAccountsTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @InjectMocks
+    private ChartOfAccounts chartOfAccounts;
+
+    private Account salary;
+    private Account food;
+    private Account cash;
+    private Account inactive;
+    private Account businessSales;
+
+    @BeforeEach
+    void setUp() {
+        salary = account(1L, "4100", "급여", AccountType.REVENUE, BookType.PERSONAL, true);
+        food = account(2L, "5100", "식비", AccountType.EXPENSE, BookType.PERSONAL, true);
+        cash = account(3L, "1100", "현금", AccountType.PAYMENT_METHOD, BookType.PERSONAL, true);
+        inactive = account(4L, "5900", "폐기계정", AccountType.EXPENSE, BookType.PERSONAL, false);
+        businessSales = account(5L, "4000", "매출", AccountType.REVENUE, BookType.BUSINESS, true);
+
+        given(accountRepository.findAll(any(Sort.class)))
+                .willReturn(List.of(salary, food, cash, inactive, businessSales));
+    }
+
+    @Test
+    @DisplayName("반복조회_DB조회_1회")
+    void lookups_LoadOnce() {
+        chartOfAccounts.findById(1L);
+        chartOfAccounts.findActive(BookType.PERSONAL, AccountType.EXPENSE);
+        chartOfAccounts.findActiveByName("식비", BookType.PERSONAL);
+
+        verify(accountRepository, times(1)).findAll(any(Sort.class));
+    }
+
+    @Test
+    @DisplayName("장부타입_계정타입별_활성계정만_조회")
+    void findActive_FiltersByTypeAndActive() {
+        assertThat(chartOfAccounts.findActive(BookType.PERSONAL, AccountType.EXPENSE))
+                .containsExactly(food);
+        assertThat(chartOfAccounts.findActive(BookType.PERSONAL))
+                .containsExactly(salary, food, cash);
+        assertThat(chartOfAccounts.findActive(BookType.BUSINESS, AccountType.EXPENSE))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("이름조회_장부타입별_구분")
+    void findActiveByName_ScopedByBookType() {
+        assertThat(chartOfAccounts.findActiveByName("급여", BookType.PERSONAL)).contains(salary);
+        assertThat(chartOfAccounts.findActiveByName("급여", BookType.BUSINESS)).isEmpty();
+        assertThat(chartOfAccounts.findActiveByName("폐기계정", BookType.PERSONAL)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("ID조회_비활성계정_포함")
+    void findById_IncludesInactive() {
+        assertThat(chartOfAccounts.findById(4L)).contains(inactive);
+        assertThat(chartOfAccounts.findById(999L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트랜잭션밖_계정추가_즉시반영_전파")
+    void saved_OutsideTransaction_UpdatesIndexes() {
+        chartOfAccounts.refresh();
+        Account transport = account(6L, "5200", "교통비", AccountType.EXPENSE, BookType.PERSONAL, true);
+
+        chartOfAccounts.saved(transport);
+
+        assertThat(chartOfAccounts.findById(6L)).contains(transport);
+        assertThat(chartOfAccounts.findActive(BookType.PERSONAL, AccountType.EXPENSE))
+                .containsExactly(food, transport);
+        verify(accountRepository, times(1)).findAll(any(Sort.class));
+        verify(redisTemplate).convertAndSend(eq(ChartOfAccounts.CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("트랜잭션안_계정추가_커밋전_해당트랜잭션에서만_조회")
+    void saved_InTransaction_VisibleOnlyToTransactionUntilCommit() throws Exception {
+        chartOfAccounts.refresh();
+        Account transport = account(6L, "5200", "교통비", AccountType.EXPENSE, BookType.PERSONAL, true);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            chartOfAccounts.saved(transport);
+
+            assertThat(chartOfAccounts.findById(6L)).contains(transport);
+            assertThat(findByIdOnOtherThread(6L)).isEmpty();
+            verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(findByIdOnOtherThread(6L)).contains(transport);
+        verify(redisTemplate).convertAndSend(eq(ChartOfAccounts.CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("트랜잭션안_계정삭제_롤백시_유지")
+    void removed_RolledBack_KeepsAccount() {
+        chartOfAccounts.refresh();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            chartOfAccounts.removed(2L);
+            assertThat(chartOfAccounts.findById(2L)).isEmpty();
+
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(chartOfAccounts.findById(2L)).contains(food);
+        assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("다른노드_변경메시지_수신시_재적재")
+    void onMessage_FromOtherNode_Reloads() {
+        chartOfAccounts.refresh();
+
+        chartOfAccounts.onMessage("other-node");
+
+        verify(accountRepository, times(2)).findAll(any(Sort.class));
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private Optional<Account> findByIdOnOtherThread(Long id) throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            return executor.submit(() -> chartOfAccounts.findById(id)).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Account account(Long id, String code, String name,
+                            AccountType accountType, BookType bookType, boolean active) {
+        return Account.builder()
+                .id(id)
+                .code(code)
+                .name(name)
+                .accountType(accountType)
+                .bookType(bookType)
+                .isActive(active)
+                .build();
+    }
+}
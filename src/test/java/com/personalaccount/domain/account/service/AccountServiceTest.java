@@ -1,9 +1,9 @@
 package com.personalaccount.domain.account.service;
 
 import com.personalaccount.common.exception.custom.AccountNotFoundException;
+import com.personalaccount.domain.account.cache.ChartOfAccounts;
 import com.personalaccount.domain.account.entity.Account;
 import com.personalaccount.domain.account.entity.AccountType;
-import com.personalaccount.domain.account.repository.AccountRepository;
 import com.personalaccount.domain.account.service.impl.AccountServiceImpl;
 import com.personalaccount.domain.book.entity.BookType;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,7 +26,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 class AccountServiceTest {
 
     @Mock
-    private AccountRepository accountRepository;
+    private ChartOfAccounts chartOfAccounts;
 
     @InjectMocks
     private AccountServiceImpl accountService;
@@ -73,8 +73,7 @@ class AccountServiceTest {
     @DisplayName("수입_카테고리_조회_성공")
     void getIncomeCategories_Success() {
         // Given: REVENUE 타입 계정 반환 Mock
-        given(accountRepository.findByBookTypeAndAccountTypeAndIsActive(
-                BookType.PERSONAL, AccountType.REVENUE, true))
+        given(chartOfAccounts.findActive(BookType.PERSONAL, AccountType.REVENUE))
                 .willReturn(List.of(revenueAccount));
 
         // When: 수입 카테고리 조회
@@ -90,8 +89,7 @@ class AccountServiceTest {
     @DisplayName("지출_카테고리_조회_성공")
     void getExpenseCategories_Success() {
         // Given: EXPENSE 타입 계정 반환 Mock
-        given(accountRepository.findByBookTypeAndAccountTypeAndIsActive(
-                BookType.PERSONAL, AccountType.EXPENSE, true))
+        given(chartOfAccounts.findActive(BookType.PERSONAL, AccountType.EXPENSE))
                 .willReturn(List.of(expenseAccount));
 
         // When: 지출 카테고리 조회
@@ -107,8 +105,7 @@ class AccountServiceTest {
     @DisplayName("결제수단_조회_성공")
     void getPaymentMethods_Success() {
         // Given: PAYMENT_METHOD 타입 계정 반환 Mock
-        given(accountRepository.findByBookTypeAndAccountTypeAndIsActive(
-                BookType.PERSONAL, AccountType.PAYMENT_METHOD, true))
+        given(chartOfAccounts.findActive(BookType.PERSONAL, AccountType.PAYMENT_METHOD))
                 .willReturn(List.of(paymentAccount));
 
         // When: 결제수단 조회
@@ -124,7 +121,7 @@ class AccountServiceTest {
     @DisplayName("전체_계정과목_조회_성공")
     void getAllAccounts_Success() {
         // Given: 모든 타입의 계정 반환 Mock
-        given(accountRepository.findByBookTypeAndIsActive(BookType.PERSONAL, true))
+        given(chartOfAccounts.findActive(BookType.PERSONAL))
                 .willReturn(List.of(revenueAccount, expenseAccount, paymentAccount));
 
         // When: 전체 계정과목 조회
@@ -139,7 +136,7 @@ class AccountServiceTest {
     @DisplayName("ID로_계정과목_조회_성공")
     void getAccountById_Success() {
         // Given: ID로 계정 조회 Mock
-        given(accountRepository.findById(1L))
+        given(chartOfAccounts.findById(1L))
                 .willReturn(Optional.of(revenueAccount));
 
         // When: ID로 계정과목 조회
@@ -156,7 +153,7 @@ class AccountServiceTest {
     @DisplayName("존재하지않는_ID_조회_예외발생")
     void getAccountById_NotFound_ThrowsException() {
         // Given: 존재하지 않는 ID
-        given(accountRepository.findById(999L))
+        given(chartOfAccounts.findById(999L))
                 .willReturn(Optional.empty());
 
         // When & Then: AccountNotFoundException 발생
@@ -177,7 +174,7 @@ class AccountServiceTest {
                 .isActive(false)  // 비활성화
                 .build();
 
-        given(accountRepository.findByBookTypeAndIsActive(BookType.PERSONAL, true))
+        given(chartOfAccounts.findActive(BookType.PERSONAL))
                 .willReturn(List.of(revenueAccount, expenseAccount, paymentAccount));
 
         // When: 전체 계정과목 조회
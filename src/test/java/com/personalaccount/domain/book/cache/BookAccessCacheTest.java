@@ -0,0 +1,139 @@
+package com.personalaccount.domain.book.cache;
+
+import com.personalaccount.common.exception.custom.BookNotFoundException;
+import com.personalaccount.common.exception.custom.UnauthorizedBookAccessException;
+import com.personalaccount.domain.book.entity.BookType;
+import com.personalaccount.domain.book.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookAccessCache 테스트")
+class BookAccessCacheTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private BookAccessCache bookAccessCache;
+
+    @BeforeEach
+    void setUp() {
+        bookAccessCache = new BookAccessCache(bookRepository, redisTemplate);
+    }
+
+    @Test
+    @DisplayName("권한검증_반복호출_DB조회_1회")
+    void validateAccess_CachesAfterFirstLoad() {
+        given(bookRepository.findAccessById(1L))
+                .willReturn(Optional.of(new BookAccess(1L, 1L, BookType.PERSONAL, true)));
+
+        BookAccess first = bookAccessCache.validateAccess(1L, 1L);
+        BookAccess second = bookAccessCache.validateAccess(1L, 1L);
+
+        assertThat(first.getBookType()).isEqualTo(BookType.PERSONAL);
+        assertThat(second).isSameAs(first);
+        verify(bookRepository, times(1)).findAccessById(1L);
+    }
+
+    @Test
+    @DisplayName("다른사용자_장부접근_권한없음_예외발생")
+    void validateAccess_NotOwner_ThrowsException() {
+        given(bookRepository.findAccessById(1L))
+                .willReturn(Optional.of(new BookAccess(1L, 2L, BookType.PERSONAL, true)));
+
+        assertThatThrownBy(() -> bookAccessCache.validateAccess(1L, 1L))
+                .isInstanceOf(UnauthorizedBookAccessException.class);
+    }
+
+    @Test
+    @DisplayName("비활성장부_접근_예외발생")
+    void validateAccess_InactiveBook_ThrowsException() {
+        given(bookRepository.findAccessById(1L))
+                .willReturn(Optional.of(new BookAccess(1L, 1L, BookType.PERSONAL, false)));
+
+        assertThatThrownBy(() -> bookAccessCache.validateAccess(1L, 1L))
+                .isInstanceOf(BookNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("존재하지않는_장부_예외발생")
+    void validateAccess_BookNotFound_ThrowsException() {
+        given(bookRepository.findAccessById(999L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> bookAccessCache.validateAccess(1L, 999L))
+                .isInstanceOf(BookNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("캐시삭제_후_재조회")
+    void evict_ReloadsFromRepository() {
+        given(bookRepository.findAccessById(1L))
+                .willReturn(Optional.of(new BookAccess(1L, 1L, BookType.PERSONAL, true)))
+                .willReturn(Optional.of(new BookAccess(1L, 1L, BookType.PERSONAL, false)));
+
+        bookAccessCache.validateAccess(1L, 1L);
+        bookAccessCache.evict(1L);
+
+        assertThatThrownBy(() -> bookAccessCache.validateAccess(1L, 1L))
+                .isInstanceOf(BookNotFoundException.class);
+        verify(bookRepository, times(2)).findAccessById(1L);
+    }
+
+    @Test
+    @DisplayName("캐시삭제_다른노드에_전파")
+    void evict_BroadcastsBookId() {
+        bookAccessCache.evict(1L);
+
+        verify(redisTemplate).convertAndSend(BookAccessCache.CHANNEL, "1");
+    }
+
+    @Test
+    @DisplayName("캐시삭제_전파실패해도_로컬삭제_유지")
+    void evict_BroadcastFailure_StillEvictsLocally() {
+        given(bookRepository.findAccessById(1L))
+                .willReturn(Optional.of(new BookAccess(1L, 1L, BookType.PERSONAL, true)));
+        willThrow(new RedisConnectionFailureException("down"))
+                .given(redisTemplate).convertAndSend(BookAccessCache.CHANNEL, "1");
+
+        bookAccessCache.validateAccess(1L, 1L);
+        bookAccessCache.evict(1L);
+        bookAccessCache.validateAccess(1L, 1L);
+
+        verify(bookRepository, times(2)).findAccessById(1L);
+    }
+
+    @Test
+    @DisplayName("다른노드_삭제메시지_수신시_재조회")
+    void onMessage_InvalidatesLocalEntry() {
+        given(bookRepository.findAccessById(1L))
+                .willReturn(Optional.of(new BookAccess(1L, 1L, BookType.PERSONAL, true)))
+                .willReturn(Optional.of(new BookAccess(1L, 1L, BookType.PERSONAL, false)));
+
+        bookAccessCache.validateAccess(1L, 1L);
+        bookAccessCache.onMessage("1");
+
+        assertThatThrownBy(() -> bookAccessCache.validateAccess(1L, 1L))
+                .isInstanceOf(BookNotFoundException.class);
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+}
@@ -4,6 +4,7 @@ import com.personalaccount.common.exception.custom.BookNotFoundException;
 import com.personalaccount.common.exception.custom.DuplicateBookTypeException;
 import com.personalaccount.common.exception.custom.UnauthorizedBookAccessException;
 import com.personalaccount.common.exception.custom.UserNotFoundException;
+import com.personalaccount.domain.book.cache.BookAccessCache;
 import com.personalaccount.domain.book.dto.request.BookCreateRequest;
 import com.personalaccount.domain.book.dto.request.BookUpdateRequest;
 import com.personalaccount.domain.book.entity.Book;
@@ -39,6 +40,9 @@ class BookServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private BookAccessCache bookAccessCache;
+
     @InjectMocks
     private BookServiceImpl bookService;
 
@@ -219,6 +223,7 @@ class BookServiceTest {
         assertThat(result.getName()).isEqualTo("수정된 장부");
 
         verify(bookRepository).findByIdAndIsActive(bookId, true);
+        verify(bookAccessCache).evict(bookId);
     }
 
     @Test
@@ -237,5 +242,6 @@ class BookServiceTest {
         assertThat(testBook.getIsActive()).isFalse();
 
         verify(bookRepository).findByIdAndIsActive(bookId, true);
+        verify(bookAccessCache).evict(bookId);
     }
 }
\ No newline at end of file
@@ -3,7 +3,9 @@ package com.personalaccount.domain.transaction.repository;
 import com.personalaccount.domain.book.entity.Book;
 import com.personalaccount.domain.book.entity.BookType;
 import com.personalaccount.domain.book.repository.BookRepository;
+import com.personalaccount.domain.transaction.dto.request.TransactionCursor;
 import com.personalaccount.domain.transaction.dto.request.TransactionSearchCondition;
+import com.personalaccount.domain.transaction.dto.response.TransactionResponse;
 import com.personalaccount.domain.transaction.entity.Transaction;
 import com.personalaccount.domain.transaction.entity.TransactionType;
 import com.personalaccount.domain.user.entity.User;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,6 +40,9 @@ class TransactionRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private Book testBook;
 
     @BeforeEach
@@ -109,6 +115,26 @@ class TransactionRepositoryTest {
         assertThat(result.getFirst().getMemo()).contains("테스트");
     }
 
+    @Test
+    @DisplayName("거래_검색_키워드_대소문자무시_일치없으면_빈결과")
+    void searchTransactions_ByKeyword_IgnoreCaseAndNoMatch() {
+        transactionRepository.save(newTransaction("Netflix 구독"));
+
+        TransactionSearchCondition matching = TransactionSearchCondition.builder()
+                .bookId(testBook.getId())
+                .keyword("netflix")
+                .build();
+        TransactionSearchCondition missing = TransactionSearchCondition.builder()
+                .bookId(testBook.getId())
+                .keyword("없는메모")
+                .build();
+
+        assertThat(transactionRepository.searchTransactions(matching))
+                .extracting(Transaction::getMemo)
+                .containsExactly("Netflix 구독");
+        assertThat(transactionRepository.searchTransactions(missing)).isEmpty();
+    }
+
     @Test
     @DisplayName("거래_검색_날짜범위로_조회")
     void searchTransactions_ByDateRange() {
@@ -123,4 +149,57 @@ class TransactionRepositoryTest {
 
         assertThat(result).isNotEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("거래_저장_시퀀스ID_INSERT_지연")
+    void save_AssignsSequenceIdWithoutImmediateInsert() {
+        Transaction saved = transactionRepository.save(newTransaction("시퀀스테스트"));
+
+        // IDENTITY 와 달리 ID 확정을 위해 즉시 INSERT 하지 않음 → flush 시점에 배치로 전송
+        assertThat(saved.getId()).isNotNull();
+        assertThat(countByMemo("시퀀스테스트")).isZero();
+
+        transactionRepository.flush();
+
+        assertThat(countByMemo("시퀀스테스트")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("거래_키셋페이지_중복누락없이_순회")
+    void searchTransactionPage_WalksAllRowsInOrder() {
+        // 같은 날짜 여러 건 포함 (date 동률 시 id 로 구분)
+        for (int i = 0; i < 5; i++) {
+            transactionRepository.save(newTransaction("페이지" + i));
+        }
+        TransactionSearchCondition condition = TransactionSearchCondition.builder()
+                .bookId(testBook.getId())
+                .build();
+
+        List<TransactionResponse> firstPage = transactionRepository.searchTransactionPage(condition, null, 4);
+        TransactionResponse last = firstPage.getLast();
+        List<TransactionResponse> secondPage = transactionRepository.searchTransactionPage(
+                condition, new TransactionCursor(last.getDate(), last.getId()), 4);
+
+        assertThat(firstPage).hasSize(4);
+        assertThat(secondPage).hasSize(2);
+        assertThat(firstPage.getFirst().getBookId()).isEqualTo(testBook.getId());
+        assertThat(secondPage.getFirst().getId()).isLessThan(last.getId());
+        assertThat(transactionRepository.countTransactions(condition)).isEqualTo(6);
+    }
+
+    private long countByMemo(String memo) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transactions WHERE memo = ?", Long.class, memo);
+    }
+
+    private Transaction newTransaction(String memo) {
+        return Transaction.builder()
+                .book(testBook)
+                .date(LocalDate.now())
+                .type(TransactionType.EXPENSE)
+                .amount(new BigDecimal("1000"))
+                .memo(memo)
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.personalaccount.domain.transaction.repository.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MemoIndex 테스트")
+class MemoIndexTest {
+
+    private MemoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Map<Long, String> memos = new HashMap<>();
+        memos.put(1L, "점심 식사");
+        memos.put(2L, "저녁 식사 (회식)");
+        memos.put(3L, "Netflix 구독료");
+        memos.put(4L, "사식 구매");
+        memos.put(5L, null);
+
+        index = MemoIndex.build(memos);
+    }
+
+    @Test
+    @DisplayName("키워드_포함_거래만_검색")
+    void search_ReturnsContainingMemos() {
+        assertThat(index.search("식사")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("회식")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("한글자_키워드_검색")
+    void search_SingleCharacter() {
+        assertThat(index.search("식")).containsExactlyInAnyOrder(1L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("대소문자_무시")
+    void search_IgnoresCase() {
+        assertThat(index.search("NETFLIX")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("조각은_있으나_순서다른_메모_제외")
+    void search_VerifiesWholeKeyword() {
+        // "사식" 의 조각(사식)은 4번에만 있고, "식사" 조각만 가진 1/2번은 제외
+        assertThat(index.search("사식")).containsExactly(4L);
+        assertThat(index.search("식사식")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일치없음_빈결과")
+    void search_NoMatch() {
+        assertThat(index.search("교통비")).isEmpty();
+        assertThat(index.size()).isEqualTo(4);
+    }
+}
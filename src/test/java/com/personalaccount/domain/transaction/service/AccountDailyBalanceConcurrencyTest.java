@@ -0,0 +1,224 @@
+package com.personalaccount.domain.transaction.service;
+
+import com.personalaccount.common.exception.custom.TransactionNotFoundException;
+import com.personalaccount.domain.account.entity.Account;
+import com.personalaccount.domain.account.entity.AccountType;
+import com.personalaccount.domain.account.repository.AccountRepository;
+import com.personalaccount.domain.book.entity.Book;
+import com.personalaccount.domain.book.entity.BookType;
+import com.personalaccount.domain.book.repository.BookRepository;
+import com.personalaccount.domain.transaction.dto.request.TransactionCreateRequest;
+import com.personalaccount.domain.transaction.entity.AccountDailyBalance;
+import com.personalaccount.domain.transaction.entity.TransactionType;
+import com.personalaccount.domain.transaction.repository.AccountDailyBalanceRepository;
+import com.personalaccount.domain.user.entity.User;
+import com.personalaccount.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일별 잔액 동시 갱신 (커밋되는 트랜잭션 여러 개가 같은 장부/계정/일자를 갱신)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("일별 잔액 동시 갱신 통합 테스트")
+class AccountDailyBalanceConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 10;
+    private static final int DAYS = 5;
+    private static final LocalDate START = LocalDate.of(2025, 3, 1);
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountDailyBalanceRepository accountDailyBalanceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User testUser;
+    private Book testBook;
+    private Account foodAccount;
+    private Account cashAccount;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(User.builder()
+                .email("concurrent@test.com")
+                .password("password")
+                .name("동시성테스터")
+                .isActive(true)
+                .build());
+
+        testBook = bookRepository.save(Book.builder()
+                .user(testUser)
+                .name("동시성장부")
+                .bookType(BookType.PERSONAL)
+                .isActive(true)
+                .build());
+
+        foodAccount = accountRepository.save(account("C5100", "동시성식비", AccountType.EXPENSE));
+        cashAccount = accountRepository.save(account("C1100", "동시성현금", AccountType.PAYMENT_METHOD));
+    }
+
+    @AfterEach
+    void tearDown() {
+        Long bookId = testBook.getId();
+        jdbcTemplate.update("DELETE FROM account_daily_balances WHERE book_id = ?", bookId);
+        jdbcTemplate.update("""
+                DELETE FROM transaction_details WHERE journal_entry_id IN (
+                    SELECT je.id FROM journal_entries je
+                    JOIN transactions t ON je.transaction_id = t.id
+                    WHERE t.book_id = ?)""", bookId);
+        jdbcTemplate.update("""
+                DELETE FROM journal_entries WHERE transaction_id IN (
+                    SELECT id FROM transactions WHERE book_id = ?)""", bookId);
+        jdbcTemplate.update("DELETE FROM transactions WHERE book_id = ?", bookId);
+
+        accountRepository.deleteAll(List.of(foodAccount, cashAccount));
+        bookRepository.delete(testBook);
+        userRepository.delete(testUser);
+    }
+
+    @Test
+    @DisplayName("동시_거래생성_일별잔액_누락없음")
+    void createTransaction_Concurrent_NoLostDeltas() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    // 스레드마다 다른 순서로 날짜를 돌아 소급 거래(이후 일자 보정)와 새 일자 생성을 섞음
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        LocalDate date = START.plusDays((DAYS - 1 - (i + thread) % DAYS));
+                        transactionService.createTransaction(testUser.getId(), expense(date, "1000"));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 일자별 거래 수 = THREADS * PER_THREAD / DAYS = 16건
+        BigDecimal perDay = new BigDecimal(1000L * THREADS * PER_THREAD / DAYS);
+        for (int day = 0; day < DAYS; day++) {
+            LocalDate date = START.plusDays(day);
+
+            AccountDailyBalance cash = balance(cashAccount, date);
+            assertThat(cash.getCreditSum()).isEqualByComparingTo(perDay);
+            assertThat(cash.getBalance()).isEqualByComparingTo(perDay.multiply(BigDecimal.valueOf(day + 1)).negate());
+
+            AccountDailyBalance food = balance(foodAccount, date);
+            assertThat(food.getDebitSum()).isEqualByComparingTo(perDay);
+            assertThat(food.getBalance()).isEqualByComparingTo(perDay.multiply(BigDecimal.valueOf(day + 1)));
+        }
+    }
+
+    @Test
+    @DisplayName("같은거래_동시삭제_잔액차감_1번만")
+    void deleteTransaction_Concurrent_RevertsOnce() throws Exception {
+        transactionService.createTransaction(testUser.getId(), expense(START, "5000"));
+        Long deleteId = transactionService.createTransaction(testUser.getId(), expense(START, "1000")).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        int deleted = 0;
+        int notFound = 0;
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    transactionService.deleteTransaction(testUser.getId(), deleteId);
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            for (Future<?> result : results) {
+                try {
+                    result.get(60, TimeUnit.SECONDS);
+                    deleted++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(TransactionNotFoundException.class);
+                    notFound++;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(notFound).isEqualTo(THREADS - 1);
+        assertThat(balance(cashAccount, START).getCreditSum()).isEqualByComparingTo("5000");
+        assertThat(balance(foodAccount, START).getDebitSum()).isEqualByComparingTo("5000");
+        assertThat(balance(foodAccount, START).getBalance()).isEqualByComparingTo("5000");
+    }
+
+    private AccountDailyBalance balance(Account account, LocalDate date) {
+        return accountDailyBalanceRepository
+                .findByBookIdAndAccountIdAndDate(testBook.getId(), account.getId(), date)
+                .orElseThrow();
+    }
+
+    private TransactionCreateRequest expense(LocalDate date, String amount) {
+        return TransactionCreateRequest.builder()
+                .bookId(testBook.getId())
+                .date(date)
+                .type(TransactionType.EXPENSE)
+                .amount(new BigDecimal(amount))
+                .categoryId(foodAccount.getId())
+                .paymentMethodId(cashAccount.getId())
+                .memo("동시성")
+                .build();
+    }
+
+    private Account account(String code, String name, AccountType accountType) {
+        return Account.builder()
+                .code(code)
+                .name(name)
+                .accountType(accountType)
+                .bookType(BookType.PERSONAL)
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,191 @@
+package com.personalaccount.domain.transaction.service;
+
+import com.personalaccount.common.exception.custom.InvalidTransactionException;
+import com.personalaccount.domain.account.entity.Account;
+import com.personalaccount.domain.account.entity.AccountType;
+import com.personalaccount.domain.account.repository.AccountRepository;
+import com.personalaccount.domain.book.entity.Book;
+import com.personalaccount.domain.book.entity.BookType;
+import com.personalaccount.domain.book.repository.BookRepository;
+import com.personalaccount.domain.transaction.dto.request.TransactionCreateRequest;
+import com.personalaccount.domain.transaction.dto.response.TransactionImportResponse;
+import com.personalaccount.domain.transaction.entity.AccountDailyBalance;
+import com.personalaccount.domain.transaction.entity.TransactionType;
+import com.personalaccount.domain.transaction.repository.AccountDailyBalanceRepository;
+import com.personalaccount.domain.user.entity.User;
+import com.personalaccount.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("거래 일괄 등록 통합 테스트")
+class TransactionImportIntegrationTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountDailyBalanceRepository accountDailyBalanceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User testUser;
+    private Book testBook;
+    private Account salaryAccount;
+    private Account foodAccount;
+    private Account bankAccount;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(User.builder()
+                .email("import@test.com")
+                .password("password")
+                .name("이관테스터")
+                .isActive(true)
+                .build());
+
+        testBook = bookRepository.save(Book.builder()
+                .user(testUser)
+                .name("이관장부")
+                .bookType(BookType.PERSONAL)
+                .isActive(true)
+                .build());
+
+        salaryAccount = accountRepository.save(account("T4100", "이관급여", AccountType.REVENUE));
+        foodAccount = accountRepository.save(account("T5100", "이관식비", AccountType.EXPENSE));
+        bankAccount = accountRepository.save(account("T1200", "이관은행", AccountType.PAYMENT_METHOD));
+        accountRepository.flush();
+    }
+
+    @Test
+    @DisplayName("일괄등록_세테이블_저장_일별잔액_재계산")
+    void importTransactions_WritesAllTablesAndRollup() {
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        List<TransactionCreateRequest> requests = new ArrayList<>();
+
+        // 1,200건: 청크 경계(500)를 넘도록 구성
+        for (int i = 0; i < 600; i++) {
+            LocalDate date = start.plusDays(i % 90);
+            requests.add(request(date, TransactionType.INCOME, salaryAccount, "10000"));
+            requests.add(request(date, TransactionType.EXPENSE, foodAccount, "3000"));
+        }
+
+        TransactionImportResponse response =
+                transactionService.importTransactions(testUser.getId(), requests);
+
+        assertThat(response.getImportedCount()).isEqualTo(1200);
+        assertThat(countByBook("transactions t")).isEqualTo(1200);
+        assertThat(countByBook("journal_entries je JOIN transactions t ON je.transaction_id = t.id"))
+                .isEqualTo(1200);
+        assertThat(countByBook("""
+                transaction_details td
+                JOIN journal_entries je ON td.journal_entry_id = je.id
+                JOIN transactions t ON je.transaction_id = t.id"""))
+                .isEqualTo(2400);
+
+        // 은행: 600 * (10000 - 3000) = 4,200,000
+        AccountDailyBalance lastBank = accountDailyBalanceRepository
+                .findFirstByBookIdAndAccountIdAndDateLessThanOrderByDateDesc(
+                        testBook.getId(), bankAccount.getId(), start.plusDays(90))
+                .orElseThrow();
+        assertThat(lastBank.getBalance()).isEqualByComparingTo(new BigDecimal("4200000"));
+    }
+
+    @Test
+    @DisplayName("일괄등록_기준일이전_잔액유지_이어서계산")
+    void importTransactions_KeepsEarlierRowsAndSeedsFromThem() {
+        LocalDate january = LocalDate.of(2025, 1, 10);
+        transactionService.createTransaction(testUser.getId(),
+                request(january, TransactionType.INCOME, salaryAccount, "50000"));
+        AccountDailyBalance before = accountDailyBalanceRepository
+                .findByBookIdAndAccountIdAndDate(testBook.getId(), bankAccount.getId(), january)
+                .orElseThrow();
+
+        LocalDate february = LocalDate.of(2025, 2, 1);
+        transactionService.importTransactions(testUser.getId(), List.of(
+                request(february, TransactionType.EXPENSE, foodAccount, "3000"),
+                request(february.plusDays(1), TransactionType.INCOME, salaryAccount, "10000")
+        ));
+
+        // 기준일(2/1) 이전 행은 삭제/재생성되지 않음
+        AccountDailyBalance after = accountDailyBalanceRepository
+                .findByBookIdAndAccountIdAndDate(testBook.getId(), bankAccount.getId(), january)
+                .orElseThrow();
+        assertThat(after.getId()).isEqualTo(before.getId());
+
+        // 50000 - 3000 = 47000, + 10000 = 57000
+        assertThat(accountDailyBalanceRepository
+                .findByBookIdAndAccountIdAndDate(testBook.getId(), bankAccount.getId(), february)
+                .orElseThrow().getBalance()).isEqualByComparingTo(new BigDecimal("47000"));
+        assertThat(accountDailyBalanceRepository
+                .findByBookIdAndAccountIdAndDate(testBook.getId(), bankAccount.getId(), february.plusDays(1))
+                .orElseThrow().getBalance()).isEqualByComparingTo(new BigDecimal("57000"));
+    }
+
+    @Test
+    @DisplayName("일괄등록_하나라도_잘못되면_예외발생")
+    void importTransactions_InvalidRow_ThrowsException() {
+        List<TransactionCreateRequest> requests = List.of(
+                request(LocalDate.of(2025, 1, 1), TransactionType.INCOME, salaryAccount, "10000"),
+                request(LocalDate.of(2025, 1, 2), TransactionType.INCOME, foodAccount, "3000")
+        );
+
+        assertThatThrownBy(() -> transactionService.importTransactions(testUser.getId(), requests))
+                .isInstanceOf(InvalidTransactionException.class);
+        assertThat(countByBook("transactions t")).isZero();
+    }
+
+    private TransactionCreateRequest request(LocalDate date, TransactionType type,
+                                             Account category, String amount) {
+        return TransactionCreateRequest.builder()
+                .bookId(testBook.getId())
+                .date(date)
+                .type(type)
+                .amount(new BigDecimal(amount))
+                .categoryId(category.getId())
+                .paymentMethodId(bankAccount.getId())
+                .memo("이관")
+                .build();
+    }
+
+    private long countByBook(String from) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + from + " WHERE t.book_id = ?", Long.class, testBook.getId());
+    }
+
+    private Account account(String code, String name, AccountType accountType) {
+        return Account.builder()
+                .code(code)
+                .name(name)
+                .accountType(accountType)
+                .bookType(BookType.PERSONAL)
+                .isActive(true)
+                .build();
+    }
+}
@@ -4,9 +4,11 @@ import com.personalaccount.common.exception.custom.AccountNotFoundException;
 import com.personalaccount.common.exception.custom.BookNotFoundException;
 import com.personalaccount.common.exception.custom.InvalidTransactionException;
 import com.personalaccount.common.exception.custom.UnauthorizedBookAccessException;
+import com.personalaccount.domain.account.cache.ChartOfAccounts;
 import com.personalaccount.domain.account.entity.Account;
 import com.personalaccount.domain.account.entity.AccountType;
-import com.personalaccount.domain.account.repository.AccountRepository;
+import com.personalaccount.domain.book.cache.BookAccess;
+import com.personalaccount.domain.book.cache.BookAccessCache;
 import com.personalaccount.domain.book.entity.Book;
 import com.personalaccount.domain.book.entity.BookType;
 import com.personalaccount.domain.book.repository.BookRepository;
@@ -24,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -50,7 +53,16 @@ class TransactionServiceExceptionTest {
     private BookRepository bookRepository;
 
     @Mock
-    private AccountRepository accountRepository;
+    private BookAccessCache bookAccessCache;
+
+    @Mock
+    private ChartOfAccounts chartOfAccounts;
+
+    @Mock
+    private AccountDailyBalanceService accountDailyBalanceService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private TransactionServiceImpl transactionService;
@@ -121,9 +133,9 @@ class TransactionServiceExceptionTest {
                 .paymentMethodId(2L)
                 .build();
 
-        // Mock: empty 반환
-        given(bookRepository.findByIdAndIsActive(999L, true))
-                .willReturn(Optional.empty());
+        // Mock: 장부 없음
+        given(bookAccessCache.validateAccess(1L, 999L))
+                .willThrow(new BookNotFoundException(999L));
 
         // When & Then: 예외 발생 확인
         assertThatThrownBy(() ->
@@ -135,19 +147,6 @@ class TransactionServiceExceptionTest {
     @DisplayName("다른사용자_장부접근_권한없음_예외발생")
     void createTransaction_UnauthorizedAccess_ThrowsException() {
         //  Given: 다른 사용자의 장부
-        User anotherUser = User.builder()
-                .id(999L)
-                .email("another@test.com")
-                .name("다른유저")
-                .build();
-
-        Book anotherBook = Book.builder()
-                .id(1L)
-                .user(anotherUser)
-                .bookType(BookType.PERSONAL)
-                .name("다른장부")
-                .build();
-
         TransactionCreateRequest request = TransactionCreateRequest.builder()
                 .bookId(1L)
                 .date(LocalDate.now())
@@ -157,9 +156,9 @@ class TransactionServiceExceptionTest {
                 .paymentMethodId(2L)
                 .build();
 
-        // Mock: 다른 사용자의 장부 반환
-        given(bookRepository.findByIdAndIsActive(1L, true))
-                .willReturn(Optional.of(anotherBook));
+        // Mock: 다른 사용자의 장부 접근
+        given(bookAccessCache.validateAccess(1L, 1L))
+                .willThrow(new UnauthorizedBookAccessException(1L));
 
         // When & Then: UnauthorizedBookAccessException 발생
         assertThatThrownBy(() ->
@@ -181,10 +180,10 @@ class TransactionServiceExceptionTest {
                 .build();
 
         // Mock: 장부는 정상, 계정과목은 없음
-        given(bookRepository.findByIdAndIsActive(1L, true))
-                .willReturn(Optional.of(testBook));
+        given(bookAccessCache.validateAccess(1L, 1L))
+                .willReturn(new BookAccess(1L, 1L, BookType.PERSONAL, true));
 
-        given(accountRepository.findById(999L))
+        given(chartOfAccounts.findById(999L))
                 .willReturn(Optional.empty());
 
         // When & Then: AccountNotFoundException 발생
@@ -206,13 +205,13 @@ class TransactionServiceExceptionTest {
                 .paymentMethodId(2L)
                 .build();
 
-        given(bookRepository.findByIdAndIsActive(1L, true))
-                .willReturn(Optional.of(testBook));
+        given(bookAccessCache.validateAccess(1L, 1L))
+                .willReturn(new BookAccess(1L, 1L, BookType.PERSONAL, true));
 
-        given(accountRepository.findById(3L))
+        given(chartOfAccounts.findById(3L))
                 .willReturn(Optional.of(expenseAccount));
 
-        given(accountRepository.findById(2L))
+        given(chartOfAccounts.findById(2L))
                 .willReturn(Optional.of(paymentAccount));
 
         // When & Then
@@ -243,13 +242,13 @@ class TransactionServiceExceptionTest {
                 .paymentMethodId(2L)
                 .build();
 
-        given(bookRepository.findByIdAndIsActive(1L, true))
-                .willReturn(Optional.of(testBook));  // PERSONAL
+        given(bookAccessCache.validateAccess(1L, 1L))
+                .willReturn(new BookAccess(1L, 1L, BookType.PERSONAL, true));  // PERSONAL
 
-        given(accountRepository.findById(99L))
+        given(chartOfAccounts.findById(99L))
                 .willReturn(Optional.of(businessAccount));  // BUSINESS
 
-        given(accountRepository.findById(2L))
+        given(chartOfAccounts.findById(2L))
                 .willReturn(Optional.of(paymentAccount));
 
         // When & Then
@@ -1,10 +1,16 @@
 package com.personalaccount.domain.transaction.service;
 
+import com.personalaccount.common.exception.custom.InvalidCursorException;
+import com.personalaccount.domain.book.cache.BookAccess;
+import com.personalaccount.domain.book.cache.BookAccessCache;
 import com.personalaccount.domain.book.entity.Book;
+import com.personalaccount.domain.book.entity.BookType;
 import com.personalaccount.domain.book.repository.BookRepository;
 import com.personalaccount.domain.transaction.dto.mapper.TransactionMapper;
+import com.personalaccount.domain.transaction.dto.request.TransactionCursor;
 import com.personalaccount.domain.transaction.dto.request.TransactionSearchCondition;
 import com.personalaccount.domain.transaction.dto.response.TransactionDetailResponse;
+import com.personalaccount.domain.transaction.dto.response.TransactionPageResponse;
 import com.personalaccount.domain.transaction.dto.response.TransactionResponse;
 import com.personalaccount.domain.transaction.entity.DetailType;
 import com.personalaccount.domain.transaction.entity.JournalEntry;
@@ -23,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -30,8 +37,12 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +55,9 @@ class TransactionServiceQueryTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private BookAccessCache bookAccessCache;
+
     @Mock
     private JournalEntryRepository journalEntryRepository;
 
@@ -53,6 +67,12 @@ class TransactionServiceQueryTest {
     @Mock
     private TransactionMapper transactionMapper;
 
+    @Mock
+    private AccountDailyBalanceService accountDailyBalanceService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TransactionServiceImpl transactionService;
 
@@ -101,8 +121,8 @@ class TransactionServiceQueryTest {
                 .memo("테스트거래")
                 .build();
 
-        given(bookRepository.findByIdAndIsActive(bookId, true))
-                .willReturn(Optional.of(testBook));
+        given(bookAccessCache.validateAccess(userId, bookId))
+                .willReturn(new BookAccess(bookId, userId, BookType.PERSONAL, true));
         given(transactionRepository.searchTransactions(any(TransactionSearchCondition.class)))
                 .willReturn(List.of(testTransaction));
         given(transactionMapper.toResponse(testTransaction))
@@ -116,7 +136,7 @@ class TransactionServiceQueryTest {
         assertThat(result.getFirst().getBookId()).isEqualTo(bookId);
         assertThat(result.getFirst().getType()).isEqualTo(type);
 
-        verify(bookRepository).findByIdAndIsActive(bookId, true);
+        verify(bookAccessCache).validateAccess(userId, bookId);
         verify(transactionRepository).searchTransactions(any(TransactionSearchCondition.class));
         verify(transactionMapper).toResponse(testTransaction);
     }
@@ -210,4 +230,75 @@ class TransactionServiceQueryTest {
         verify(journalEntryRepository).findByTransactionId(transactionId);
         verify(transactionDetailRepository).findWithAccountByJournalEntryIdIn(List.of(1L));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("거래_페이지조회_다음페이지_커서반환")
+    void getTransactionPage_HasNext_ReturnsCursor() {
+        TransactionSearchCondition condition = TransactionSearchCondition.builder()
+                .bookId(1L)
+                .build();
+        LocalDate date = LocalDate.of(2025, 3, 10);
+
+        given(bookAccessCache.validateAccess(1L, 1L))
+                .willReturn(new BookAccess(1L, 1L, BookType.PERSONAL, true));
+        given(transactionRepository.searchTransactionPage(eq(condition), isNull(), eq(3)))
+                .willReturn(List.of(pageRow(30L, date), pageRow(20L, date), pageRow(10L, date)));
+        given(transactionRepository.countTransactions(condition))
+                .willReturn(3L);
+
+        TransactionPageResponse result = transactionService.getTransactionPage(1L, condition, null, 2, true);
+
+        assertThat(result.getContent()).extracting(TransactionResponse::getId).containsExactly(30L, 20L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(TransactionCursor.decode(result.getNextCursor()))
+                .isEqualTo(new TransactionCursor(date, 20L));
+        assertThat(result.getTotalCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("거래_페이지조회_마지막페이지_커서없음")
+    void getTransactionPage_LastPage_NoCursor() {
+        TransactionSearchCondition condition = TransactionSearchCondition.builder()
+                .bookId(1L)
+                .build();
+        TransactionCursor cursor = new TransactionCursor(LocalDate.of(2025, 3, 10), 20L);
+
+        given(bookAccessCache.validateAccess(1L, 1L))
+                .willReturn(new BookAccess(1L, 1L, BookType.PERSONAL, true));
+        given(transactionRepository.searchTransactionPage(condition, cursor, 3))
+                .willReturn(List.of(pageRow(10L, LocalDate.of(2025, 3, 10))));
+
+        TransactionPageResponse result =
+                transactionService.getTransactionPage(1L, condition, cursor.encode(), 2, true);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getTotalCount()).isNull();
+        verify(transactionRepository, never()).countTransactions(any());
+    }
+
+    @Test
+    @DisplayName("거래_페이지조회_잘못된커서_예외발생")
+    void getTransactionPage_InvalidCursor_ThrowsException() {
+        TransactionSearchCondition condition = TransactionSearchCondition.builder()
+                .bookId(1L)
+                .build();
+
+        given(bookAccessCache.validateAccess(1L, 1L))
+                .willReturn(new BookAccess(1L, 1L, BookType.PERSONAL, true));
+
+        assertThatThrownBy(() -> transactionService.getTransactionPage(1L, condition, "not-a-cursor", 20, false))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private TransactionResponse pageRow(Long id, LocalDate date) {
+        return TransactionResponse.builder()
+                .id(id)
+                .bookId(1L)
+                .date(date)
+                .type(TransactionType.EXPENSE)
+                .amount(new BigDecimal("1000"))
+                .build();
+    }
+}
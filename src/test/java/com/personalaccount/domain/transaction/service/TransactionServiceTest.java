@@ -1,8 +1,10 @@
     package com.personalaccount.domain.transaction.service;
 
+    import com.personalaccount.domain.account.cache.ChartOfAccounts;
     import com.personalaccount.domain.account.entity.Account;
     import com.personalaccount.domain.account.entity.AccountType;
-    import com.personalaccount.domain.account.repository.AccountRepository;
+    import com.personalaccount.domain.book.cache.BookAccess;
+    import com.personalaccount.domain.book.cache.BookAccessCache;
     import com.personalaccount.domain.book.entity.Book;
     import com.personalaccount.domain.book.entity.BookType;
     import com.personalaccount.domain.book.repository.BookRepository;
@@ -24,6 +26,7 @@
     import org.mockito.InjectMocks;
     import org.mockito.Mock;
     import org.mockito.junit.jupiter.MockitoExtension;
+    import org.springframework.context.ApplicationEventPublisher;
 
     import java.math.BigDecimal;
     import java.time.LocalDate;
@@ -54,11 +57,20 @@
         private BookRepository bookRepository;
 
         @Mock
-        private AccountRepository accountRepository;
+        private BookAccessCache bookAccessCache;
+
+        @Mock
+        private ChartOfAccounts chartOfAccounts;
 
         @Mock
         private TransactionMapper transactionMapper;
 
+        @Mock
+        private AccountDailyBalanceService accountDailyBalanceService;
+
+        @Mock
+        private ApplicationEventPublisher eventPublisher;
+
         @InjectMocks
         private TransactionServiceImpl transactionService;
 
@@ -131,13 +143,15 @@
                     .build();
 
             // Mock 동작 정의
-            given(bookRepository.findByIdAndIsActive(1L, true))
-                    .willReturn(Optional.of(testBook));
+            given(bookAccessCache.validateAccess(1L, 1L))
+                    .willReturn(new BookAccess(1L, 1L, BookType.PERSONAL, true));
+            given(bookRepository.getReferenceById(1L))
+                    .willReturn(testBook);
 
-            given(accountRepository.findById(1L))
+            given(chartOfAccounts.findById(1L))
                     .willReturn(Optional.of(revenueAccount));
 
-            given(accountRepository.findById(2L))
+            given(chartOfAccounts.findById(2L))
                     .willReturn(Optional.of(paymentAccount));
 
             given(transactionRepository.save(any(Transaction.class)))
@@ -253,13 +267,15 @@
                     .build();
 
             // Mock 동작 정의
-            given(bookRepository.findByIdAndIsActive(1L, true))
-                    .willReturn(Optional.of(testBook));
+            given(bookAccessCache.validateAccess(1L, 1L))
+                    .willReturn(new BookAccess(1L, 1L, BookType.PERSONAL, true));
+            given(bookRepository.getReferenceById(1L))
+                    .willReturn(testBook);
 
-            given(accountRepository.findById(3L))
+            given(chartOfAccounts.findById(3L))
                     .willReturn(Optional.of(expenseAccount));
 
-            given(accountRepository.findById(2L))
+            given(chartOfAccounts.findById(2L))
                     .willReturn(Optional.of(paymentAccount));
 
             given(transactionRepository.save(any(Transaction.class)))
@@ -1,5 +1,6 @@
 package com.personalaccount.domain.transaction.service;
 
+import com.personalaccount.common.exception.custom.TransactionNotFoundException;
 import com.personalaccount.domain.book.entity.Book;
 import com.personalaccount.domain.book.entity.BookType;
 import com.personalaccount.domain.transaction.dto.mapper.TransactionMapper;
@@ -7,6 +8,8 @@ import com.personalaccount.domain.transaction.dto.request.TransactionUpdateReque
 import com.personalaccount.domain.transaction.dto.response.TransactionResponse;
 import com.personalaccount.domain.transaction.entity.Transaction;
 import com.personalaccount.domain.transaction.entity.TransactionType;
+import com.personalaccount.domain.transaction.event.TransactionChangedEvent;
+import com.personalaccount.domain.transaction.repository.TransactionDetailRepository;
 import com.personalaccount.domain.transaction.repository.TransactionRepository;
 import com.personalaccount.domain.transaction.service.impl.TransactionServiceImpl;
 import com.personalaccount.domain.user.entity.User;
@@ -14,16 +17,26 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,9 +46,18 @@ class TransactionServiceUpdateTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Mock
+    private TransactionDetailRepository transactionDetailRepository;
+
     @Mock
     private TransactionMapper transactionMapper;
 
+    @Mock
+    private AccountDailyBalanceService accountDailyBalanceService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TransactionServiceImpl transactionService;
 
@@ -105,6 +127,47 @@ class TransactionServiceUpdateTest {
         verify(transactionMapper).toResponse(testTransaction);
     }
 
+    @Test
+    @DisplayName("거래수정_메모변경_리포트캐시_무효화이벤트_발행")
+    void updateTransaction_MemoChanged_PublishesChangedEvent() {
+        // Given
+        TransactionUpdateRequest request = TransactionUpdateRequest.builder()
+                .memo("수정된메모")
+                .build();
+
+        given(transactionRepository.findByIdWithBookAndUser(1L))
+                .willReturn(Optional.of(testTransaction));
+        given(transactionMapper.toResponse(testTransaction))
+                .willReturn(testResponse);
+
+        // When
+        transactionService.updateTransaction(1L, 1L, request);
+
+        // Then - 원장 캐시는 메모를 포함하므로 거래 월부터 무효화되어야 함
+        ArgumentCaptor<TransactionChangedEvent> captor = ArgumentCaptor.forClass(TransactionChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getBookId()).isEqualTo(1L);
+        assertThat(captor.getValue().getDate()).isEqualTo(testTransaction.getDate());
+    }
+
+    @Test
+    @DisplayName("거래수정_변경없음_이벤트_미발행")
+    void updateTransaction_NoChange_DoesNotPublishEvent() {
+        // Given
+        TransactionUpdateRequest request = TransactionUpdateRequest.builder().build();
+
+        given(transactionRepository.findByIdWithBookAndUser(1L))
+                .willReturn(Optional.of(testTransaction));
+        given(transactionMapper.toResponse(testTransaction))
+                .willReturn(testResponse);
+
+        // When
+        transactionService.updateTransaction(1L, 1L, request);
+
+        // Then
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
     @Test
     @DisplayName("거래삭제_SoftDelete_성공")
     void deleteTransaction_Success() {
@@ -114,6 +177,8 @@ class TransactionServiceUpdateTest {
 
         given(transactionRepository.findByIdWithBookAndUser(1L))
                 .willReturn(Optional.of(testTransaction));
+        given(transactionRepository.deactivateIfActive(eq(1L), any(LocalDateTime.class)))
+                .willReturn(1);
 
         // When
         transactionService.deleteTransaction(userId, transactionId);
@@ -121,6 +186,27 @@ class TransactionServiceUpdateTest {
         // Then
         assertThat(testTransaction.getIsActive()).isFalse();
 
-        verify(transactionRepository).findByIdWithBookAndUser(1L);
+        InOrder inOrder = inOrder(accountDailyBalanceService, transactionRepository);
+        inOrder.verify(accountDailyBalanceService).lockBook(1L);
+        inOrder.verify(transactionRepository).deactivateIfActive(eq(1L), any(LocalDateTime.class));
+        inOrder.verify(accountDailyBalanceService).revert(eq(testTransaction), anyList());
+        verify(eventPublisher).publishEvent(any(TransactionChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("거래삭제_동시삭제로_이미비활성_잔액차감안함")
+    void deleteTransaction_AlreadyDeactivated_DoesNotRevert() {
+        // Given - 조회 시점에는 활성, 잠금 후 다른 요청이 먼저 비활성화
+        given(transactionRepository.findByIdWithBookAndUser(1L))
+                .willReturn(Optional.of(testTransaction));
+        given(transactionRepository.deactivateIfActive(eq(1L), any(LocalDateTime.class)))
+                .willReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> transactionService.deleteTransaction(1L, 1L))
+                .isInstanceOf(TransactionNotFoundException.class);
+
+        verify(accountDailyBalanceService, never()).revert(any(), anyList());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 }
\ No newline at end of file
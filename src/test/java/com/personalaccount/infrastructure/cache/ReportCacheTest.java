@@ -0,0 +1,198 @@
+package com.personalaccount.infrastructure.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.personalaccount.application.report.dto.response.CategorySummary;
+import com.personalaccount.domain.transaction.event.TransactionChangedEvent;
+import com.personalaccount.infrastructure.cache.ReportCache.ReportKind;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 리포트 캐시 검증 (임베디드 Redis, 저장/삭제 Lua 스크립트 실제 실행)
+ */
+@DisplayName("ReportCache 테스트")
+class ReportCacheTest {
+
+    private static final TypeReference<List<CategorySummary>> CATEGORY_TYPE = new TypeReference<>() {};
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private ReportCache reportCache;
+
+    @BeforeAll
+    static void setUpAll() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownAll() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        reportCache = new ReportCache(redisTemplate, objectMapper, true,
+                Duration.ofHours(24), Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("캐시_MISS_계산후_저장")
+    void getOrLoad_Miss_LoadsAndStores() {
+        YearMonth closedMonth = YearMonth.now().minusMonths(2);
+        String key = "report:1:category:" + closedMonth + ":EXPENSE";
+
+        List<CategorySummary> result = reportCache.getOrLoad(1L, ReportKind.CATEGORY, closedMonth, "EXPENSE",
+                CATEGORY_TYPE, this::createCategories);
+
+        assertThat(result).hasSize(1);
+        assertThat(reportCache.getMissCount()).isEqualTo(1);
+        assertThat(redisTemplate.getExpire(key, TimeUnit.HOURS)).isBetween(23L, 24L);
+        assertThat(redisTemplate.opsForZSet().score("report:1:index", key))
+                .isEqualTo(closedMonth.getYear() * 12 + closedMonth.getMonthValue() - 1.0);
+    }
+
+    @Test
+    @DisplayName("캐시_HIT_계산생략")
+    void getOrLoad_Hit_SkipsLoader() {
+        YearMonth currentMonth = YearMonth.now();
+        reportCache.getOrLoad(1L, ReportKind.CATEGORY, currentMonth, "EXPENSE",
+                CATEGORY_TYPE, this::createCategories);
+
+        AtomicInteger loadCount = new AtomicInteger();
+        List<CategorySummary> result = reportCache.getOrLoad(1L, ReportKind.CATEGORY, currentMonth, "EXPENSE",
+                CATEGORY_TYPE, () -> {
+                    loadCount.incrementAndGet();
+                    return createCategories();
+                });
+
+        assertThat(loadCount.get()).isZero();
+        assertThat(result.getFirst().getAmount()).isEqualByComparingTo(new BigDecimal("150000"));
+        assertThat(reportCache.getHitCount()).isEqualTo(1);
+        assertThat(redisTemplate.getExpire("report:1:category:" + currentMonth + ":EXPENSE", TimeUnit.MINUTES))
+                .isBetween(4L, 5L);
+    }
+
+    @Test
+    @DisplayName("Redis_장애시_DB계산으로_대체")
+    void getOrLoad_RedisFailure_FallsBackToLoader() {
+        StringRedisTemplate brokenTemplate = mock(StringRedisTemplate.class, invocation -> {
+            throw new RuntimeException("connection refused");
+        });
+        ReportCache brokenCache = new ReportCache(brokenTemplate, objectMapper, true,
+                Duration.ofHours(24), Duration.ofMinutes(5));
+
+        List<CategorySummary> result = brokenCache.getOrLoad(1L, ReportKind.CATEGORY, YearMonth.now(), "EXPENSE",
+                CATEGORY_TYPE, this::createCategories);
+
+        assertThat(result).hasSize(1);
+        assertThat(brokenCache.getErrorCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("거래변경_해당월이후_캐시삭제")
+    void onTransactionChanged_EvictsFromMonth() {
+        YearMonth february = YearMonth.of(2025, 2);
+        YearMonth march = YearMonth.of(2025, 3);
+        YearMonth april = YearMonth.of(2025, 4);
+        for (YearMonth month : List.of(february, march, april)) {
+            reportCache.getOrLoad(1L, ReportKind.STATEMENT, month, null, CATEGORY_TYPE, this::createCategories);
+        }
+
+        reportCache.onTransactionChanged(new TransactionChangedEvent(1L, LocalDate.of(2025, 3, 15)));
+
+        assertThat(redisTemplate.hasKey("report:1:statement:2025-02")).isTrue();
+        assertThat(redisTemplate.hasKey("report:1:statement:2025-03")).isFalse();
+        assertThat(redisTemplate.hasKey("report:1:statement:2025-04")).isFalse();
+        assertThat(redisTemplate.opsForZSet().range("report:1:index", 0, -1))
+                .containsExactly("report:1:statement:2025-02");
+        assertThat(reportCache.getEvictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("계산중_무효화되면_이전값_저장안함")
+    void getOrLoad_EvictedWhileLoading_SkipsStaleWrite() {
+        YearMonth closedMonth = YearMonth.now().minusMonths(2);
+        String key = "report:1:category:" + closedMonth + ":EXPENSE";
+
+        // 계산(커밋 전 데이터 기준) 도중 다른 요청의 변경이 커밋되어 삭제 실행
+        List<CategorySummary> stale = reportCache.getOrLoad(1L, ReportKind.CATEGORY, closedMonth, "EXPENSE",
+                CATEGORY_TYPE, () -> {
+                    reportCache.evictFrom(1L, closedMonth);
+                    return createCategories();
+                });
+
+        assertThat(stale).hasSize(1);
+        assertThat(redisTemplate.hasKey(key)).isFalse();
+
+        // 다음 조회는 새 세대 기준으로 다시 계산해 저장
+        reportCache.getOrLoad(1L, ReportKind.CATEGORY, closedMonth, "EXPENSE",
+                CATEGORY_TYPE, this::createCategories);
+        assertThat(redisTemplate.hasKey(key)).isTrue();
+    }
+
+    @Test
+    @DisplayName("캐시_비활성화시_Redis_미사용")
+    void getOrLoad_Disabled_BypassesRedis() {
+        StringRedisTemplate unusedTemplate = mock(StringRedisTemplate.class);
+        ReportCache disabledCache = new ReportCache(unusedTemplate, objectMapper, false,
+                Duration.ofHours(24), Duration.ofMinutes(5));
+
+        List<CategorySummary> result = disabledCache.getOrLoad(1L, ReportKind.CATEGORY, YearMonth.now(), null,
+                CATEGORY_TYPE, this::createCategories);
+
+        assertThat(result).hasSize(1);
+        verify(unusedTemplate, never()).opsForValue();
+    }
+
+    private List<CategorySummary> createCategories() {
+        return List.of(CategorySummary.builder()
+                .categoryName("식비")
+                .amount(new BigDecimal("150000"))
+                .percentage(100.0)
+                .build());
+    }
+}
@@ -0,0 +1,76 @@
+package com.personalaccount.infrastructure.datagen;
+
+import com.personalaccount.domain.account.constants.DefaultAccounts;
+import com.personalaccount.domain.account.constants.DefaultAccounts.AccountTemplate;
+import com.personalaccount.domain.book.entity.BookType;
+import com.personalaccount.domain.transaction.entity.TransactionType;
+import com.personalaccount.domain.transaction.repository.TransactionBulkRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LedgerScenario 테스트")
+class LedgerScenarioTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2025, 2);
+
+    @Test
+    @DisplayName("같은_시드_같은_거래_생성")
+    void month_SameSeed_SameRows() {
+        LedgerScenario scenario = new LedgerScenario(BookType.PERSONAL, accountIds(BookType.PERSONAL));
+
+        List<TransactionBulkRepository.Row> first = scenario.month(1L, MONTH, 100, new Random(42));
+        List<TransactionBulkRepository.Row> second = scenario.month(1L, MONTH, 100, new Random(42));
+
+        assertThat(first).hasSize(100).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("해당월_날짜_양수금액_계정타입별_차대변")
+    void month_RowsAreValid() {
+        Map<String, Long> ids = accountIds(BookType.BUSINESS);
+        LedgerScenario scenario = new LedgerScenario(BookType.BUSINESS, ids);
+
+        List<TransactionBulkRepository.Row> rows = scenario.month(1L, MONTH, 200, new Random(7));
+
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(YearMonth.from(row.date())).isEqualTo(MONTH);
+            assertThat(row.amount()).isGreaterThan(BigDecimal.ZERO);
+            assertThat(row.debitAccountId()).isNotEqualTo(row.creditAccountId());
+        });
+        // 매출은 대변, 임차료는 차변
+        assertThat(rows).filteredOn(row -> row.type() == TransactionType.INCOME)
+                .isNotEmpty()
+                .noneMatch(row -> row.creditAccountId().equals(ids.get("사업자계좌")));
+        assertThat(rows).filteredOn(row -> "사무실 임대료".equals(row.memo()))
+                .singleElement()
+                .satisfies(row -> assertThat(row.debitAccountId()).isEqualTo(ids.get("임차료")));
+    }
+
+    @Test
+    @DisplayName("건수가_고정거래보다_적으면_고정거래만")
+    void month_CountBelowFixed_OnlyFixed() {
+        LedgerScenario scenario = new LedgerScenario(BookType.PERSONAL, accountIds(BookType.PERSONAL));
+
+        List<TransactionBulkRepository.Row> rows = scenario.month(1L, MONTH, 1, new Random(1));
+
+        assertThat(rows).extracting(TransactionBulkRepository.Row::memo).contains("월급", "월세");
+    }
+
+    private Map<String, Long> accountIds(BookType bookType) {
+        Map<String, Long> ids = new HashMap<>();
+        long id = 1;
+        for (AccountTemplate template : DefaultAccounts.getDefaultAccounts(bookType)) {
+            ids.put(template.name, id++);
+        }
+        return ids;
+    }
+}
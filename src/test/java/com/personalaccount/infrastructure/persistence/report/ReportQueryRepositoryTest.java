@@ -10,8 +10,10 @@ import com.personalaccount.domain.transaction.entity.*;
 import com.personalaccount.domain.transaction.repository.JournalEntryRepository;
 import com.personalaccount.domain.transaction.repository.TransactionDetailRepository;
 import com.personalaccount.domain.transaction.repository.TransactionRepository;
+import com.personalaccount.domain.transaction.service.AccountDailyBalanceService;
 import com.personalaccount.domain.user.entity.User;
 import com.personalaccount.domain.user.repository.UserRepository;
+import com.personalaccount.infrastructure.persistence.report.dto.FinancialTotals;
 import com.querydsl.core.Tuple;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,6 +28,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -42,6 +45,7 @@ class ReportQueryRepositoryTest {
     @Autowired private BookRepository bookRepository;
     @Autowired private UserRepository userRepository;
     @Autowired private AccountRepository accountRepository;
+    @Autowired private AccountDailyBalanceService accountDailyBalanceService;
 
     private Book testBook;
     private Account revenueAccount;
@@ -150,6 +154,7 @@ class ReportQueryRepositoryTest {
                 .build());
 
         transactionDetailRepository.saveAll(details);
+        accountDailyBalanceService.apply(transaction, details);
     }
 
     private void createExpenseTransaction(BigDecimal amount, LocalDate date) {
@@ -185,6 +190,7 @@ class ReportQueryRepositoryTest {
                 .build());
 
         transactionDetailRepository.saveAll(details);
+        accountDailyBalanceService.apply(transaction, details);
     }
 
     private void createAssetIncreaseTransaction(BigDecimal amount, LocalDate date) {
@@ -220,6 +226,7 @@ class ReportQueryRepositoryTest {
                 .build());
 
         transactionDetailRepository.saveAll(details);
+        accountDailyBalanceService.apply(transaction, details);
     }
 
     private void createLiabilityTransaction(BigDecimal amount, LocalDate date) {
@@ -255,28 +262,7 @@ class ReportQueryRepositoryTest {
                 .build());
 
         transactionDetailRepository.saveAll(details);
-    }
-
-    @Test
-    @DisplayName("수입_총액_조회")
-    void findTotalIncome_AccuracyTest() {
-        LocalDate startDate = LocalDate.now().withDayOfMonth(1);
-        LocalDate endDate = LocalDate.now().withDayOfMonth(LocalDate.now().lengthOfMonth());
-
-        BigDecimal totalIncome = reportQueryRepository.findTotalIncome(testBook.getId(), startDate, endDate);
-
-        assertThat(totalIncome).isEqualByComparingTo(new BigDecimal("400000"));
-    }
-
-    @Test
-    @DisplayName("지출_총액_조회")
-    void findTotalExpense_AccuracyTest() {
-        LocalDate startDate = LocalDate.now().withDayOfMonth(1);
-        LocalDate endDate = LocalDate.now().withDayOfMonth(LocalDate.now().lengthOfMonth());
-
-        BigDecimal totalExpense = reportQueryRepository.findTotalExpense(testBook.getId(), startDate, endDate);
-
-        assertThat(totalExpense).isEqualByComparingTo(new BigDecimal("80000"));
+        accountDailyBalanceService.apply(transaction, details);
     }
 
     @Test
@@ -295,23 +281,17 @@ class ReportQueryRepositoryTest {
     }
 
     @Test
-    @DisplayName("자산_총액_조회")
-    void findTotalAssets_AccuracyTest() {
-        LocalDate asOfDate = LocalDate.now();
-
-        BigDecimal totalAssets = reportQueryRepository.findTotalAssets(testBook.getId(), asOfDate);
-
-        assertThat(totalAssets).isEqualByComparingTo(new BigDecimal("100000"));
-    }
-
-    @Test
-    @DisplayName("부채_총액_조회")
-    void findTotalLiabilities_AccuracyTest() {
-        LocalDate asOfDate = LocalDate.now();
+    @DisplayName("재무제표_합계_단일쿼리_조회")
+    void findFinancialTotals_AccuracyTest() {
+        LocalDate startDate = LocalDate.now().withDayOfMonth(1);
+        LocalDate endDate = LocalDate.now().withDayOfMonth(LocalDate.now().lengthOfMonth());
 
-        BigDecimal totalLiabilities = reportQueryRepository.findTotalLiabilities(testBook.getId(), asOfDate);
+        FinancialTotals totals = reportQueryRepository.findFinancialTotals(testBook.getId(), startDate, endDate);
 
-        assertThat(totalLiabilities).isEqualByComparingTo(new BigDecimal("30000"));
+        assertThat(totals.getTotalIncome()).isEqualByComparingTo(new BigDecimal("400000"));
+        assertThat(totals.getTotalExpense()).isEqualByComparingTo(new BigDecimal("80000"));
+        assertThat(totals.getTotalAssets()).isEqualByComparingTo(new BigDecimal("100000"));
+        assertThat(totals.getTotalLiabilities()).isEqualByComparingTo(new BigDecimal("30000"));
     }
 
     @Test
@@ -332,6 +312,23 @@ class ReportQueryRepositoryTest {
         assertThat(secondEntry.get(3, BigDecimal.class)).isEqualByComparingTo(new BigDecimal("50000"));
     }
 
+    @Test
+    @DisplayName("계정별_거래내역_스트리밍_조회")
+    void streamAccountLedgerEntries_AccuracyTest() {
+        LocalDate startDate = LocalDate.now().withDayOfMonth(1);
+        LocalDate endDate = LocalDate.now().withDayOfMonth(LocalDate.now().lengthOfMonth());
+
+        List<Tuple> result;
+        try (Stream<Tuple> stream = reportQueryRepository.streamAccountLedgerEntries(
+                testBook.getId(), paymentMethodAccount.getId(), startDate, endDate)) {
+            result = stream.toList();
+        }
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).get(2, BigDecimal.class)).isEqualByComparingTo(new BigDecimal("300000"));
+        assertThat(result.get(1).get(3, BigDecimal.class)).isEqualByComparingTo(new BigDecimal("50000"));
+    }
+
     @Test
     @DisplayName("기초잔액_조회")
     void findOpeningBalance_AccuracyTest() {
@@ -356,25 +353,60 @@ class ReportQueryRepositoryTest {
     }
 
     @Test
-    @DisplayName("기간별_수입지출_조회")
-    void findIncomeExpenseByDateRange_AccuracyTest() {
+    @DisplayName("소급거래_반영후_현재잔액_조회")
+    void findAccountBalance_BackdatedTransaction_ShiftsLaterBalances() {
+        createIncomeTransaction(new BigDecimal("150000"), LocalDate.now().minusDays(3));
+
+        BigDecimal balance = reportQueryRepository.findAccountBalance(
+                testBook.getId(), paymentMethodAccount.getId());
+
+        assertThat(balance).isEqualByComparingTo(new BigDecimal("400000"));
+    }
+
+    @Test
+    @DisplayName("거래_삭제시_잔액_차감")
+    void findAccountBalance_AfterRevert_ExcludesDeletedTransaction() {
+        Transaction transaction = transactionRepository.findAll().stream()
+                .filter(t -> t.getBook().getId().equals(testBook.getId()))
+                .filter(t -> t.getAmount().compareTo(new BigDecimal("50000")) == 0)
+                .findFirst()
+                .orElseThrow();
+        transaction.deactivate();
+
+        List<TransactionDetail> details = transactionDetailRepository
+                .findWithAccountByTransactionId(transaction.getId());
+        accountDailyBalanceService.revert(transaction, details);
+
+        BigDecimal balance = reportQueryRepository.findAccountBalance(
+                testBook.getId(), paymentMethodAccount.getId());
+
+        assertThat(balance).isEqualByComparingTo(new BigDecimal("300000"));
+    }
+
+    @Test
+    @DisplayName("월별_수입지출_집계_조회")
+    void findMonthlyIncomeExpense_AccuracyTest() {
         LocalDate startDate = LocalDate.now().withDayOfMonth(1);
         LocalDate endDate = LocalDate.now().withDayOfMonth(LocalDate.now().lengthOfMonth());
 
-        List<Tuple> result = reportQueryRepository.findIncomeExpenseByDateRange(
+        List<Tuple> result = reportQueryRepository.findMonthlyIncomeExpense(
                 testBook.getId(), startDate, endDate);
 
-        assertThat(result).isNotEmpty();
-
-        long revenueCount = result.stream()
-                .filter(t -> t.get(1, AccountType.class) == AccountType.REVENUE)
-                .count();
-        assertThat(revenueCount).isEqualTo(2);
+        assertThat(result).hasSize(2);
 
-        long expenseCount = result.stream()
-                .filter(t -> t.get(1, AccountType.class) == AccountType.EXPENSE)
-                .count();
-        assertThat(expenseCount).isEqualTo(2);
+        Tuple revenue = result.stream()
+                .filter(t -> t.get(2, AccountType.class) == AccountType.REVENUE)
+                .findFirst()
+                .orElseThrow();
+        assertThat(revenue.get(0, Integer.class)).isEqualTo(startDate.getYear());
+        assertThat(revenue.get(1, Integer.class)).isEqualTo(startDate.getMonthValue());
+        assertThat(revenue.get(3, BigDecimal.class)).isEqualByComparingTo(new BigDecimal("400000"));
+
+        Tuple expense = result.stream()
+                .filter(t -> t.get(2, AccountType.class) == AccountType.EXPENSE)
+                .findFirst()
+                .orElseThrow();
+        assertThat(expense.get(4, BigDecimal.class)).isEqualByComparingTo(new BigDecimal("80000"));
     }
 
     @Test
@@ -411,14 +443,15 @@ class ReportQueryRepositoryTest {
 
     @Test
     @DisplayName("데이터_없는_기간_조회")
-    void findTotalIncome_NoData_ReturnsZero() {
+    void findFinancialTotals_NoData_ReturnsZero() {
         LocalDate futureStart = LocalDate.now().plusMonths(1);
         LocalDate futureEnd = futureStart.plusMonths(1);
 
-        BigDecimal totalIncome = reportQueryRepository.findTotalIncome(
-                testBook.getId(), futureStart, futureEnd);
+        FinancialTotals totals = reportQueryRepository.findFinancialTotals(
+                999L, futureStart, futureEnd);
 
-        assertThat(totalIncome).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(totals.getTotalIncome()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(totals.getTotalExpense()).isEqualByComparingTo(BigDecimal.ZERO);
     }
 
     @Test
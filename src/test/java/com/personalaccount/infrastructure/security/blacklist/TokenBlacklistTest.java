@@ -0,0 +1,130 @@
+package com.personalaccount.infrastructure.security.blacklist;
+
+import com.personalaccount.infrastructure.security.TokenHashUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenBlacklist 테스트")
+class TokenBlacklistTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private Cursor<String> cursor;
+
+    private TokenBlacklist tokenBlacklist;
+
+    @BeforeEach
+    void setUp() {
+        tokenBlacklist = new TokenBlacklist(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("등록_로컬반영_Redis저장_채널발행")
+    void add_StoresLocallyAndPublishes() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        String hash = TokenHashUtil.sha256("a.b.c");
+
+        tokenBlacklist.add("a.b.c", 60_000L);
+
+        assertThat(tokenBlacklist.contains(TokenHashUtil.sha256("a.b.c"))).isTrue();
+        assertThat(tokenBlacklist.contains(TokenHashUtil.sha256("x.y.z"))).isFalse();
+        verify(valueOperations).set("blacklist:" + hash, "logout", 60_000L, TimeUnit.MILLISECONDS);
+        verify(redisTemplate).convertAndSend(eq(TokenBlacklist.CHANNEL), startsWith(hash + ":"));
+    }
+
+    @Test
+    @DisplayName("조회_Redis_미사용")
+    void contains_DoesNotTouchRedis() {
+        assertThat(tokenBlacklist.contains(TokenHashUtil.sha256("a.b.c"))).isFalse();
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("만료된토큰_등록_무시")
+    void add_ExpiredToken_Ignored() {
+        tokenBlacklist.add("a.b.c", 0L);
+
+        assertThat(tokenBlacklist.contains(TokenHashUtil.sha256("a.b.c"))).isFalse();
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("다른노드_메시지_반영")
+    void onMessage_AddsEntry() {
+        String hash = TokenHashUtil.sha256("a.b.c");
+
+        tokenBlacklist.onMessage(hash + ":" + (System.currentTimeMillis() + 60_000L));
+
+        assertThat(tokenBlacklist.contains(TokenHashUtil.sha256("a.b.c"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료시각_지난_메시지_및_형식오류_무시")
+    void onMessage_ExpiredOrMalformed_Ignored() {
+        String hash = TokenHashUtil.sha256("a.b.c");
+
+        tokenBlacklist.onMessage(hash + ":" + (System.currentTimeMillis() - 1_000L));
+        tokenBlacklist.onMessage(hash + ":not-a-number");
+        tokenBlacklist.onMessage("garbage");
+
+        assertThat(tokenBlacklist.contains(TokenHashUtil.sha256("a.b.c"))).isFalse();
+        assertThat(tokenBlacklist.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("재동기화_해시키_이전형식키_모두_반영")
+    void resync_LoadsHashedAndLegacyKeys() {
+        String hash = TokenHashUtil.sha256("a.b.c");
+        given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+        given(cursor.hasNext()).willReturn(true, true, true, false);
+        given(cursor.next()).willReturn("blacklist:" + hash, "blacklist:d.e.f", "blacklist:gone");
+        given(redisTemplate.getExpire("blacklist:" + hash, TimeUnit.MILLISECONDS)).willReturn(60_000L);
+        given(redisTemplate.getExpire("blacklist:d.e.f", TimeUnit.MILLISECONDS)).willReturn(60_000L);
+        given(redisTemplate.getExpire("blacklist:gone", TimeUnit.MILLISECONDS)).willReturn(-2L);
+
+        tokenBlacklist.resync();
+
+        assertThat(tokenBlacklist.contains(TokenHashUtil.sha256("a.b.c"))).isTrue();
+        assertThat(tokenBlacklist.contains(TokenHashUtil.sha256("d.e.f"))).isTrue();
+        assertThat(tokenBlacklist.size()).isEqualTo(2);
+        verify(cursor).close();
+    }
+
+    @Test
+    @DisplayName("재동기화_Redis장애_로컬목록_유지")
+    void resync_RedisFailure_KeepsLocalEntries() {
+        tokenBlacklist.onMessage(TokenHashUtil.sha256("a.b.c") + ":" + (System.currentTimeMillis() + 60_000L));
+        given(redisTemplate.scan(any(ScanOptions.class))).willThrow(new RuntimeException("connection refused"));
+
+        tokenBlacklist.resync();
+
+        assertThat(tokenBlacklist.contains(TokenHashUtil.sha256("a.b.c"))).isTrue();
+    }
+}
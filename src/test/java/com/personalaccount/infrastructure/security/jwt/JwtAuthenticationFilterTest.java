@@ -1,5 +1,6 @@
 package com.personalaccount.infrastructure.security.jwt;
 
+import com.personalaccount.infrastructure.security.blacklist.TokenBlacklist;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,11 +12,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -26,11 +27,13 @@ import static org.mockito.Mockito.*;
 @DisplayName("JwtAuthenticationFilter 테스트")
 class JwtAuthenticationFilterTest {
 
+    private static final String TOKEN_HASH = "token-hash";
+
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
     @Mock
-    private StringRedisTemplate stringRedisTemplate;
+    private TokenBlacklist tokenBlacklist;
 
     @Mock
     private HttpServletRequest request;
@@ -56,10 +59,8 @@ class JwtAuthenticationFilterTest {
         Long userId = 1L;
 
         given(request.getHeader("Authorization")).willReturn("Bearer " + validToken);
-        given(jwtTokenProvider.validateToken(validToken)).willReturn(true);
-        given(stringRedisTemplate.hasKey("blacklist:" + validToken)).willReturn(false);
-        given(jwtTokenProvider.getTokenType(validToken)).willReturn("access");
-        given(jwtTokenProvider.getUserId(validToken)).willReturn(userId);
+        given(jwtTokenProvider.verify(validToken)).willReturn(Optional.of(verifiedToken(userId, "access")));
+        given(tokenBlacklist.contains(TOKEN_HASH)).willReturn(false);
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -68,10 +69,8 @@ class JwtAuthenticationFilterTest {
         assertThat(authentication.getPrincipal()).isEqualTo(userId);
         assertThat(authentication.getAuthorities()).isEmpty();
 
-        verify(jwtTokenProvider).validateToken(validToken);
-        verify(jwtTokenProvider).getTokenType(validToken);
-        verify(jwtTokenProvider).getUserId(validToken);
-        verify(stringRedisTemplate).hasKey("blacklist:" + validToken);
+        verify(jwtTokenProvider, times(1)).verify(validToken);
+        verify(tokenBlacklist).contains(TOKEN_HASH);
         verify(filterChain).doFilter(request, response);
     }
 
@@ -81,17 +80,16 @@ class JwtAuthenticationFilterTest {
         String blacklistedToken = "blacklisted.jwt.token";
 
         given(request.getHeader("Authorization")).willReturn("Bearer " + blacklistedToken);
-        given(jwtTokenProvider.validateToken(blacklistedToken)).willReturn(true);
-        given(stringRedisTemplate.hasKey("blacklist:" + blacklistedToken)).willReturn(true);
+        given(jwtTokenProvider.verify(blacklistedToken)).willReturn(Optional.of(verifiedToken(1L, "access")));
+        given(tokenBlacklist.contains(TOKEN_HASH)).willReturn(true);
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertThat(authentication).isNull();
 
-        verify(jwtTokenProvider).validateToken(blacklistedToken);
-        verify(stringRedisTemplate).hasKey("blacklist:" + blacklistedToken);
-        verify(jwtTokenProvider, never()).getUserId(anyString());
+        verify(jwtTokenProvider).verify(blacklistedToken);
+        verify(tokenBlacklist).contains(TOKEN_HASH);
         verify(filterChain).doFilter(request, response);
     }
 
@@ -101,16 +99,15 @@ class JwtAuthenticationFilterTest {
         String invalidToken = "invalid.jwt.token";
 
         given(request.getHeader("Authorization")).willReturn("Bearer " + invalidToken);
-        given(jwtTokenProvider.validateToken(invalidToken)).willReturn(false);
+        given(jwtTokenProvider.verify(invalidToken)).willReturn(Optional.empty());
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertThat(authentication).isNull();
 
-        verify(jwtTokenProvider).validateToken(invalidToken);
-        verify(stringRedisTemplate, never()).hasKey(anyString());
-        verify(jwtTokenProvider, never()).getUserId(anyString());
+        verify(jwtTokenProvider).verify(invalidToken);
+        verify(tokenBlacklist, never()).contains(anyString());
         verify(filterChain).doFilter(request, response);
     }
 
@@ -124,9 +121,8 @@ class JwtAuthenticationFilterTest {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertThat(authentication).isNull();
 
-        verify(jwtTokenProvider, never()).validateToken(anyString());
-        verify(stringRedisTemplate, never()).hasKey(anyString());
-        verify(jwtTokenProvider, never()).getUserId(anyString());
+        verify(jwtTokenProvider, never()).verify(anyString());
+        verify(tokenBlacklist, never()).contains(anyString());
         verify(filterChain).doFilter(request, response);
     }
 
@@ -140,7 +136,7 @@ class JwtAuthenticationFilterTest {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertThat(authentication).isNull();
 
-        verify(jwtTokenProvider, never()).validateToken(anyString());
+        verify(jwtTokenProvider, never()).verify(anyString());
         verify(filterChain).doFilter(request, response);
     }
 
@@ -154,7 +150,7 @@ class JwtAuthenticationFilterTest {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertThat(authentication).isNull();
 
-        verify(jwtTokenProvider, never()).validateToken(anyString());
+        verify(jwtTokenProvider, never()).verify(anyString());
         verify(filterChain).doFilter(request, response);
     }
 
@@ -164,10 +160,7 @@ class JwtAuthenticationFilterTest {
         String validToken = "valid.jwt.token";
 
         given(request.getHeader("Authorization")).willReturn("Bearer " + validToken);
-        given(jwtTokenProvider.validateToken(validToken)).willReturn(true);
-        given(stringRedisTemplate.hasKey("blacklist:" + validToken)).willReturn(false);
-        given(jwtTokenProvider.getTokenType(validToken)).willReturn("access");
-        given(jwtTokenProvider.getUserId(validToken)).willThrow(new RuntimeException("Parsing error"));
+        given(jwtTokenProvider.verify(validToken)).willThrow(new RuntimeException("Parsing error"));
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
@@ -182,31 +175,12 @@ class JwtAuthenticationFilterTest {
     void extractToken_ValidBearerToken_ExtractsToken() throws ServletException, IOException {
         String token = "my.jwt.token";
         given(request.getHeader("Authorization")).willReturn("Bearer " + token);
-        given(jwtTokenProvider.validateToken(token)).willReturn(true);
-        given(stringRedisTemplate.hasKey("blacklist:" + token)).willReturn(false);
-        given(jwtTokenProvider.getTokenType(token)).willReturn("access");
-        given(jwtTokenProvider.getUserId(token)).willReturn(1L);
-
-        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
-
-        verify(jwtTokenProvider).validateToken(token);
-    }
-
-    @Test
-    @DisplayName("블랙리스트_체크_null_반환_정상_처리")
-    void isBlacklisted_NullReturnedFromRedis_TreatedAsFalse() throws ServletException, IOException {
-        String token = "token";
-        given(request.getHeader("Authorization")).willReturn("Bearer " + token);
-        given(jwtTokenProvider.validateToken(token)).willReturn(true);
-        given(stringRedisTemplate.hasKey("blacklist:" + token)).willReturn(null);
-        given(jwtTokenProvider.getTokenType(token)).willReturn("access");
-        given(jwtTokenProvider.getUserId(token)).willReturn(1L);
+        given(jwtTokenProvider.verify(token)).willReturn(Optional.of(verifiedToken(1L, "access")));
+        given(tokenBlacklist.contains(TOKEN_HASH)).willReturn(false);
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        assertThat(authentication).isNotNull();
-        assertThat(authentication.getPrincipal()).isEqualTo(1L);
+        verify(jwtTokenProvider).verify(token);
     }
 
     @Test
@@ -215,16 +189,18 @@ class JwtAuthenticationFilterTest {
         String refreshToken = "refresh.jwt.token";
 
         given(request.getHeader("Authorization")).willReturn("Bearer " + refreshToken);
-        given(jwtTokenProvider.validateToken(refreshToken)).willReturn(true);
-        given(stringRedisTemplate.hasKey("blacklist:" + refreshToken)).willReturn(false);
-        given(jwtTokenProvider.getTokenType(refreshToken)).willReturn("refresh");
+        given(jwtTokenProvider.verify(refreshToken)).willReturn(Optional.of(verifiedToken(1L, "refresh")));
+        given(tokenBlacklist.contains(TOKEN_HASH)).willReturn(false);
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertThat(authentication).isNull();
 
-        verify(jwtTokenProvider, never()).getUserId(anyString());
         verify(filterChain).doFilter(request, response);
     }
+
+    private VerifiedToken verifiedToken(Long userId, String type) {
+        return new VerifiedToken(TOKEN_HASH, userId, type, System.currentTimeMillis() + 900000L);
+    }
 }
\ No newline at end of file
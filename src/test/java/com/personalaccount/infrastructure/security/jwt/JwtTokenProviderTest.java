@@ -1,5 +1,6 @@
 package com.personalaccount.infrastructure.security.jwt;
 
+import com.personalaccount.infrastructure.security.TokenHashUtil;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
@@ -112,92 +113,6 @@ class JwtTokenProviderTest {
         assertThat(validity).isEqualTo(REFRESH_TOKEN_VALIDITY);
     }
 
-    @Test
-    @DisplayName("토큰에서_UserId_추출_성공")
-    void getUserId_Success() {
-        Long userId = 123L;
-        String token = jwtTokenProvider.createAccessToken(userId, "test@test.com");
-
-        Long extractedUserId = jwtTokenProvider.getUserId(token);
-
-        assertThat(extractedUserId).isEqualTo(123L);
-    }
-
-    @Test
-    @DisplayName("RefreshToken에서_UserId_추출_성공")
-    void getUserId_FromRefreshToken_Success() {
-        Long userId = 456L;
-        String token = jwtTokenProvider.createRefreshToken(userId);
-
-        Long extractedUserId = jwtTokenProvider.getUserId(token);
-
-        assertThat(extractedUserId).isEqualTo(456L);
-    }
-
-    @Test
-    @DisplayName("유효한_토큰_검증_성공")
-    void validateToken_ValidToken_ReturnsTrue() {
-        String token = jwtTokenProvider.createAccessToken(1L, "test@test.com");
-
-        boolean isValid = jwtTokenProvider.validateToken(token);
-
-        assertThat(isValid).isTrue();
-    }
-
-    @Test
-    @DisplayName("잘못된_형식_토큰_검증_실패")
-    void validateToken_InvalidFormat_ReturnsFalse() {
-        String invalidToken = "invalid.token.format";
-
-        boolean isValid = jwtTokenProvider.validateToken(invalidToken);
-
-        assertThat(isValid).isFalse();
-    }
-
-    @Test
-    @DisplayName("빈_토큰_검증_실패")
-    void validateToken_EmptyToken_ReturnsFalse() {
-        boolean isValid = jwtTokenProvider.validateToken("");
-
-        assertThat(isValid).isFalse();
-    }
-
-    @Test
-    @DisplayName("null_토큰_검증_실패")
-    void validateToken_NullToken_ReturnsFalse() {
-        boolean isValid = jwtTokenProvider.validateToken(null);
-
-        assertThat(isValid).isFalse();
-    }
-
-    @Test
-    @DisplayName("만료된_토큰_검증_실패")
-    void validateToken_ExpiredToken_ReturnsFalse() throws InterruptedException {
-        JwtTokenProvider expiredProvider = new JwtTokenProvider(SECRET, -1L, REFRESH_TOKEN_VALIDITY);
-        String expiredToken = expiredProvider.createAccessToken(1L, "test@test.com");
-
-        Thread.sleep(10);
-
-        boolean isValid = jwtTokenProvider.validateToken(expiredToken);
-
-        assertThat(isValid).isFalse();
-    }
-
-    @Test
-    @DisplayName("잘못된_서명_토큰_검증_실패")
-    void validateToken_WrongSignature_ReturnsFalse() {
-        JwtTokenProvider anotherProvider = new JwtTokenProvider(
-                "another-secret-key-that-is-different-from-original-key-must-be-256-bits",
-                ACCESS_TOKEN_VALIDITY,
-                REFRESH_TOKEN_VALIDITY
-        );
-        String tokenWithWrongSignature = anotherProvider.createAccessToken(1L, "test@test.com");
-
-        boolean isValid = jwtTokenProvider.validateToken(tokenWithWrongSignature);
-
-        assertThat(isValid).isFalse();
-    }
-
     @Test
     @DisplayName("토큰_남은_유효시간_조회_성공")
     void getExpiration_Success() {
@@ -249,11 +164,8 @@ class JwtTokenProviderTest {
         String accessToken = jwtTokenProvider.createAccessToken(userId, email);
         String refreshToken = jwtTokenProvider.createRefreshToken(userId);
 
-        assertThat(jwtTokenProvider.validateToken(accessToken)).isTrue();
-        assertThat(jwtTokenProvider.validateToken(refreshToken)).isTrue();
-
-        assertThat(jwtTokenProvider.getUserId(accessToken)).isEqualTo(userId);
-        assertThat(jwtTokenProvider.getUserId(refreshToken)).isEqualTo(userId);
+        assertThat(jwtTokenProvider.verify(accessToken).orElseThrow().userId()).isEqualTo(userId);
+        assertThat(jwtTokenProvider.verify(refreshToken).orElseThrow().userId()).isEqualTo(userId);
 
         assertThat(jwtTokenProvider.getExpiration(accessToken)).isGreaterThan(0);
         assertThat(jwtTokenProvider.getExpiration(refreshToken)).isGreaterThan(0);
@@ -266,12 +178,65 @@ class JwtTokenProviderTest {
         String token2 = jwtTokenProvider.createAccessToken(2L, "user2@test.com");
         String token3 = jwtTokenProvider.createAccessToken(3L, "user3@test.com");
 
-        assertThat(jwtTokenProvider.getUserId(token1)).isEqualTo(1L);
-        assertThat(jwtTokenProvider.getUserId(token2)).isEqualTo(2L);
-        assertThat(jwtTokenProvider.getUserId(token3)).isEqualTo(3L);
+        assertThat(jwtTokenProvider.verify(token1).orElseThrow().userId()).isEqualTo(1L);
+        assertThat(jwtTokenProvider.verify(token2).orElseThrow().userId()).isEqualTo(2L);
+        assertThat(jwtTokenProvider.verify(token3).orElseThrow().userId()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("검증_클레임_한번에_추출")
+    void verify_ValidToken_ReturnsClaims() {
+        String accessToken = jwtTokenProvider.createAccessToken(7L, "test@test.com");
+        String refreshToken = jwtTokenProvider.createRefreshToken(7L);
+
+        VerifiedToken access = jwtTokenProvider.verify(accessToken).orElseThrow();
+        VerifiedToken refresh = jwtTokenProvider.verify(refreshToken).orElseThrow();
+
+        assertThat(access.userId()).isEqualTo(7L);
+        assertThat(access.isAccess()).isTrue();
+        assertThat(access.remainingMillis()).isPositive().isLessThanOrEqualTo(ACCESS_TOKEN_VALIDITY);
+        assertThat(refresh.isRefresh()).isTrue();
+        assertThat(access.tokenHash()).isEqualTo(TokenHashUtil.sha256(accessToken));
+    }
+
+    @Test
+    @DisplayName("검증_반복호출_캐시결과_반환")
+    void verify_RepeatedCall_ReturnsCachedClaims() {
+        String token = jwtTokenProvider.createAccessToken(1L, "test@test.com");
+
+        VerifiedToken first = jwtTokenProvider.verify(token).orElseThrow();
+        VerifiedToken second = jwtTokenProvider.verify(token).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("검증_캐시미사용_매번_파싱")
+    void verify_CacheDisabled_ParsesEveryTime() {
+        JwtTokenProvider uncached = new JwtTokenProvider(SECRET, ACCESS_TOKEN_VALIDITY, REFRESH_TOKEN_VALIDITY, 0);
+        String token = uncached.createAccessToken(1L, "test@test.com");
+
+        VerifiedToken first = uncached.verify(token).orElseThrow();
+        VerifiedToken second = uncached.verify(token).orElseThrow();
+
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("검증_잘못된토큰_빈값_반환")
+    void verify_InvalidToken_ReturnsEmpty() throws InterruptedException {
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(SECRET, -1000L, REFRESH_TOKEN_VALIDITY);
+        String expiredToken = expiredProvider.createAccessToken(1L, "test@test.com");
+        JwtTokenProvider anotherProvider = new JwtTokenProvider(
+                "another-secret-key-that-is-different-from-original-key-must-be-256-bits",
+                ACCESS_TOKEN_VALIDITY,
+                REFRESH_TOKEN_VALIDITY
+        );
 
-        assertThat(jwtTokenProvider.validateToken(token1)).isTrue();
-        assertThat(jwtTokenProvider.validateToken(token2)).isTrue();
-        assertThat(jwtTokenProvider.validateToken(token3)).isTrue();
+        assertThat(jwtTokenProvider.verify(expiredToken)).isEmpty();
+        assertThat(jwtTokenProvider.verify(anotherProvider.createAccessToken(1L, "test@test.com"))).isEmpty();
+        assertThat(jwtTokenProvider.verify("invalid.token.format")).isEmpty();
+        assertThat(jwtTokenProvider.verify(null)).isEmpty();
+        assertThat(jwtTokenProvider.verify("")).isEmpty();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,180 @@
+package com.personalaccount.infrastructure.session;
+
+import com.personalaccount.application.ai.session.ConversationSession;
+import com.personalaccount.application.ai.session.ConversationSession.ChatMessage;
+import com.personalaccount.config.RedisConfig;
+import com.personalaccount.infrastructure.session.codec.BinarySessionCodec;
+import com.personalaccount.infrastructure.session.codec.SessionCodec;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세션 저장 형식 검증 (임베디드 Redis)
+ * - 추가분만 RPUSH, 요약 이동분 LTRIM, 불일치 시 전체 재작성, 조회 시 TTL 갱신
+ */
+@DisplayName("RedisSessionRepository 테스트")
+class RedisSessionRepositoryTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, byte[]> redisTemplate;
+
+    private final SessionCodec codec = new BinarySessionCodec(512);
+    private RedisSessionRepository sessionRepository;
+
+    @BeforeAll
+    static void setUpAll() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void tearDownAll() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        sessionRepository = new RedisSessionRepository(redisTemplate, codec);
+    }
+
+    @Test
+    @DisplayName("저장_조회_왕복")
+    void saveAndGet_RoundTrip() {
+        ConversationSession session = sessionRepository.createSession(1L, 2L);
+        session.addMessage("user", "점심 만원");
+        session.addMessage("assistant", "어떤 결제수단인가요?");
+        sessionRepository.saveSession(session);
+
+        ConversationSession loaded = sessionRepository.getSession(session.getConversationId());
+
+        assertThat(loaded.getUserId()).isEqualTo(1L);
+        assertThat(loaded.getBookId()).isEqualTo(2L);
+        assertThat(loaded.getMessages()).extracting(ChatMessage::getContent)
+                .containsExactly("점심 만원", "어떤 결제수단인가요?");
+        assertThat(sessionRepository.getSession("conv-missing")).isNull();
+    }
+
+    @Test
+    @DisplayName("다음턴_저장_추가분만_RPUSH")
+    void saveSession_NextTurn_AppendsOnlyNewMessages() {
+        ConversationSession session = sessionRepository.createSession(1L, 1L);
+        session.addMessage("user", "점심 만원");
+        sessionRepository.saveSession(session);
+
+        // 기존 요소를 바꿔 두고 다음 저장 후에도 남아 있는지 확인 (재작성이면 원래 값으로 돌아옴)
+        String messagesKey = RedisSessionLayout.messagesKey(session.getConversationId());
+        redisTemplate.opsForList().set(messagesKey, 0, codec.encodeMessage(new ChatMessage("user", "표시")));
+
+        ConversationSession loaded = sessionRepository.getSession(session.getConversationId());
+        loaded.addMessage("assistant", "어떤 결제수단인가요?");
+        loaded.addMessage("user", "체크카드");
+        sessionRepository.saveSession(loaded);
+
+        assertThat(contents(session.getConversationId())).containsExactly("표시", "어떤 결제수단인가요?", "체크카드");
+    }
+
+    @Test
+    @DisplayName("요약이동분_앞쪽_LTRIM")
+    void saveSession_AfterRollUp_TrimsHead() {
+        ConversationSession session = sessionRepository.createSession(1L, 1L);
+        session.addMessage("user", "첫번째");
+        session.addMessage("assistant", "두번째");
+        session.addMessage("user", "세번째");
+        sessionRepository.saveSession(session);
+
+        ConversationSession loaded = sessionRepository.getSession(session.getConversationId());
+        loaded.rollUp(2, "user: 첫번째\nassistant: 두번째");
+        loaded.addMessage("assistant", "네번째");
+        sessionRepository.saveSession(loaded);
+
+        assertThat(contents(session.getConversationId())).containsExactly("세번째", "네번째");
+        assertThat(sessionRepository.getSession(session.getConversationId()).getSummary())
+                .isEqualTo("user: 첫번째\nassistant: 두번째");
+    }
+
+    @Test
+    @DisplayName("리스트_불일치_전체재작성")
+    void saveSession_ListMismatch_Rewrites() {
+        ConversationSession session = sessionRepository.createSession(1L, 1L);
+        session.addMessage("user", "점심 만원");
+        sessionRepository.saveSession(session);
+
+        redisTemplate.delete(RedisSessionLayout.messagesKey(session.getConversationId()));
+        session.addMessage("assistant", "어떤 결제수단인가요?");
+        sessionRepository.saveSession(session);
+
+        assertThat(contents(session.getConversationId())).containsExactly("점심 만원", "어떤 결제수단인가요?");
+    }
+
+    @Test
+    @DisplayName("조회시_헤더_리스트_TTL_갱신")
+    void getSession_RefreshesTtl() {
+        ConversationSession session = sessionRepository.createSession(1L, 1L);
+        session.addMessage("user", "점심 만원");
+        sessionRepository.saveSession(session);
+        List<String> keys = RedisSessionLayout.keys(session.getConversationId());
+        keys.forEach(key -> redisTemplate.expire(key, Duration.ofSeconds(10)));
+
+        sessionRepository.getSession(session.getConversationId());
+
+        long minTtl = RedisSessionLayout.SESSION_TTL.minusMinutes(1).toSeconds();
+        keys.forEach(key -> assertThat(redisTemplate.getExpire(key, TimeUnit.SECONDS)).isGreaterThan(minTtl));
+    }
+
+    @Test
+    @DisplayName("해석불가_값_만료로_처리")
+    void getSession_UndecodableHeader_ReturnsNull() {
+        redisTemplate.opsForValue().set(RedisSessionLayout.headerKey("conv-legacy"),
+                "{\"conversationId\":\"conv-legacy\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(sessionRepository.getSession("conv-legacy")).isNull();
+    }
+
+    @Test
+    @DisplayName("삭제_헤더_리스트_모두")
+    void deleteSession_DeletesBothKeys() {
+        ConversationSession session = sessionRepository.createSession(1L, 1L);
+        session.addMessage("user", "점심 만원");
+        sessionRepository.saveSession(session);
+
+        sessionRepository.deleteSession(session.getConversationId());
+
+        assertThat(redisTemplate.countExistingKeys(RedisSessionLayout.keys(session.getConversationId()))).isZero();
+    }
+
+    private List<String> contents(String conversationId) {
+        List<byte[]> values = redisTemplate.opsForList().range(RedisSessionLayout.messagesKey(conversationId), 0, -1);
+        ConversationSession session = codec.decode(
+                redisTemplate.opsForValue().get(RedisSessionLayout.headerKey(conversationId)), values);
+        return session.getMessages().stream().map(ChatMessage::getContent).toList();
+    }
+}
@@ -0,0 +1,134 @@
+package com.personalaccount.infrastructure.session.codec;
+
+import com.personalaccount.application.ai.session.ConversationSession;
+import com.personalaccount.application.ai.session.ConversationSession.ChatMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BinarySessionCodec 테스트")
+class BinarySessionCodecTest {
+
+    private final BinarySessionCodec codec = new BinarySessionCodec(512);
+
+    @Test
+    @DisplayName("왕복_모든필드_유지")
+    void roundTrip_KeepsAllFields() {
+        ConversationSession session = ConversationSession.builder()
+                .conversationId("conv-1a2b3c4d")
+                .userId(1L)
+                .bookId(-2L)
+                .summary("user: 어제 마트 3만원\nassistant: 결제수단은요?")
+                .createdAt(LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_456_789))
+                .lastAccessedAt(LocalDateTime.of(2025, 1, 1, 12, 5))
+                .build();
+        session.addMessage("user", "점심 만원");
+        session.addMessage("assistant", "어떤 결제수단인가요?");
+        session.addMessage("system", "");
+
+        ConversationSession decoded = decode(codec, session);
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(session);
+    }
+
+    @Test
+    @DisplayName("null필드_왕복")
+    void roundTrip_NullFields() {
+        ConversationSession session = ConversationSession.builder().conversationId("conv-null").build();
+        session.getMessages().add(new ChatMessage(null, null));
+
+        ConversationSession decoded = decode(codec, session);
+
+        assertThat(decoded.getUserId()).isNull();
+        assertThat(decoded.getBookId()).isNull();
+        assertThat(decoded.getSummary()).isNull();
+        assertThat(decoded.getCreatedAt()).isNull();
+        assertThat(decoded.getMessages()).singleElement()
+                .satisfies(message -> {
+                    assertThat(message.getRole()).isNull();
+                    assertThat(message.getContent()).isNull();
+                });
+    }
+
+    @Test
+    @DisplayName("기준이상_압축_기준미만_원본")
+    void encodeMessage_CompressesOnlyLargeValues() {
+        String content = "오늘 점심 김치찌개 체크카드 결제 ".repeat(40);
+        int rawLength = content.getBytes(StandardCharsets.UTF_8).length;
+        ChatMessage message = new ChatMessage("user", content);
+
+        byte[] compressed = codec.encodeMessage(message);
+        byte[] plain = new BinarySessionCodec(0).encodeMessage(message);
+
+        assertThat(compressed.length).isLessThan(rawLength / 4);
+        assertThat(plain.length).isGreaterThan(rawLength);
+        assertThat(codec.encodeMessage(new ChatMessage("user", "점심 만원")).length).isLessThan(20);
+
+        ConversationSession session = ConversationSession.builder().conversationId("conv-big").build();
+        assertThat(codec.decode(codec.encodeHeader(session), List.of(compressed, plain)).getMessages())
+                .extracting(ChatMessage::getContent)
+                .containsExactly(content, content);
+    }
+
+    @Test
+    @DisplayName("본문끝_추가필드_무시")
+    void decode_TrailingBytes_Ignored() {
+        ConversationSession session = ConversationSession.builder().conversationId("conv-next").userId(7L).build();
+        byte[] header = codec.encodeHeader(session);
+        byte[] withNewField = Arrays.copyOf(header, header.length + 3);
+
+        ConversationSession decoded = codec.decode(withNewField, List.of());
+
+        assertThat(decoded.getConversationId()).isEqualTo("conv-next");
+        assertThat(decoded.getUserId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("알수없는_버전_SerializationException")
+    void decode_UnknownVersion_Throws() {
+        byte[] legacyJson = "{\"conversationId\":\"conv-old\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> codec.decode(legacyJson, List.of()))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("잘린값_SerializationException")
+    void decode_Truncated_Throws() {
+        ConversationSession session = ConversationSession.builder().conversationId("conv-cut").build();
+        byte[] header = codec.encodeHeader(session);
+
+        assertThatThrownBy(() -> codec.decode(Arrays.copyOf(header, header.length - 3), List.of()))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("JSON코덱보다_작음")
+    void encode_SmallerThanJson() {
+        ConversationSession session = ConversationSession.builder()
+                .conversationId("conv-size")
+                .userId(1L)
+                .bookId(1L)
+                .createdAt(LocalDateTime.now())
+                .lastAccessedAt(LocalDateTime.now())
+                .build();
+        ChatMessage message = new ChatMessage("assistant", "어떤 결제수단인가요?");
+        JsonSessionCodec json = new JsonSessionCodec();
+
+        assertThat(codec.encodeHeader(session).length).isLessThan(json.encodeHeader(session).length / 2);
+        assertThat(codec.encodeMessage(message).length).isLessThan(json.encodeMessage(message).length);
+    }
+
+    private static ConversationSession decode(SessionCodec codec, ConversationSession session) {
+        List<byte[]> messages = session.getMessages().stream().map(codec::encodeMessage).toList();
+        return codec.decode(codec.encodeHeader(session), messages);
+    }
+}
@@ -1,17 +1,24 @@
 package com.personalaccount.presentation;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.personalaccount.application.report.dto.response.*;
 import com.personalaccount.application.report.service.ReportService;
+import com.personalaccount.common.exception.handler.GlobalExceptionHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -19,14 +26,23 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +52,9 @@ class LedgerControllerTest {
     @Mock
     private ReportService reportService;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
     @InjectMocks
     private LedgerController ledgerController;
 
@@ -56,6 +75,7 @@ class LedgerControllerTest {
                         return 1L;
                     }
                 })
+                .setControllerAdvice(new GlobalExceptionHandler(new MockEnvironment()))
                 .build();
     }
 
@@ -111,4 +131,65 @@ class LedgerControllerTest {
 
         verify(reportService).getAccountLedger(eq(1L), eq(1L), eq(1L), eq("2025-01"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("계정별_원장_스트리밍_조회_성공")
+    void streamAccountLedger_Success() throws Exception {
+        LocalDate startDate = LocalDate.of(2025, 1, 1);
+        LocalDate endDate = LocalDate.of(2025, 12, 31);
+
+        AccountLedgerHeader header = AccountLedgerHeader.builder()
+                .accountName("보통예금")
+                .startDate(startDate)
+                .endDate(endDate)
+                .openingBalance(new BigDecimal("1000000"))
+                .build();
+
+        given(reportService.getAccountLedgerHeader(1L, 1L, 1L, startDate, endDate))
+                .willReturn(header);
+        given(reportService.streamAccountLedgerEntries(
+                eq(1L), eq(1L), eq(startDate), eq(endDate), eq(new BigDecimal("1000000")), any()))
+                .willAnswer(invocation -> {
+                    Consumer<TransactionEntry> consumer = invocation.getArgument(5);
+                    consumer.accept(TransactionEntry.builder()
+                            .date(LocalDate.of(2025, 3, 1))
+                            .description("급여 입금")
+                            .debit(new BigDecimal("200000"))
+                            .credit(BigDecimal.ZERO)
+                            .balance(new BigDecimal("1200000"))
+                            .build());
+                    return new BigDecimal("1200000");
+                });
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/ledger/account/1/1/stream")
+                        .param("startMonth", "2025-01")
+                        .param("endMonth", "2025-12"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(objectMapper.readTree(lines[0]).get("type").asText()).isEqualTo("header");
+        assertThat(objectMapper.readTree(lines[1]).get("data").get("balance").asInt()).isEqualTo(1200000);
+        assertThat(objectMapper.readTree(lines[2]).get("data").get("entryCount").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("계정별_원장_스트리밍_월형식오류_400")
+    void streamAccountLedger_InvalidMonth_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/ledger/account/1/1/stream")
+                        .param("startMonth", "2025-13"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.errorCode").value("R001"));
+
+        verify(reportService, never()).getAccountLedgerHeader(any(), any(), any(), any(), any());
+    }
+}
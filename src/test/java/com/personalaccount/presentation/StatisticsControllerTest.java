@@ -70,14 +70,27 @@ class StatisticsControllerTest {
                 .balance(new BigDecimal("200000"))
                 .build();
 
-        given(reportService.getMonthlySummary(1L, 1L)).willReturn(List.of(summary));
+        given(reportService.getMonthlySummary(1L, 1L, 6)).willReturn(List.of(summary));
 
         mockMvc.perform(get("/api/v1/statistics/monthly/1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data[0].yearMonth").value("2025-01"));
 
-        verify(reportService).getMonthlySummary(1L, 1L);
+        verify(reportService).getMonthlySummary(1L, 1L, 6);
+    }
+
+    @Test
+    @DisplayName("월별_요약_조회_기간지정_성공")
+    void getMonthlySummary_WithMonths_Success() throws Exception {
+        given(reportService.getMonthlySummary(1L, 1L, 24)).willReturn(List.of());
+
+        mockMvc.perform(get("/api/v1/statistics/monthly/1")
+                        .param("months", "24"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+
+        verify(reportService).getMonthlySummary(1L, 1L, 24);
     }
 
     @Test
@@ -3,7 +3,9 @@ package com.personalaccount.presentation;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.personalaccount.domain.transaction.dto.request.TransactionCreateRequest;
+import com.personalaccount.domain.transaction.dto.request.TransactionImportRequest;
 import com.personalaccount.domain.transaction.dto.request.TransactionUpdateRequest;
+import com.personalaccount.domain.transaction.dto.response.TransactionImportResponse;
 import com.personalaccount.domain.transaction.dto.response.TransactionResponse;
 import com.personalaccount.domain.transaction.entity.TransactionType;
 import com.personalaccount.domain.transaction.service.TransactionService;
@@ -29,6 +31,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
@@ -105,6 +108,40 @@ class TransactionControllerTest {
         verify(transactionService).createTransaction(eq(1L), any(TransactionCreateRequest.class));
     }
 
+    @Test
+    @DisplayName("거래_일괄등록_성공")
+    void importTransactions_Success() throws Exception {
+        TransactionCreateRequest item = TransactionCreateRequest.builder()
+                .bookId(1L)
+                .date(LocalDate.now())
+                .type(TransactionType.EXPENSE)
+                .amount(new BigDecimal("12000"))
+                .categoryId(3L)
+                .paymentMethodId(2L)
+                .memo("점심")
+                .build();
+
+        TransactionImportRequest request = TransactionImportRequest.builder()
+                .transactions(List.of(item, item))
+                .build();
+
+        given(transactionService.importTransactions(eq(1L), anyList()))
+                .willReturn(TransactionImportResponse.builder()
+                        .importedCount(2)
+                        .elapsedMillis(5)
+                        .rowsPerSecond(400)
+                        .build());
+
+        mockMvc.perform(post("/api/v1/transactions/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.importedCount").value(2));
+
+        verify(transactionService).importTransactions(eq(1L), anyList());
+    }
+
     @Test
     @DisplayName("거래_목록_조회_성공")
     void getTransactions_Success() throws Exception {